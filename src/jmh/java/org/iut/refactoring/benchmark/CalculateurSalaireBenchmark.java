@@ -0,0 +1,84 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
+import org.iut.refactoring.service.impl.CalculateurSalaireCache;
+import org.iut.refactoring.service.impl.CalculateurSalaireImpl;
+import org.iut.refactoring.service.impl.CalculateurSalaireInstrumente;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du calcul de salaire et de bonus sur toute une population.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class CalculateurSalaireBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int taille;
+
+    @Param({PopulationBenchmark.MELANGE_EQUILIBRE, PopulationBenchmark.MELANGE_DEVELOPPEURS})
+    private String melange;
+
+    private List<Employe> employes;
+    private CalculateurSalaireImpl calculateur;
+    private CalculateurSalaireCache calculateurCache;
+    private CalculateurSalaireInstrumente calculateurInstrumente;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        employes = PopulationBenchmark.generer(taille, 10, melange);
+        calculateur = new CalculateurSalaireImpl();
+        calculateurCache = new CalculateurSalaireCache(calculateur);
+        calculateurInstrumente = new CalculateurSalaireInstrumente(calculateur, new RegistreMetriques());
+    }
+
+    @Benchmark
+    public double calculerSalaires() {
+        double total = 0;
+        for (Employe employe : employes) {
+            total += calculateur.calculerSalaire(employe);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double calculerBonus() {
+        double total = 0;
+        for (Employe employe : employes) {
+            total += calculateur.calculerBonus(employe);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public ResultatPaie calculerSalairesParLot() {
+        return calculateur.calculerSalaires(employes);
+    }
+
+    @Benchmark
+    public double calculerSalairesEnCache() {
+        double total = 0;
+        for (Employe employe : employes) {
+            total += calculateurCache.calculerSalaire(employe);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double calculerSalairesInstrumentes() {
+        double total = 0;
+        for (Employe employe : employes) {
+            total += calculateurInstrumente.calculerSalaire(employe);
+        }
+        return total;
+    }
+}
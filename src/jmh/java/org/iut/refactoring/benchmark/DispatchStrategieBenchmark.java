@@ -0,0 +1,68 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.StrategieSalaire;
+import org.iut.refactoring.service.impl.CalculateurSalaireImpl;
+import org.iut.refactoring.service.impl.StrategieSalaireChefDeProjet;
+import org.iut.refactoring.service.impl.StrategieSalaireDeveloppeur;
+import org.iut.refactoring.service.impl.StrategieSalaireStagiaire;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare la résolution de stratégie par parcours de flux (ancienne implémentation,
+ * reproduite ici) et la table de dispatch par classe de CalculateurSalaireImpl.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class DispatchStrategieBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int taille;
+
+    @Param({PopulationBenchmark.MELANGE_EQUILIBRE, PopulationBenchmark.MELANGE_DEVELOPPEURS})
+    private String melange;
+
+    private List<Employe> employes;
+    private List<StrategieSalaire> strategies;
+    private CalculateurSalaireImpl calculateur;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        employes = PopulationBenchmark.generer(taille, 10, melange);
+        strategies = Arrays.asList(
+                new StrategieSalaireDeveloppeur(),
+                new StrategieSalaireChefDeProjet(),
+                new StrategieSalaireStagiaire());
+        calculateur = new CalculateurSalaireImpl(strategies);
+    }
+
+    @Benchmark
+    public double parFlux() {
+        double total = 0;
+        for (Employe employe : employes) {
+            StrategieSalaire strategie = strategies.stream()
+                    .filter(s -> s.estApplicable(employe))
+                    .findFirst()
+                    .orElseThrow(IllegalArgumentException::new);
+            total += strategie.calculer(employe);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double parTableDeClasses() {
+        double total = 0;
+        for (Employe employe : employes) {
+            total += calculateur.calculerSalaire(employe);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,51 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.iut.refactoring.repository.impl.EmployeRepositoryIndexe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la recherche par équipe : parcours complet (EmployeRepositoryImpl)
+ * contre index secondaire (EmployeRepositoryIndexe).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class EmployeRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int taille;
+
+    @Param({"10", "1000"})
+    private int nombreEquipes;
+
+    @Param({"PARCOURS", "INDEXE"})
+    private String implementation;
+
+    private EmployeRepository repository;
+    private String[] equipes;
+    private int prochaineEquipe;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        repository = "INDEXE".equals(implementation) ? new EmployeRepositoryIndexe() : new EmployeRepositoryImpl();
+        List<Employe> employes = PopulationBenchmark.generer(taille, nombreEquipes, PopulationBenchmark.MELANGE_EQUILIBRE);
+        employes.forEach(repository::ajouter);
+        equipes = PopulationBenchmark.nomsEquipes(nombreEquipes);
+    }
+
+    @Benchmark
+    public List<Employe> trouverParEquipe() {
+        String equipe = equipes[prochaineEquipe];
+        prochaineEquipe = (prochaineEquipe + 1) % equipes.length;
+        return repository.trouverParEquipe(equipe);
+    }
+}
@@ -0,0 +1,76 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryColonnes;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Empreinte mémoire et temps d'accès du stockage en colonnes (EmployeRepositoryColonnes)
+ * contre la table d'objets Employe (EmployeRepositoryImpl).
+ * L'empreinte retenue (tas occupé après GC, une fois la population source libérée)
+ * est affichée lors de la préparation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class EmployeRepositoryColonnesBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int taille;
+
+    @Param({"OBJETS", "COLONNES"})
+    private String implementation;
+
+    private EmployeRepository repository;
+    private String[] ids;
+    private String[] equipes;
+    private int prochain;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        long avant = tasOccupe();
+        repository = "COLONNES".equals(implementation)
+                ? new EmployeRepositoryColonnes(taille)
+                : new EmployeRepositoryImpl();
+        List<Employe> employes = PopulationBenchmark.generer(taille, 1000, PopulationBenchmark.MELANGE_EQUILIBRE);
+        ids = new String[1024];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = employes.get(i * (taille / ids.length)).getId();
+        }
+        employes.forEach(repository::ajouter);
+        employes = null;
+        long empreinte = tasOccupe() - avant;
+        System.out.printf("%nEmpreinte %s pour %d employés : %d octets (%.1f octets/employé)%n",
+                implementation, taille, empreinte, (double) empreinte / taille);
+        equipes = PopulationBenchmark.nomsEquipes(1000);
+    }
+
+    @Benchmark
+    public Employe trouverParId() {
+        prochain = (prochain + 1) & (ids.length - 1);
+        return repository.trouverParId(ids[prochain]).orElseThrow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Employe> trouverParEquipe() {
+        prochain = (prochain + 1) % equipes.length;
+        return repository.trouverParEquipe(equipes[prochain]);
+    }
+
+    private static long tasOccupe() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
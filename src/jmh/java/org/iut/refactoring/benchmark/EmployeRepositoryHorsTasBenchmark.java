@@ -0,0 +1,86 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryHorsTas;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût du ramasse-miettes selon que la population réside sur le tas (EmployeRepositoryImpl)
+ * ou hors du tas (EmployeRepositoryHorsTas), sous une charge de lectures qui alloue.
+ * Le nombre de collections et leur durée cumulée sont affichés à la fin de chaque essai.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "-XX:+UseG1GC"})
+public class EmployeRepositoryHorsTasBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int taille;
+
+    @Param({"TAS", "HORS_TAS"})
+    private String implementation;
+
+    private EmployeRepository repository;
+    private String[] ids;
+    private int prochain;
+    private long collectionsAvant;
+    private long dureeAvant;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        repository = "HORS_TAS".equals(implementation)
+                ? new EmployeRepositoryHorsTas(taille)
+                : new EmployeRepositoryImpl();
+        List<Employe> employes = PopulationBenchmark.generer(taille, 1000, PopulationBenchmark.MELANGE_EQUILIBRE);
+        ids = new String[4096];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = employes.get(i * (taille / ids.length)).getId();
+        }
+        employes.forEach(repository::ajouter);
+        employes = null;
+        System.gc();
+        collectionsAvant = collections();
+        dureeAvant = dureeCollections();
+    }
+
+    @TearDown(Level.Trial)
+    public void terminer() throws Exception {
+        System.out.printf("%nGC %s pour %d employés : %d collections, %d ms cumulées%n",
+                implementation, taille, collections() - collectionsAvant, dureeCollections() - dureeAvant);
+        if (repository instanceof AutoCloseable) {
+            ((AutoCloseable) repository).close();
+        }
+    }
+
+    @Benchmark
+    public Employe trouverParId() {
+        prochain = (prochain + 1) & (ids.length - 1);
+        return repository.trouverParId(ids[prochain]).orElseThrow();
+    }
+
+    private static long collections() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long dureeCollections() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,107 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.impl.EmployeRepositoryPersistant;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks du repository persistant :
+ * débit d'écriture durable avec group commit (1 et 16 threads écrivains)
+ * et durée de restauration au démarrage, depuis le journal seul ou depuis un instantané.
+ * Les fichiers sont créés sous java.io.tmpdir (à pointer vers le disque à mesurer via jmh.args).
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class EmployeRepositoryPersistantBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Ecriture {
+
+        private Path repertoire;
+        private EmployeRepositoryPersistant repository;
+
+        @Setup(Level.Iteration)
+        public void preparer() throws IOException {
+            repertoire = Files.createTempDirectory("repository-benchmark");
+            repository = new EmployeRepositoryPersistant(repertoire, 0);
+        }
+
+        @TearDown(Level.Iteration)
+        public void nettoyer() throws IOException {
+            repository.close();
+            supprimer(repertoire);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Restauration {
+
+        @Param({"1000000", "5000000"})
+        private int taille;
+
+        @Param({"JOURNAL", "SNAPSHOT"})
+        private String source;
+
+        private Path repertoire;
+
+        @Setup(Level.Trial)
+        public void preparer() throws IOException {
+            repertoire = Files.createTempDirectory("restauration-benchmark");
+            List<Employe> employes = PopulationBenchmark.generer(taille, 1000, PopulationBenchmark.MELANGE_EQUILIBRE);
+            try (EmployeRepositoryPersistant repository = new EmployeRepositoryPersistant(repertoire, 0)) {
+                repository.ajouterTous(employes);
+                if ("SNAPSHOT".equals(source)) {
+                    repository.creerSnapshot();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void nettoyer() throws IOException {
+            supprimer(repertoire);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(1)
+    public void ajouterUnThread(Ecriture etat) {
+        etat.repository.ajouter(new Developpeur("Alice Martin", 50000, 5, "IT"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(16)
+    public void ajouterSeizeThreads(Ecriture etat) {
+        etat.repository.ajouter(new Developpeur("Alice Martin", 50000, 5, "IT"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public boolean restaurer(Restauration etat) {
+        try (EmployeRepositoryPersistant repository = new EmployeRepositoryPersistant(etat.repertoire, 0)) {
+            return repository.trouverParId("inexistant").isPresent();
+        }
+    }
+
+    private static void supprimer(Path repertoire) throws IOException {
+        try (Stream<Path> fichiers = Files.walk(repertoire)) {
+            fichiers.sorted(Comparator.reverseOrder()).forEach(fichier -> fichier.toFile().delete());
+        }
+    }
+}
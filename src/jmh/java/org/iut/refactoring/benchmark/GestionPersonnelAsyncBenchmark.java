@@ -0,0 +1,110 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.GestionPersonnel;
+import org.iut.refactoring.GestionPersonnelAsync;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryConcurrent;
+import org.iut.refactoring.service.impl.ServiceLogAsynchrone;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Charge de la facade asynchrone : 10 000 appelants concurrents demandent chacun un salaire,
+ * selon la limite de concurrence. Une latence d'entrée/sortie est simulée sur chaque lecture
+ * du repository pour reproduire l'attente qui bloquait un thread par requête.
+ * Le score est le temps pour servir les 10 000 appels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class GestionPersonnelAsyncBenchmark {
+
+    private static final int NOMBRE_APPELANTS = 10_000;
+
+    @Param({"16", "256", "4096"})
+    private int limiteConcurrence;
+
+    @Param({"0", "1000"})
+    private long latenceMicros;
+
+    private ServiceLogAsynchrone serviceLog;
+    private GestionPersonnelAsync gestionAsync;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        List<Employe> employes = PopulationBenchmark.generer(NOMBRE_APPELANTS, 10, PopulationBenchmark.MELANGE_EQUILIBRE);
+        EmployeRepositoryConcurrent repository = new EmployeRepositoryConcurrent(NOMBRE_APPELANTS);
+        repository.ajouterTous(employes);
+        ids = employes.stream().map(Employe::getId).toArray(String[]::new);
+        serviceLog = new ServiceLogAsynchrone();
+        gestionAsync = new GestionPersonnelAsync(
+                new GestionPersonnel(new RepositoryLent(repository, latenceMicros), serviceLog), limiteConcurrence);
+    }
+
+    @TearDown(Level.Trial)
+    public void arreter() {
+        gestionAsync.close();
+        serviceLog.close();
+    }
+
+    @Benchmark
+    public double calculSalaire10000Appelants() {
+        CompletableFuture<?>[] salaires = new CompletableFuture<?>[NOMBRE_APPELANTS];
+        for (int i = 0; i < NOMBRE_APPELANTS; i++) {
+            salaires[i] = gestionAsync.calculSalaire(ids[i]);
+        }
+        CompletableFuture.allOf(salaires).join();
+        return (Double) salaires[NOMBRE_APPELANTS - 1].join();
+    }
+
+    /**
+     * Repository simulant une latence d'entrée/sortie sur chaque lecture par identifiant.
+     */
+    private static final class RepositoryLent implements EmployeRepository {
+        private final EmployeRepository delegue;
+        private final long latenceNanos;
+
+        RepositoryLent(EmployeRepository delegue, long latenceMicros) {
+            this.delegue = delegue;
+            this.latenceNanos = TimeUnit.MICROSECONDS.toNanos(latenceMicros);
+        }
+
+        @Override
+        public void ajouter(Employe employe) {
+            delegue.ajouter(employe);
+        }
+
+        @Override
+        public Optional<Employe> trouverParId(String id) {
+            if (latenceNanos > 0) {
+                LockSupport.parkNanos(latenceNanos);
+            }
+            return delegue.trouverParId(id);
+        }
+
+        @Override
+        public List<Employe> trouverTous() {
+            return delegue.trouverTous();
+        }
+
+        @Override
+        public List<Employe> trouverParEquipe(String equipe) {
+            return delegue.trouverParEquipe(equipe);
+        }
+
+        @Override
+        public boolean supprimer(String id) {
+            return delegue.supprimer(id);
+        }
+    }
+}
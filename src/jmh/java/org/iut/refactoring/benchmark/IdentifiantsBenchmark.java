@@ -0,0 +1,57 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.factory.EmployeFactory;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.GenerateurIdentifiants;
+import org.iut.refactoring.model.Identifiants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de création d'un employé selon le schéma d'identifiants :
+ * UUID aléatoires (SecureRandom), UUID chronologiques (version 7) ou séquentiels.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class IdentifiantsBenchmark {
+
+    @Param({"ALEATOIRE", "CHRONOLOGIQUE", "SEQUENTIEL"})
+    private String schema;
+
+    private GenerateurIdentifiants precedent;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        precedent = Identifiants.generateur();
+        switch (schema) {
+            case "CHRONOLOGIQUE":
+                Identifiants.utiliser(Identifiants.chronologique());
+                break;
+            case "SEQUENTIEL":
+                Identifiants.utiliser(Identifiants.sequentiel());
+                break;
+            default:
+                Identifiants.utiliser(Identifiants.aleatoire());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void terminer() {
+        Identifiants.utiliser(precedent);
+    }
+
+    @Benchmark
+    public String genererIdentifiant() {
+        return Identifiants.generer();
+    }
+
+    @Benchmark
+    public Employe creerEmploye() {
+        return EmployeFactory.creerEmploye("DEVELOPPEUR", "Alice", 50000, 5, "IT");
+    }
+}
@@ -0,0 +1,113 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.iut.refactoring.service.impl.ImportCsvEmployes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durée d'import d'un fichier CSV selon le parallélisme du pool d'analyse.
+ * analyser mesure le découpage et l'analyse seuls (repository qui ne conserve rien) :
+ * c'est la partie qui doit passer à l'échelle avec le nombre de cœurs. importer mesure
+ * l'import complet dans EmployeRepositoryImpl, dont les insertions restent séquentielles.
+ * Le fichier est créé sous java.io.tmpdir (à pointer vers le disque à mesurer via jmh.args) ;
+ * -p taille=50000000 produit un fichier d'environ 2 Go.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ImportCsvEmployesBenchmark {
+
+    private static final String[] TYPES = {"DEVELOPPEUR", "CHEF DE PROJET", "STAGIAIRE"};
+
+    @Param({"1000000"})
+    private int taille;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelisme;
+
+    private Path fichier;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void preparer() throws IOException {
+        fichier = Files.createTempFile("employes", ".csv");
+        String[] equipes = PopulationBenchmark.nomsEquipes(1000);
+        try (BufferedWriter ecrivain = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            ecrivain.write("type,nom,salaire,experience,equipe\n");
+            for (int i = 0; i < taille; i++) {
+                ecrivain.write(TYPES[i % TYPES.length] + ",Employe " + i + "," + (30000 + i % 40000) + ".5,"
+                        + i % 25 + "," + equipes[i % equipes.length] + "\n");
+            }
+        }
+        pool = new ForkJoinPool(parallelisme);
+        System.out.printf("%nTaille du fichier CSV pour %d employés : %d octets%n", taille, Files.size(fichier));
+    }
+
+    @TearDown(Level.Trial)
+    public void nettoyer() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(fichier);
+    }
+
+    @Benchmark
+    public int analyser() {
+        return new ImportCsvEmployes(new RepositoryVide(), ImportCsvEmployes.TAILLE_LOT_PAR_DEFAUT, pool)
+                .importer(fichier);
+    }
+
+    @Benchmark
+    public int importer() {
+        return new ImportCsvEmployes(new EmployeRepositoryImpl(), ImportCsvEmployes.TAILLE_LOT_PAR_DEFAUT, pool)
+                .importer(fichier);
+    }
+
+    /**
+     * Repository qui ignore les employés reçus, pour isoler le coût de l'analyse.
+     */
+    private static final class RepositoryVide implements EmployeRepository {
+
+        @Override
+        public void ajouter(Employe employe) {
+        }
+
+        @Override
+        public void ajouterTous(Collection<? extends Employe> employes) {
+        }
+
+        @Override
+        public Optional<Employe> trouverParId(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Employe> trouverTous() {
+            return List.of();
+        }
+
+        @Override
+        public List<Employe> trouverParEquipe(String equipe) {
+            return List.of();
+        }
+
+        @Override
+        public boolean supprimer(String id) {
+            return false;
+        }
+    }
+}
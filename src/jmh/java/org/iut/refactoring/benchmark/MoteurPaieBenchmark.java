@@ -0,0 +1,51 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.BilanPaie;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.iut.refactoring.service.impl.CalculateurSalaireImpl;
+import org.iut.refactoring.service.impl.MoteurPaieParallele;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de passage à l'échelle du moteur de paie parallèle (1 à 16 threads).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class MoteurPaieBenchmark {
+
+    @Param({"1000000", "5000000"})
+    private int taille;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelisme;
+
+    private List<Employe> employes;
+    private ForkJoinPool pool;
+    private MoteurPaieParallele moteur;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        employes = PopulationBenchmark.generer(taille, 100, PopulationBenchmark.MELANGE_DEVELOPPEURS);
+        pool = new ForkJoinPool(parallelisme);
+        moteur = new MoteurPaieParallele(new EmployeRepositoryImpl(), new CalculateurSalaireImpl(), pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void arreter() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public BilanPaie calculerPaie() {
+        return moteur.calculerPaie(employes);
+    }
+}
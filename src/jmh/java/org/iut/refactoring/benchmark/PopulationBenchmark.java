@@ -0,0 +1,67 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.factory.EmployeFactory;
+import org.iut.refactoring.model.Employe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Génère des populations d'employés reproductibles pour les benchmarks.
+ */
+public final class PopulationBenchmark {
+
+    /** Répartition équilibrée : un tiers de chaque type. */
+    public static final String MELANGE_EQUILIBRE = "EQUILIBRE";
+    /** Répartition réaliste : 80 % de développeurs, 15 % de chefs de projet, 5 % de stagiaires. */
+    public static final String MELANGE_DEVELOPPEURS = "DEVELOPPEURS";
+
+    private static final long GRAINE = 42L;
+
+    private PopulationBenchmark() {
+    }
+
+    /**
+     * Génère une population d'employés.
+     * @param taille Le nombre d'employés
+     * @param nombreEquipes Le nombre d'équipes distinctes
+     * @param melange La répartition des types (MELANGE_EQUILIBRE ou MELANGE_DEVELOPPEURS)
+     * @return La liste des employés générés
+     */
+    public static List<Employe> generer(int taille, int nombreEquipes, String melange) {
+        Random random = new Random(GRAINE);
+        String[] equipes = nomsEquipes(nombreEquipes);
+        List<Employe> employes = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            employes.add(EmployeFactory.creerEmploye(
+                    tirerType(random, melange),
+                    "Employe" + i,
+                    20000 + random.nextInt(80000),
+                    random.nextInt(20),
+                    equipes[random.nextInt(nombreEquipes)]));
+        }
+        return employes;
+    }
+
+    /**
+     * Retourne les noms des équipes utilisés par generer.
+     * @param nombreEquipes Le nombre d'équipes
+     * @return Les noms des équipes
+     */
+    public static String[] nomsEquipes(int nombreEquipes) {
+        String[] equipes = new String[nombreEquipes];
+        for (int i = 0; i < nombreEquipes; i++) {
+            equipes[i] = "EQUIPE-" + i;
+        }
+        return equipes;
+    }
+
+    private static String tirerType(Random random, String melange) {
+        int tirage = random.nextInt(100);
+        if (MELANGE_DEVELOPPEURS.equals(melange)) {
+            return tirage < 80 ? "DEVELOPPEUR" : tirage < 95 ? "CHEF DE PROJET" : "STAGIAIRE";
+        }
+        return tirage < 33 ? "DEVELOPPEUR" : tirage < 66 ? "CHEF DE PROJET" : "STAGIAIRE";
+    }
+}
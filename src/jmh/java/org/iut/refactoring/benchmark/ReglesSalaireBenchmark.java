@@ -0,0 +1,110 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.StrategieSalaire;
+import org.iut.refactoring.service.impl.CalculateurSalaireImpl;
+import org.iut.refactoring.service.impl.RegleSalaire;
+import org.iut.refactoring.service.impl.TableReglesSalaire;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare les stratégies écrites à la main, les stratégies compilées depuis regles-salaire.csv
+ * (mêmes règles) et une interprétation directe de la même table (boucle sur les règles).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ReglesSalaireBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int taille;
+
+    @Param({PopulationBenchmark.MELANGE_EQUILIBRE, PopulationBenchmark.MELANGE_DEVELOPPEURS})
+    private String melange;
+
+    private List<Employe> employes;
+    private CalculateurSalaireImpl ecritesALaMain;
+    private CalculateurSalaireImpl compilees;
+    private CalculateurSalaireImpl interpretees;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        employes = PopulationBenchmark.generer(taille, 10, melange);
+        TableReglesSalaire table = TableReglesSalaire.parDefaut();
+        ecritesALaMain = new CalculateurSalaireImpl();
+        compilees = new CalculateurSalaireImpl(table.compiler());
+        List<StrategieSalaire> strategies = new ArrayList<>();
+        for (String type : table.getTypes()) {
+            strategies.add(new StrategieInterpretee(type, table.getReglesSalaire(type), table.getReglesBonus(type)));
+        }
+        interpretees = new CalculateurSalaireImpl(strategies);
+    }
+
+    @Benchmark
+    public double ecritesALaMain() {
+        return calculer(ecritesALaMain);
+    }
+
+    @Benchmark
+    public double compilees() {
+        return calculer(compilees);
+    }
+
+    @Benchmark
+    public double interpretees() {
+        return calculer(interpretees);
+    }
+
+    private double calculer(CalculateurSalaireImpl calculateur) {
+        double total = 0;
+        for (Employe employe : employes) {
+            total += calculateur.calculerSalaire(employe) + calculateur.calculerBonus(employe);
+        }
+        return total;
+    }
+
+    /**
+     * Applique les règles une à une, sans compilation.
+     */
+    private static final class StrategieInterpretee implements StrategieSalaire {
+        private final String type;
+        private final RegleSalaire[] reglesSalaire;
+        private final RegleSalaire[] reglesBonus;
+
+        StrategieInterpretee(String type, List<RegleSalaire> reglesSalaire, List<RegleSalaire> reglesBonus) {
+            this.type = type;
+            this.reglesSalaire = reglesSalaire.toArray(new RegleSalaire[0]);
+            this.reglesBonus = reglesBonus.toArray(new RegleSalaire[0]);
+        }
+
+        @Override
+        public double calculer(Employe employe) {
+            return appliquer(reglesSalaire, employe);
+        }
+
+        @Override
+        public double calculerBonus(Employe employe) {
+            return reglesBonus.length == 0 ? 0.0 : appliquer(reglesBonus, employe);
+        }
+
+        @Override
+        public boolean estApplicable(Employe employe) {
+            return type.equals(employe.getType());
+        }
+
+        private static double appliquer(RegleSalaire[] regles, Employe employe) {
+            double valeur = employe.getSalaireDeBase();
+            for (RegleSalaire regle : regles) {
+                valeur = regle.appliquer(valeur, employe.getExperience());
+            }
+            return valeur;
+        }
+    }
+}
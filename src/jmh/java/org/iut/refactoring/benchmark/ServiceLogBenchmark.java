@@ -0,0 +1,53 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.service.ServiceLog;
+import org.iut.refactoring.service.impl.ServiceLogAsynchrone;
+import org.iut.refactoring.service.impl.ServiceLogImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence côté producteur de ServiceLog.enregistrer : implémentation synchrone
+ * (formatage de la date et ajout à une liste non bornée) contre tampon circulaire asynchrone.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ServiceLogBenchmark {
+
+    @Param({"SYNCHRONE", "ASYNCHRONE_REJETER", "ASYNCHRONE_BLOQUER"})
+    private String implementation;
+
+    private ServiceLog serviceLog;
+
+    @Setup(Level.Iteration)
+    public void preparer() {
+        switch (implementation) {
+            case "ASYNCHRONE_REJETER":
+                serviceLog = new ServiceLogAsynchrone(65536, 100_000, ServiceLogAsynchrone.PolitiqueSaturation.REJETER);
+                break;
+            case "ASYNCHRONE_BLOQUER":
+                serviceLog = new ServiceLogAsynchrone(65536, 100_000, ServiceLogAsynchrone.PolitiqueSaturation.BLOQUER);
+                break;
+            default:
+                serviceLog = new ServiceLogImpl();
+                break;
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void arreter() {
+        if (serviceLog instanceof ServiceLogAsynchrone) {
+            ((ServiceLogAsynchrone) serviceLog).close();
+        }
+    }
+
+    @Benchmark
+    public void enregistrer() {
+        serviceLog.enregistrer("Ajout de l'employé: Alice Martin");
+    }
+}
@@ -0,0 +1,63 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.service.TypeEvenement;
+import org.iut.refactoring.service.impl.ServiceLogJournalise;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Débit d'écriture du journal projeté en mémoire (entrées par seconde) et durée de relecture.
+ * Le répertoire temporaire est créé sous java.io.tmpdir ; pointer cette propriété vers
+ * le disque à mesurer (-Djava.io.tmpdir=...) via jmh.args.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ServiceLogJournaliseBenchmark {
+
+    private static final int TAILLE_SEGMENT = 256 * 1024 * 1024;
+
+    private Path repertoire;
+    private ServiceLogJournalise journal;
+    private long compteur;
+
+    @Setup(Level.Iteration)
+    public void preparer() throws IOException {
+        repertoire = Files.createTempDirectory("journal-benchmark");
+        journal = new ServiceLogJournalise(repertoire, TAILLE_SEGMENT);
+        for (int i = 0; i < 1_000_000; i++) {
+            journal.enregistrer(TypeEvenement.AJOUT, "employe-" + (i % 1000), "Ajout de l'employé: Alice Martin");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void nettoyer() throws IOException {
+        journal.close();
+        try (Stream<Path> fichiers = Files.walk(repertoire)) {
+            fichiers.sorted(Comparator.reverseOrder()).forEach(fichier -> fichier.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void enregistrer() {
+        journal.enregistrer(TypeEvenement.AJOUT, "employe-42", "Ajout de l'employé: Alice Martin");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long rejouerUnMillionEntrees() {
+        compteur = 0;
+        journal.rejouer((epochNanos, type, employeId, message) -> compteur += epochNanos);
+        return compteur;
+    }
+}
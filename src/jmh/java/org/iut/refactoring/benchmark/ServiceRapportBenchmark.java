@@ -0,0 +1,108 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.FormatExport;
+import org.iut.refactoring.service.impl.CalculateurSalaireImpl;
+import org.iut.refactoring.service.impl.ServiceRapportFichier;
+import org.iut.refactoring.service.impl.ServiceRapportFlux;
+import org.iut.refactoring.service.impl.ServiceRapportImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la génération des rapports.
+ * La sortie standard est redirigée vers un flux vide pour ne mesurer que la génération ;
+ * ServiceRapportFlux écrit quant à lui dans un Writer vide. Les exports en fichier
+ * (ServiceRapportFichier) sont écrits sous java.io.tmpdir.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ServiceRapportBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int taille;
+
+    @Param({"10", "1000"})
+    private int nombreEquipes;
+
+    private List<Employe> employes;
+    private ServiceRapportImpl serviceRapport;
+    private ServiceRapportFlux serviceRapportFlux;
+    private ServiceRapportFichier exportCsv;
+    private ServiceRapportFichier exportJsonGzip;
+    private Path repertoireExport;
+    private PrintStream sortieOriginale;
+
+    @Setup(Level.Trial)
+    public void preparer() throws IOException {
+        employes = PopulationBenchmark.generer(taille, nombreEquipes, PopulationBenchmark.MELANGE_EQUILIBRE);
+        CalculateurSalaireImpl calculateur = new CalculateurSalaireImpl();
+        serviceRapport = new ServiceRapportImpl(calculateur);
+        serviceRapportFlux = new ServiceRapportFlux(calculateur, Writer.nullWriter());
+        repertoireExport = Files.createTempDirectory("rapports");
+        exportCsv = new ServiceRapportFichier(calculateur, repertoireExport, FormatExport.CSV, false);
+        exportJsonGzip = new ServiceRapportFichier(calculateur, repertoireExport, FormatExport.JSON_LIGNES, true);
+        sortieOriginale = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void restaurer() throws IOException {
+        System.setOut(sortieOriginale);
+        Files.deleteIfExists(exportCsv.fichier("SALAIRE"));
+        Files.deleteIfExists(exportJsonGzip.fichier("SALAIRE"));
+        Files.deleteIfExists(repertoireExport);
+    }
+
+    @Benchmark
+    public void genererRapportSalaires() {
+        serviceRapport.genererRapportSalaires(employes, null);
+    }
+
+    @Benchmark
+    public void genererRapportSalairesFlux() {
+        serviceRapportFlux.genererRapportSalaires(employes, null);
+    }
+
+    @Benchmark
+    public void exporterRapportSalairesCsv() {
+        exportCsv.genererRapportSalaires(employes, null);
+    }
+
+    @Benchmark
+    public void exporterRapportSalairesJsonGzip() {
+        exportJsonGzip.genererRapportSalaires(employes, null);
+    }
+
+    @Benchmark
+    public void genererRapportMeilleursSalairesFlux() {
+        serviceRapportFlux.genererRapportMeilleursSalaires(employes, null, 100);
+    }
+
+    @Benchmark
+    public void genererRapportQuantilesSalairesFlux() {
+        serviceRapportFlux.genererRapportQuantilesSalaires(employes, null);
+    }
+
+    @Benchmark
+    public void genererRapportSalairesFiltre() {
+        serviceRapport.genererRapportSalaires(employes, "EQUIPE-0");
+    }
+
+    @Benchmark
+    public void genererRapportDivision() {
+        serviceRapport.genererRapportDivision(employes);
+    }
+}
@@ -0,0 +1,47 @@
+package org.iut.refactoring.benchmark;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.impl.SnapshotEmployes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durée de restauration d'un instantané en colonnes (démarrage à froid) et taille du fichier.
+ * Le fichier est créé sous java.io.tmpdir (à pointer vers le disque à mesurer via jmh.args).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class SnapshotEmployesBenchmark {
+
+    @Param({"1000000", "5000000"})
+    private int taille;
+
+    private Path fichier;
+
+    @Setup(Level.Trial)
+    public void preparer() throws IOException {
+        fichier = Files.createTempFile("employes", ".snap");
+        List<Employe> employes = PopulationBenchmark.generer(taille, 1000, PopulationBenchmark.MELANGE_EQUILIBRE);
+        SnapshotEmployes.ecrire(fichier, employes);
+        System.out.printf("%nTaille de l'instantané pour %d employés : %d octets%n", taille, Files.size(fichier));
+    }
+
+    @TearDown(Level.Trial)
+    public void nettoyer() throws IOException {
+        Files.deleteIfExists(fichier);
+    }
+
+    @Benchmark
+    public List<Employe> lire() {
+        return SnapshotEmployes.lire(fichier);
+    }
+}
@@ -1,19 +1,30 @@
 package org.iut.refactoring;
 
+import org.iut.refactoring.metrique.RegistreMetriques;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
 import org.iut.refactoring.repository.EmployeRepository;
 import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.iut.refactoring.repository.impl.EmployeRepositoryInstrumente;
+import org.iut.refactoring.repository.impl.EmployeRepositoryObservable;
 import org.iut.refactoring.service.CalculateurSalaire;
+import org.iut.refactoring.service.FormatExport;
 import org.iut.refactoring.service.ServiceGestionPersonnel;
 import org.iut.refactoring.service.ServiceLog;
 import org.iut.refactoring.service.ServiceRapport;
+import org.iut.refactoring.service.impl.AgregateurEquipes;
 import org.iut.refactoring.service.impl.CalculateurSalaireImpl;
+import org.iut.refactoring.service.impl.CalculateurSalaireInstrumente;
+import org.iut.refactoring.service.impl.RegistreStrategies;
 import org.iut.refactoring.service.impl.ServiceGestionPersonnelImpl;
+import org.iut.refactoring.service.impl.ServiceGestionPersonnelInstrumente;
 import org.iut.refactoring.service.impl.ServiceLogImpl;
 import org.iut.refactoring.service.impl.ServiceRapportImpl;
+import org.iut.refactoring.service.impl.SurveillanceReglesSalaire;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -34,24 +45,76 @@ public class GestionPersonnel {
 
     private final ServiceGestionPersonnel serviceGestionPersonnel;
     private final EmployeRepository employeRepository;
+    private final EmployeRepositoryObservable repositoryObservable;
+    private final RegistreStrategies registreStrategies;
+    private final AgregateurEquipes agregateurEquipes;
 
     /**
      * Constructeur par défaut initialisant tous les services.
      * Utilise l'injection de dépendances manuelle pour créer la chaîne de services.
      */
     public GestionPersonnel() {
+        this(new EmployeRepositoryImpl());
+    }
+
+    /**
+     * Constructeur permettant de choisir l'implémentation du repository
+     * (par exemple EmployeRepositoryConcurrent pour un usage multi-thread).
+     * Les autres services sont initialisés comme pour le constructeur par défaut.
+     * Le repository est décoré pour maintenir les agrégats par équipe au fil de l'eau.
+     * @param employeRepository Le repository des employés
+     */
+    public GestionPersonnel(EmployeRepository employeRepository) {
+        this(employeRepository, new ServiceLogImpl());
+    }
+
+    /**
+     * Constructeur permettant de choisir aussi le service de logs
+     * (par exemple ServiceLogAsynchrone, thread-safe, pour un usage multi-thread).
+     * @param employeRepository Le repository des employés
+     * @param serviceLog Le service de logs
+     */
+    public GestionPersonnel(EmployeRepository employeRepository, ServiceLog serviceLog) {
+        this(employeRepository, serviceLog, null);
+    }
+
+    /**
+     * Constructeur activant en plus l'instrumentation : le repository, le calculateur de salaire
+     * et le service de gestion sont décorés pour mesurer leurs opérations dans le registre.
+     * @param employeRepository Le repository des employés
+     * @param serviceLog Le service de logs
+     * @param registreMetriques Le registre des métriques, ou null pour ne rien mesurer
+     */
+    public GestionPersonnel(EmployeRepository employeRepository, ServiceLog serviceLog,
+                            RegistreMetriques registreMetriques) {
         // Initialisation des dépendances (Pattern Dependency Injection)
-        this.employeRepository = new EmployeRepositoryImpl();
-        CalculateurSalaire calculateurSalaire = new CalculateurSalaireImpl();
-        ServiceLog serviceLog = new ServiceLogImpl();
+        CalculateurSalaireImpl calculateurSalaireImpl = new CalculateurSalaireImpl();
+        this.registreStrategies = calculateurSalaireImpl.getRegistre();
+        CalculateurSalaire calculateurSalaire = calculateurSalaireImpl;
+        if (registreMetriques != null) {
+            calculateurSalaire = new CalculateurSalaireInstrumente(calculateurSalaire, registreMetriques);
+            employeRepository = new EmployeRepositoryInstrumente(employeRepository, registreMetriques);
+        }
+        AgregateurEquipes agregateurEquipes = new AgregateurEquipes(calculateurSalaire);
+        agregateurEquipes.reinitialiser(employeRepository.trouverTous());
+        this.agregateurEquipes = agregateurEquipes;
+        EmployeRepositoryObservable repositoryObservable = new EmployeRepositoryObservable(employeRepository);
+        repositoryObservable.ajouterEcouteur(agregateurEquipes);
+        this.repositoryObservable = repositoryObservable;
+        this.employeRepository = repositoryObservable;
         ServiceRapport serviceRapport = new ServiceRapportImpl(calculateurSalaire);
 
-        this.serviceGestionPersonnel = new ServiceGestionPersonnelImpl(
-                employeRepository,
+        ServiceGestionPersonnel service = new ServiceGestionPersonnelImpl(
+                this.employeRepository,
                 calculateurSalaire,
                 serviceRapport,
-                serviceLog
+                serviceLog,
+                agregateurEquipes
         );
+        if (registreMetriques != null) {
+            service = new ServiceGestionPersonnelInstrumente(service, registreMetriques);
+        }
+        this.serviceGestionPersonnel = service;
     }
 
     /**
@@ -63,6 +126,29 @@ public class GestionPersonnel {
                            EmployeRepository employeRepository) {
         this.serviceGestionPersonnel = serviceGestionPersonnel;
         this.employeRepository = employeRepository;
+        this.registreStrategies = null;
+        this.repositoryObservable = null;
+        this.agregateurEquipes = null;
+    }
+
+    /**
+     * Charge les règles de salaire d'un fichier (format de TableReglesSalaire) et les recharge
+     * à chaque modification, sans interrompre les calculs en cours. Après chaque rechargement,
+     * les statistiques par équipe sont recalculées, les écritures étant suspendues le temps
+     * du recalcul pour qu'aucune ne soit perdue. Une table qui ne couvre pas tous les types
+     * d'employés est refusée.
+     * @param fichier Le fichier de règles
+     * @return La surveillance, à fermer pour arrêter les rechargements
+     * @throws IllegalArgumentException Si le fichier contient des règles invalides
+     * @throws IllegalStateException Si les services ont été injectés (constructeur de test)
+     */
+    public SurveillanceReglesSalaire surveillerReglesSalaire(Path fichier) {
+        if (registreStrategies == null) {
+            throw new IllegalStateException("Règles de salaire non rechargeables avec des services injectés");
+        }
+        return new SurveillanceReglesSalaire(fichier, registreStrategies,
+                () -> repositoryObservable.executerSansEcriture(
+                        () -> agregateurEquipes.reinitialiser(repositoryObservable.trouverTous())));
     }
 
     /**
@@ -77,6 +163,17 @@ public class GestionPersonnel {
         serviceGestionPersonnel.ajouterEmploye(type, nom, salaireDeBase, experience, equipe);
     }
 
+    /**
+     * Importe les salariés d'un fichier CSV (type, nom, salaireDeBase, experience, equipe)
+     * par lots, avec une seule entrée de log pour tout l'import.
+     * @param fichier Le fichier CSV
+     * @return Le nombre de salariés importés
+     * @throws IllegalArgumentException Si une ligne est invalide (les lots précédents restent importés)
+     */
+    public int importeSalaries(Path fichier) {
+        return serviceGestionPersonnel.importerEmployes(fichier);
+    }
+
     /**
      * Calcule le salaire d'un employé.
      * @param employeId L'ID de l'employé
@@ -93,13 +190,27 @@ public class GestionPersonnel {
 
     /**
      * Génère un rapport.
-     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION)
+     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION, TOP, QUANTILES)
      * @param filtre Filtre optionnel par équipe
      */
     public void generationRapport(String typeRapport, String filtre) {
         serviceGestionPersonnel.genererRapport(typeRapport, filtre);
     }
 
+    /**
+     * Exporte un rapport dans un fichier pour les chargements en aval.
+     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION, TOP, QUANTILES)
+     * @param filtre Filtre optionnel par équipe
+     * @param repertoire Le répertoire de destination
+     * @param format Le format du fichier (CSV ou JSON_LIGNES)
+     * @param compresse true pour compresser le fichier en gzip
+     * @return Le fichier écrit
+     */
+    public Path exportRapport(String typeRapport, String filtre, Path repertoire, FormatExport format,
+                              boolean compresse) {
+        return serviceGestionPersonnel.exporterRapport(typeRapport, filtre, repertoire, format, compresse);
+    }
+
     /**
      * Promeut un employé.
      * @param employeId L'ID de l'employé
@@ -122,6 +233,14 @@ public class GestionPersonnel {
         return employeRepository.trouverParEquipe(division);
     }
 
+    /**
+     * Récupère les statistiques de chaque division (effectif, salaires, expérience).
+     * @return Les statistiques par division
+     */
+    public List<StatistiquesEquipe> getStatistiquesParDivision() {
+        return serviceGestionPersonnel.obtenirStatistiquesEquipes();
+    }
+
     /**
      * Affiche les logs.
      */
@@ -0,0 +1,207 @@
+package org.iut.refactoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Facade asynchrone de GestionPersonnel : chaque appel est exécuté sur un thread de travail
+ * et rend immédiatement un CompletableFuture, sans bloquer le thread appelant.
+ *
+ * Sur une JVM disposant des threads virtuels (Java 21+), chaque appel a son propre thread
+ * virtuel et un sémaphore borne le nombre d'appels exécutés simultanément ; les appels en
+ * surnombre attendent sur le sémaphore sans occuper de thread système. Sinon, les appels
+ * sont exécutés par un pool fixe de limiteConcurrence threads.
+ *
+ * La GestionPersonnel décorée doit être thread-safe, par exemple construite avec
+ * EmployeRepositoryConcurrent et ServiceLogAsynchrone.
+ * Pattern Facade : Même API que GestionPersonnel, en version asynchrone.
+ * Principe SRP : Responsabilité unique d'ordonnancer les appels ; la logique reste déléguée.
+ */
+public class GestionPersonnelAsync implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GestionPersonnelAsync.class);
+
+    public static final int LIMITE_CONCURRENCE_PAR_DEFAUT = 256;
+
+    private static final long DELAI_ARRET_SECONDES = 30;
+
+    private final GestionPersonnel gestionPersonnel;
+    private final ExecutorService executeur;
+    private final boolean threadsVirtuels;
+    private final int limiteConcurrence;
+    private final Semaphore limite;
+
+    /**
+     * @param gestionPersonnel La facade synchrone décorée
+     */
+    public GestionPersonnelAsync(GestionPersonnel gestionPersonnel) {
+        this(gestionPersonnel, LIMITE_CONCURRENCE_PAR_DEFAUT);
+    }
+
+    /**
+     * @param gestionPersonnel La facade synchrone décorée
+     * @param limiteConcurrence Le nombre maximal d'appels exécutés simultanément
+     */
+    public GestionPersonnelAsync(GestionPersonnel gestionPersonnel, int limiteConcurrence) {
+        if (gestionPersonnel == null) {
+            throw new IllegalArgumentException("La gestion du personnel ne peut pas être null");
+        }
+        if (limiteConcurrence <= 0) {
+            throw new IllegalArgumentException("La limite de concurrence doit être strictement positive");
+        }
+        ExecutorService executeurVirtuel = executeurThreadsVirtuels();
+        this.gestionPersonnel = gestionPersonnel;
+        this.threadsVirtuels = executeurVirtuel != null;
+        this.executeur = threadsVirtuels ? executeurVirtuel : executeurPlateforme(limiteConcurrence);
+        this.limiteConcurrence = limiteConcurrence;
+        this.limite = new Semaphore(limiteConcurrence);
+    }
+
+    /**
+     * Calcule le salaire d'un employé (0 si l'employé est introuvable, comme GestionPersonnel).
+     * @param employeId L'ID de l'employé
+     * @return Le salaire calculé
+     */
+    public CompletableFuture<Double> calculSalaire(String employeId) {
+        return soumettre(() -> gestionPersonnel.calculSalaire(employeId));
+    }
+
+    /**
+     * Calcule le bonus annuel d'un employé (0 si l'employé est introuvable, comme GestionPersonnel).
+     * @param employeId L'ID de l'employé
+     * @return Le bonus calculé
+     */
+    public CompletableFuture<Double> calculBonusAnnuel(String employeId) {
+        return soumettre(() -> gestionPersonnel.calculBonusAnnuel(employeId));
+    }
+
+    /**
+     * Ajoute un salarié.
+     * @param type Le type d'employé (DEVELOPPEUR, CHEF DE PROJET, STAGIAIRE)
+     * @param nom Le nom
+     * @param salaireDeBase Le salaire de base
+     * @param experience L'expérience en années
+     * @param equipe L'équipe
+     * @return Un futur complété une fois le salarié ajouté, ou en erreur si les données sont invalides
+     */
+    public CompletableFuture<Void> ajouteSalarie(String type, String nom, double salaireDeBase, int experience,
+                                                 String equipe) {
+        return soumettre(() -> {
+            gestionPersonnel.ajouteSalarie(type, nom, salaireDeBase, experience, equipe);
+            return null;
+        });
+    }
+
+    /**
+     * Génère un rapport.
+     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION, TOP, QUANTILES)
+     * @param filtre Filtre optionnel par équipe
+     * @return Un futur complété une fois le rapport généré, ou en erreur si le type est inconnu
+     */
+    public CompletableFuture<Void> generationRapport(String typeRapport, String filtre) {
+        return soumettre(() -> {
+            gestionPersonnel.generationRapport(typeRapport, filtre);
+            return null;
+        });
+    }
+
+    /**
+     * @return true si les appels sont exécutés sur des threads virtuels
+     */
+    public boolean utiliseThreadsVirtuels() {
+        return threadsVirtuels;
+    }
+
+    /**
+     * @return Le nombre maximal d'appels exécutés simultanément
+     */
+    public int getLimiteConcurrence() {
+        return limiteConcurrence;
+    }
+
+    /**
+     * @return Le nombre d'appels en cours d'exécution
+     */
+    public int getNombreEnCours() {
+        return limiteConcurrence - limite.availablePermits();
+    }
+
+    /**
+     * Refuse les nouveaux appels puis attend la fin de ceux déjà soumis.
+     */
+    @Override
+    public void close() {
+        executeur.shutdown();
+        try {
+            if (!executeur.awaitTermination(DELAI_ARRET_SECONDES, TimeUnit.SECONDS)) {
+                logger.warn("Appels encore en cours après {} s, arrêt forcé", DELAI_ARRET_SECONDES);
+                executeur.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executeur.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> CompletableFuture<T> soumettre(Supplier<T> appel) {
+        CompletableFuture<T> resultat = new CompletableFuture<>();
+        try {
+            executeur.execute(() -> executer(appel, resultat));
+        } catch (RejectedExecutionException e) {
+            resultat.completeExceptionally(e);
+        }
+        return resultat;
+    }
+
+    private <T> void executer(Supplier<T> appel, CompletableFuture<T> resultat) {
+        try {
+            limite.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resultat.completeExceptionally(e);
+            return;
+        }
+        try {
+            resultat.complete(appel.get());
+        } catch (Throwable e) {
+            resultat.completeExceptionally(e);
+        } finally {
+            limite.release();
+        }
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor, recherché par réflexion pour rester
+     * compilable et exécutable sur les JVM antérieures à Java 21.
+     * @return L'exécuteur, ou null si les threads virtuels ne sont pas disponibles
+     */
+    private static ExecutorService executeurThreadsVirtuels() {
+        try {
+            Method fabrique = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) fabrique.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService executeurPlateforme(int nombreThreads) {
+        AtomicInteger numero = new AtomicInteger();
+        ThreadFactory fabrique = tache -> {
+            Thread thread = new Thread(tache, "gestion-personnel-" + numero.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(nombreThreads, fabrique);
+    }
+}
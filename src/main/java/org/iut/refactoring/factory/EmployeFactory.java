@@ -3,8 +3,11 @@ package org.iut.refactoring.factory;
 import org.iut.refactoring.model.ChefDeProjet;
 import org.iut.refactoring.model.Developpeur;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Identifiants;
 import org.iut.refactoring.model.Stagiaire;
 
+import java.util.List;
+
 /**
  * Factory pour créer des employés.
  * Principe SRP : Responsabilité unique de créer des employés.
@@ -12,6 +15,9 @@ import org.iut.refactoring.model.Stagiaire;
  * Pattern Factory : Encapsule la logique de création.
  */
 public class EmployeFactory {
+
+    /** Les types reconnus par creerEmploye. */
+    public static final List<String> TYPES = List.of("DEVELOPPEUR", "CHEF DE PROJET", "STAGIAIRE");
     
     /**
      * Crée un employé selon son type.
@@ -25,20 +31,35 @@ public class EmployeFactory {
      */
     public static Employe creerEmploye(String type, String nom, double salaireDeBase, 
                                        int experience, String equipe) {
+        return creerEmploye(Identifiants.generer(), type, nom, salaireDeBase, experience, equipe);
+    }
+
+    /**
+     * Crée un employé selon son type en conservant un identifiant existant.
+     * @param id L'identifiant à conserver
+     * @param type Le type d'employé
+     * @param nom Le nom
+     * @param salaireDeBase Le salaire de base
+     * @param experience L'expérience en années
+     * @param equipe L'équipe
+     * @return L'employé créé
+     * @throws IllegalArgumentException Si le type n'est pas reconnu ou si l'identifiant est null
+     */
+    public static Employe creerEmploye(String id, String type, String nom, double salaireDeBase,
+                                       int experience, String equipe) {
         if (type == null) {
             throw new IllegalArgumentException("Le type ne peut pas être null");
         }
-        
+
         switch (type.toUpperCase()) {
             case "DEVELOPPEUR":
-                return new Developpeur(nom, salaireDeBase, experience, equipe);
+                return new Developpeur(id, nom, salaireDeBase, experience, equipe);
             case "CHEF DE PROJET":
-                return new ChefDeProjet(nom, salaireDeBase, experience, equipe);
+                return new ChefDeProjet(id, nom, salaireDeBase, experience, equipe);
             case "STAGIAIRE":
-                return new Stagiaire(nom, salaireDeBase, experience, equipe);
+                return new Stagiaire(id, nom, salaireDeBase, experience, equipe);
             default:
                 throw new IllegalArgumentException("Type d'employé non reconnu: " + type);
         }
     }
 }
-
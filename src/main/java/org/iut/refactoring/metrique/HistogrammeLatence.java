@@ -0,0 +1,122 @@
+package org.iut.refactoring.metrique;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de latences en nanosecondes, à seaux log-linéaires (à la manière de HdrHistogram).
+ * Les valeurs inférieures à 128 ont chacune leur seau ; au-delà, chaque puissance de deux est
+ * découpée en 64 seaux, soit une erreur relative inférieure à 1/64 (1,6 %) sur tout quantile.
+ * Les valeurs supérieures à VALEUR_MAX (environ 73 minutes) sont ramenées à VALEUR_MAX, pour le
+ * seau comme pour la somme et le maximum : la somme ne peut ainsi pas déborder d'un long.
+ *
+ * L'enregistrement est sans verrou ni allocation : un incrément atomique du seau, de la somme et
+ * du maximum ; le nombre de durées est recalculé à la lecture à partir des seaux. Les lectures
+ * (quantiles) parcourent les seaux sans bloquer les écrivains ; elles reflètent les
+ * enregistrements terminés au moment du parcours.
+ * Principe SRP : Responsabilité unique de compter des durées par ordre de grandeur.
+ */
+public class HistogrammeLatence {
+
+    /** Plus grande durée distinguée, en nanosecondes. */
+    public static final long VALEUR_MAX = (1L << 42) - 1;
+
+    private static final int BITS_DEMI_SEAU = 6;
+    private static final int TAILLE_DEMI_SEAU = 1 << BITS_DEMI_SEAU;
+    private static final int NOMBRE_SEAUX = indice(VALEUR_MAX) + 1;
+
+    private final AtomicLongArray seaux;
+    private final LongAdder somme;
+    private final LongAccumulator max;
+
+    public HistogrammeLatence() {
+        this.seaux = new AtomicLongArray(NOMBRE_SEAUX);
+        this.somme = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Enregistre une durée.
+     * @param nanos La durée en nanosecondes (une valeur négative est comptée comme 0,
+     *              une valeur supérieure à VALEUR_MAX comme VALEUR_MAX)
+     */
+    public void enregistrer(long nanos) {
+        long valeur = Math.min(Math.max(0, nanos), VALEUR_MAX);
+        seaux.incrementAndGet(indice(valeur));
+        somme.add(valeur);
+        max.accumulate(valeur);
+    }
+
+    /**
+     * @return Le nombre de durées enregistrées
+     */
+    public long nombre() {
+        long total = 0;
+        for (int i = 0; i < NOMBRE_SEAUX; i++) {
+            total += seaux.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @return La somme des durées enregistrées, en nanosecondes
+     */
+    public long somme() {
+        return somme.sum();
+    }
+
+    /**
+     * @return La plus grande durée enregistrée, en nanosecondes (0 si aucune)
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Estime la durée au quantile q : la borne haute du seau contenant la valeur de rang
+     * q·(n-1), bornée par le maximum observé.
+     * @param q Le quantile, entre 0 et 1
+     * @return La durée en nanosecondes, ou 0 si aucune durée n'a été enregistrée
+     */
+    public long valeurAuQuantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Le quantile doit être compris entre 0 et 1: " + q);
+        }
+        long[] copie = new long[NOMBRE_SEAUX];
+        long total = 0;
+        for (int i = 0; i < NOMBRE_SEAUX; i++) {
+            copie[i] = seaux.get(i);
+            total += copie[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rang = (long) Math.floor(q * (total - 1));
+        long cumul = 0;
+        for (int i = 0; i < NOMBRE_SEAUX; i++) {
+            cumul += copie[i];
+            if (cumul > rang) {
+                return Math.min(borneHaute(i), max());
+            }
+        }
+        return max();
+    }
+
+    static int indice(long valeur) {
+        if (valeur < 2 * TAILLE_DEMI_SEAU) {
+            return (int) valeur;
+        }
+        int exposant = 63 - Long.numberOfLeadingZeros(valeur) - BITS_DEMI_SEAU;
+        return (exposant + 1) * TAILLE_DEMI_SEAU + (int) (valeur >>> exposant) - TAILLE_DEMI_SEAU;
+    }
+
+    static long borneHaute(int indice) {
+        if (indice < 2 * TAILLE_DEMI_SEAU) {
+            return indice;
+        }
+        int exposant = indice / TAILLE_DEMI_SEAU - 1;
+        long mantisse = indice % TAILLE_DEMI_SEAU + TAILLE_DEMI_SEAU;
+        return ((mantisse + 1) << exposant) - 1;
+    }
+}
@@ -0,0 +1,86 @@
+package org.iut.refactoring.metrique;
+
+/**
+ * Valeurs d'une MetriqueOperation à un instant donné. Les durées sont en nanosecondes ;
+ * les quantiles sont approchés (erreur relative d'au plus 1,6 %, voir HistogrammeLatence).
+ * Principe SRP : Responsabilité unique de transporter les mesures d'une opération.
+ */
+public class InstantaneMetrique {
+
+    private final String operation;
+    private final String type;
+    private final long nombre;
+    private final long erreurs;
+    private final long sommeNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+
+    public InstantaneMetrique(String operation, String type, long nombre, long erreurs, long sommeNanos,
+                              long maxNanos, long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos) {
+        this.operation = operation;
+        this.type = type;
+        this.nombre = nombre;
+        this.erreurs = erreurs;
+        this.sommeNanos = sommeNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return Le type d'employé (ou de rapport) mesuré, ou null pour l'opération tous types confondus
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return Le nombre d'appels, erreurs comprises
+     */
+    public long getNombre() {
+        return nombre;
+    }
+
+    public long getErreurs() {
+        return erreurs;
+    }
+
+    public long getSommeNanos() {
+        return sommeNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%s: %d appels, %d erreurs, p50: %d ns, p99: %d ns, max: %d ns",
+                operation, type == null ? "" : "[" + type + "]", nombre, erreurs, p50Nanos, p99Nanos, maxNanos);
+    }
+}
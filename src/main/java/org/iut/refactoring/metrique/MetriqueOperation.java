@@ -0,0 +1,90 @@
+package org.iut.refactoring.metrique;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Mesures d'une opération (éventuellement restreinte à un type) : histogramme des durées de
+ * tous les appels et nombre d'appels terminés par une exception.
+ * Obtenue auprès d'un RegistreMetriques, qui la partage entre tous ses utilisateurs.
+ */
+public class MetriqueOperation {
+
+    private final String operation;
+    private final String type;
+    private final HistogrammeLatence durees;
+    private final LongAdder erreurs;
+
+    MetriqueOperation(String operation, String type) {
+        this.operation = operation;
+        this.type = type;
+        this.durees = new HistogrammeLatence();
+        this.erreurs = new LongAdder();
+    }
+
+    /**
+     * Enregistre un appel réussi.
+     * @param debut La valeur de System.nanoTime() au début de l'appel
+     */
+    public void enregistrer(long debut) {
+        durees.enregistrer(System.nanoTime() - debut);
+    }
+
+    /**
+     * Enregistre un appel terminé par une exception.
+     * @param debut La valeur de System.nanoTime() au début de l'appel
+     */
+    public void enregistrerErreur(long debut) {
+        durees.enregistrer(System.nanoTime() - debut);
+        erreurs.increment();
+    }
+
+    /**
+     * Exécute et mesure un appel ; une exception est comptée puis propagée.
+     * @param appel L'appel à mesurer
+     * @return Le résultat de l'appel
+     */
+    public <T> T mesurer(Supplier<T> appel) {
+        long debut = System.nanoTime();
+        try {
+            T resultat = appel.get();
+            enregistrer(debut);
+            return resultat;
+        } catch (RuntimeException | Error e) {
+            enregistrerErreur(debut);
+            throw e;
+        }
+    }
+
+    /**
+     * Exécute et mesure un appel sans résultat ; une exception est comptée puis propagée.
+     * @param appel L'appel à mesurer
+     */
+    public void mesurer(Runnable appel) {
+        long debut = System.nanoTime();
+        try {
+            appel.run();
+            enregistrer(debut);
+        } catch (RuntimeException | Error e) {
+            enregistrerErreur(debut);
+            throw e;
+        }
+    }
+
+    /**
+     * @return Les valeurs courantes de la métrique
+     */
+    public InstantaneMetrique instantane() {
+        return new InstantaneMetrique(operation, type, durees.nombre(), erreurs.sum(), durees.somme(),
+                durees.max(), durees.valeurAuQuantile(0.5), durees.valeurAuQuantile(0.9),
+                durees.valeurAuQuantile(0.99), durees.valeurAuQuantile(0.999));
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getType() {
+        return type;
+    }
+}
@@ -0,0 +1,219 @@
+package org.iut.refactoring.metrique;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Registre des métriques de l'application : une MetriqueOperation par couple (opération, type),
+ * créée au premier usage puis partagée, et des jauges lues à la demande (taille d'un cache...).
+ * La recherche d'une métrique existante se fait sans verrou ni allocation.
+ *
+ * Les valeurs sont consultables par instantane() ou exportées au format texte de Prometheus
+ * (formatPrometheus, exporterPrometheus) : un résumé des durées par opération et par type
+ * (quantiles 0.5, 0.9, 0.99 et 0.999, somme et nombre, en secondes), la durée maximale,
+ * le nombre d'erreurs, puis les jauges.
+ * Principe SRP : Responsabilité unique de centraliser et d'exposer les métriques.
+ */
+public class RegistreMetriques {
+
+    public static final String PREFIXE = "gestion_personnel_";
+
+    private static final String SANS_TYPE = "";
+    private static final Pattern NOM_VALIDE = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PAR_SECONDE = 1e9;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, MetriqueOperation>> metriques;
+    private final ConcurrentMap<String, Jauge> jauges;
+
+    public RegistreMetriques() {
+        this.metriques = new ConcurrentHashMap<>();
+        this.jauges = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param operation Le nom de l'opération
+     * @return La métrique de l'opération, tous types confondus
+     */
+    public MetriqueOperation metrique(String operation) {
+        return metrique(operation, null);
+    }
+
+    /**
+     * @param operation Le nom de l'opération
+     * @param type Le type d'employé (ou de rapport) concerné, ou null
+     * @return La métrique de l'opération pour ce type
+     */
+    public MetriqueOperation metrique(String operation, String type) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Le nom de l'opération ne peut pas être null");
+        }
+        ConcurrentMap<String, MetriqueOperation> parType = metriques.get(operation);
+        if (parType == null) {
+            parType = metriques.computeIfAbsent(operation, nom -> new ConcurrentHashMap<>());
+        }
+        String cle = type == null ? SANS_TYPE : type;
+        MetriqueOperation metrique = parType.get(cle);
+        if (metrique == null) {
+            metrique = parType.computeIfAbsent(cle, t -> new MetriqueOperation(operation, type));
+        }
+        return metrique;
+    }
+
+    /**
+     * Enregistre (ou remplace) une jauge, lue à chaque instantané ou export.
+     * @param nom Le nom Prometheus de la jauge, sans le préfixe
+     * @param aide La description de la jauge
+     * @param valeur La fonction donnant la valeur courante
+     */
+    public void ajouterJauge(String nom, String aide, DoubleSupplier valeur) {
+        if (nom == null || !NOM_VALIDE.matcher(nom).matches()) {
+            throw new IllegalArgumentException("Nom de jauge invalide: " + nom);
+        }
+        if (valeur == null) {
+            throw new IllegalArgumentException("La valeur de la jauge ne peut pas être null");
+        }
+        jauges.put(nom, new Jauge(aide, valeur));
+    }
+
+    /**
+     * @return Les valeurs courantes de toutes les métriques, triées par opération puis par type
+     */
+    public List<InstantaneMetrique> instantane() {
+        List<InstantaneMetrique> instantanes = new ArrayList<>();
+        for (Map<String, MetriqueOperation> parType : metriques.values()) {
+            for (MetriqueOperation metrique : parType.values()) {
+                instantanes.add(metrique.instantane());
+            }
+        }
+        instantanes.sort(Comparator.comparing(InstantaneMetrique::getOperation)
+                .thenComparing(InstantaneMetrique::getType, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return instantanes;
+    }
+
+    /**
+     * @return Les valeurs courantes des jauges, triées par nom
+     */
+    public Map<String, Double> jauges() {
+        Map<String, Double> valeurs = new TreeMap<>();
+        jauges.forEach((nom, jauge) -> valeurs.put(nom, jauge.valeur.getAsDouble()));
+        return valeurs;
+    }
+
+    /**
+     * @return Toutes les métriques au format texte d'exposition de Prometheus (version 0.0.4)
+     */
+    public String formatPrometheus() {
+        List<InstantaneMetrique> instantanes = instantane();
+        StringBuilder texte = new StringBuilder();
+
+        String duree = PREFIXE + "operation_duree_secondes";
+        entete(texte, duree, "Durée des appels par opération et par type.", "summary");
+        for (InstantaneMetrique metrique : instantanes) {
+            long[] valeurs = {metrique.getP50Nanos(), metrique.getP90Nanos(), metrique.getP99Nanos(),
+                    metrique.getP999Nanos()};
+            for (int i = 0; i < QUANTILES.length; i++) {
+                echantillon(texte, duree, metrique, "quantile", String.valueOf(QUANTILES[i]),
+                        valeurs[i] / NANOS_PAR_SECONDE);
+            }
+            echantillon(texte, duree + "_sum", metrique, null, null, metrique.getSommeNanos() / NANOS_PAR_SECONDE);
+            echantillon(texte, duree + "_count", metrique, null, null, metrique.getNombre());
+        }
+
+        String dureeMax = PREFIXE + "operation_duree_max_secondes";
+        entete(texte, dureeMax, "Durée maximale d'un appel par opération et par type.", "gauge");
+        for (InstantaneMetrique metrique : instantanes) {
+            echantillon(texte, dureeMax, metrique, null, null, metrique.getMaxNanos() / NANOS_PAR_SECONDE);
+        }
+
+        String erreurs = PREFIXE + "operation_erreurs_total";
+        entete(texte, erreurs, "Nombre d'appels terminés par une exception.", "counter");
+        for (InstantaneMetrique metrique : instantanes) {
+            echantillon(texte, erreurs, metrique, null, null, metrique.getErreurs());
+        }
+
+        for (Map.Entry<String, Jauge> entree : new TreeMap<>(jauges).entrySet()) {
+            String nom = PREFIXE + entree.getKey();
+            entete(texte, nom, entree.getValue().aide, "gauge");
+            texte.append(nom).append(' ').append(entree.getValue().valeur.getAsDouble()).append('\n');
+        }
+        return texte.toString();
+    }
+
+    /**
+     * Écrit formatPrometheus dans un fichier (par exemple pour le collecteur textfile de
+     * node_exporter). Le fichier est écrit à côté puis renommé atomiquement : un lecteur
+     * ne voit jamais de fichier partiel.
+     * @param fichier Le fichier de destination
+     */
+    public void exporterPrometheus(Path fichier) {
+        if (fichier == null) {
+            throw new IllegalArgumentException("Le fichier ne peut pas être null");
+        }
+        Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+        try {
+            Files.writeString(temporaire, formatPrometheus(), StandardCharsets.UTF_8);
+            Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'export des métriques dans " + fichier, e);
+        }
+    }
+
+    private static void entete(StringBuilder texte, String nom, String aide, String type) {
+        texte.append("# HELP ").append(nom).append(' ').append(echapperAide(aide)).append('\n');
+        texte.append("# TYPE ").append(nom).append(' ').append(type).append('\n');
+    }
+
+    private static void echantillon(StringBuilder texte, String nom, InstantaneMetrique metrique,
+                                    String etiquette, String valeurEtiquette, double valeur) {
+        echantillon(texte, nom, metrique, etiquette, valeurEtiquette, String.valueOf(valeur));
+    }
+
+    private static void echantillon(StringBuilder texte, String nom, InstantaneMetrique metrique,
+                                    String etiquette, String valeurEtiquette, long valeur) {
+        echantillon(texte, nom, metrique, etiquette, valeurEtiquette, String.valueOf(valeur));
+    }
+
+    private static void echantillon(StringBuilder texte, String nom, InstantaneMetrique metrique,
+                                    String etiquette, String valeurEtiquette, String valeur) {
+        texte.append(nom).append("{operation=\"").append(echapperEtiquette(metrique.getOperation())).append('"');
+        if (metrique.getType() != null) {
+            texte.append(",type=\"").append(echapperEtiquette(metrique.getType())).append('"');
+        }
+        if (etiquette != null) {
+            texte.append(',').append(etiquette).append("=\"").append(valeurEtiquette).append('"');
+        }
+        texte.append("} ").append(valeur).append('\n');
+    }
+
+    private static String echapperEtiquette(String valeur) {
+        return valeur.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String echapperAide(String aide) {
+        return aide == null ? "" : aide.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static final class Jauge {
+        private final String aide;
+        private final DoubleSupplier valeur;
+
+        Jauge(String aide, DoubleSupplier valeur) {
+            this.aide = aide;
+            this.valeur = valeur;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.iut.refactoring.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bilan d'une campagne de paie : totaux globaux et totaux par équipe.
+ * Principe SRP : Responsabilité unique de transporter le résultat d'une paie.
+ */
+public class BilanPaie {
+    private final TotauxPaie totalGlobal;
+    private final Map<String, TotauxPaie> totauxParEquipe;
+
+    public BilanPaie(TotauxPaie totalGlobal, Map<String, TotauxPaie> totauxParEquipe) {
+        this.totalGlobal = totalGlobal;
+        this.totauxParEquipe = Collections.unmodifiableMap(totauxParEquipe);
+    }
+
+    public TotauxPaie getTotalGlobal() {
+        return totalGlobal;
+    }
+
+    /**
+     * @return Les totaux par équipe (non modifiable)
+     */
+    public Map<String, TotauxPaie> getTotauxParEquipe() {
+        return totauxParEquipe;
+    }
+
+    /**
+     * @param equipe Le nom de l'équipe
+     * @return Les totaux de l'équipe si elle compte au moins un employé
+     */
+    public Optional<TotauxPaie> getTotauxEquipe(String equipe) {
+        return Optional.ofNullable(totauxParEquipe.get(equipe));
+    }
+}
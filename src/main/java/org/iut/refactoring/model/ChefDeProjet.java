@@ -10,6 +10,10 @@ public class ChefDeProjet extends Employe {
         super(nom, salaireDeBase, experience, equipe);
     }
 
+    public ChefDeProjet(String id, String nom, double salaireDeBase, int experience, String equipe) {
+        super(id, nom, salaireDeBase, experience, equipe);
+    }
+
     @Override
     public String getType() {
         return "CHEF DE PROJET";
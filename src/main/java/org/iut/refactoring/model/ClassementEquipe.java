@@ -0,0 +1,74 @@
+package org.iut.refactoring.model;
+
+import java.util.List;
+
+/**
+ * Distribution des salaires calculés d'une équipe : les meilleurs salaires (du plus élevé
+ * au plus faible) et les quantiles p50, p90 et p99.
+ * Les quantiles sont approchés (erreur relative d'au plus 1 %) ; les meilleurs salaires sont exacts.
+ * Principe SRP : Responsabilité unique de transporter le classement d'une équipe.
+ */
+public class ClassementEquipe {
+
+    private final String equipe;
+    private final long effectif;
+    private final List<Employe> meilleursEmployes;
+    private final double[] meilleursSalaires;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+
+    public ClassementEquipe(String equipe, long effectif, List<Employe> meilleursEmployes,
+                            double[] meilleursSalaires, double p50, double p90, double p99) {
+        if (meilleursEmployes.size() != meilleursSalaires.length) {
+            throw new IllegalArgumentException("Un salaire est attendu par employé classé");
+        }
+        this.equipe = equipe;
+        this.effectif = effectif;
+        this.meilleursEmployes = List.copyOf(meilleursEmployes);
+        this.meilleursSalaires = meilleursSalaires.clone();
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    public String getEquipe() {
+        return equipe;
+    }
+
+    public long getEffectif() {
+        return effectif;
+    }
+
+    /**
+     * @return Les employés les mieux payés, du salaire le plus élevé au plus faible
+     */
+    public List<Employe> getMeilleursEmployes() {
+        return meilleursEmployes;
+    }
+
+    /**
+     * @return Une copie des salaires de getMeilleursEmployes, dans le même ordre
+     */
+    public double[] getMeilleursSalaires() {
+        return meilleursSalaires.clone();
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d employés, p50: %.2f €, p90: %.2f €, p99: %.2f €, meilleur salaire: %.2f €",
+                equipe, effectif, p50, p90, p99, meilleursSalaires.length > 0 ? meilleursSalaires[0] : 0.0);
+    }
+}
@@ -10,6 +10,10 @@ public class Developpeur extends Employe {
         super(nom, salaireDeBase, experience, equipe);
     }
 
+    public Developpeur(String id, String nom, double salaireDeBase, int experience, String equipe) {
+        super(id, nom, salaireDeBase, experience, equipe);
+    }
+
     @Override
     public String getType() {
         return "DEVELOPPEUR";
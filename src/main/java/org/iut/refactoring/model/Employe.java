@@ -1,7 +1,5 @@
 package org.iut.refactoring.model;
 
-import java.util.UUID;
-
 /**
  * Classe abstraite représentant un employé.
  * Principe SRP : Responsabilité unique de contenir les données d'un employé.
@@ -15,7 +13,18 @@ public abstract class Employe {
     private final String equipe;
 
     protected Employe(String nom, double salaireDeBase, int experience, String equipe) {
-        this.id = UUID.randomUUID().toString();
+        this(Identifiants.generer(), nom, salaireDeBase, experience, equipe);
+    }
+
+    /**
+     * Constructeur conservant un identifiant existant (rechargement depuis un stockage, promotion).
+     * @param id L'identifiant de l'employé
+     */
+    protected Employe(String id, String nom, double salaireDeBase, int experience, String equipe) {
+        if (id == null) {
+            throw new IllegalArgumentException("L'identifiant ne peut pas être null");
+        }
+        this.id = id;
         this.nom = nom;
         this.salaireDeBase = salaireDeBase;
         this.experience = experience;
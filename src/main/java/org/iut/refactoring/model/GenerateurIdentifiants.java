@@ -0,0 +1,15 @@
+package org.iut.refactoring.model;
+
+/**
+ * Stratégie de génération des identifiants d'employés.
+ * Principe OCP : De nouveaux schémas d'identifiants peuvent être ajoutés sans modifier Employe.
+ * Principe DIP : Employe et EmployeFactory dépendent de cette abstraction (via Identifiants).
+ */
+public interface GenerateurIdentifiants {
+
+    /**
+     * Génère un nouvel identifiant, unique pour ce générateur.
+     * @return L'identifiant
+     */
+    String generer();
+}
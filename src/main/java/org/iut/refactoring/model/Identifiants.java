@@ -0,0 +1,167 @@
+package org.iut.refactoring.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Génération et représentation compacte des identifiants d'employés.
+ * Un identifiant au format UUID canonique (36 caractères, hexadécimal minuscule) est
+ * l'écriture textuelle de 128 bits, manipulables sous forme de deux long (moitieHaute,
+ * moitieBasse) : c'est cette forme primitive qu'utilisent les repositories compacts
+ * pour indexer et stocker les identifiants.
+ *
+ * Le générateur utilisé par Employe et EmployeFactory est configurable (utiliser) ;
+ * par défaut, des UUID aléatoires (UUID.randomUUID) comme auparavant.
+ * Principe SRP : Responsabilité unique de produire, analyser et formater les identifiants.
+ */
+public final class Identifiants {
+
+    private static final int LONGUEUR_UUID = 36;
+    private static final byte[] HEXADECIMAL = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static volatile GenerateurIdentifiants generateur = aleatoire();
+
+    private Identifiants() {
+    }
+
+    /**
+     * Génère un identifiant avec le générateur configuré.
+     * @return L'identifiant
+     */
+    public static String generer() {
+        return generateur.generer();
+    }
+
+    /**
+     * Remplace le générateur utilisé pour les nouveaux employés.
+     * @param nouveauGenerateur Le générateur à utiliser
+     */
+    public static void utiliser(GenerateurIdentifiants nouveauGenerateur) {
+        if (nouveauGenerateur == null) {
+            throw new IllegalArgumentException("Le générateur ne peut pas être null");
+        }
+        generateur = nouveauGenerateur;
+    }
+
+    /**
+     * @return Le générateur actuellement configuré
+     */
+    public static GenerateurIdentifiants generateur() {
+        return generateur;
+    }
+
+    // ------------------------------------------------------------------ générateurs
+
+    /**
+     * UUID version 4 tirés par SecureRandom : imprévisibles mais coûteux à produire.
+     * @return Le générateur par défaut
+     */
+    public static GenerateurIdentifiants aleatoire() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * UUID version 7 : 48 bits d'horodatage en millisecondes, 12 bits de compteur
+     * garantissant la croissance stricte au sein du générateur, puis 62 bits aléatoires
+     * (ThreadLocalRandom, sans SecureRandom). Les identifiants sont triés dans l'ordre de création.
+     * @return Un générateur chronologique
+     */
+    public static GenerateurIdentifiants chronologique() {
+        AtomicLong dernier = new AtomicLong();
+        return () -> {
+            long maintenant = System.currentTimeMillis() << 12;
+            long horodatage = dernier.updateAndGet(precedent -> Math.max(maintenant, precedent + 1));
+            long haut = (horodatage >>> 12) << 16 | 0x7000L | (horodatage & 0xFFF);
+            long bas = ThreadLocalRandom.current().nextLong() >>> 2 | 0x8000_0000_0000_0000L;
+            return formater(haut, bas);
+        };
+    }
+
+    /**
+     * UUID version 8 séquentiels : 64 bits de poids fort tirés une fois pour le générateur
+     * (espace de noms), 62 bits de poids faible portant un compteur croissant à partir de 1.
+     * @return Un générateur séquentiel
+     */
+    public static GenerateurIdentifiants sequentiel() {
+        long espace = ThreadLocalRandom.current().nextLong() & ~0xF000L | 0x8000L;
+        AtomicLong compteur = new AtomicLong();
+        return () -> formater(espace, compteur.incrementAndGet() | 0x8000_0000_0000_0000L);
+    }
+
+    // ------------------------------------------------------------------ forme 128 bits
+
+    /**
+     * Vrai si l'identifiant est un UUID sous sa forme textuelle canonique (minuscules),
+     * c'est-à-dire reproductible à l'identique depuis ses 128 bits.
+     * @param id L'identifiant
+     * @return true si l'identifiant a une forme primitive fidèle
+     */
+    public static boolean estUuidCanonique(String id) {
+        if (id == null || id.length() != LONGUEUR_UUID) {
+            return false;
+        }
+        for (int i = 0; i < LONGUEUR_UUID; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param id Un UUID canonique (voir estUuidCanonique)
+     * @return Ses 64 bits de poids fort
+     */
+    public static long moitieHaute(String id) {
+        return lireHex(id, 14, 18, lireHex(id, 9, 13, lireHex(id, 0, 8, 0)));
+    }
+
+    /**
+     * @param id Un UUID canonique (voir estUuidCanonique)
+     * @return Ses 64 bits de poids faible
+     */
+    public static long moitieBasse(String id) {
+        return lireHex(id, 24, 36, lireHex(id, 19, 23, 0));
+    }
+
+    /**
+     * Écrit 128 bits sous forme d'UUID canonique.
+     * @param haut Les 64 bits de poids fort
+     * @param bas Les 64 bits de poids faible
+     * @return L'identifiant textuel
+     */
+    public static String formater(long haut, long bas) {
+        byte[] texte = new byte[LONGUEUR_UUID];
+        ecrireHex(texte, 0, haut >>> 32, 8);
+        texte[8] = '-';
+        ecrireHex(texte, 9, haut >>> 16, 4);
+        texte[13] = '-';
+        ecrireHex(texte, 14, haut, 4);
+        texte[18] = '-';
+        ecrireHex(texte, 19, bas >>> 48, 4);
+        texte[23] = '-';
+        ecrireHex(texte, 24, bas, 12);
+        return new String(texte, StandardCharsets.ISO_8859_1);
+    }
+
+    private static long lireHex(String id, int debut, int fin, long accumulateur) {
+        for (int i = debut; i < fin; i++) {
+            accumulateur = (accumulateur << 4) | Character.digit(id.charAt(i), 16);
+        }
+        return accumulateur;
+    }
+
+    private static void ecrireHex(byte[] texte, int debut, long valeur, int chiffres) {
+        for (int i = debut + chiffres - 1; i >= debut; i--) {
+            texte[i] = HEXADECIMAL[(int) (valeur & 0xF)];
+            valeur >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.iut.refactoring.model;
+
+/**
+ * Résultat d'un calcul de paie sur une population d'employés.
+ * Les colonnes salaires et bonus sont alignées sur l'ordre de la liste d'employés fournie :
+ * l'indice i correspond au i-ème employé.
+ * Principe SRP : Responsabilité unique de transporter les résultats d'un calcul par lot.
+ */
+public class ResultatPaie {
+    private final double[] salaires;
+    private final double[] bonus;
+
+    public ResultatPaie(double[] salaires, double[] bonus) {
+        if (salaires.length != bonus.length) {
+            throw new IllegalArgumentException("Les colonnes salaires et bonus doivent avoir la même taille");
+        }
+        this.salaires = salaires;
+        this.bonus = bonus;
+    }
+
+    /**
+     * @return Le nombre d'employés calculés
+     */
+    public int taille() {
+        return salaires.length;
+    }
+
+    /**
+     * @param index L'indice de l'employé dans la liste d'origine
+     * @return Le salaire calculé
+     */
+    public double getSalaire(int index) {
+        return salaires[index];
+    }
+
+    /**
+     * @param index L'indice de l'employé dans la liste d'origine
+     * @return Le bonus calculé
+     */
+    public double getBonus(int index) {
+        return bonus[index];
+    }
+
+    /**
+     * Accès direct à la colonne des salaires (sans copie).
+     * @return Le tableau des salaires
+     */
+    public double[] getSalaires() {
+        return salaires;
+    }
+
+    /**
+     * Accès direct à la colonne des bonus (sans copie).
+     * @return Le tableau des bonus
+     */
+    public double[] getBonus() {
+        return bonus;
+    }
+}
@@ -10,6 +10,10 @@ public class Stagiaire extends Employe {
         super(nom, salaireDeBase, experience, equipe);
     }
 
+    public Stagiaire(String id, String nom, double salaireDeBase, int experience, String equipe) {
+        super(id, nom, salaireDeBase, experience, equipe);
+    }
+
     @Override
     public String getType() {
         return "STAGIAIRE";
@@ -0,0 +1,77 @@
+package org.iut.refactoring.model;
+
+import java.util.Arrays;
+
+/**
+ * Instantané des statistiques d'une équipe : effectif, sommes des salaires
+ * et histogramme de l'expérience par tranche.
+ * Principe SRP : Responsabilité unique de transporter les agrégats d'une équipe.
+ */
+public class StatistiquesEquipe {
+
+    /** Libellés des tranches de l'histogramme d'expérience. */
+    public static final String[] TRANCHES_EXPERIENCE = {"0-3 ans", "4-5 ans", "6-10 ans", "11+ ans"};
+
+    private final String equipe;
+    private final long effectif;
+    private final double sommeSalairesDeBase;
+    private final double sommeSalairesCalcules;
+    private final long[] histogrammeExperience;
+
+    public StatistiquesEquipe(String equipe, long effectif, double sommeSalairesDeBase,
+                              double sommeSalairesCalcules, long[] histogrammeExperience) {
+        this.equipe = equipe;
+        this.effectif = effectif;
+        this.sommeSalairesDeBase = sommeSalairesDeBase;
+        this.sommeSalairesCalcules = sommeSalairesCalcules;
+        this.histogrammeExperience = histogrammeExperience.clone();
+    }
+
+    /**
+     * Retourne l'indice de la tranche d'expérience (voir TRANCHES_EXPERIENCE).
+     * Les bornes suivent les seuils utilisés par les stratégies de salaire.
+     * @param experience L'expérience en années
+     * @return L'indice de la tranche
+     */
+    public static int trancheExperience(int experience) {
+        if (experience <= 3) {
+            return 0;
+        }
+        if (experience <= 5) {
+            return 1;
+        }
+        if (experience <= 10) {
+            return 2;
+        }
+        return 3;
+    }
+
+    public String getEquipe() {
+        return equipe;
+    }
+
+    public long getEffectif() {
+        return effectif;
+    }
+
+    public double getSommeSalairesDeBase() {
+        return sommeSalairesDeBase;
+    }
+
+    public double getSommeSalairesCalcules() {
+        return sommeSalairesCalcules;
+    }
+
+    /**
+     * @return Une copie de l'histogramme d'expérience, indexé comme TRANCHES_EXPERIENCE
+     */
+    public long[] getHistogrammeExperience() {
+        return histogrammeExperience.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d employés, salaires de base: %.2f €, salaires calculés: %.2f €, expérience: %s",
+                equipe, effectif, sommeSalairesDeBase, sommeSalairesCalcules, Arrays.toString(histogrammeExperience));
+    }
+}
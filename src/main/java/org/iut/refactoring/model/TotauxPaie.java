@@ -0,0 +1,34 @@
+package org.iut.refactoring.model;
+
+/**
+ * Totaux de paie (effectif, masse salariale, bonus) pour un groupe d'employés.
+ * Principe SRP : Responsabilité unique de transporter des totaux agrégés.
+ */
+public class TotauxPaie {
+    private final long effectif;
+    private final double totalSalaires;
+    private final double totalBonus;
+
+    public TotauxPaie(long effectif, double totalSalaires, double totalBonus) {
+        this.effectif = effectif;
+        this.totalSalaires = totalSalaires;
+        this.totalBonus = totalBonus;
+    }
+
+    public long getEffectif() {
+        return effectif;
+    }
+
+    public double getTotalSalaires() {
+        return totalSalaires;
+    }
+
+    public double getTotalBonus() {
+        return totalBonus;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d employés, salaires: %.2f €, bonus: %.2f €", effectif, totalSalaires, totalBonus);
+    }
+}
@@ -0,0 +1,23 @@
+package org.iut.refactoring.repository;
+
+import org.iut.refactoring.model.Employe;
+
+/**
+ * Interface des écouteurs notifiés des modifications du repository des employés.
+ * Principe OCP : Permet de greffer de nouveaux traitements (agrégats, caches...)
+ * sans modifier les implémentations du repository.
+ * Pattern Observer : Le repository observable notifie ses écouteurs.
+ */
+public interface EcouteurRepository {
+    /**
+     * Appelé après l'ajout d'un employé.
+     * @param employe L'employé ajouté
+     */
+    void employeAjoute(Employe employe);
+
+    /**
+     * Appelé après la suppression (ou le remplacement) d'un employé.
+     * @param employe L'employé retiré
+     */
+    void employeSupprime(Employe employe);
+}
@@ -2,7 +2,9 @@ package org.iut.refactoring.repository;
 
 import org.iut.refactoring.model.Employe;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -16,6 +18,21 @@ public interface EmployeRepository {
      * @param employe L'employé à ajouter
      */
     void ajouter(Employe employe);
+
+    /**
+     * Ajoute un lot d'employés.
+     * Par défaut chaque employé est ajouté individuellement ; les implémentations
+     * peuvent regrouper le lot (par exemple en un seul vidage de journal).
+     * @param employes Les employés à ajouter
+     */
+    default void ajouterTous(Collection<? extends Employe> employes) {
+        if (employes == null) {
+            throw new IllegalArgumentException("La liste d'employés ne peut pas être null");
+        }
+        for (Employe employe : employes) {
+            ajouter(employe);
+        }
+    }
     
     /**
      * Trouve un employé par son ID.
@@ -43,5 +60,59 @@ public interface EmployeRepository {
      * @return true si supprimé avec succès
      */
     boolean supprimer(String id);
+
+    /**
+     * Remplace un employé par une nouvelle version de même identifiant, à condition que
+     * la version enregistrée soit toujours celle attendue (comparaison-échange).
+     * L'employé reste visible pendant tout le remplacement : un lecteur voit l'ancienne
+     * ou la nouvelle version, jamais une absence.
+     * Par défaut la vérification et l'écriture sont deux appels successifs, ce qui suffit
+     * aux implémentations non thread-safe ; les implémentations concurrentes rendent
+     * l'opération atomique.
+     * @param attendu La version lue précédemment
+     * @param nouveau La nouvelle version, de même identifiant
+     * @return true si remplacé, false si l'employé a été modifié ou supprimé entre-temps
+     */
+    default boolean remplacer(Employe attendu, Employe nouveau) {
+        verifierRemplacement(attendu, nouveau);
+        Optional<Employe> actuel = trouverParId(attendu.getId());
+        if (actuel.isEmpty() || !memeVersion(actuel.get(), attendu)) {
+            return false;
+        }
+        ajouter(nouveau);
+        return true;
+    }
+
+    /**
+     * Vérifie les arguments d'un remplacement.
+     * @param attendu La version lue précédemment
+     * @param nouveau La nouvelle version
+     * @throws IllegalArgumentException Si l'un est null ou si leurs identifiants diffèrent
+     */
+    static void verifierRemplacement(Employe attendu, Employe nouveau) {
+        if (attendu == null || nouveau == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        if (!attendu.getId().equals(nouveau.getId())) {
+            throw new IllegalArgumentException("Le remplacement doit conserver l'identifiant: " + attendu.getId());
+        }
+    }
+
+    /**
+     * Indique si deux employés sont la même version : même instance, ou mêmes type et valeurs
+     * pour les implémentations qui matérialisent une nouvelle instance à chaque lecture.
+     * @param premier Le premier employé
+     * @param second Le second employé
+     * @return true si les deux désignent la même version
+     */
+    static boolean memeVersion(Employe premier, Employe second) {
+        return premier == second
+                || premier.getClass() == second.getClass()
+                && premier.getId().equals(second.getId())
+                && Objects.equals(premier.getNom(), second.getNom())
+                && Double.compare(premier.getSalaireDeBase(), second.getSalaireDeBase()) == 0
+                && premier.getExperience() == second.getExperience()
+                && Objects.equals(premier.getEquipe(), second.getEquipe());
+    }
 }
 
@@ -0,0 +1,111 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodage binaire d'un employé, partagé par les repositories persistants.
+ * Format : [byte type][texte id][texte nom][double salaireDeBase][int experience][texte equipe],
+ * un texte étant [int longueur][octets UTF-8] (longueur -1 pour null).
+ * Principe SRP : Responsabilité unique de (dé)sérialiser un employé.
+ */
+final class CodecEmploye {
+
+    static final byte TYPE_DEVELOPPEUR = 1;
+    static final byte TYPE_CHEF_DE_PROJET = 2;
+    static final byte TYPE_STAGIAIRE = 3;
+
+    private CodecEmploye() {
+    }
+
+    /**
+     * @return Le code binaire du type de l'employé
+     * @throws IllegalArgumentException Si le type n'a pas de code
+     */
+    static byte codeType(Employe employe) {
+        switch (employe.getType()) {
+            case "DEVELOPPEUR":
+                return TYPE_DEVELOPPEUR;
+            case "CHEF DE PROJET":
+                return TYPE_CHEF_DE_PROJET;
+            case "STAGIAIRE":
+                return TYPE_STAGIAIRE;
+            default:
+                throw new IllegalArgumentException("Type d'employé non persistable: " + employe.getType());
+        }
+    }
+
+    /**
+     * Reconstruit un employé à partir de son code de type, en conservant son identifiant.
+     */
+    static Employe creer(byte codeType, String id, String nom, double salaireDeBase, int experience, String equipe) {
+        switch (codeType) {
+            case TYPE_DEVELOPPEUR:
+                return new Developpeur(id, nom, salaireDeBase, experience, equipe);
+            case TYPE_CHEF_DE_PROJET:
+                return new ChefDeProjet(id, nom, salaireDeBase, experience, equipe);
+            case TYPE_STAGIAIRE:
+                return new Stagiaire(id, nom, salaireDeBase, experience, equipe);
+            default:
+                throw new IllegalArgumentException("Code de type d'employé inconnu: " + codeType);
+        }
+    }
+
+    static byte[] encoder(Employe employe) {
+        byte code = codeType(employe);
+        byte[] id = octets(employe.getId());
+        byte[] nom = octets(employe.getNom());
+        byte[] equipe = octets(employe.getEquipe());
+        ByteBuffer tampon = ByteBuffer.allocate(Byte.BYTES + Double.BYTES + Integer.BYTES
+                + tailleTexte(id) + tailleTexte(nom) + tailleTexte(equipe));
+        tampon.put(code);
+        ecrireTexte(tampon, id);
+        ecrireTexte(tampon, nom);
+        tampon.putDouble(employe.getSalaireDeBase());
+        tampon.putInt(employe.getExperience());
+        ecrireTexte(tampon, equipe);
+        return tampon.array();
+    }
+
+    static Employe decoder(ByteBuffer tampon) {
+        byte code = tampon.get();
+        String id = lireTexte(tampon);
+        String nom = lireTexte(tampon);
+        double salaireDeBase = tampon.getDouble();
+        int experience = tampon.getInt();
+        String equipe = lireTexte(tampon);
+        return creer(code, id, nom, salaireDeBase, experience, equipe);
+    }
+
+    static byte[] octets(String texte) {
+        return texte == null ? null : texte.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int tailleTexte(byte[] octets) {
+        return Integer.BYTES + (octets == null ? 0 : octets.length);
+    }
+
+    static void ecrireTexte(ByteBuffer tampon, byte[] octets) {
+        if (octets == null) {
+            tampon.putInt(-1);
+        } else {
+            tampon.putInt(octets.length).put(octets);
+        }
+    }
+
+    static String lireTexte(ByteBuffer tampon) {
+        int longueur = tampon.getInt();
+        if (longueur < 0) {
+            return null;
+        }
+        String texte = new String(tampon.array(), tampon.arrayOffset() + tampon.position(), longueur,
+                StandardCharsets.UTF_8);
+        tampon.position(tampon.position() + longueur);
+        return texte;
+    }
+}
@@ -0,0 +1,332 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Identifiants;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implémentation en mémoire du repository des employés stockée en colonnes de types primitifs.
+ * Chaque employé occupe une ligne des tableaux parallèles (type, salaire de base, expérience,
+ * équipe encodée par dictionnaire, identifiant UUID sur deux long, nom en UTF-8 dans un tas
+ * d'octets commun) : aucun objet n'est conservé par employé.
+ *
+ * Les Employe ne sont matérialisés qu'à la demande (trouverParId, trouverTous, trouverParEquipe) :
+ * chaque appel retourne donc de nouvelles instances, égales en valeurs à celles ajoutées.
+ * Une suppression déplace la dernière ligne dans le trou pour garder les colonnes compactes.
+ * Les identifiants qui ne sont pas des UUID canoniques sont conservés à part, sous forme de texte.
+ * N'est pas thread-safe.
+ * Principe LSP : Substituable à EmployeRepositoryImpl partout où EmployeRepository est attendu.
+ */
+public class EmployeRepositoryColonnes implements EmployeRepository {
+
+    private static final int CAPACITE_PAR_DEFAUT = 16;
+    private static final int TAILLE_NOM_MOYENNE = 16;
+    private static final int NOM_NULL = -1;
+
+    private int taille;
+    private byte[] types;
+    private double[] salaires;
+    private int[] experiences;
+    /** Index dans le dictionnaire des équipes + 1 ; 0 pour une équipe null. */
+    private int[] equipes;
+    private long[] idsHaut;
+    private long[] idsBas;
+    private int[] debutsNoms;
+    /** Longueur en octets du nom, ou NOM_NULL. */
+    private int[] longueursNoms;
+
+    private byte[] noms;
+    private int finNoms;
+    private int octetsNomsLibres;
+
+    private final IndexUuid index;
+    private final Map<String, Integer> lignesIdsTexte;
+    private final Map<Integer, String> idsTexteParLigne;
+    private final Map<String, Integer> codesEquipes;
+    private final List<String> dictionnaireEquipes;
+
+    public EmployeRepositoryColonnes() {
+        this(CAPACITE_PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur permettant de dimensionner les colonnes dès la création.
+     * @param capaciteInitiale Le nombre d'employés attendu
+     */
+    public EmployeRepositoryColonnes(int capaciteInitiale) {
+        int capacite = Math.max(1, capaciteInitiale);
+        this.types = new byte[capacite];
+        this.salaires = new double[capacite];
+        this.experiences = new int[capacite];
+        this.equipes = new int[capacite];
+        this.idsHaut = new long[capacite];
+        this.idsBas = new long[capacite];
+        this.debutsNoms = new int[capacite];
+        this.longueursNoms = new int[capacite];
+        this.noms = new byte[capacite * TAILLE_NOM_MOYENNE];
+        this.index = new IndexUuid(capacite);
+        this.lignesIdsTexte = new HashMap<>();
+        this.idsTexteParLigne = new HashMap<>();
+        this.codesEquipes = new HashMap<>();
+        this.dictionnaireEquipes = new ArrayList<>();
+        this.dictionnaireEquipes.add(null);
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        if (employe == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        byte type = CodecEmploye.codeType(employe);
+        String id = employe.getId();
+        int ligne = ligne(id);
+        if (ligne == IndexUuid.ABSENT) {
+            ligne = taille;
+            if (ligne == types.length) {
+                agrandir();
+            }
+            taille++;
+            indexer(id, ligne);
+        } else {
+            libererNom(ligne);
+        }
+        types[ligne] = type;
+        salaires[ligne] = employe.getSalaireDeBase();
+        experiences[ligne] = employe.getExperience();
+        equipes[ligne] = codeEquipe(employe.getEquipe());
+        ecrireNom(ligne, employe.getNom());
+        compacterNomsSiNecessaire();
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        int ligne = ligne(id);
+        return ligne == IndexUuid.ABSENT ? Optional.empty() : Optional.of(materialiser(ligne));
+    }
+
+    /**
+     * Recherche par la forme primitive d'un identifiant UUID, sans passer par son texte.
+     * @param haut Les 64 bits de poids fort de l'identifiant
+     * @param bas Les 64 bits de poids faible de l'identifiant
+     * @return Optional contenant l'employé si trouvé
+     */
+    public Optional<Employe> trouverParId(long haut, long bas) {
+        int ligne = index.trouver(haut, bas);
+        return ligne == IndexUuid.ABSENT ? Optional.empty() : Optional.of(materialiser(ligne));
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        List<Employe> resultat = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            resultat.add(materialiser(i));
+        }
+        return resultat;
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        List<Employe> resultat = new ArrayList<>();
+        int code = equipe == null ? 0 : codesEquipes.getOrDefault(equipe, -1);
+        if (code < 0) {
+            return resultat;
+        }
+        for (int i = 0; i < taille; i++) {
+            if (equipes[i] == code) {
+                resultat.add(materialiser(i));
+            }
+        }
+        return resultat;
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        int ligne = ligne(id);
+        if (ligne == IndexUuid.ABSENT) {
+            return false;
+        }
+        desindexer(id, ligne);
+        libererNom(ligne);
+        int derniere = --taille;
+        if (ligne != derniere) {
+            deplacer(derniere, ligne);
+        }
+        compacterNomsSiNecessaire();
+        return true;
+    }
+
+    /**
+     * @return Le nombre d'employés stockés
+     */
+    public int taille() {
+        return taille;
+    }
+
+    /**
+     * Estime la mémoire occupée par les colonnes, le tas des noms et l'index des identifiants
+     * (hors dictionnaire des équipes et identifiants non UUID).
+     * @return L'empreinte en octets
+     */
+    public long empreinteOctets() {
+        long parLigne = Byte.BYTES + Double.BYTES + 4L * Integer.BYTES + 2L * Long.BYTES;
+        return parLigne * types.length + noms.length + index.empreinteOctets();
+    }
+
+    // ------------------------------------------------------------------ lignes
+
+    private Employe materialiser(int ligne) {
+        return CodecEmploye.creer(
+                types[ligne],
+                id(ligne),
+                nom(ligne),
+                salaires[ligne],
+                experiences[ligne],
+                dictionnaireEquipes.get(equipes[ligne]));
+    }
+
+    private int ligne(String id) {
+        if (id == null) {
+            return IndexUuid.ABSENT;
+        }
+        if (Identifiants.estUuidCanonique(id)) {
+            return index.trouver(Identifiants.moitieHaute(id), Identifiants.moitieBasse(id));
+        }
+        return lignesIdsTexte.getOrDefault(id, IndexUuid.ABSENT);
+    }
+
+    private String id(int ligne) {
+        String id = idsTexteParLigne.isEmpty() ? null : idsTexteParLigne.get(ligne);
+        return id != null ? id : Identifiants.formater(idsHaut[ligne], idsBas[ligne]);
+    }
+
+    private void indexer(String id, int ligne) {
+        if (Identifiants.estUuidCanonique(id)) {
+            idsHaut[ligne] = Identifiants.moitieHaute(id);
+            idsBas[ligne] = Identifiants.moitieBasse(id);
+            index.associer(idsHaut[ligne], idsBas[ligne], ligne);
+        } else {
+            idsHaut[ligne] = 0;
+            idsBas[ligne] = 0;
+            lignesIdsTexte.put(id, ligne);
+            idsTexteParLigne.put(ligne, id);
+        }
+    }
+
+    private void desindexer(String id, int ligne) {
+        if (Identifiants.estUuidCanonique(id)) {
+            index.retirer(idsHaut[ligne], idsBas[ligne]);
+        } else {
+            lignesIdsTexte.remove(id);
+            idsTexteParLigne.remove(ligne);
+        }
+    }
+
+    /**
+     * Recopie la ligne source dans la ligne cible et met à jour l'index en conséquence.
+     */
+    private void deplacer(int source, int cible) {
+        types[cible] = types[source];
+        salaires[cible] = salaires[source];
+        experiences[cible] = experiences[source];
+        equipes[cible] = equipes[source];
+        idsHaut[cible] = idsHaut[source];
+        idsBas[cible] = idsBas[source];
+        debutsNoms[cible] = debutsNoms[source];
+        longueursNoms[cible] = longueursNoms[source];
+        String idTexte = idsTexteParLigne.isEmpty() ? null : idsTexteParLigne.remove(source);
+        if (idTexte != null) {
+            idsTexteParLigne.put(cible, idTexte);
+            lignesIdsTexte.put(idTexte, cible);
+        } else {
+            index.associer(idsHaut[cible], idsBas[cible], cible);
+        }
+    }
+
+    private void agrandir() {
+        int capacite = types.length + Math.max(1, types.length >> 1);
+        types = Arrays.copyOf(types, capacite);
+        salaires = Arrays.copyOf(salaires, capacite);
+        experiences = Arrays.copyOf(experiences, capacite);
+        equipes = Arrays.copyOf(equipes, capacite);
+        idsHaut = Arrays.copyOf(idsHaut, capacite);
+        idsBas = Arrays.copyOf(idsBas, capacite);
+        debutsNoms = Arrays.copyOf(debutsNoms, capacite);
+        longueursNoms = Arrays.copyOf(longueursNoms, capacite);
+    }
+
+    private int codeEquipe(String equipe) {
+        if (equipe == null) {
+            return 0;
+        }
+        Integer code = codesEquipes.get(equipe);
+        if (code == null) {
+            code = dictionnaireEquipes.size();
+            dictionnaireEquipes.add(equipe);
+            codesEquipes.put(equipe, code);
+        }
+        return code;
+    }
+
+    // ------------------------------------------------------------------ noms
+
+    private String nom(int ligne) {
+        int longueur = longueursNoms[ligne];
+        if (longueur == NOM_NULL) {
+            return null;
+        }
+        return new String(noms, debutsNoms[ligne], longueur, StandardCharsets.UTF_8);
+    }
+
+    private void ecrireNom(int ligne, String nom) {
+        if (nom == null) {
+            debutsNoms[ligne] = 0;
+            longueursNoms[ligne] = NOM_NULL;
+            return;
+        }
+        byte[] octets = nom.getBytes(StandardCharsets.UTF_8);
+        if (finNoms + octets.length > noms.length) {
+            noms = Arrays.copyOf(noms, Math.max(finNoms + octets.length, noms.length + (noms.length >> 1)));
+        }
+        System.arraycopy(octets, 0, noms, finNoms, octets.length);
+        debutsNoms[ligne] = finNoms;
+        longueursNoms[ligne] = octets.length;
+        finNoms += octets.length;
+    }
+
+    private void libererNom(int ligne) {
+        if (longueursNoms[ligne] != NOM_NULL) {
+            octetsNomsLibres += longueursNoms[ligne];
+        }
+    }
+
+    /**
+     * Réécrit le tas des noms sans les octets des noms supprimés ou remplacés,
+     * dès que ceux-ci en représentent plus de la moitié.
+     */
+    private void compacterNomsSiNecessaire() {
+        if (octetsNomsLibres <= TAILLE_NOM_MOYENNE * CAPACITE_PAR_DEFAUT || octetsNomsLibres <= finNoms / 2) {
+            return;
+        }
+        byte[] compacte = new byte[Math.max(finNoms - octetsNomsLibres, TAILLE_NOM_MOYENNE)];
+        int fin = 0;
+        for (int i = 0; i < taille; i++) {
+            int longueur = longueursNoms[i];
+            if (longueur != NOM_NULL) {
+                System.arraycopy(noms, debutsNoms[i], compacte, fin, longueur);
+                debutsNoms[i] = fin;
+                fin += longueur;
+            }
+        }
+        noms = compacte;
+        finNoms = fin;
+        octetsNomsLibres = 0;
+    }
+}
@@ -0,0 +1,87 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Implémentation en mémoire et thread-safe du repository des employés.
+ * S'appuie sur une ConcurrentHashMap : les lectures sont sans verrou et les
+ * écritures ne verrouillent que la case de la table concernée (verrouillage
+ * par segments), ce qui permet de partager une seule instance entre plusieurs threads.
+ * Principe LSP : Substituable à EmployeRepositoryImpl partout où EmployeRepository est attendu.
+ * Principe DIP : Implémentation concrète de l'abstraction EmployeRepository.
+ */
+public class EmployeRepositoryConcurrent implements EmployeRepository {
+
+    private final ConcurrentMap<String, Employe> employes;
+
+    public EmployeRepositoryConcurrent() {
+        this.employes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructeur permettant de dimensionner la table dès la création.
+     * @param capaciteInitiale Le nombre d'employés attendu
+     */
+    public EmployeRepositoryConcurrent(int capaciteInitiale) {
+        this.employes = new ConcurrentHashMap<>(capaciteInitiale);
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        if (employe == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        employes.put(employe.getId(), employe);
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(employes.get(id));
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        return new ArrayList<>(employes.values());
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        return employes.values().stream()
+                .filter(emp -> emp.getEquipe().equals(equipe))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        if (id == null) {
+            return false;
+        }
+        return employes.remove(id) != null;
+    }
+
+    /**
+     * Remplacement atomique : la comparaison et l'échange se font sous le verrou de la seule
+     * case de la table concernée, les lectures concurrentes restant sans verrou.
+     */
+    @Override
+    public boolean remplacer(Employe attendu, Employe nouveau) {
+        EmployeRepository.verifierRemplacement(attendu, nouveau);
+        boolean[] remplace = new boolean[1];
+        employes.computeIfPresent(attendu.getId(), (id, actuel) -> {
+            remplace[0] = EmployeRepository.memeVersion(actuel, attendu);
+            return remplace[0] ? nouveau : actuel;
+        });
+        return remplace[0];
+    }
+}
@@ -0,0 +1,345 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Identifiants;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implémentation du repository des employés stockée hors du tas Java.
+ * Chaque employé est un enregistrement de taille fixe (TAILLE_ENREGISTREMENT octets) rangé dans
+ * des blocs de tampons directs ajoutés au fil de la croissance (jamais recopiés) ; l'index des
+ * identifiants (IndexUuidHorsTas) est lui aussi hors tas. Le tas ne contient plus qu'un objet
+ * par bloc, quel que soit le nombre d'employés, ce qui borne le travail du ramasse-miettes.
+ *
+ * Format d'un enregistrement :
+ * [byte type][byte longueurNom][2 octets libres][int experience][double salaireDeBase]
+ * [long idHaut][long idBas][int equipe][NOM_MAX octets UTF-8 du nom]
+ * Les noms plus longs que NOM_MAX octets, les identifiants qui ne sont pas des UUID canoniques
+ * et le dictionnaire des équipes restent sur le tas (cas rares ou de petite taille).
+ *
+ * Comme pour EmployeRepositoryColonnes, les Employe sont matérialisés à chaque lecture et une
+ * suppression déplace le dernier enregistrement dans le trou.
+ * close() abandonne les blocs : la mémoire native est rendue au prochain passage du ramasse-miettes.
+ * N'est pas thread-safe.
+ * Principe LSP : Substituable à EmployeRepositoryImpl partout où EmployeRepository est attendu.
+ */
+public class EmployeRepositoryHorsTas implements EmployeRepository, AutoCloseable {
+
+    static final int TAILLE_ENREGISTREMENT = 64;
+    static final int NOM_MAX = 28;
+
+    private static final int DECALAGE_TYPE = 0;
+    private static final int DECALAGE_LONGUEUR_NOM = 1;
+    private static final int DECALAGE_EXPERIENCE = 4;
+    private static final int DECALAGE_SALAIRE = 8;
+    private static final int DECALAGE_ID_HAUT = 16;
+    private static final int DECALAGE_ID_BAS = 24;
+    private static final int DECALAGE_EQUIPE = 32;
+    private static final int DECALAGE_NOM = 36;
+
+    private static final byte NOM_NULL = -1;
+    private static final byte NOM_DEBORDANT = -2;
+
+    private static final int BITS_BLOC = 14;
+    private static final int LIGNES_PAR_BLOC = 1 << BITS_BLOC;
+    private static final int MASQUE_BLOC = LIGNES_PAR_BLOC - 1;
+
+    private final List<ByteBuffer> blocs;
+    private final IndexUuidHorsTas index;
+    private final Map<String, Integer> lignesIdsTexte;
+    private final Map<Integer, String> idsTexteParLigne;
+    private final Map<Integer, String> nomsDebordants;
+    private final Map<String, Integer> codesEquipes;
+    private final List<String> dictionnaireEquipes;
+    private int taille;
+    private boolean ouvert;
+
+    public EmployeRepositoryHorsTas() {
+        this(LIGNES_PAR_BLOC);
+    }
+
+    /**
+     * Constructeur permettant de réserver l'index dès la création.
+     * @param capaciteInitiale Le nombre d'employés attendu
+     */
+    public EmployeRepositoryHorsTas(int capaciteInitiale) {
+        this.blocs = new ArrayList<>();
+        this.index = new IndexUuidHorsTas(capaciteInitiale);
+        this.lignesIdsTexte = new HashMap<>();
+        this.idsTexteParLigne = new HashMap<>();
+        this.nomsDebordants = new HashMap<>();
+        this.codesEquipes = new HashMap<>();
+        this.dictionnaireEquipes = new ArrayList<>();
+        this.dictionnaireEquipes.add(null);
+        this.ouvert = true;
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        if (employe == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        verifierOuvert();
+        byte type = CodecEmploye.codeType(employe);
+        String id = employe.getId();
+        int ligne = ligne(id);
+        if (ligne == IndexUuid.ABSENT) {
+            ligne = taille;
+            if ((ligne >>> BITS_BLOC) == blocs.size()) {
+                blocs.add(ByteBuffer.allocateDirect(LIGNES_PAR_BLOC * TAILLE_ENREGISTREMENT)
+                        .order(ByteOrder.nativeOrder()));
+            }
+            taille++;
+            indexer(id, ligne);
+        }
+        ByteBuffer bloc = bloc(ligne);
+        int position = position(ligne);
+        bloc.put(position + DECALAGE_TYPE, type);
+        bloc.putInt(position + DECALAGE_EXPERIENCE, employe.getExperience());
+        bloc.putDouble(position + DECALAGE_SALAIRE, employe.getSalaireDeBase());
+        bloc.putInt(position + DECALAGE_EQUIPE, codeEquipe(employe.getEquipe()));
+        ecrireNom(bloc, position, ligne, employe.getNom());
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        verifierOuvert();
+        int ligne = ligne(id);
+        return ligne == IndexUuid.ABSENT ? Optional.empty() : Optional.of(materialiser(ligne));
+    }
+
+    /**
+     * Recherche par la forme primitive d'un identifiant UUID, sans passer par son texte.
+     * @param haut Les 64 bits de poids fort de l'identifiant
+     * @param bas Les 64 bits de poids faible de l'identifiant
+     * @return Optional contenant l'employé si trouvé
+     */
+    public Optional<Employe> trouverParId(long haut, long bas) {
+        verifierOuvert();
+        int ligne = index.trouver(haut, bas);
+        return ligne == IndexUuid.ABSENT ? Optional.empty() : Optional.of(materialiser(ligne));
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        verifierOuvert();
+        List<Employe> resultat = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            resultat.add(materialiser(i));
+        }
+        return resultat;
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        verifierOuvert();
+        List<Employe> resultat = new ArrayList<>();
+        int code = equipe == null ? 0 : codesEquipes.getOrDefault(equipe, -1);
+        if (code < 0) {
+            return resultat;
+        }
+        for (int i = 0; i < taille; i++) {
+            if (bloc(i).getInt(position(i) + DECALAGE_EQUIPE) == code) {
+                resultat.add(materialiser(i));
+            }
+        }
+        return resultat;
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        verifierOuvert();
+        int ligne = ligne(id);
+        if (ligne == IndexUuid.ABSENT) {
+            return false;
+        }
+        desindexer(id, ligne);
+        if (!nomsDebordants.isEmpty()) {
+            nomsDebordants.remove(ligne);
+        }
+        int derniere = --taille;
+        if (ligne != derniere) {
+            deplacer(derniere, ligne);
+        }
+        if ((taille & MASQUE_BLOC) == 0 && blocs.size() > (taille >>> BITS_BLOC) + 1) {
+            blocs.remove(blocs.size() - 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return Le nombre d'employés stockés
+     */
+    public int taille() {
+        return taille;
+    }
+
+    /**
+     * @return Les octets de mémoire native réservés par les blocs et l'index
+     */
+    public long empreinteHorsTasOctets() {
+        return (long) blocs.size() * LIGNES_PAR_BLOC * TAILLE_ENREGISTREMENT + index.empreinteOctets();
+    }
+
+    /**
+     * Abandonne les blocs et l'index ; toute opération ultérieure lève IllegalStateException.
+     */
+    @Override
+    public void close() {
+        ouvert = false;
+        blocs.clear();
+        index.liberer();
+        lignesIdsTexte.clear();
+        idsTexteParLigne.clear();
+        nomsDebordants.clear();
+        taille = 0;
+    }
+
+    // ------------------------------------------------------------------ enregistrements
+
+    private Employe materialiser(int ligne) {
+        ByteBuffer bloc = bloc(ligne);
+        int position = position(ligne);
+        return CodecEmploye.creer(
+                bloc.get(position + DECALAGE_TYPE),
+                id(bloc, position, ligne),
+                nom(bloc, position, ligne),
+                bloc.getDouble(position + DECALAGE_SALAIRE),
+                bloc.getInt(position + DECALAGE_EXPERIENCE),
+                dictionnaireEquipes.get(bloc.getInt(position + DECALAGE_EQUIPE)));
+    }
+
+    private ByteBuffer bloc(int ligne) {
+        return blocs.get(ligne >>> BITS_BLOC);
+    }
+
+    private static int position(int ligne) {
+        return (ligne & MASQUE_BLOC) * TAILLE_ENREGISTREMENT;
+    }
+
+    private int ligne(String id) {
+        if (id == null) {
+            return IndexUuid.ABSENT;
+        }
+        if (Identifiants.estUuidCanonique(id)) {
+            return index.trouver(Identifiants.moitieHaute(id), Identifiants.moitieBasse(id));
+        }
+        return lignesIdsTexte.getOrDefault(id, IndexUuid.ABSENT);
+    }
+
+    private String id(ByteBuffer bloc, int position, int ligne) {
+        String id = idsTexteParLigne.isEmpty() ? null : idsTexteParLigne.get(ligne);
+        return id != null ? id : Identifiants.formater(
+                bloc.getLong(position + DECALAGE_ID_HAUT), bloc.getLong(position + DECALAGE_ID_BAS));
+    }
+
+    private void indexer(String id, int ligne) {
+        ByteBuffer bloc = bloc(ligne);
+        int position = position(ligne);
+        if (Identifiants.estUuidCanonique(id)) {
+            long haut = Identifiants.moitieHaute(id);
+            long bas = Identifiants.moitieBasse(id);
+            bloc.putLong(position + DECALAGE_ID_HAUT, haut);
+            bloc.putLong(position + DECALAGE_ID_BAS, bas);
+            index.associer(haut, bas, ligne);
+        } else {
+            bloc.putLong(position + DECALAGE_ID_HAUT, 0);
+            bloc.putLong(position + DECALAGE_ID_BAS, 0);
+            lignesIdsTexte.put(id, ligne);
+            idsTexteParLigne.put(ligne, id);
+        }
+    }
+
+    private void desindexer(String id, int ligne) {
+        if (Identifiants.estUuidCanonique(id)) {
+            index.retirer(Identifiants.moitieHaute(id), Identifiants.moitieBasse(id));
+        } else {
+            lignesIdsTexte.remove(id);
+            idsTexteParLigne.remove(ligne);
+        }
+    }
+
+    /**
+     * Recopie l'enregistrement source sur l'enregistrement cible et met à jour l'index en conséquence.
+     */
+    private void deplacer(int source, int cible) {
+        ByteBuffer blocSource = bloc(source);
+        int positionSource = position(source);
+        ByteBuffer blocCible = bloc(cible);
+        int positionCible = position(cible);
+        blocCible.put(positionCible, blocSource, positionSource, TAILLE_ENREGISTREMENT);
+        if (!nomsDebordants.isEmpty()) {
+            String nom = nomsDebordants.remove(source);
+            if (nom != null) {
+                nomsDebordants.put(cible, nom);
+            }
+        }
+        String idTexte = idsTexteParLigne.isEmpty() ? null : idsTexteParLigne.remove(source);
+        if (idTexte != null) {
+            idsTexteParLigne.put(cible, idTexte);
+            lignesIdsTexte.put(idTexte, cible);
+        } else {
+            index.associer(blocCible.getLong(positionCible + DECALAGE_ID_HAUT),
+                    blocCible.getLong(positionCible + DECALAGE_ID_BAS), cible);
+        }
+    }
+
+    private int codeEquipe(String equipe) {
+        if (equipe == null) {
+            return 0;
+        }
+        Integer code = codesEquipes.get(equipe);
+        if (code == null) {
+            code = dictionnaireEquipes.size();
+            dictionnaireEquipes.add(equipe);
+            codesEquipes.put(equipe, code);
+        }
+        return code;
+    }
+
+    private String nom(ByteBuffer bloc, int position, int ligne) {
+        byte longueur = bloc.get(position + DECALAGE_LONGUEUR_NOM);
+        if (longueur == NOM_NULL) {
+            return null;
+        }
+        if (longueur == NOM_DEBORDANT) {
+            return nomsDebordants.get(ligne);
+        }
+        byte[] octets = new byte[longueur];
+        bloc.get(position + DECALAGE_NOM, octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+
+    private void ecrireNom(ByteBuffer bloc, int position, int ligne, String nom) {
+        if (!nomsDebordants.isEmpty()) {
+            nomsDebordants.remove(ligne);
+        }
+        if (nom == null) {
+            bloc.put(position + DECALAGE_LONGUEUR_NOM, NOM_NULL);
+            return;
+        }
+        byte[] octets = nom.getBytes(StandardCharsets.UTF_8);
+        if (octets.length > NOM_MAX) {
+            bloc.put(position + DECALAGE_LONGUEUR_NOM, NOM_DEBORDANT);
+            nomsDebordants.put(ligne, nom);
+            return;
+        }
+        bloc.put(position + DECALAGE_LONGUEUR_NOM, (byte) octets.length);
+        bloc.put(position + DECALAGE_NOM, octets);
+    }
+
+    private void verifierOuvert() {
+        if (!ouvert) {
+            throw new IllegalStateException("Le repository est fermé");
+        }
+    }
+}
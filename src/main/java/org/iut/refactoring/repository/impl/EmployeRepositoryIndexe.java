@@ -0,0 +1,81 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.util.*;
+
+/**
+ * Implémentation en mémoire du repository des employés avec un index secondaire par équipe.
+ * L'index (équipe -> ensemble d'IDs) est maintenu lors de ajouter et supprimer,
+ * ce qui rend trouverParEquipe proportionnel à la taille de l'équipe et non plus
+ * au nombre total d'employés.
+ * Principe SRP : Responsabilité unique de gérer la persistance des employés.
+ * Principe LSP : Substituable à EmployeRepositoryImpl partout où EmployeRepository est attendu.
+ */
+public class EmployeRepositoryIndexe implements EmployeRepository {
+
+    private final Map<String, Employe> employes;
+    private final Map<String, Set<String>> idsParEquipe;
+
+    public EmployeRepositoryIndexe() {
+        this.employes = new HashMap<>();
+        this.idsParEquipe = new HashMap<>();
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        if (employe == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        Employe precedent = employes.put(employe.getId(), employe);
+        if (precedent != null) {
+            retirerDeLIndex(precedent);
+        }
+        idsParEquipe.computeIfAbsent(employe.getEquipe(), equipe -> new HashSet<>())
+                .add(employe.getId());
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        return Optional.ofNullable(employes.get(id));
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        return new ArrayList<>(employes.values());
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        Set<String> ids = idsParEquipe.get(equipe);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<Employe> resultat = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            resultat.add(employes.get(id));
+        }
+        return resultat;
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        Employe supprime = employes.remove(id);
+        if (supprime == null) {
+            return false;
+        }
+        retirerDeLIndex(supprime);
+        return true;
+    }
+
+    private void retirerDeLIndex(Employe employe) {
+        Set<String> ids = idsParEquipe.get(employe.getEquipe());
+        if (ids != null) {
+            ids.remove(employe.getId());
+            if (ids.isEmpty()) {
+                idsParEquipe.remove(employe.getEquipe());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.metrique.MetriqueOperation;
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Décorateur de repository mesurant la durée et les erreurs de chaque opération dans un
+ * RegistreMetriques (opérations préfixées par « repository. »). Les ajouts et remplacements
+ * sont mesurés par type d'employé, les recherches par identifiant par type de l'employé trouvé.
+ * Toutes les opérations, y compris ajouterTous et remplacer, sont transmises telles quelles
+ * afin de conserver les optimisations et l'atomicité du repository décoré.
+ * Pattern Decorator : Ajoute la mesure sans modifier le repository décoré.
+ */
+public class EmployeRepositoryInstrumente implements EmployeRepository {
+
+    static final String AJOUTER = "repository.ajouter";
+    static final String AJOUTER_TOUS = "repository.ajouterTous";
+    static final String TROUVER_PAR_ID = "repository.trouverParId";
+    static final String TROUVER_TOUS = "repository.trouverTous";
+    static final String TROUVER_PAR_EQUIPE = "repository.trouverParEquipe";
+    static final String SUPPRIMER = "repository.supprimer";
+    static final String REMPLACER = "repository.remplacer";
+
+    private final EmployeRepository delegue;
+    private final RegistreMetriques registre;
+    private final MetriqueOperation ajoutsParLot;
+    private final MetriqueOperation recherchesInfructueuses;
+    private final MetriqueOperation recherchesTous;
+    private final MetriqueOperation recherchesParEquipe;
+    private final MetriqueOperation suppressions;
+
+    /**
+     * @param delegue Le repository mesuré
+     * @param registre Le registre recevant les mesures
+     */
+    public EmployeRepositoryInstrumente(EmployeRepository delegue, RegistreMetriques registre) {
+        if (delegue == null || registre == null) {
+            throw new IllegalArgumentException("Le repository et le registre ne peuvent pas être null");
+        }
+        this.delegue = delegue;
+        this.registre = registre;
+        this.ajoutsParLot = registre.metrique(AJOUTER_TOUS);
+        this.recherchesInfructueuses = registre.metrique(TROUVER_PAR_ID);
+        this.recherchesTous = registre.metrique(TROUVER_TOUS);
+        this.recherchesParEquipe = registre.metrique(TROUVER_PAR_EQUIPE);
+        this.suppressions = registre.metrique(SUPPRIMER);
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        registre.metrique(AJOUTER, typeDe(employe)).mesurer(() -> delegue.ajouter(employe));
+    }
+
+    @Override
+    public void ajouterTous(Collection<? extends Employe> employes) {
+        ajoutsParLot.mesurer(() -> delegue.ajouterTous(employes));
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        long debut = System.nanoTime();
+        Optional<Employe> resultat;
+        try {
+            resultat = delegue.trouverParId(id);
+        } catch (RuntimeException e) {
+            recherchesInfructueuses.enregistrerErreur(debut);
+            throw e;
+        }
+        if (resultat.isPresent()) {
+            registre.metrique(TROUVER_PAR_ID, resultat.get().getType()).enregistrer(debut);
+        } else {
+            recherchesInfructueuses.enregistrer(debut);
+        }
+        return resultat;
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        return recherchesTous.mesurer(delegue::trouverTous);
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        return recherchesParEquipe.mesurer(() -> delegue.trouverParEquipe(equipe));
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        return suppressions.mesurer(() -> delegue.supprimer(id));
+    }
+
+    @Override
+    public boolean remplacer(Employe attendu, Employe nouveau) {
+        return registre.metrique(REMPLACER, typeDe(nouveau)).mesurer(() -> delegue.remplacer(attendu, nouveau));
+    }
+
+    private static String typeDe(Employe employe) {
+        return employe == null ? null : employe.getType();
+    }
+}
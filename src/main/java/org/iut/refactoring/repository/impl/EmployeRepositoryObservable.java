@@ -0,0 +1,210 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EcouteurRepository;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Décorateur de repository notifiant des écouteurs à chaque modification.
+ * Les écritures sur un même employé sont sérialisées (un verrou par tranche d'identifiants)
+ * afin que les écouteurs voient ses modifications dans l'ordre où elles sont appliquées ;
+ * des écritures sur des employés de tranches différentes restent parallèles.
+ * Les lectures sont déléguées directement.
+ * Pattern Decorator : Ajoute la notification sans modifier le repository décoré.
+ * Pattern Observer : Notifie les EcouteurRepository enregistrés.
+ */
+public class EmployeRepositoryObservable implements EmployeRepository {
+
+    private static final int NOMBRE_VERROUS = 64;
+
+    private final EmployeRepository delegue;
+    private final List<EcouteurRepository> ecouteurs;
+    private final ReentrantLock[] verrous;
+
+    /**
+     * @param delegue Le repository décoré
+     */
+    public EmployeRepositoryObservable(EmployeRepository delegue) {
+        this.delegue = delegue;
+        this.ecouteurs = new CopyOnWriteArrayList<>();
+        this.verrous = new ReentrantLock[NOMBRE_VERROUS];
+        for (int i = 0; i < NOMBRE_VERROUS; i++) {
+            verrous[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Enregistre un écouteur. Il n'est notifié que des modifications ultérieures.
+     * @param ecouteur L'écouteur à enregistrer
+     */
+    public void ajouterEcouteur(EcouteurRepository ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        if (employe == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        ReentrantLock verrou = verrou(employe.getId());
+        verrou.lock();
+        try {
+            Optional<Employe> precedent = delegue.trouverParId(employe.getId());
+            delegue.ajouter(employe);
+            precedent.ifPresent(this::notifierSuppression);
+            for (EcouteurRepository ecouteur : ecouteurs) {
+                ecouteur.employeAjoute(employe);
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Transmet le lot d'un bloc au repository décoré puis notifie les écouteurs
+     * dans l'ordre du lot, comme pour des ajouts successifs.
+     * Les verrous des tranches concernées sont pris dans l'ordre croissant.
+     */
+    @Override
+    public void ajouterTous(Collection<? extends Employe> employes) {
+        if (employes == null) {
+            throw new IllegalArgumentException("La liste d'employés ne peut pas être null");
+        }
+        TreeSet<Integer> tranches = new TreeSet<>();
+        for (Employe employe : employes) {
+            if (employe == null) {
+                throw new IllegalArgumentException("L'employé ne peut pas être null");
+            }
+            tranches.add(tranche(employe.getId()));
+        }
+        for (int tranche : tranches) {
+            verrous[tranche].lock();
+        }
+        try {
+            ajouterTousVerrouille(employes);
+        } finally {
+            for (int tranche : tranches.descendingSet()) {
+                verrous[tranche].unlock();
+            }
+        }
+    }
+
+    private void ajouterTousVerrouille(Collection<? extends Employe> employes) {
+        Map<String, Employe> ajoutesDansLeLot = new HashMap<>();
+        List<Employe> precedents = new ArrayList<>(employes.size());
+        for (Employe employe : employes) {
+            Employe precedent = ajoutesDansLeLot.containsKey(employe.getId())
+                    ? ajoutesDansLeLot.get(employe.getId())
+                    : delegue.trouverParId(employe.getId()).orElse(null);
+            precedents.add(precedent);
+            ajoutesDansLeLot.put(employe.getId(), employe);
+        }
+        delegue.ajouterTous(employes);
+        int i = 0;
+        for (Employe employe : employes) {
+            Employe precedent = precedents.get(i++);
+            if (precedent != null) {
+                notifierSuppression(precedent);
+            }
+            for (EcouteurRepository ecouteur : ecouteurs) {
+                ecouteur.employeAjoute(employe);
+            }
+        }
+    }
+
+    /**
+     * Exécute une action pendant que toutes les écritures sont suspendues, par exemple pour
+     * reconstruire un état dérivé de trouverTous sans manquer d'écriture concurrente.
+     * L'action ne doit pas elle-même écrire dans ce repository.
+     * @param action L'action à exécuter
+     */
+    public void executerSansEcriture(Runnable action) {
+        for (ReentrantLock verrou : verrous) {
+            verrou.lock();
+        }
+        try {
+            action.run();
+        } finally {
+            for (int i = verrous.length - 1; i >= 0; i--) {
+                verrous[i].unlock();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        return delegue.trouverParId(id);
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        return delegue.trouverTous();
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        return delegue.trouverParEquipe(equipe);
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        ReentrantLock verrou = verrou(id);
+        verrou.lock();
+        try {
+            Optional<Employe> existant = delegue.trouverParId(id);
+            if (existant.isEmpty() || !delegue.supprimer(id)) {
+                return false;
+            }
+            notifierSuppression(existant.get());
+            return true;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    @Override
+    public boolean remplacer(Employe attendu, Employe nouveau) {
+        EmployeRepository.verifierRemplacement(attendu, nouveau);
+        ReentrantLock verrou = verrou(attendu.getId());
+        verrou.lock();
+        try {
+            Optional<Employe> precedent = delegue.trouverParId(attendu.getId());
+            if (!delegue.remplacer(attendu, nouveau)) {
+                return false;
+            }
+            precedent.ifPresent(this::notifierSuppression);
+            for (EcouteurRepository ecouteur : ecouteurs) {
+                ecouteur.employeAjoute(nouveau);
+            }
+            return true;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private ReentrantLock verrou(String id) {
+        return verrous[tranche(id)];
+    }
+
+    private static int tranche(String id) {
+        int hash = Objects.hashCode(id);
+        return (hash ^ (hash >>> 16)) & (NOMBRE_VERROUS - 1);
+    }
+
+    private void notifierSuppression(Employe employe) {
+        for (EcouteurRepository ecouteur : ecouteurs) {
+            ecouteur.employeSupprime(employe);
+        }
+    }
+}
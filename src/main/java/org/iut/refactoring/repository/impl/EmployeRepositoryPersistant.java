@@ -0,0 +1,690 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Repository des employés durable, adossé à un journal d'écriture anticipée (WAL).
+ * Chaque ajout ou suppression est encodé en binaire et ajouté au journal avant que l'appel
+ * ne rende la main ; les fsync sont groupés (group commit) : le premier appelant qui attend
+ * sa durabilité devient « meneur », écrit et synchronise d'un coup tout ce qui s'est accumulé,
+ * puis libère tous les appelants couverts par ce vidage.
+ *
+ * Des instantanés (snapshots, voir SnapshotEmployes) sont produits périodiquement, tous les seuilSnapshot
+ * enregistrements : le journal change alors de génération et les générations antérieures
+ * à l'instantané sont supprimées. Au démarrage, le dernier instantané est chargé puis
+ * les journaux suivants sont rejoués ; un enregistrement tronqué ou corrompu (CRC32)
+ * en fin de journal, laissé par un arrêt brutal, est ignoré.
+ *
+ * Si l'écriture ou la synchronisation du journal échoue, le repository passe définitivement
+ * en échec : les écritures non durables sont annulées en mémoire (dans l'ordre inverse),
+ * leurs appelants reçoivent l'erreur, et toute écriture ultérieure est refusée.
+ *
+ * Format d'un enregistrement : [int longueur][int crc32][byte operation][données],
+ * longueur et crc32 portant sur operation + données (voir CodecEmploye pour un ajout,
+ * l'identifiant seul pour une suppression).
+ * Les lectures sont servies par un EmployeRepositoryConcurrent en mémoire.
+ * Principe LSP : Substituable à EmployeRepositoryImpl partout où EmployeRepository est attendu.
+ * Principe DIP : Implémentation concrète de l'abstraction EmployeRepository.
+ */
+public class EmployeRepositoryPersistant implements EmployeRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeRepositoryPersistant.class);
+
+    public static final long SEUIL_SNAPSHOT_PAR_DEFAUT = 1_000_000;
+
+    static final byte OPERATION_AJOUT = 1;
+    static final byte OPERATION_SUPPRESSION = 2;
+
+    private static final int TAILLE_ENTETE_ENREGISTREMENT = 2 * Integer.BYTES;
+    static final int TAILLE_MAX_ENREGISTREMENT = 16 * 1024 * 1024;
+    private static final int TAILLE_TAMPON_INITIALE = 64 * 1024;
+    private static final String PREFIXE_JOURNAL = "wal-";
+    private static final String SUFFIXE_JOURNAL = ".log";
+    private static final String PREFIXE_SNAPSHOT = "snapshot-";
+    private static final String SUFFIXE_SNAPSHOT = ".bin";
+
+    private final Path repertoire;
+    private final long seuilSnapshot;
+    private final EmployeRepositoryConcurrent memoire;
+
+    // Ordre : verrouVidage avant verrouEcriture
+    private final ReentrantLock verrouVidage;
+    private final ReentrantLock verrouEcriture;
+
+    // Protégés par verrouEcriture
+    private ByteBuffer enAttente;
+    private long sequenceEcrite;
+    private FileChannel journal;
+    private long generation;
+    private final Deque<Annulation> annulations;
+    private IOException defaillance;
+
+    // Protégé par verrouVidage
+    private ByteBuffer libre;
+
+    // Élection du meneur du group commit
+    private final Object moniteurDurabilite;
+    private boolean vidageEnCours;
+
+    private volatile long sequenceDurable;
+    private volatile long sequenceDernierSnapshot;
+    private volatile boolean ouvert;
+
+    private final ExecutorService executeurSnapshot;
+    private final AtomicBoolean snapshotEnCours;
+
+    public EmployeRepositoryPersistant(Path repertoire) {
+        this(repertoire, SEUIL_SNAPSHOT_PAR_DEFAUT);
+    }
+
+    /**
+     * @param repertoire Répertoire contenant journaux et instantanés (créé si absent)
+     * @param seuilSnapshot Nombre d'enregistrements entre deux instantanés automatiques (0 pour désactiver)
+     */
+    public EmployeRepositoryPersistant(Path repertoire, long seuilSnapshot) {
+        if (repertoire == null) {
+            throw new IllegalArgumentException("Le répertoire ne peut pas être null");
+        }
+        if (seuilSnapshot < 0) {
+            throw new IllegalArgumentException("Le seuil d'instantané ne peut pas être négatif");
+        }
+        this.repertoire = repertoire;
+        this.seuilSnapshot = seuilSnapshot;
+        this.verrouVidage = new ReentrantLock();
+        this.verrouEcriture = new ReentrantLock();
+        this.enAttente = ByteBuffer.allocate(TAILLE_TAMPON_INITIALE);
+        this.libre = ByteBuffer.allocate(TAILLE_TAMPON_INITIALE);
+        this.annulations = new ArrayDeque<>();
+        this.moniteurDurabilite = new Object();
+        this.snapshotEnCours = new AtomicBoolean();
+        try {
+            Files.createDirectories(repertoire);
+            List<Path> snapshots = lister(PREFIXE_SNAPSHOT, SUFFIXE_SNAPSHOT);
+            long generationSnapshot = 0;
+            List<Employe> instantane = List.of();
+            if (!snapshots.isEmpty()) {
+                Path dernier = snapshots.get(snapshots.size() - 1);
+                generationSnapshot = generationDe(dernier, PREFIXE_SNAPSHOT, SUFFIXE_SNAPSHOT);
+                instantane = SnapshotEmployes.lire(dernier);
+            }
+            this.memoire = new EmployeRepositoryConcurrent(Math.max(16, instantane.size()));
+            instantane.parallelStream().forEach(memoire::ajouter);
+            long derniereGeneration = rejouerJournaux(generationSnapshot);
+            this.generation = derniereGeneration + 1;
+            this.journal = ouvrirJournal(generation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la restauration du repository", e);
+        }
+        this.executeurSnapshot = Executors.newSingleThreadExecutor(tache -> {
+            Thread thread = new Thread(tache, "snapshot-employes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ouvert = true;
+    }
+
+    @Override
+    public void ajouter(Employe employe) {
+        if (employe == null) {
+            throw new IllegalArgumentException("L'employé ne peut pas être null");
+        }
+        byte[] enregistrement = encoderEnregistrement(OPERATION_AJOUT, CodecEmploye.encoder(employe));
+        long sequence;
+        verrouEcriture.lock();
+        try {
+            verifierOuvert();
+            sequence = ajouterAuTampon(enregistrement);
+            annulations.addLast(new Annulation(sequence, employe.getId(), memoire.trouverParId(employe.getId()).orElse(null)));
+            memoire.ajouter(employe);
+        } finally {
+            verrouEcriture.unlock();
+        }
+        attendreDurabilite(sequence);
+        declencherSnapshotSiNecessaire(sequence);
+    }
+
+    /**
+     * Ajoute un lot d'employés en un seul vidage du journal.
+     * @param employes Les employés à ajouter
+     */
+    @Override
+    public void ajouterTous(Collection<? extends Employe> employes) {
+        if (employes == null) {
+            throw new IllegalArgumentException("La liste d'employés ne peut pas être null");
+        }
+        List<byte[]> enregistrements = new ArrayList<>(employes.size());
+        for (Employe employe : employes) {
+            if (employe == null) {
+                throw new IllegalArgumentException("L'employé ne peut pas être null");
+            }
+            enregistrements.add(encoderEnregistrement(OPERATION_AJOUT, CodecEmploye.encoder(employe)));
+        }
+        long sequence = 0;
+        verrouEcriture.lock();
+        try {
+            verifierOuvert();
+            int i = 0;
+            for (Employe employe : employes) {
+                sequence = ajouterAuTampon(enregistrements.get(i++));
+                annulations.addLast(new Annulation(sequence, employe.getId(), memoire.trouverParId(employe.getId()).orElse(null)));
+                memoire.ajouter(employe);
+            }
+        } finally {
+            verrouEcriture.unlock();
+        }
+        if (sequence > 0) {
+            attendreDurabilite(sequence);
+            declencherSnapshotSiNecessaire(sequence);
+        }
+    }
+
+    @Override
+    public Optional<Employe> trouverParId(String id) {
+        return memoire.trouverParId(id);
+    }
+
+    @Override
+    public List<Employe> trouverTous() {
+        return memoire.trouverTous();
+    }
+
+    @Override
+    public List<Employe> trouverParEquipe(String equipe) {
+        return memoire.trouverParEquipe(equipe);
+    }
+
+    @Override
+    public boolean supprimer(String id) {
+        if (id == null) {
+            return false;
+        }
+        byte[] enregistrement = encoderEnregistrement(OPERATION_SUPPRESSION, id.getBytes(StandardCharsets.UTF_8));
+        long sequence;
+        verrouEcriture.lock();
+        try {
+            verifierOuvert();
+            Optional<Employe> existant = memoire.trouverParId(id);
+            if (existant.isEmpty() || !memoire.supprimer(id)) {
+                return false;
+            }
+            sequence = ajouterAuTampon(enregistrement);
+            annulations.addLast(new Annulation(sequence, id, existant.get()));
+        } finally {
+            verrouEcriture.unlock();
+        }
+        attendreDurabilite(sequence);
+        declencherSnapshotSiNecessaire(sequence);
+        return true;
+    }
+
+    /**
+     * Remplacement atomique vis-à-vis des autres écritures ; il est journalisé comme un ajout,
+     * qui écrase la version précédente au rejeu.
+     */
+    @Override
+    public boolean remplacer(Employe attendu, Employe nouveau) {
+        EmployeRepository.verifierRemplacement(attendu, nouveau);
+        byte[] enregistrement = encoderEnregistrement(OPERATION_AJOUT, CodecEmploye.encoder(nouveau));
+        long sequence;
+        verrouEcriture.lock();
+        try {
+            verifierOuvert();
+            Optional<Employe> actuel = memoire.trouverParId(attendu.getId());
+            if (actuel.isEmpty() || !memoire.remplacer(attendu, nouveau)) {
+                return false;
+            }
+            sequence = ajouterAuTampon(enregistrement);
+            annulations.addLast(new Annulation(sequence, attendu.getId(), actuel.get()));
+        } finally {
+            verrouEcriture.unlock();
+        }
+        attendreDurabilite(sequence);
+        declencherSnapshotSiNecessaire(sequence);
+        return true;
+    }
+
+    /**
+     * Produit un instantané complet puis supprime les journaux qu'il rend inutiles.
+     * Les écritures ne sont suspendues que le temps de basculer de journal et de copier
+     * la liste des employés ; l'écriture du fichier se fait ensuite sans verrou.
+     */
+    public synchronized void creerSnapshot() {
+        List<Employe> etat;
+        long generationSnapshot;
+        verrouVidage.lock();
+        try {
+            verrouEcriture.lock();
+            try {
+                verifierOuvert();
+                try {
+                    ecrireEtSynchroniser(enAttente, journal);
+                } catch (IOException e) {
+                    echouer(e);
+                    throw e;
+                }
+                annulations.clear();
+                journal.close();
+                generationSnapshot = generation + 1;
+                journal = ouvrirJournal(generationSnapshot);
+                generation = generationSnapshot;
+                etat = memoire.trouverTous();
+                sequenceDurable = sequenceEcrite;
+                sequenceDernierSnapshot = sequenceEcrite;
+            } finally {
+                verrouEcriture.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors du changement de journal", e);
+        } finally {
+            verrouVidage.unlock();
+        }
+        try {
+            ecrireSnapshot(generationSnapshot, etat);
+            supprimerFichiersAnterieurs(generationSnapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'écriture de l'instantané", e);
+        }
+    }
+
+    /**
+     * Attend la fin des instantanés déjà demandés, vide le journal puis ferme les fichiers.
+     * Après un échec du journal, les fichiers sont fermés sans nouvelle tentative d'écriture.
+     */
+    @Override
+    public void close() {
+        executeurSnapshot.shutdown();
+        try {
+            executeurSnapshot.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        verrouVidage.lock();
+        try {
+            verrouEcriture.lock();
+            try {
+                if (!ouvert) {
+                    return;
+                }
+                ouvert = false;
+            } finally {
+                verrouEcriture.unlock();
+            }
+        } finally {
+            verrouVidage.unlock();
+        }
+        synchronized (this) {
+            verrouVidage.lock();
+            try {
+                if (enEchec()) {
+                    journal.close();
+                    return;
+                }
+                vider();
+                journal.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erreur lors de la fermeture du journal", e);
+            } finally {
+                verrouVidage.unlock();
+            }
+        }
+    }
+
+    private long ajouterAuTampon(byte[] enregistrement) {
+        if (enAttente.remaining() < enregistrement.length) {
+            ByteBuffer agrandi = ByteBuffer.allocate(
+                    Math.max(enAttente.capacity() * 2, enAttente.position() + enregistrement.length));
+            enAttente.flip();
+            agrandi.put(enAttente);
+            enAttente = agrandi;
+        }
+        enAttente.put(enregistrement);
+        return ++sequenceEcrite;
+    }
+
+    /**
+     * Group commit : rend la main quand l'enregistrement de numéro sequence est sur disque.
+     */
+    private void attendreDurabilite(long sequence) {
+        if (sequenceDurable >= sequence) {
+            return;
+        }
+        synchronized (moniteurDurabilite) {
+            while (sequenceDurable < sequence) {
+                if (!vidageEnCours) {
+                    vidageEnCours = true;
+                    break;
+                }
+                try {
+                    moniteurDurabilite.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Attente de durabilité interrompue", e);
+                }
+            }
+            if (sequenceDurable >= sequence) {
+                return;
+            }
+        }
+        // Meneur : les suiveurs continuent d'alimenter enAttente pendant le fsync
+        verrouVidage.lock();
+        try {
+            vider();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'écriture du journal", e);
+        } finally {
+            verrouVidage.unlock();
+            synchronized (moniteurDurabilite) {
+                vidageEnCours = false;
+                moniteurDurabilite.notifyAll();
+            }
+        }
+    }
+
+    private void vider() throws IOException {
+        ByteBuffer lot;
+        long derniere;
+        FileChannel canal;
+        verrouEcriture.lock();
+        try {
+            if (defaillance != null) {
+                throw new IOException("Le journal est en échec", defaillance);
+            }
+            lot = enAttente;
+            enAttente = libre;
+            derniere = sequenceEcrite;
+            canal = journal;
+        } finally {
+            verrouEcriture.unlock();
+        }
+        try {
+            ecrireEtSynchroniser(lot, canal);
+        } catch (IOException e) {
+            // Le lot en échec est conservé tel quel : il ne sera ni réutilisé ni considéré durable
+            verrouEcriture.lock();
+            try {
+                echouer(e);
+            } finally {
+                verrouEcriture.unlock();
+            }
+            throw e;
+        }
+        libre = lot;
+        verrouEcriture.lock();
+        try {
+            while (!annulations.isEmpty() && annulations.peekFirst().sequence <= derniere) {
+                annulations.removeFirst();
+            }
+        } finally {
+            verrouEcriture.unlock();
+        }
+        sequenceDurable = derniere;
+    }
+
+    /**
+     * Écrit et synchronise le lot ; il n'est vidé qu'une fois sur disque.
+     */
+    private static void ecrireEtSynchroniser(ByteBuffer lot, FileChannel canal) throws IOException {
+        lot.flip();
+        if (lot.hasRemaining()) {
+            while (lot.hasRemaining()) {
+                canal.write(lot);
+            }
+            canal.force(false);
+        }
+        lot.clear();
+    }
+
+    /**
+     * Fait passer le repository en échec et annule en mémoire, de la plus récente à la plus
+     * ancienne, toutes les écritures qui ne sont pas durables. Appelé sous verrouEcriture.
+     */
+    private void echouer(IOException erreur) {
+        if (defaillance != null) {
+            return;
+        }
+        defaillance = erreur;
+        logger.error("Échec d'écriture du journal, le repository refuse désormais les écritures: {}",
+                erreur.getMessage());
+        Iterator<Annulation> iterateur = annulations.descendingIterator();
+        while (iterateur.hasNext()) {
+            Annulation annulation = iterateur.next();
+            if (annulation.precedent == null) {
+                memoire.supprimer(annulation.id);
+            } else {
+                memoire.ajouter(annulation.precedent);
+            }
+        }
+        annulations.clear();
+    }
+
+    private boolean enEchec() {
+        verrouEcriture.lock();
+        try {
+            return defaillance != null;
+        } finally {
+            verrouEcriture.unlock();
+        }
+    }
+
+    private void declencherSnapshotSiNecessaire(long sequence) {
+        if (seuilSnapshot == 0 || sequence - sequenceDernierSnapshot < seuilSnapshot
+                || !snapshotEnCours.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executeurSnapshot.execute(() -> {
+                try {
+                    if (ouvert) {
+                        creerSnapshot();
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Échec de l'instantané automatique: {}", e.getMessage());
+                } finally {
+                    snapshotEnCours.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Repository en cours de fermeture
+            snapshotEnCours.set(false);
+        }
+    }
+
+    private void verifierOuvert() {
+        if (!ouvert) {
+            throw new IllegalStateException("Le repository est fermé");
+        }
+        if (defaillance != null) {
+            throw new IllegalStateException("Le repository est en échec après une erreur du journal", defaillance);
+        }
+    }
+
+    /**
+     * Canal du journal courant (utile pour les tests).
+     */
+    FileChannel journalCourant() {
+        verrouEcriture.lock();
+        try {
+            return journal;
+        } finally {
+            verrouEcriture.unlock();
+        }
+    }
+
+    private static byte[] encoderEnregistrement(byte operation, byte[] donnees) {
+        int longueur = Byte.BYTES + donnees.length;
+        if (longueur > TAILLE_MAX_ENREGISTREMENT) {
+            throw new IllegalArgumentException("Enregistrement trop volumineux pour le journal: " + longueur + " octets");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(operation);
+        crc.update(donnees);
+        return ByteBuffer.allocate(TAILLE_ENTETE_ENREGISTREMENT + longueur)
+                .putInt(longueur)
+                .putInt((int) crc.getValue())
+                .put(operation)
+                .put(donnees)
+                .array();
+    }
+
+    // ------------------------------------------------------------------ restauration
+
+    /**
+     * Rejoue les journaux postérieurs à l'instantané chargé.
+     * @return La dernière génération présente sur disque
+     */
+    private long rejouerJournaux(long generationSnapshot) throws IOException {
+        long derniereGeneration = generationSnapshot;
+        for (Path fichier : lister(PREFIXE_JOURNAL, SUFFIXE_JOURNAL)) {
+            long generationJournal = generationDe(fichier, PREFIXE_JOURNAL, SUFFIXE_JOURNAL);
+            if (generationJournal >= generationSnapshot) {
+                rejouerJournal(fichier);
+            }
+            derniereGeneration = Math.max(derniereGeneration, generationJournal);
+        }
+        supprimerFichiersAnterieurs(generationSnapshot);
+        for (Path temporaire : lister(PREFIXE_SNAPSHOT, ".tmp")) {
+            // Instantané interrompu avant son renommage
+            Files.deleteIfExists(temporaire);
+        }
+        return derniereGeneration;
+    }
+
+    private void rejouerJournal(Path fichier) throws IOException {
+        long restants = Files.size(fichier);
+        try (DataInputStream entree = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(fichier), TAILLE_TAMPON_INITIALE))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] corps;
+                int crcAttendu;
+                try {
+                    int longueur = entree.readInt();
+                    crcAttendu = entree.readInt();
+                    restants -= TAILLE_ENTETE_ENREGISTREMENT;
+                    if (longueur <= 0 || longueur > TAILLE_MAX_ENREGISTREMENT || longueur > restants) {
+                        // Longueur corrompue ou enregistrement tronqué : ne rien allouer au-delà du fichier
+                        logger.warn("Enregistrement de longueur invalide ignoré en fin de journal {}", fichier.getFileName());
+                        break;
+                    }
+                    corps = new byte[longueur];
+                    entree.readFully(corps);
+                    restants -= longueur;
+                } catch (EOFException e) {
+                    // Fin du journal, éventuellement au milieu d'un enregistrement tronqué
+                    break;
+                }
+                crc.reset();
+                crc.update(corps);
+                if ((int) crc.getValue() != crcAttendu) {
+                    logger.warn("Enregistrement corrompu ignoré en fin de journal {}", fichier.getFileName());
+                    break;
+                }
+                appliquer(ByteBuffer.wrap(corps));
+            }
+        }
+    }
+
+    private void appliquer(ByteBuffer corps) {
+        byte operation = corps.get();
+        if (operation == OPERATION_AJOUT) {
+            memoire.ajouter(CodecEmploye.decoder(corps));
+        } else if (operation == OPERATION_SUPPRESSION) {
+            memoire.supprimer(new String(corps.array(), corps.position(), corps.remaining(), StandardCharsets.UTF_8));
+        } else {
+            throw new IllegalStateException("Opération de journal inconnue: " + operation);
+        }
+    }
+
+    // ------------------------------------------------------------------ instantanés
+
+    private void ecrireSnapshot(long generationSnapshot, List<Employe> etat) throws IOException {
+        Path temporaire = repertoire.resolve(nomFichier(PREFIXE_SNAPSHOT, generationSnapshot, ".tmp"));
+        SnapshotEmployes.ecrire(temporaire, etat);
+        Files.move(temporaire, repertoire.resolve(nomFichier(PREFIXE_SNAPSHOT, generationSnapshot, SUFFIXE_SNAPSHOT)),
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ------------------------------------------------------------------ fichiers
+
+    private FileChannel ouvrirJournal(long numero) throws IOException {
+        return FileChannel.open(repertoire.resolve(nomFichier(PREFIXE_JOURNAL, numero, SUFFIXE_JOURNAL)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private void supprimerFichiersAnterieurs(long generationSnapshot) throws IOException {
+        for (Path fichier : lister(PREFIXE_JOURNAL, SUFFIXE_JOURNAL)) {
+            if (generationDe(fichier, PREFIXE_JOURNAL, SUFFIXE_JOURNAL) < generationSnapshot) {
+                Files.deleteIfExists(fichier);
+            }
+        }
+        for (Path fichier : lister(PREFIXE_SNAPSHOT, SUFFIXE_SNAPSHOT)) {
+            if (generationDe(fichier, PREFIXE_SNAPSHOT, SUFFIXE_SNAPSHOT) < generationSnapshot) {
+                Files.deleteIfExists(fichier);
+            }
+        }
+    }
+
+    private List<Path> lister(String prefixe, String suffixe) throws IOException {
+        List<Path> fichiers = new ArrayList<>();
+        try (DirectoryStream<Path> flux = Files.newDirectoryStream(repertoire, prefixe + "*" + suffixe)) {
+            flux.forEach(fichiers::add);
+        }
+        fichiers.sort(null);
+        return fichiers;
+    }
+
+    private static String nomFichier(String prefixe, long numero, String suffixe) {
+        return String.format("%s%016d%s", prefixe, numero, suffixe);
+    }
+
+    private static long generationDe(Path fichier, String prefixe, String suffixe) {
+        String nom = fichier.getFileName().toString();
+        return Long.parseLong(nom.substring(prefixe.length(), nom.length() - suffixe.length()));
+    }
+
+    /**
+     * Version d'un employé à restaurer si l'enregistrement de numéro sequence n'atteint pas le disque.
+     */
+    private static final class Annulation {
+        private final long sequence;
+        private final String id;
+        private final Employe precedent;
+
+        Annulation(long sequence, String id, Employe precedent) {
+            this.sequence = sequence;
+            this.id = id;
+            this.precedent = precedent;
+        }
+    }
+}
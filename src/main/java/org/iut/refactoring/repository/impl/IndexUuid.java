@@ -0,0 +1,155 @@
+package org.iut.refactoring.repository.impl;
+
+/**
+ * Table de hachage à adressage ouvert associant un identifiant 128 bits (deux long)
+ * à un numéro de ligne, sans aucun objet par entrée.
+ * Sondage linéaire ; la suppression décale les entrées suivantes (pas de pierres tombales).
+ * N'est pas thread-safe.
+ * Principe SRP : Responsabilité unique d'indexer des identifiants 128 bits.
+ */
+final class IndexUuid {
+
+    static final int ABSENT = -1;
+
+    private static final int CAPACITE_MINIMALE = 16;
+
+    private long[] hauts;
+    private long[] bas;
+    /** Ligne + 1 ; 0 marque une case libre. */
+    private int[] lignes;
+    private int taille;
+
+    IndexUuid(int capaciteInitiale) {
+        allouer(capacitePour(capaciteInitiale));
+    }
+
+    int taille() {
+        return taille;
+    }
+
+    /**
+     * @return La ligne associée, ou ABSENT
+     */
+    int trouver(long haut, long bas) {
+        int masque = lignes.length - 1;
+        for (int i = hacher(haut, bas) & masque; lignes[i] != 0; i = (i + 1) & masque) {
+            if (hauts[i] == haut && this.bas[i] == bas) {
+                return lignes[i] - 1;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Associe (ou réassocie) un identifiant à une ligne.
+     * @return La ligne précédemment associée, ou ABSENT
+     */
+    int associer(long haut, long bas, int ligne) {
+        if (2 * (taille + 1) > lignes.length) {
+            redimensionner(lignes.length * 2);
+        }
+        int masque = lignes.length - 1;
+        int i = hacher(haut, bas) & masque;
+        while (lignes[i] != 0) {
+            if (hauts[i] == haut && this.bas[i] == bas) {
+                int precedente = lignes[i] - 1;
+                lignes[i] = ligne + 1;
+                return precedente;
+            }
+            i = (i + 1) & masque;
+        }
+        hauts[i] = haut;
+        this.bas[i] = bas;
+        lignes[i] = ligne + 1;
+        taille++;
+        return ABSENT;
+    }
+
+    /**
+     * @return La ligne qui était associée, ou ABSENT
+     */
+    int retirer(long haut, long bas) {
+        int masque = lignes.length - 1;
+        int i = hacher(haut, bas) & masque;
+        while (lignes[i] != 0) {
+            if (hauts[i] == haut && this.bas[i] == bas) {
+                int ligne = lignes[i] - 1;
+                decaler(i);
+                taille--;
+                return ligne;
+            }
+            i = (i + 1) & masque;
+        }
+        return ABSENT;
+    }
+
+    /** Octets occupés par les tableaux de la table. */
+    long empreinteOctets() {
+        return (long) lignes.length * (2 * Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Comble la case libérée en y ramenant les entrées suivantes de la même grappe
+     * dont la position idéale le permet.
+     */
+    private void decaler(int libre) {
+        int masque = lignes.length - 1;
+        int i = libre;
+        while (true) {
+            i = (i + 1) & masque;
+            if (lignes[i] == 0) {
+                break;
+            }
+            int ideale = hacher(hauts[i], bas[i]) & masque;
+            boolean deplacable = libre <= i ? (ideale <= libre || ideale > i) : (ideale <= libre && ideale > i);
+            if (deplacable) {
+                hauts[libre] = hauts[i];
+                bas[libre] = bas[i];
+                lignes[libre] = lignes[i];
+                libre = i;
+            }
+        }
+        lignes[libre] = 0;
+    }
+
+    private void redimensionner(int capacite) {
+        long[] anciensHauts = hauts;
+        long[] anciensBas = bas;
+        int[] anciennesLignes = lignes;
+        allouer(capacite);
+        int masque = capacite - 1;
+        for (int j = 0; j < anciennesLignes.length; j++) {
+            if (anciennesLignes[j] != 0) {
+                int i = hacher(anciensHauts[j], anciensBas[j]) & masque;
+                while (lignes[i] != 0) {
+                    i = (i + 1) & masque;
+                }
+                hauts[i] = anciensHauts[j];
+                bas[i] = anciensBas[j];
+                lignes[i] = anciennesLignes[j];
+            }
+        }
+    }
+
+    private void allouer(int capacite) {
+        hauts = new long[capacite];
+        bas = new long[capacite];
+        lignes = new int[capacite];
+    }
+
+    private static int capacitePour(int nombre) {
+        int capacite = CAPACITE_MINIMALE;
+        while (capacite < 2L * nombre) {
+            capacite <<= 1;
+        }
+        return capacite;
+    }
+
+    static int hacher(long haut, long bas) {
+        long h = haut * 0x9E3779B97F4A7C15L ^ bas;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,169 @@
+package org.iut.refactoring.repository.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Variante hors tas d'IndexUuid : mêmes sondage linéaire et suppression par décalage,
+ * mais les cases sont rangées dans des tampons directs, invisibles du ramasse-miettes.
+ * Capacité maximale : 2^27 cases, soit 2^26 identifiants.
+ * N'est pas thread-safe.
+ * Principe SRP : Responsabilité unique d'indexer des identifiants 128 bits hors du tas.
+ */
+final class IndexUuidHorsTas {
+
+    private static final int CAPACITE_MINIMALE = 16;
+    private static final int CAPACITE_MAXIMALE = 1 << 27;
+
+    private LongBuffer hauts;
+    private LongBuffer bas;
+    /** Ligne + 1 ; 0 marque une case libre. */
+    private IntBuffer lignes;
+    private int capacite;
+    private int taille;
+
+    IndexUuidHorsTas(int capaciteInitiale) {
+        allouer(capacitePour(capaciteInitiale));
+    }
+
+    int taille() {
+        return taille;
+    }
+
+    /**
+     * @return La ligne associée, ou IndexUuid.ABSENT
+     */
+    int trouver(long haut, long bas) {
+        int masque = capacite - 1;
+        for (int i = IndexUuid.hacher(haut, bas) & masque; lignes.get(i) != 0; i = (i + 1) & masque) {
+            if (hauts.get(i) == haut && this.bas.get(i) == bas) {
+                return lignes.get(i) - 1;
+            }
+        }
+        return IndexUuid.ABSENT;
+    }
+
+    /**
+     * Associe (ou réassocie) un identifiant à une ligne.
+     * @return La ligne précédemment associée, ou IndexUuid.ABSENT
+     * @throws IllegalStateException Si la capacité maximale est atteinte
+     */
+    int associer(long haut, long bas, int ligne) {
+        if (2L * (taille + 1) > capacite) {
+            if (capacite == CAPACITE_MAXIMALE) {
+                throw new IllegalStateException("Capacité maximale de l'index atteinte: " + taille);
+            }
+            redimensionner(capacite * 2);
+        }
+        int masque = capacite - 1;
+        int i = IndexUuid.hacher(haut, bas) & masque;
+        while (lignes.get(i) != 0) {
+            if (hauts.get(i) == haut && this.bas.get(i) == bas) {
+                int precedente = lignes.get(i) - 1;
+                lignes.put(i, ligne + 1);
+                return precedente;
+            }
+            i = (i + 1) & masque;
+        }
+        hauts.put(i, haut);
+        this.bas.put(i, bas);
+        lignes.put(i, ligne + 1);
+        taille++;
+        return IndexUuid.ABSENT;
+    }
+
+    /**
+     * @return La ligne qui était associée, ou IndexUuid.ABSENT
+     */
+    int retirer(long haut, long bas) {
+        int masque = capacite - 1;
+        int i = IndexUuid.hacher(haut, bas) & masque;
+        while (lignes.get(i) != 0) {
+            if (hauts.get(i) == haut && this.bas.get(i) == bas) {
+                int ligne = lignes.get(i) - 1;
+                decaler(i);
+                taille--;
+                return ligne;
+            }
+            i = (i + 1) & masque;
+        }
+        return IndexUuid.ABSENT;
+    }
+
+    /** Octets hors tas réservés par la table. */
+    long empreinteOctets() {
+        return (long) capacite * (2 * Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Abandonne les tampons ; la mémoire est rendue lorsque le ramasse-miettes collecte leurs enveloppes.
+     */
+    void liberer() {
+        hauts = null;
+        bas = null;
+        lignes = null;
+        capacite = 0;
+        taille = 0;
+    }
+
+    private void decaler(int libre) {
+        int masque = capacite - 1;
+        int i = libre;
+        while (true) {
+            i = (i + 1) & masque;
+            if (lignes.get(i) == 0) {
+                break;
+            }
+            int ideale = IndexUuid.hacher(hauts.get(i), bas.get(i)) & masque;
+            boolean deplacable = libre <= i ? (ideale <= libre || ideale > i) : (ideale <= libre && ideale > i);
+            if (deplacable) {
+                hauts.put(libre, hauts.get(i));
+                bas.put(libre, bas.get(i));
+                lignes.put(libre, lignes.get(i));
+                libre = i;
+            }
+        }
+        lignes.put(libre, 0);
+    }
+
+    private void redimensionner(int nouvelleCapacite) {
+        LongBuffer anciensHauts = hauts;
+        LongBuffer anciensBas = bas;
+        IntBuffer anciennesLignes = lignes;
+        int ancienneCapacite = capacite;
+        allouer(nouvelleCapacite);
+        int masque = nouvelleCapacite - 1;
+        for (int j = 0; j < ancienneCapacite; j++) {
+            if (anciennesLignes.get(j) != 0) {
+                int i = IndexUuid.hacher(anciensHauts.get(j), anciensBas.get(j)) & masque;
+                while (lignes.get(i) != 0) {
+                    i = (i + 1) & masque;
+                }
+                hauts.put(i, anciensHauts.get(j));
+                bas.put(i, anciensBas.get(j));
+                lignes.put(i, anciennesLignes.get(j));
+            }
+        }
+    }
+
+    private void allouer(int nouvelleCapacite) {
+        capacite = nouvelleCapacite;
+        hauts = direct(nouvelleCapacite * Long.BYTES).asLongBuffer();
+        bas = direct(nouvelleCapacite * Long.BYTES).asLongBuffer();
+        lignes = direct(nouvelleCapacite * Integer.BYTES).asIntBuffer();
+    }
+
+    private static ByteBuffer direct(int octets) {
+        return ByteBuffer.allocateDirect(octets).order(ByteOrder.nativeOrder());
+    }
+
+    private static int capacitePour(int nombre) {
+        int capacite = CAPACITE_MINIMALE;
+        while (capacite < 2L * nombre && capacite < CAPACITE_MAXIMALE) {
+            capacite <<= 1;
+        }
+        return capacite;
+    }
+}
@@ -0,0 +1,320 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Identifiants;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Instantané binaire en colonnes de l'ensemble des employés, relu par projection en mémoire.
+ *
+ * Format (version 1, gros-boutiste) :
+ * <pre>
+ * [int MAGIC][short version][int nombre][int nombreEquipes]
+ * dictionnaire des équipes : nombreEquipes × [int longueur][UTF-8]
+ * types          : nombre × byte (codes de CodecEmploye)
+ * équipes        : nombre × index dans le dictionnaire + 1 (0 pour null), sur 1, 2 ou 4 octets
+ *                  selon la taille du dictionnaire
+ * salaires       : nombre × double
+ * expériences    : nombre × int
+ * identifiants   : nombre × long (64 bits de poids fort) puis nombre × long (poids faible) ;
+ *                  [int k] puis k × [int ligne][int longueur][UTF-8] pour les identifiants
+ *                  qui ne sont pas des UUID canoniques (colonnes 128 bits à zéro)
+ * noms           : [int k] puis k × [int ligne] pour les noms null ;
+ *                  (nombre + 1) × int décalages puis les octets UTF-8 concaténés
+ * [long crc32] de tout ce qui précède
+ * </pre>
+ * La relecture vérifie le CRC puis reconstruit les employés en parallèle, par blocs de lignes,
+ * directement depuis le fichier projeté ; les équipes sont partagées via le dictionnaire.
+ * Principe SRP : Responsabilité unique de sauvegarder et restaurer un ensemble d'employés.
+ */
+public final class SnapshotEmployes {
+
+    static final int MAGIC = 0x454D5053;
+    static final short VERSION = 1;
+
+    private static final int TAILLE_BLOC = 65_536;
+    private static final int TAILLE_TAMPON_ECRITURE = 1 << 20;
+
+    private SnapshotEmployes() {
+    }
+
+    /**
+     * Écrit l'ensemble des employés du repository dans un instantané.
+     * @param repository Le repository à sauvegarder
+     * @param fichier Le fichier de destination (remplacé s'il existe)
+     */
+    public static void sauvegarder(EmployeRepository repository, Path fichier) {
+        ecrire(fichier, repository.trouverTous());
+    }
+
+    /**
+     * Ajoute au repository tous les employés d'un instantané.
+     * @param fichier L'instantané à relire
+     * @param repository Le repository à alimenter
+     * @return Le nombre d'employés restaurés
+     */
+    public static int restaurer(Path fichier, EmployeRepository repository) {
+        List<Employe> employes = lire(fichier);
+        employes.forEach(repository::ajouter);
+        return employes.size();
+    }
+
+    /**
+     * Écrit les employés dans un instantané et force son écriture sur disque.
+     * @param fichier Le fichier de destination (remplacé s'il existe)
+     * @param employes Les employés à écrire
+     */
+    public static void ecrire(Path fichier, List<Employe> employes) {
+        int nombre = employes.size();
+        Map<String, Integer> dictionnaire = new LinkedHashMap<>();
+        for (Employe employe : employes) {
+            if (employe.getEquipe() != null) {
+                dictionnaire.putIfAbsent(employe.getEquipe(), dictionnaire.size());
+            }
+        }
+        int largeurEquipe = largeurIndex(dictionnaire.size());
+
+        try (FileOutputStream flux = new FileOutputStream(fichier.toFile())) {
+            CheckedOutputStream controle = new CheckedOutputStream(
+                    new BufferedOutputStream(flux, TAILLE_TAMPON_ECRITURE), new CRC32());
+            DataOutputStream sortie = new DataOutputStream(controle);
+            sortie.writeInt(MAGIC);
+            sortie.writeShort(VERSION);
+            sortie.writeInt(nombre);
+            sortie.writeInt(dictionnaire.size());
+            for (String equipe : dictionnaire.keySet()) {
+                ecrireTexte(sortie, equipe);
+            }
+            for (Employe employe : employes) {
+                sortie.writeByte(CodecEmploye.codeType(employe));
+            }
+            for (Employe employe : employes) {
+                int index = employe.getEquipe() == null ? 0 : dictionnaire.get(employe.getEquipe()) + 1;
+                ecrireIndex(sortie, index, largeurEquipe);
+            }
+            for (Employe employe : employes) {
+                sortie.writeDouble(employe.getSalaireDeBase());
+            }
+            for (Employe employe : employes) {
+                sortie.writeInt(employe.getExperience());
+            }
+            ecrireIdentifiants(sortie, employes);
+            ecrireNoms(sortie, employes);
+            sortie.writeLong(controle.getChecksum().getValue());
+            sortie.flush();
+            flux.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'écriture de l'instantané", e);
+        }
+    }
+
+    /**
+     * Relit un instantané par projection en mémoire.
+     * @param fichier L'instantané à relire
+     * @return Les employés, dans l'ordre d'écriture
+     * @throws IllegalStateException Si le fichier est invalide, corrompu ou d'une version inconnue
+     */
+    public static List<Employe> lire(Path fichier) {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Instantané trop volumineux pour être projeté: " + fichier);
+            }
+            MappedByteBuffer tampon = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return lire(tampon, fichier);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture de l'instantané", e);
+        }
+    }
+
+    private static List<Employe> lire(ByteBuffer tampon, Path fichier) {
+        verifierSomme(tampon, fichier);
+        if (tampon.getInt() != MAGIC) {
+            throw new IllegalStateException("Instantané invalide: " + fichier);
+        }
+        short version = tampon.getShort();
+        if (version != VERSION) {
+            throw new IllegalStateException("Version d'instantané non supportée: " + version);
+        }
+        int nombre = tampon.getInt();
+        String[] equipes = new String[tampon.getInt() + 1];
+        for (int i = 1; i < equipes.length; i++) {
+            equipes[i] = lireTexte(tampon);
+        }
+        int largeurEquipe = largeurIndex(equipes.length - 1);
+
+        int debutTypes = tampon.position();
+        int debutEquipes = debutTypes + nombre;
+        int debutSalaires = debutEquipes + nombre * largeurEquipe;
+        int debutExperiences = debutSalaires + nombre * Double.BYTES;
+        int debutIdsHaut = debutExperiences + nombre * Integer.BYTES;
+        int debutIdsBas = debutIdsHaut + nombre * Long.BYTES;
+
+        tampon.position(debutIdsBas + nombre * Long.BYTES);
+        Map<Integer, String> idsTexte = new HashMap<>();
+        int nombreIdsTexte = tampon.getInt();
+        for (int i = 0; i < nombreIdsTexte; i++) {
+            int ligne = tampon.getInt();
+            idsTexte.put(ligne, lireTexte(tampon));
+        }
+        BitSet nomsNull = new BitSet();
+        int nombreNomsNull = tampon.getInt();
+        for (int i = 0; i < nombreNomsNull; i++) {
+            nomsNull.set(tampon.getInt());
+        }
+        int debutDecalages = tampon.position();
+        int debutNoms = debutDecalages + (nombre + 1) * Integer.BYTES;
+
+        Employe[] employes = new Employe[nombre];
+        int nombreBlocs = (nombre + TAILLE_BLOC - 1) / TAILLE_BLOC;
+        IntStream.range(0, nombreBlocs).parallel().forEach(bloc -> {
+            byte[] octets = new byte[256];
+            int fin = Math.min(nombre, (bloc + 1) * TAILLE_BLOC);
+            for (int i = bloc * TAILLE_BLOC; i < fin; i++) {
+                String id = idsTexte.isEmpty() ? null : idsTexte.get(i);
+                if (id == null) {
+                    id = Identifiants.formater(tampon.getLong(debutIdsHaut + i * Long.BYTES),
+                            tampon.getLong(debutIdsBas + i * Long.BYTES));
+                }
+                String nom = null;
+                if (!nomsNull.get(i)) {
+                    int debut = tampon.getInt(debutDecalages + i * Integer.BYTES);
+                    int longueur = tampon.getInt(debutDecalages + (i + 1) * Integer.BYTES) - debut;
+                    if (octets.length < longueur) {
+                        octets = new byte[Math.max(longueur, octets.length * 2)];
+                    }
+                    tampon.get(debutNoms + debut, octets, 0, longueur);
+                    nom = new String(octets, 0, longueur, StandardCharsets.UTF_8);
+                }
+                employes[i] = CodecEmploye.creer(
+                        tampon.get(debutTypes + i),
+                        id,
+                        nom,
+                        tampon.getDouble(debutSalaires + i * Double.BYTES),
+                        tampon.getInt(debutExperiences + i * Integer.BYTES),
+                        equipes[lireIndex(tampon, debutEquipes + i * largeurEquipe, largeurEquipe)]);
+            }
+        });
+        return Arrays.asList(employes);
+    }
+
+    private static void verifierSomme(ByteBuffer tampon, Path fichier) {
+        if (tampon.limit() < Long.BYTES) {
+            throw new IllegalStateException("Instantané invalide: " + fichier);
+        }
+        int finDonnees = tampon.limit() - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(tampon.duplicate().limit(finDonnees));
+        if (tampon.getLong(finDonnees) != crc.getValue()) {
+            throw new IllegalStateException("Instantané corrompu: " + fichier);
+        }
+    }
+
+    // ------------------------------------------------------------------ colonnes
+
+    private static void ecrireIdentifiants(DataOutputStream sortie, List<Employe> employes) throws IOException {
+        List<Integer> lignesTexte = new ArrayList<>();
+        for (int i = 0; i < employes.size(); i++) {
+            String id = employes.get(i).getId();
+            if (Identifiants.estUuidCanonique(id)) {
+                sortie.writeLong(Identifiants.moitieHaute(id));
+            } else {
+                sortie.writeLong(0);
+                lignesTexte.add(i);
+            }
+        }
+        for (Employe employe : employes) {
+            String id = employe.getId();
+            sortie.writeLong(Identifiants.estUuidCanonique(id) ? Identifiants.moitieBasse(id) : 0);
+        }
+        sortie.writeInt(lignesTexte.size());
+        for (int ligne : lignesTexte) {
+            sortie.writeInt(ligne);
+            ecrireTexte(sortie, employes.get(ligne).getId());
+        }
+    }
+
+    private static void ecrireNoms(DataOutputStream sortie, List<Employe> employes) throws IOException {
+        List<Integer> nomsNull = new ArrayList<>();
+        byte[][] noms = new byte[employes.size()][];
+        for (int i = 0; i < noms.length; i++) {
+            String nom = employes.get(i).getNom();
+            if (nom == null) {
+                nomsNull.add(i);
+                noms[i] = new byte[0];
+            } else {
+                noms[i] = nom.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        sortie.writeInt(nomsNull.size());
+        for (int ligne : nomsNull) {
+            sortie.writeInt(ligne);
+        }
+        int decalage = 0;
+        for (byte[] nom : noms) {
+            sortie.writeInt(decalage);
+            decalage += nom.length;
+        }
+        sortie.writeInt(decalage);
+        for (byte[] nom : noms) {
+            sortie.write(nom);
+        }
+    }
+
+    private static int largeurIndex(int nombreEquipes) {
+        if (nombreEquipes < 0xFF) {
+            return Byte.BYTES;
+        }
+        return nombreEquipes < 0xFFFF ? Short.BYTES : Integer.BYTES;
+    }
+
+    private static void ecrireIndex(DataOutputStream sortie, int index, int largeur) throws IOException {
+        if (largeur == Byte.BYTES) {
+            sortie.writeByte(index);
+        } else if (largeur == Short.BYTES) {
+            sortie.writeShort(index);
+        } else {
+            sortie.writeInt(index);
+        }
+    }
+
+    private static int lireIndex(ByteBuffer tampon, int position, int largeur) {
+        if (largeur == Byte.BYTES) {
+            return tampon.get(position) & 0xFF;
+        }
+        return largeur == Short.BYTES ? tampon.getShort(position) & 0xFFFF : tampon.getInt(position);
+    }
+
+    private static void ecrireTexte(DataOutputStream sortie, String texte) throws IOException {
+        byte[] octets = texte.getBytes(StandardCharsets.UTF_8);
+        sortie.writeInt(octets.length);
+        sortie.write(octets);
+    }
+
+    private static String lireTexte(ByteBuffer tampon) {
+        byte[] octets = new byte[tampon.getInt()];
+        tampon.get(octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,9 @@
 package org.iut.refactoring.service;
 
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
+
+import java.util.List;
 
 /**
  * Interface pour le calcul de salaire.
@@ -21,5 +24,32 @@ public interface CalculateurSalaire {
      * @return Le bonus calculé
      */
     double calculerBonus(Employe employe);
-}
 
+    /**
+     * Calcule le salaire et le bonus de toute une population en un seul passage.
+     * L'implémentation par défaut appelle calculerSalaire et calculerBonus pour chaque employé.
+     * @param employes Les employés à calculer
+     * @return Les salaires et bonus, dans l'ordre de la liste fournie
+     */
+    default ResultatPaie calculerSalaires(List<Employe> employes) {
+        double[] salaires = new double[employes.size()];
+        double[] bonus = new double[employes.size()];
+        for (int i = 0; i < salaires.length; i++) {
+            Employe employe = employes.get(i);
+            salaires[i] = calculerSalaire(employe);
+            bonus[i] = calculerBonus(employe);
+        }
+        return new ResultatPaie(salaires, bonus);
+    }
+
+    /**
+     * Retourne un calculateur dont les règles ne changent plus : un traitement par lot
+     * (paie, rapport) l'utilise du début à la fin pour appliquer une seule version des règles,
+     * même si elles sont rechargées entre-temps.
+     * L'implémentation par défaut retourne ce calculateur, dont les règles sont fixes.
+     * @return Le calculateur à utiliser pour tout le traitement
+     */
+    default CalculateurSalaire figer() {
+        return this;
+    }
+}
@@ -0,0 +1,21 @@
+package org.iut.refactoring.service;
+
+/**
+ * Formats de fichier des rapports exportés.
+ * CSV : une ligne d'en-tête puis une ligne par enregistrement (RFC 4180).
+ * JSON_LIGNES : un objet JSON par ligne (JSON Lines), sans en-tête.
+ */
+public enum FormatExport {
+    CSV(".csv"),
+    JSON_LIGNES(".jsonl");
+
+    private final String extension;
+
+    FormatExport(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,26 @@
+package org.iut.refactoring.service;
+
+import org.iut.refactoring.model.BilanPaie;
+import org.iut.refactoring.model.Employe;
+
+import java.util.List;
+
+/**
+ * Interface pour le calcul de la paie d'une population complète.
+ * Principe ISP : Interface spécifique aux traitements de paie par lot.
+ * Principe DIP : Les appelants dépendent de cette abstraction, pas du moteur concret.
+ */
+public interface MoteurPaie {
+    /**
+     * Calcule la paie (salaire + bonus) de tous les employés du repository.
+     * @return Les totaux globaux et par équipe
+     */
+    BilanPaie calculerPaie();
+
+    /**
+     * Calcule la paie (salaire + bonus) d'une population donnée.
+     * @param employes Les employés à calculer
+     * @return Les totaux globaux et par équipe
+     */
+    BilanPaie calculerPaie(List<Employe> employes);
+}
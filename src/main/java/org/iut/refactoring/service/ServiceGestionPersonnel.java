@@ -1,6 +1,10 @@
 package org.iut.refactoring.service;
 
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Interface pour le service de gestion du personnel.
@@ -18,6 +22,16 @@ public interface ServiceGestionPersonnel {
      * @return L'employé créé
      */
     Employe ajouterEmploye(String type, String nom, double salaireDeBase, int experience, String equipe);
+
+    /**
+     * Importe en masse les employés d'un fichier CSV (type, nom, salaireDeBase, experience, equipe).
+     * Une ligne invalide interrompt l'import ; les employés déjà insérés restent et l'interruption
+     * est journalisée avec leur nombre.
+     * @param fichier Le fichier CSV
+     * @return Le nombre d'employés importés
+     * @throws IllegalArgumentException Si une ligne est invalide
+     */
+    int importerEmployes(Path fichier);
     
     /**
      * Calcule le salaire d'un employé.
@@ -35,18 +49,35 @@ public interface ServiceGestionPersonnel {
     
     /**
      * Génère un rapport.
-     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION)
+     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION, TOP, QUANTILES)
      * @param filtre Filtre optionnel
      */
     void genererRapport(String typeRapport, String filtre);
     
     /**
-     * Promeut un employé à un nouveau type.
+     * Exporte un rapport dans un fichier CSV ou JSON Lines, éventuellement compressé en gzip.
+     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION, TOP, QUANTILES)
+     * @param filtre Filtre optionnel
+     * @param repertoire Le répertoire de destination
+     * @param format Le format du fichier
+     * @param compresse true pour compresser le fichier en gzip
+     * @return Le fichier écrit
+     */
+    Path exporterRapport(String typeRapport, String filtre, Path repertoire, FormatExport format, boolean compresse);
+    
+    /**
+     * Promeut un employé à un nouveau type en conservant son identifiant.
      * @param employeId L'ID de l'employé
      * @param nouveauType Le nouveau type
      */
     void promouvoirEmploye(String employeId, String nouveauType);
     
+    /**
+     * Récupère les statistiques (effectif, salaires, expérience) de chaque équipe.
+     * @return Les statistiques par équipe, triées par nom d'équipe
+     */
+    List<StatistiquesEquipe> obtenirStatistiquesEquipes();
+    
     /**
      * Affiche les logs.
      */
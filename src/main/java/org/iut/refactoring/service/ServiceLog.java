@@ -11,6 +11,18 @@ public interface ServiceLog {
      * @param message Le message à enregistrer
      */
     void enregistrer(String message);
+
+    /**
+     * Enregistre un événement typé concernant un employé.
+     * Par défaut seul le message est conservé ; les implémentations persistantes
+     * peuvent stocker le type et l'identifiant séparément.
+     * @param type Le type d'événement
+     * @param employeId L'identifiant de l'employé concerné (peut être null)
+     * @param message Le message à enregistrer
+     */
+    default void enregistrer(TypeEvenement type, String employeId, String message) {
+        enregistrer(message);
+    }
     
     /**
      * Récupère tous les logs.
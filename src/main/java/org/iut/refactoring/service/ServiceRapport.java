@@ -1,6 +1,7 @@
 package org.iut.refactoring.service;
 
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
 
 import java.util.List;
 
@@ -29,5 +30,26 @@ public interface ServiceRapport {
      * @param employes Liste des employés
      */
     void genererRapportDivision(List<Employe> employes);
+    
+    /**
+     * Génère un rapport par division/équipe à partir d'agrégats déjà calculés.
+     * @param statistiques Les statistiques de chaque équipe
+     */
+    void genererRapportDivisionAgrege(List<StatistiquesEquipe> statistiques);
+    
+    /**
+     * Génère le rapport des meilleurs salaires de chaque équipe.
+     * @param employes Liste des employés
+     * @param filtre Filtre optionnel par équipe (null pour tous)
+     * @param nombreMeilleurs Le nombre de salaires retenus par équipe
+     */
+    void genererRapportMeilleursSalaires(List<Employe> employes, String filtre, int nombreMeilleurs);
+    
+    /**
+     * Génère le rapport des quantiles de salaire (p50, p90, p99) de chaque équipe.
+     * @param employes Liste des employés
+     * @param filtre Filtre optionnel par équipe (null pour tous)
+     */
+    void genererRapportQuantilesSalaires(List<Employe> employes, String filtre);
 }
 
@@ -0,0 +1,45 @@
+package org.iut.refactoring.service;
+
+/**
+ * Types d'événements tracés par le service de logs.
+ * Chaque type possède un code stable sur un octet, utilisé par les journaux binaires :
+ * l'ordre des constantes peut donc évoluer sans invalider les fichiers existants.
+ */
+public enum TypeEvenement {
+    MESSAGE((byte) 0),
+    AJOUT((byte) 1),
+    SUPPRESSION((byte) 2),
+    PROMOTION((byte) 3),
+    RAPPORT((byte) 4);
+
+    private static final TypeEvenement[] PAR_CODE = new TypeEvenement[256];
+
+    static {
+        for (TypeEvenement type : values()) {
+            PAR_CODE[type.code & 0xFF] = type;
+        }
+    }
+
+    private final byte code;
+
+    TypeEvenement(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Retrouve un type à partir de son code binaire.
+     * @param code Le code lu dans un journal
+     * @return Le type correspondant
+     */
+    public static TypeEvenement depuisCode(byte code) {
+        TypeEvenement type = PAR_CODE[code & 0xFF];
+        if (type == null) {
+            throw new IllegalArgumentException("Code d'événement inconnu: " + code);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,151 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.repository.EcouteurRepository;
+import org.iut.refactoring.service.CalculateurSalaire;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Agrégats par équipe maintenus au fil de l'eau (effectif, somme des salaires de base,
+ * somme des salaires calculés, histogramme d'expérience).
+ * Enregistré comme écouteur d'un EmployeRepositoryObservable, il est mis à jour à chaque
+ * ajout, suppression ou promotion : obtenir les statistiques coûte alors O(nombre d'équipes)
+ * au lieu d'un parcours de tous les employés.
+ * Les compteurs sont rangés dans une ConcurrentHashMap : des écritures sur des équipes
+ * différentes ne se bloquent pas. Le salaire calculé retenu pour chaque employé est conservé,
+ * et c'est lui qui est retiré à la suppression : les sommes restent justes même si les règles
+ * de calcul ont changé entre-temps ; reinitialiser recalcule tout avec les nouvelles règles.
+ * Un employé sans équipe (null) est compté dans une équipe null, placée en tête.
+ * Principe SRP : Responsabilité unique de maintenir les agrégats par équipe.
+ * Principe DIP : Dépend de l'abstraction CalculateurSalaire.
+ */
+public class AgregateurEquipes implements EcouteurRepository {
+
+    private static final Comparator<StatistiquesEquipe> ORDRE_EQUIPES = Comparator.comparing(
+            StatistiquesEquipe::getEquipe, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /** Clé de l'équipe null, que ConcurrentHashMap n'accepte pas. */
+    private static final Object SANS_EQUIPE = new Object();
+
+    private final CalculateurSalaire calculateurSalaire;
+    private volatile Etat etat;
+
+    /**
+     * Constructeur avec injection de dépendances (DIP).
+     * @param calculateurSalaire Le calculateur de salaire
+     */
+    public AgregateurEquipes(CalculateurSalaire calculateurSalaire) {
+        this.calculateurSalaire = calculateurSalaire;
+        this.etat = new Etat();
+    }
+
+    @Override
+    public void employeAjoute(Employe employe) {
+        etat.ajouter(employe, calculateurSalaire.calculerSalaire(employe));
+    }
+
+    @Override
+    public void employeSupprime(Employe employe) {
+        etat.retirer(employe);
+    }
+
+    /**
+     * Reconstruit les agrégats à partir d'une population complète, avec une seule version
+     * des règles de calcul.
+     * À appeler en l'absence d'écritures concurrentes sur le repository
+     * (voir EmployeRepositoryObservable.executerSansEcriture).
+     * @param employes Tous les employés
+     */
+    public void reinitialiser(List<Employe> employes) {
+        CalculateurSalaire calculateur = calculateurSalaire.figer();
+        Etat nouveau = new Etat();
+        for (Employe employe : employes) {
+            nouveau.ajouter(employe, calculateur.calculerSalaire(employe));
+        }
+        etat = nouveau;
+    }
+
+    /**
+     * Retourne les statistiques de chaque équipe, triées par nom d'équipe. Chaque équipe est
+     * cohérente (effectif, sommes et histogramme reflètent les mêmes écritures).
+     * @return Les statistiques de chaque équipe non vide
+     */
+    public List<StatistiquesEquipe> instantane() {
+        List<StatistiquesEquipe> statistiques = new ArrayList<>();
+        etat.compteursParEquipe.forEach((cle, compteurs) -> statistiques.add(new StatistiquesEquipe(
+                cle == SANS_EQUIPE ? null : (String) cle,
+                compteurs.effectif,
+                compteurs.sommeSalairesDeBase,
+                compteurs.sommeSalairesCalcules,
+                compteurs.histogrammeExperience)));
+        statistiques.sort(ORDRE_EQUIPES);
+        return statistiques;
+    }
+
+    private static Object cle(Employe employe) {
+        return employe.getEquipe() == null ? SANS_EQUIPE : employe.getEquipe();
+    }
+
+    /**
+     * Compteurs par équipe et salaire retenu pour chaque employé compté.
+     */
+    private static final class Etat {
+        private final ConcurrentMap<Object, Compteurs> compteursParEquipe = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Double> salairesRetenus = new ConcurrentHashMap<>();
+
+        void ajouter(Employe employe, double salaire) {
+            salairesRetenus.put(employe.getId(), salaire);
+            compteursParEquipe.compute(cle(employe), (cle, compteurs) ->
+                    (compteurs == null ? Compteurs.VIDES : compteurs).appliquer(employe, salaire, 1));
+        }
+
+        void retirer(Employe employe) {
+            Double salaire = salairesRetenus.remove(employe.getId());
+            if (salaire == null) {
+                // Employé jamais compté
+                return;
+            }
+            compteursParEquipe.computeIfPresent(cle(employe), (cle, compteurs) -> {
+                Compteurs restants = compteurs.appliquer(employe, salaire, -1);
+                return restants.effectif == 0 ? null : restants;
+            });
+        }
+    }
+
+    /**
+     * Compteurs immuables d'une équipe : chaque écriture en produit une nouvelle version,
+     * qu'un lecteur voit donc entière ou pas du tout.
+     */
+    private static final class Compteurs {
+        static final Compteurs VIDES = new Compteurs(0, 0, 0,
+                new long[StatistiquesEquipe.TRANCHES_EXPERIENCE.length]);
+
+        private final long effectif;
+        private final double sommeSalairesDeBase;
+        private final double sommeSalairesCalcules;
+        private final long[] histogrammeExperience;
+
+        private Compteurs(long effectif, double sommeSalairesDeBase, double sommeSalairesCalcules,
+                          long[] histogrammeExperience) {
+            this.effectif = effectif;
+            this.sommeSalairesDeBase = sommeSalairesDeBase;
+            this.sommeSalairesCalcules = sommeSalairesCalcules;
+            this.histogrammeExperience = histogrammeExperience;
+        }
+
+        Compteurs appliquer(Employe employe, double salaireCalcule, int signe) {
+            long[] histogramme = histogrammeExperience.clone();
+            histogramme[StatistiquesEquipe.trancheExperience(employe.getExperience())] += signe;
+            return new Compteurs(effectif + signe,
+                    sommeSalairesDeBase + signe * employe.getSalaireDeBase(),
+                    sommeSalairesCalcules + signe * salaireCalcule,
+                    histogramme);
+        }
+    }
+}
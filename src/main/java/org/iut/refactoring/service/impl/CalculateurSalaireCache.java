@@ -0,0 +1,282 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
+import org.iut.refactoring.repository.EcouteurRepository;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.service.CalculateurSalaire;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Décorateur de CalculateurSalaire mémorisant le salaire et le bonus de chaque employé,
+ * indexés par identifiant, dans un cache de taille bornée.
+ *
+ * Éviction LRU segmentée (SLRU) : une entrée entre dans une zone de probation et n'est
+ * promue dans la zone protégée (80 % de la capacité) qu'à son deuxième accès. Un parcours
+ * ponctuel de toute la population (rapport, export) ne fait donc tourner que la zone de
+ * probation et n'évince pas les salaires consultés régulièrement.
+ * Le cache est découpé en segments verrouillés indépendamment pour limiter la contention.
+ *
+ * Enregistré comme écouteur d'un EmployeRepositoryObservable, il oublie un employé dès sa
+ * suppression ou son remplacement (promotion). Une entrée n'est de plus servie que pour
+ * la même version de l'employé (EmployeRepository.memeVersion) : un résultat périmé n'est
+ * jamais renvoyé, y compris par les repositories qui reconstruisent un Employe à chaque
+ * lecture (EmployeRepositoryColonnes, EmployeRepositoryHorsTas).
+ * Le calcul par lot (calculerSalaires) est délégué sans passer par le cache.
+ * Après un changement des règles de calcul, invaliderTout vide le cache ; un calcul commencé
+ * avant l'invalidation n'est alors pas mémorisé, pour qu'aucun résultat calculé avec les
+ * anciennes règles ne survive au vidage.
+ * Un succès coûte de l'ordre de 50 ns (verrou de segment, ordre d'accès) : le cache ne
+ * se justifie que devant un calcul délégué plus coûteux que les stratégies actuelles
+ * (voir CalculateurSalaireBenchmark), et GestionPersonnel ne l'installe donc pas par défaut.
+ * Principe SRP : Responsabilité unique de mémoriser les calculs ; le calcul reste délégué.
+ * Principe OCP : Ajoute la mise en cache sans modifier CalculateurSalaireImpl.
+ */
+public class CalculateurSalaireCache implements CalculateurSalaire, EcouteurRepository {
+
+    public static final int CAPACITE_PAR_DEFAUT = 100_000;
+
+    private static final int NOMBRE_SEGMENTS = 16;
+
+    private final CalculateurSalaire delegue;
+    private final Segment[] segments;
+    private final LongAdder succes = new LongAdder();
+    private final LongAdder echecs = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param delegue Le calculateur effectuant les calculs
+     */
+    public CalculateurSalaireCache(CalculateurSalaire delegue) {
+        this(delegue, CAPACITE_PAR_DEFAUT);
+    }
+
+    /**
+     * @param delegue Le calculateur effectuant les calculs
+     * @param capacite Le nombre maximal d'employés mémorisés
+     */
+    public CalculateurSalaireCache(CalculateurSalaire delegue, int capacite) {
+        if (delegue == null) {
+            throw new IllegalArgumentException("Le calculateur délégué ne peut pas être null");
+        }
+        if (capacite < NOMBRE_SEGMENTS) {
+            throw new IllegalArgumentException("La capacité doit être au moins de " + NOMBRE_SEGMENTS);
+        }
+        this.delegue = delegue;
+        this.segments = new Segment[NOMBRE_SEGMENTS];
+        for (int i = 0; i < NOMBRE_SEGMENTS; i++) {
+            segments[i] = new Segment(capacite / NOMBRE_SEGMENTS + (i < capacite % NOMBRE_SEGMENTS ? 1 : 0));
+        }
+    }
+
+    @Override
+    public double calculerSalaire(Employe employe) {
+        return resultat(employe).salaire;
+    }
+
+    @Override
+    public double calculerBonus(Employe employe) {
+        return resultat(employe).bonus;
+    }
+
+    @Override
+    public ResultatPaie calculerSalaires(List<Employe> employes) {
+        return delegue.calculerSalaires(employes);
+    }
+
+    /**
+     * @return Ce cache si les règles du délégué sont fixes, sinon le calculateur figé du délégué
+     *         (les calculs d'un traitement par lot ne passent alors pas par le cache)
+     */
+    @Override
+    public CalculateurSalaire figer() {
+        CalculateurSalaire fige = delegue.figer();
+        return fige == delegue ? this : fige;
+    }
+
+    @Override
+    public void employeAjoute(Employe employe) {
+        // Un nouvel employé est mis en cache à son premier calcul
+    }
+
+    @Override
+    public void employeSupprime(Employe employe) {
+        invalider(employe.getId());
+    }
+
+    /**
+     * Oublie le résultat mémorisé pour un employé.
+     * @param employeId L'ID de l'employé
+     */
+    public void invalider(String employeId) {
+        segment(employeId).retirer(employeId);
+    }
+
+    /**
+     * Vide le cache, par exemple après un changement des règles de calcul.
+     */
+    public void invaliderTout() {
+        generation.incrementAndGet();
+        for (Segment segment : segments) {
+            segment.vider();
+        }
+    }
+
+    /**
+     * @return Le nombre de calculs servis depuis le cache
+     */
+    public long getNombreSucces() {
+        return succes.sum();
+    }
+
+    /**
+     * @return Le nombre de calculs délégués faute d'entrée en cache
+     */
+    public long getNombreEchecs() {
+        return echecs.sum();
+    }
+
+    /**
+     * @return Le nombre d'entrées évincées faute de place
+     */
+    public long getNombreEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return La proportion de calculs servis depuis le cache (0 si aucun calcul)
+     */
+    public double getTauxSucces() {
+        long nombreSucces = succes.sum();
+        long total = nombreSucces + echecs.sum();
+        return total == 0 ? 0 : (double) nombreSucces / total;
+    }
+
+    /**
+     * @return Le nombre d'employés actuellement mémorisés
+     */
+    public int taille() {
+        int taille = 0;
+        for (Segment segment : segments) {
+            taille += segment.taille();
+        }
+        return taille;
+    }
+
+    private Resultat resultat(Employe employe) {
+        Segment segment = segment(employe.getId());
+        Resultat resultat = segment.trouver(employe);
+        if (resultat != null) {
+            succes.increment();
+            return resultat;
+        }
+        echecs.increment();
+        long generationCalcul = generation.get();
+        resultat = new Resultat(employe, delegue.calculerSalaire(employe), delegue.calculerBonus(employe));
+        segment.memoriser(resultat, generationCalcul);
+        return resultat;
+    }
+
+    private Segment segment(String employeId) {
+        int hachage = employeId.hashCode();
+        return segments[(hachage ^ (hachage >>> 16)) & (NOMBRE_SEGMENTS - 1)];
+    }
+
+    /**
+     * Salaire et bonus calculés pour une version d'employé.
+     */
+    private static final class Resultat {
+        private final Employe employe;
+        private final double salaire;
+        private final double bonus;
+
+        Resultat(Employe employe, double salaire, double bonus) {
+            this.employe = employe;
+            this.salaire = salaire;
+            this.bonus = bonus;
+        }
+    }
+
+    /**
+     * Segment SLRU : zone de probation et zone protégée, chacune en ordre d'accès
+     * (l'entrée la plus ancienne en tête).
+     */
+    private final class Segment {
+        private final int capacite;
+        private final int capaciteProtegee;
+        private final LinkedHashMap<String, Resultat> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, Resultat> protegee = new LinkedHashMap<>(16, 0.75f, true);
+
+        Segment(int capacite) {
+            this.capacite = capacite;
+            this.capaciteProtegee = capacite * 4 / 5;
+        }
+
+        synchronized Resultat trouver(Employe employe) {
+            String id = employe.getId();
+            Resultat resultat = protegee.get(id);
+            if (resultat == null) {
+                resultat = probation.get(id);
+                if (resultat == null || !EmployeRepository.memeVersion(resultat.employe, employe)) {
+                    return null;
+                }
+                // Deuxième accès : promotion dans la zone protégée
+                probation.remove(id);
+                protegee.put(id, resultat);
+                if (protegee.size() > capaciteProtegee) {
+                    Map.Entry<String, Resultat> plusAncienne = plusAncienne(protegee);
+                    probation.put(plusAncienne.getKey(), plusAncienne.getValue());
+                }
+                return resultat;
+            }
+            return EmployeRepository.memeVersion(resultat.employe, employe) ? resultat : null;
+        }
+
+        synchronized void memoriser(Resultat resultat, long generationCalcul) {
+            if (generationCalcul != generation.get()) {
+                // Invalidation complète pendant le calcul : le résultat est peut-être périmé
+                return;
+            }
+            String id = resultat.employe.getId();
+            protegee.remove(id);
+            probation.put(id, resultat);
+            limiter();
+        }
+
+        synchronized void retirer(String id) {
+            if (probation.remove(id) == null) {
+                protegee.remove(id);
+            }
+        }
+
+        synchronized void vider() {
+            probation.clear();
+            protegee.clear();
+        }
+
+        synchronized int taille() {
+            return probation.size() + protegee.size();
+        }
+
+        private void limiter() {
+            while (probation.size() + protegee.size() > capacite) {
+                plusAncienne(probation.isEmpty() ? protegee : probation);
+                evictions.increment();
+            }
+        }
+
+        private Map.Entry<String, Resultat> plusAncienne(LinkedHashMap<String, Resultat> zone) {
+            Iterator<Map.Entry<String, Resultat>> iterateur = zone.entrySet().iterator();
+            Map.Entry<String, Resultat> entree = iterateur.next();
+            iterateur.remove();
+            return Map.entry(entree.getKey(), entree.getValue());
+        }
+    }
+}
@@ -1,28 +1,39 @@
 package org.iut.refactoring.service.impl;
 
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
 import org.iut.refactoring.service.CalculateurSalaire;
 import org.iut.refactoring.service.StrategieSalaire;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implémentation du calculateur de salaire utilisant des stratégies.
  * Principe SRP : Responsabilité unique de coordonner le calcul de salaire.
  * Principe OCP : Ouvert à l'extension (nouvelles stratégies) sans modification.
  * Principe DIP : Dépend de l'abstraction StrategieSalaire.
+ *
+ * Les stratégies sont détenues par un RegistreStrategies versionné : les remplacer
+ * (rechargement des règles) ne bloque ni ne perturbe un calcul en cours. Un calcul unitaire
+ * utilise la version courante ; calculerSalaires et figer() lisent la version une seule fois,
+ * si bien qu'un traitement par lot applique les mêmes règles du début à la fin.
+ * La stratégie applicable est résolue une seule fois par classe concrète d'employé et par
+ * version (voir VersionStrategies).
  */
 public class CalculateurSalaireImpl implements CalculateurSalaire {
     
-    private final List<StrategieSalaire> strategies;
+    private final RegistreStrategies registre;
     
     public CalculateurSalaireImpl() {
-        this.strategies = new ArrayList<>();
         // Enregistrement des stratégies
-        strategies.add(new StrategieSalaireDeveloppeur());
-        strategies.add(new StrategieSalaireChefDeProjet());
-        strategies.add(new StrategieSalaireStagiaire());
+        this(Arrays.asList(
+                new StrategieSalaireDeveloppeur(),
+                new StrategieSalaireChefDeProjet(),
+                new StrategieSalaireStagiaire()));
     }
     
     /**
@@ -30,25 +41,150 @@ public class CalculateurSalaireImpl implements CalculateurSalaire {
      * @param strategies Liste des stratégies de salaire
      */
     public CalculateurSalaireImpl(List<StrategieSalaire> strategies) {
-        this.strategies = strategies;
+        this(new RegistreStrategies(strategies));
+    }
+    
+    /**
+     * Constructeur partageant un registre de stratégies (par exemple alimenté par une
+     * SurveillanceReglesSalaire).
+     * @param registre Le registre des stratégies
+     */
+    public CalculateurSalaireImpl(RegistreStrategies registre) {
+        if (registre == null) {
+            throw new IllegalArgumentException("Le registre des stratégies ne peut pas être null");
+        }
+        this.registre = registre;
+    }
+    
+    /**
+     * Enregistre une stratégie supplémentaire dans une nouvelle version du registre.
+     * Les stratégies sont consultées dans leur ordre d'enregistrement.
+     * @param strategie La stratégie à ajouter
+     */
+    public void enregistrerStrategie(StrategieSalaire strategie) {
+        registre.enregistrer(strategie);
+    }
+    
+    /**
+     * Remplace toutes les stratégies ; les calculs par lot en cours terminent avec les anciennes.
+     * @param strategies Les nouvelles stratégies
+     * @return La version publiée
+     */
+    public VersionStrategies remplacerStrategies(List<StrategieSalaire> strategies) {
+        return registre.publier(strategies);
+    }
+    
+    public RegistreStrategies getRegistre() {
+        return registre;
+    }
+    
+    /**
+     * @return Un calculateur lié à la version courante des stratégies
+     */
+    @Override
+    public CalculateurSalaire figer() {
+        return new CalculateurFige(registre.versionCourante());
     }
     
     @Override
     public double calculerSalaire(Employe employe) {
-        return trouverStrategie(employe).calculer(employe);
+        return registre.versionCourante().trouverStrategie(employe).calculer(employe);
     }
     
     @Override
     public double calculerBonus(Employe employe) {
-        return trouverStrategie(employe).calculerBonus(employe);
+        return registre.versionCourante().trouverStrategie(employe).calculerBonus(employe);
+    }
+    
+    /**
+     * Calcul par lot : les employés sont regroupés par stratégie (tri par comptage),
+     * puis chaque stratégie est appliquée à son groupe dans une boucle serrée.
+     * Les résultats sont rangés dans des tableaux primitifs, sans boxing.
+     * Tout le lot est calculé avec la version des stratégies courante au début de l'appel.
+     */
+    @Override
+    public ResultatPaie calculerSalaires(List<Employe> employes) {
+        return calculerSalaires(registre.versionCourante(), employes);
     }
     
-    private StrategieSalaire trouverStrategie(Employe employe) {
-        return strategies.stream()
-                .filter(strategie -> strategie.estApplicable(employe))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Aucune stratégie trouvée pour le type d'employé: " + employe.getType()));
+    private static ResultatPaie calculerSalaires(VersionStrategies version, List<Employe> employes) {
+        int taille = employes.size();
+        Employe[] tableau = employes.toArray(new Employe[0]);
+        double[] salaires = new double[taille];
+        double[] bonus = new double[taille];
+        
+        // 1. Attribution d'un groupe (une stratégie) à chaque employé
+        List<StrategieSalaire> groupes = new ArrayList<>();
+        Map<StrategieSalaire, Integer> indexParStrategie = new IdentityHashMap<>();
+        int[] groupeParEmploye = new int[taille];
+        Class<?> classePrecedente = null;
+        int groupePrecedent = -1;
+        for (int i = 0; i < taille; i++) {
+            Employe employe = tableau[i];
+            if (employe.getClass() != classePrecedente) {
+                StrategieSalaire strategie = version.trouverStrategie(employe);
+                Integer groupe = indexParStrategie.get(strategie);
+                if (groupe == null) {
+                    groupe = groupes.size();
+                    groupes.add(strategie);
+                    indexParStrategie.put(strategie, groupe);
+                }
+                classePrecedente = employe.getClass();
+                groupePrecedent = groupe;
+            }
+            groupeParEmploye[i] = groupePrecedent;
+        }
+        
+        // 2. Tri par comptage des indices d'employés par groupe
+        int[] debutGroupe = new int[groupes.size() + 1];
+        for (int i = 0; i < taille; i++) {
+            debutGroupe[groupeParEmploye[i] + 1]++;
+        }
+        for (int g = 0; g < groupes.size(); g++) {
+            debutGroupe[g + 1] += debutGroupe[g];
+        }
+        int[] ordre = new int[taille];
+        int[] position = debutGroupe.clone();
+        for (int i = 0; i < taille; i++) {
+            ordre[position[groupeParEmploye[i]]++] = i;
+        }
+        
+        // 3. Application de chaque stratégie à son groupe
+        for (int g = 0; g < groupes.size(); g++) {
+            StrategieSalaire strategie = groupes.get(g);
+            for (int k = debutGroupe[g]; k < debutGroupe[g + 1]; k++) {
+                int i = ordre[k];
+                Employe employe = tableau[i];
+                salaires[i] = strategie.calculer(employe);
+                bonus[i] = strategie.calculerBonus(employe);
+            }
+        }
+        return new ResultatPaie(salaires, bonus);
+    }
+    
+    /**
+     * Calculateur lié à une version des stratégies, insensible aux remplacements ultérieurs.
+     */
+    private static final class CalculateurFige implements CalculateurSalaire {
+        private final VersionStrategies version;
+        
+        CalculateurFige(VersionStrategies version) {
+            this.version = version;
+        }
+        
+        @Override
+        public double calculerSalaire(Employe employe) {
+            return version.trouverStrategie(employe).calculer(employe);
+        }
+        
+        @Override
+        public double calculerBonus(Employe employe) {
+            return version.trouverStrategie(employe).calculerBonus(employe);
+        }
+        
+        @Override
+        public ResultatPaie calculerSalaires(List<Employe> employes) {
+            return CalculateurSalaireImpl.calculerSalaires(version, employes);
+        }
     }
 }
-
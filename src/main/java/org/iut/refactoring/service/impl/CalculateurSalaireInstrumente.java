@@ -0,0 +1,85 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.metrique.MetriqueOperation;
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
+import org.iut.refactoring.service.CalculateurSalaire;
+
+import java.util.List;
+
+/**
+ * Décorateur de CalculateurSalaire mesurant la durée et les erreurs de chaque calcul,
+ * par type d'employé, dans un RegistreMetriques (opérations préfixées par « calculateur. »).
+ * Principe SRP : Responsabilité unique de mesurer ; le calcul reste délégué.
+ * Principe OCP : Ajoute l'instrumentation sans modifier les calculateurs existants.
+ */
+public class CalculateurSalaireInstrumente implements CalculateurSalaire {
+
+    static final String CALCULER_SALAIRE = "calculateur.calculerSalaire";
+    static final String CALCULER_BONUS = "calculateur.calculerBonus";
+    static final String CALCULER_SALAIRES = "calculateur.calculerSalaires";
+
+    private final CalculateurSalaire delegue;
+    private final RegistreMetriques registre;
+    private final MetriqueOperation calculsParLot;
+
+    /**
+     * @param delegue Le calculateur mesuré
+     * @param registre Le registre recevant les mesures
+     */
+    public CalculateurSalaireInstrumente(CalculateurSalaire delegue, RegistreMetriques registre) {
+        if (delegue == null || registre == null) {
+            throw new IllegalArgumentException("Le calculateur et le registre ne peuvent pas être null");
+        }
+        this.delegue = delegue;
+        this.registre = registre;
+        this.calculsParLot = registre.metrique(CALCULER_SALAIRES);
+    }
+
+    @Override
+    public double calculerSalaire(Employe employe) {
+        MetriqueOperation metrique = registre.metrique(CALCULER_SALAIRE, typeDe(employe));
+        long debut = System.nanoTime();
+        try {
+            double salaire = delegue.calculerSalaire(employe);
+            metrique.enregistrer(debut);
+            return salaire;
+        } catch (RuntimeException e) {
+            metrique.enregistrerErreur(debut);
+            throw e;
+        }
+    }
+
+    @Override
+    public double calculerBonus(Employe employe) {
+        MetriqueOperation metrique = registre.metrique(CALCULER_BONUS, typeDe(employe));
+        long debut = System.nanoTime();
+        try {
+            double bonus = delegue.calculerBonus(employe);
+            metrique.enregistrer(debut);
+            return bonus;
+        } catch (RuntimeException e) {
+            metrique.enregistrerErreur(debut);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultatPaie calculerSalaires(List<Employe> employes) {
+        return calculsParLot.mesurer(() -> delegue.calculerSalaires(employes));
+    }
+
+    /**
+     * @return Le calculateur figé du délégué, mesuré dans le même registre
+     */
+    @Override
+    public CalculateurSalaire figer() {
+        CalculateurSalaire fige = delegue.figer();
+        return fige == delegue ? this : new CalculateurSalaireInstrumente(fige, registre);
+    }
+
+    static String typeDe(Employe employe) {
+        return employe == null ? null : employe.getType();
+    }
+}
@@ -0,0 +1,136 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ClassementEquipe;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.CalculateurSalaire;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Classement des salaires par équipe, calculé en un seul passage : pour chaque équipe,
+ * un tas minimum borné retient les N meilleurs salaires (MeilleursSalaires) et une esquisse
+ * fusionnable estime les quantiles (SketchQuantiles). Aucune liste d'employés n'est triée :
+ * la mémoire dépend de N et du nombre d'équipes, pas de la population.
+ *
+ * Une instance accumule une partition de la population ; les partitions (threads, blocs,
+ * fichiers...) se combinent par fusionner, dans n'importe quel ordre. calculer répartit la
+ * population sur le pool commun au-delà de SEUIL_PARALLELE employés.
+ * En cas d'égalité de salaire au rang N, l'employé retenu dépend de l'ordre de parcours.
+ * Principe SRP : Responsabilité unique de classer les salaires par équipe.
+ */
+public final class ClassementSalaires {
+
+    public static final int SEUIL_PARALLELE = 10_000;
+
+    private final int nombreMeilleurs;
+    private final Map<String, AgregatEquipe> parEquipe;
+
+    /**
+     * @param nombreMeilleurs Le nombre N de meilleurs salaires retenus par équipe
+     */
+    public ClassementSalaires(int nombreMeilleurs) {
+        if (nombreMeilleurs <= 0) {
+            throw new IllegalArgumentException("Le nombre de salaires retenus doit être positif");
+        }
+        this.nombreMeilleurs = nombreMeilleurs;
+        this.parEquipe = new HashMap<>();
+    }
+
+    /**
+     * Calcule le classement de chaque équipe.
+     * @param employes Liste des employés
+     * @param filtre Filtre optionnel par équipe (null pour tous)
+     * @param calculateurSalaire Le calculateur de salaire (doit être thread-safe)
+     * @param nombreMeilleurs Le nombre N de meilleurs salaires retenus par équipe
+     * @return Le classement de chaque équipe, trié par nom d'équipe (équipe null en tête)
+     */
+    public static List<ClassementEquipe> calculer(List<Employe> employes, String filtre,
+                                                  CalculateurSalaire calculateurSalaire, int nombreMeilleurs) {
+        Stream<Employe> flux = employes.size() >= SEUIL_PARALLELE ? employes.parallelStream() : employes.stream();
+        return flux
+                .filter(employe -> filtre == null || filtre.isEmpty() || filtre.equals(employe.getEquipe()))
+                .collect(Collector.of(
+                        () -> new ClassementSalaires(nombreMeilleurs),
+                        (classement, employe) -> classement.ajouter(employe, calculateurSalaire.calculerSalaire(employe)),
+                        ClassementSalaires::fusionner))
+                .classements();
+    }
+
+    /**
+     * Compte un employé et son salaire calculé.
+     * @param employe L'employé
+     * @param salaire Son salaire calculé
+     */
+    public void ajouter(Employe employe, double salaire) {
+        parEquipe.computeIfAbsent(employe.getEquipe(), equipe -> new AgregatEquipe(nombreMeilleurs))
+                .ajouter(employe, salaire);
+    }
+
+    /**
+     * Ajoute les employés comptés par une autre partition.
+     * @param autre La partition à fusionner (ne doit plus être utilisée ensuite)
+     * @return Cette instance
+     */
+    public ClassementSalaires fusionner(ClassementSalaires autre) {
+        if (autre.nombreMeilleurs != nombreMeilleurs) {
+            throw new IllegalArgumentException("Les partitions doivent retenir le même nombre de salaires");
+        }
+        autre.parEquipe.forEach((equipe, agregat) -> {
+            AgregatEquipe existant = parEquipe.putIfAbsent(equipe, agregat);
+            if (existant != null) {
+                existant.fusionner(agregat);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Produit le classement de chaque équipe. L'instance ne doit plus être utilisée ensuite.
+     * @return Le classement de chaque équipe, trié par nom d'équipe (équipe null en tête)
+     */
+    public List<ClassementEquipe> classements() {
+        List<ClassementEquipe> classements = new ArrayList<>(parEquipe.size());
+        Map<String, AgregatEquipe> triees = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        triees.putAll(parEquipe);
+        triees.forEach((equipe, agregat) -> classements.add(agregat.versClassement(equipe)));
+        return classements;
+    }
+
+    /**
+     * Meilleurs salaires et esquisse de quantiles d'une équipe.
+     */
+    private static final class AgregatEquipe {
+        private final MeilleursSalaires meilleurs;
+        private final SketchQuantiles quantiles = new SketchQuantiles();
+
+        AgregatEquipe(int nombreMeilleurs) {
+            this.meilleurs = new MeilleursSalaires(nombreMeilleurs);
+        }
+
+        void ajouter(Employe employe, double salaire) {
+            meilleurs.proposer(employe, salaire);
+            quantiles.ajouter(salaire);
+        }
+
+        void fusionner(AgregatEquipe autre) {
+            meilleurs.fusionner(autre.meilleurs);
+            quantiles.fusionner(autre.quantiles);
+        }
+
+        ClassementEquipe versClassement(String equipe) {
+            Employe[] employes = new Employe[meilleurs.taille()];
+            double[] salaires = new double[employes.length];
+            meilleurs.extraireDecroissant(employes, salaires);
+            return new ClassementEquipe(equipe, quantiles.effectif(), Arrays.asList(employes), salaires,
+                    quantiles.quantile(0.5), quantiles.quantile(0.9), quantiles.quantile(0.99));
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package org.iut.refactoring.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile les règles d'un type d'employé en une sous-classe de StrategieSalaireCompilee,
+ * définie comme classe cachée (Lookup.defineHiddenClass) : elle est déchargée dès que la
+ * stratégie n'est plus référencée, ce qui permet de recharger les règles sans fuite.
+ *
+ * Le bytecode est écrit directement (pas de dépendance à une bibliothèque de génération).
+ * Chaque méthode est une suite d'instructions sans branchement : les règles inconditionnelles
+ * deviennent dmul / dadd sur des constantes, les règles conditionnelles un appel à
+ * StrategieSalaireCompilee.multiplierSi / ajouterSi que le JIT intègre. Sans branchement,
+ * la méthode n'a pas besoin de StackMapTable. Un multiplicateur de 1 ou un ajout de 0 ne
+ * produisent aucune instruction ; une règle inconditionnelle de multiplicateur 0 remplace
+ * tout ce qui précède par une constante.
+ * Principe SRP : Responsabilité unique de traduire des règles en code.
+ */
+final class CompilateurReglesSalaire {
+
+    private static final int VERSION_CLASSE = 52;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final String NOM_CLASSE = "org/iut/refactoring/service/impl/StrategieSalaireGeneree";
+    private static final String NOM_BASE = "org/iut/refactoring/service/impl/StrategieSalaireCompilee";
+    private static final String NOM_EMPLOYE = "org/iut/refactoring/model/Employe";
+    private static final String DESCRIPTEUR_CONSTRUCTEUR = "(Ljava/lang/String;Ljava/util/List;Ljava/util/List;)V";
+    private static final String DESCRIPTEUR_CALCUL = "(L" + NOM_EMPLOYE + ";)D";
+    private static final String DESCRIPTEUR_REGLE = "(DIID)D";
+
+    private static final MethodType TYPE_CONSTRUCTEUR = MethodType.methodType(void.class, String.class,
+            List.class, List.class);
+
+    private CompilateurReglesSalaire() {
+    }
+
+    /**
+     * @param type Le type d'employé
+     * @param reglesSalaire Les règles du salaire (au moins une), dans l'ordre d'application
+     * @param reglesBonus Les règles du bonus, dans l'ordre d'application (aucune : bonus nul)
+     * @return La stratégie compilée
+     */
+    static StrategieSalaireCompilee compiler(String type, List<RegleSalaire> reglesSalaire,
+                                             List<RegleSalaire> reglesBonus) {
+        byte[] octets = genererClasse(reglesSalaire, reglesBonus);
+        try {
+            MethodHandles.Lookup classe = MethodHandles.lookup().defineHiddenClass(octets, true);
+            return (StrategieSalaireCompilee) classe.findConstructor(classe.lookupClass(), TYPE_CONSTRUCTEUR)
+                    .invoke(type, reglesSalaire, reglesBonus);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Impossible de compiler les règles du type " + type, e);
+        }
+    }
+
+    static byte[] genererClasse(List<RegleSalaire> reglesSalaire, List<RegleSalaire> reglesBonus) {
+        ConstantesClasse constantes = new ConstantesClasse();
+        int classe = constantes.classe(NOM_CLASSE);
+        int base = constantes.classe(NOM_BASE);
+        int code = constantes.utf8("Code");
+
+        List<byte[]> methodes = new ArrayList<>();
+        methodes.add(methode(constantes, code, "<init>", DESCRIPTEUR_CONSTRUCTEUR, constructeur(constantes), 6, 4));
+        methodes.add(methode(constantes, code, "calculer", DESCRIPTEUR_CALCUL,
+                calcul(constantes, reglesSalaire), 6, 2));
+        methodes.add(methode(constantes, code, "calculerBonus", DESCRIPTEUR_CALCUL,
+                calcul(constantes, reglesBonus), 6, 2));
+
+        FluxOctets classeFichier = new FluxOctets();
+        classeFichier.u4(0xCAFEBABE);
+        classeFichier.u2(0);
+        classeFichier.u2(VERSION_CLASSE);
+        constantes.ecrire(classeFichier);
+        classeFichier.u2(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        classeFichier.u2(classe);
+        classeFichier.u2(base);
+        classeFichier.u2(0);
+        classeFichier.u2(0);
+        classeFichier.u2(methodes.size());
+        for (byte[] methode : methodes) {
+            classeFichier.octets(methode);
+        }
+        classeFichier.u2(0);
+        return classeFichier.toByteArray();
+    }
+
+    private static byte[] constructeur(ConstantesClasse constantes) {
+        FluxOctets code = new FluxOctets();
+        code.u1(0x2A);                  // aload_0
+        code.u1(0x2B);                  // aload_1
+        code.u1(0x2C);                  // aload_2
+        code.u1(0x2D);                  // aload_3
+        code.u1(0xB7);                  // invokespecial
+        code.u2(constantes.methode(NOM_BASE, "<init>", DESCRIPTEUR_CONSTRUCTEUR));
+        code.u1(0xB1);                  // return
+        return code.toByteArray();
+    }
+
+    private static byte[] calcul(ConstantesClasse constantes, List<RegleSalaire> regles) {
+        int debut = 0;
+        boolean depuisConstante = regles.isEmpty();
+        double constante = 0.0;
+        for (int i = 0; i < regles.size(); i++) {
+            RegleSalaire regle = regles.get(i);
+            if (!regle.estConditionnelle() && regle.getMultiplicateur() == 0.0) {
+                debut = i + 1;
+                depuisConstante = true;
+                constante = regle.getAjout();
+            }
+        }
+
+        FluxOctets code = new FluxOctets();
+        if (depuisConstante) {
+            constanteDouble(code, constantes, constante);
+        } else {
+            code.u1(0x2B);              // aload_1
+            code.u1(0xB6);              // invokevirtual
+            code.u2(constantes.methode(NOM_EMPLOYE, "getSalaireDeBase", "()D"));
+        }
+        for (RegleSalaire regle : regles.subList(debut, regles.size())) {
+            if (regle.getMultiplicateur() != 1.0) {
+                operation(code, constantes, regle, regle.getMultiplicateur(), 0x6B, "multiplierSi");
+            }
+            if (regle.getAjout() != 0.0) {
+                operation(code, constantes, regle, regle.getAjout(), 0x63, "ajouterSi");
+            }
+        }
+        code.u1(0xAF);                  // dreturn
+        return code.toByteArray();
+    }
+
+    /**
+     * Inconditionnelle : ldc2_w opérande ; dmul ou dadd.
+     * Conditionnelle : experience ; seuil ; opérande ; invokestatic multiplierSi ou ajouterSi.
+     */
+    private static void operation(FluxOctets code, ConstantesClasse constantes, RegleSalaire regle,
+                                  double operande, int instruction, String methodeConditionnelle) {
+        if (!regle.estConditionnelle()) {
+            constanteDouble(code, constantes, operande);
+            code.u1(instruction);
+            return;
+        }
+        code.u1(0x2B);                  // aload_1
+        code.u1(0xB6);                  // invokevirtual
+        code.u2(constantes.methode(NOM_EMPLOYE, "getExperience", "()I"));
+        constanteEntiere(code, constantes, regle.getExperienceSuperieureA());
+        constanteDouble(code, constantes, operande);
+        code.u1(0xB8);                  // invokestatic
+        code.u2(constantes.methode(NOM_BASE, methodeConditionnelle, DESCRIPTEUR_REGLE));
+    }
+
+    private static void constanteDouble(FluxOctets code, ConstantesClasse constantes, double valeur) {
+        if (Double.doubleToRawLongBits(valeur) == 0L) {
+            code.u1(0x0E);              // dconst_0
+        } else if (valeur == 1.0) {
+            code.u1(0x0F);              // dconst_1
+        } else {
+            code.u1(0x14);              // ldc2_w
+            code.u2(constantes.nombreDouble(valeur));
+        }
+    }
+
+    private static void constanteEntiere(FluxOctets code, ConstantesClasse constantes, int valeur) {
+        if (valeur >= Byte.MIN_VALUE && valeur <= Byte.MAX_VALUE) {
+            code.u1(0x10);              // bipush
+            code.u1(valeur);
+        } else if (valeur >= Short.MIN_VALUE && valeur <= Short.MAX_VALUE) {
+            code.u1(0x11);              // sipush
+            code.u2(valeur);
+        } else {
+            code.u1(0x13);              // ldc_w
+            code.u2(constantes.nombreEntier(valeur));
+        }
+    }
+
+    private static byte[] methode(ConstantesClasse constantes, int attributCode, String nom, String descripteur,
+                                  byte[] instructions, int pileMax, int localesMax) {
+        FluxOctets methode = new FluxOctets();
+        methode.u2(ACC_PUBLIC);
+        methode.u2(constantes.utf8(nom));
+        methode.u2(constantes.utf8(descripteur));
+        methode.u2(1);
+        methode.u2(attributCode);
+        methode.u4(12 + instructions.length);
+        methode.u2(pileMax);
+        methode.u2(localesMax);
+        methode.u4(instructions.length);
+        methode.octets(instructions);
+        methode.u2(0);
+        methode.u2(0);
+        return methode.toByteArray();
+    }
+
+    /**
+     * Pool de constantes d'un fichier de classe : chaque constante n'est ajoutée qu'une fois.
+     */
+    private static final class ConstantesClasse {
+        private static final int UTF8 = 1;
+        private static final int ENTIER = 3;
+        private static final int DOUBLE = 6;
+        private static final int CLASSE = 7;
+        private static final int METHODE = 10;
+        private static final int NOM_ET_TYPE = 12;
+
+        private final FluxOctets pool = new FluxOctets();
+        private final Map<String, Integer> indices = new HashMap<>();
+        private int prochainIndice = 1;
+
+        int utf8(String valeur) {
+            Integer indice = indices.get("U" + valeur);
+            if (indice == null) {
+                indice = ajouter("U" + valeur, 1);
+                pool.u1(UTF8);
+                pool.utf(valeur);
+            }
+            return indice;
+        }
+
+        int classe(String nom) {
+            Integer indice = indices.get("C" + nom);
+            if (indice == null) {
+                int utf8 = utf8(nom);
+                indice = ajouter("C" + nom, 1);
+                pool.u1(CLASSE);
+                pool.u2(utf8);
+            }
+            return indice;
+        }
+
+        int methode(String proprietaire, String nom, String descripteur) {
+            String cle = "M" + proprietaire + '.' + nom + descripteur;
+            Integer indice = indices.get(cle);
+            if (indice == null) {
+                int classe = classe(proprietaire);
+                int nomEtType = nomEtType(nom, descripteur);
+                indice = ajouter(cle, 1);
+                pool.u1(METHODE);
+                pool.u2(classe);
+                pool.u2(nomEtType);
+            }
+            return indice;
+        }
+
+        int nombreDouble(double valeur) {
+            String cle = "D" + Double.doubleToRawLongBits(valeur);
+            Integer indice = indices.get(cle);
+            if (indice == null) {
+                indice = ajouter(cle, 2);
+                pool.u1(DOUBLE);
+                pool.u8(Double.doubleToRawLongBits(valeur));
+            }
+            return indice;
+        }
+
+        int nombreEntier(int valeur) {
+            String cle = "I" + valeur;
+            Integer indice = indices.get(cle);
+            if (indice == null) {
+                indice = ajouter(cle, 1);
+                pool.u1(ENTIER);
+                pool.u4(valeur);
+            }
+            return indice;
+        }
+
+        void ecrire(FluxOctets classe) {
+            classe.u2(prochainIndice);
+            classe.octets(pool.toByteArray());
+        }
+
+        private int nomEtType(String nom, String descripteur) {
+            String cle = "N" + nom + descripteur;
+            Integer indice = indices.get(cle);
+            if (indice == null) {
+                int utf8Nom = utf8(nom);
+                int utf8Descripteur = utf8(descripteur);
+                indice = ajouter(cle, 1);
+                pool.u1(NOM_ET_TYPE);
+                pool.u2(utf8Nom);
+                pool.u2(utf8Descripteur);
+            }
+            return indice;
+        }
+
+        /** Les constantes long et double occupent deux entrées du pool. */
+        private int ajouter(String cle, int entrees) {
+            int indice = prochainIndice;
+            prochainIndice += entrees;
+            indices.put(cle, indice);
+            return indice;
+        }
+    }
+
+    /**
+     * Écriture big-endian des éléments d'un fichier de classe.
+     */
+    private static final class FluxOctets {
+        private final ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        private final DataOutputStream sortie = new DataOutputStream(octets);
+
+        void u1(int valeur) {
+            ecrire(() -> sortie.writeByte(valeur));
+        }
+
+        void u2(int valeur) {
+            ecrire(() -> sortie.writeShort(valeur));
+        }
+
+        void u4(int valeur) {
+            ecrire(() -> sortie.writeInt(valeur));
+        }
+
+        void u8(long valeur) {
+            ecrire(() -> sortie.writeLong(valeur));
+        }
+
+        void utf(String valeur) {
+            ecrire(() -> sortie.writeUTF(valeur));
+        }
+
+        void octets(byte[] valeur) {
+            ecrire(() -> sortie.write(valeur));
+        }
+
+        byte[] toByteArray() {
+            return octets.toByteArray();
+        }
+
+        private void ecrire(Ecriture ecriture) {
+            try {
+                ecriture.executer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private interface Ecriture {
+        void executer() throws IOException;
+    }
+}
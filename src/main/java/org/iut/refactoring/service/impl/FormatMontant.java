@@ -0,0 +1,54 @@
+package org.iut.refactoring.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * Mise en forme des montants en euros avec deux décimales, sans passer par java.util.Formatter.
+ * Le montant est arrondi au centime le plus proche et écrit avec un point décimal, comme
+ * String.format(Locale.ROOT, "%.2f", montant) : un demi-centime est arrondi à l'écart de zéro
+ * d'après l'écriture décimale du double (1.005 donne « 1.01 », 2.675 donne « 2.68 ») et un
+ * montant négatif arrondi à zéro garde son signe (« -0.00 »).
+ * Le calcul se fait sur les centimes en double ; seuls les montants trop proches d'un
+ * demi-centime pour que ce calcul soit sûr passent par BigDecimal.
+ */
+final class FormatMontant {
+
+    /** Au-delà, le nombre de centimes ne tient plus dans un long sans perte : repli sur Formatter. */
+    private static final double LIMITE = 1e15;
+
+    private FormatMontant() {
+    }
+
+    /**
+     * Ajoute le montant formaté avec deux décimales au tampon.
+     * @param tampon Le tampon de destination
+     * @param montant Le montant à formater
+     */
+    static void ajouterMontant(StringBuilder tampon, double montant) {
+        if (Double.isNaN(montant) || Double.isInfinite(montant) || Math.abs(montant) >= LIMITE) {
+            tampon.append(String.format(Locale.ROOT, "%.2f", montant));
+            return;
+        }
+        double centimesExacts = Math.abs(montant) * 100;
+        double partieDecimale = centimesExacts - Math.floor(centimesExacts);
+        long centimes;
+        if (Math.abs(partieDecimale - 0.5) <= 2 * Math.ulp(centimesExacts)) {
+            // Demi-centime : on arrondit l'écriture décimale du montant, pas sa valeur binaire
+            centimes = BigDecimal.valueOf(Math.abs(montant)).setScale(2, RoundingMode.HALF_UP)
+                    .unscaledValue().longValueExact();
+        } else {
+            centimes = Math.round(centimesExacts);
+        }
+        if (Double.doubleToRawLongBits(montant) < 0) {
+            tampon.append('-');
+        }
+        tampon.append(centimes / 100).append('.');
+        int reste = (int) (centimes % 100);
+        if (reste < 10) {
+            tampon.append('0');
+        }
+        tampon.append(reste);
+    }
+}
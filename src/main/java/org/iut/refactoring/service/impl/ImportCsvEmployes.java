@@ -0,0 +1,567 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.factory.EmployeFactory;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Import en masse d'employés depuis un fichier CSV (type, nom, salaireDeBase, experience, equipe).
+ * Le fichier est découpé en portions alignées sur les fins de ligne, projetées en mémoire et
+ * analysées en parallèle sur un ForkJoinPool, directement dans les octets projetés :
+ * le type est reconnu sans créer de chaîne, les équipes passent par un dictionnaire (une seule
+ * chaîne par équipe distincte) et les nombres sont lus sans texte intermédiaire. Seul le nom
+ * donne lieu à une chaîne par ligne.
+ *
+ * Les employés sont créés par EmployeFactory et insérés par lots (EmployeRepository.ajouterTous),
+ * depuis le thread appelant et dans l'ordre du fichier.
+ * Une première ligne commençant par « type » est considérée comme un en-tête. Les champs peuvent
+ * être entourés de guillemets (un guillemet doublé y représente un guillemet).
+ * Une ligne invalide interrompt l'import : les lots déjà insérés le restent et leur nombre est
+ * donné par getNombreInseres. Une instance importe un fichier à la fois.
+ * Principe SRP : Responsabilité unique de transformer un fichier CSV en employés.
+ */
+public class ImportCsvEmployes {
+
+    public static final int TAILLE_LOT_PAR_DEFAUT = 10_000;
+
+    private static final long TAILLE_PORTION_MIN = 1L << 20;
+    private static final long TAILLE_PORTION_MAX = 16L << 20;
+    private static final int NOMBRE_CHAMPS = 5;
+
+    private static final byte[] DEVELOPPEUR = octets("DEVELOPPEUR");
+    private static final byte[] CHEF_DE_PROJET = octets("CHEF DE PROJET");
+    private static final byte[] STAGIAIRE = octets("STAGIAIRE");
+    private static final byte[] EN_TETE = octets("TYPE");
+
+    private static final double[] PUISSANCES_DE_DIX = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MANTISSE_EXACTE_MAX = 1L << 53;
+
+    private final EmployeRepository repository;
+    private final int tailleLot;
+    private final ForkJoinPool pool;
+    private int nombreInseres;
+
+    /**
+     * Constructeur utilisant le pool commun de la JVM.
+     * @param repository Le repository à alimenter
+     */
+    public ImportCsvEmployes(EmployeRepository repository) {
+        this(repository, TAILLE_LOT_PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur utilisant le pool commun de la JVM.
+     * @param repository Le repository à alimenter
+     * @param tailleLot Le nombre d'employés insérés par appel à ajouterTous
+     */
+    public ImportCsvEmployes(EmployeRepository repository, int tailleLot) {
+        this(repository, tailleLot, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructeur avec injection du pool de threads (permet de fixer le parallélisme ;
+     * un pool de parallélisme 1 donne un import séquentiel sur le thread appelant).
+     * @param repository Le repository à alimenter
+     * @param tailleLot Le nombre d'employés insérés par appel à ajouterTous
+     * @param pool Le pool sur lequel les portions du fichier sont analysées
+     */
+    public ImportCsvEmployes(EmployeRepository repository, int tailleLot, ForkJoinPool pool) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Le repository ne peut pas être null");
+        }
+        if (tailleLot <= 0) {
+            throw new IllegalArgumentException("La taille de lot doit être positive");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Le pool ne peut pas être null");
+        }
+        this.repository = repository;
+        this.tailleLot = tailleLot;
+        this.pool = pool;
+    }
+
+    /**
+     * Importe tous les employés d'un fichier CSV.
+     * @param fichier Le fichier à importer
+     * @return Le nombre d'employés importés
+     * @throws IllegalArgumentException Si une ligne est invalide (position et contenu dans le message)
+     */
+    public int importer(Path fichier) {
+        if (fichier == null) {
+            throw new IllegalArgumentException("Le fichier ne peut pas être null");
+        }
+        nombreInseres = 0;
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            long[] bornes = decouper(canal);
+            if (bornes.length <= 2 || pool.getParallelism() == 1) {
+                return importerSequentiellement(canal, bornes);
+            }
+            return importerEnParallele(canal, bornes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture du fichier CSV", e);
+        }
+    }
+
+    /**
+     * @return Le nombre d'employés insérés dans le repository par le dernier appel à importer,
+     *         y compris lorsqu'il a été interrompu par une ligne invalide
+     */
+    public int getNombreInseres() {
+        return nombreInseres;
+    }
+
+    /**
+     * Analyse les portions dans l'ordre sur le thread appelant ; le lot en cours est
+     * conservé d'une portion à l'autre.
+     */
+    private int importerSequentiellement(FileChannel canal, long[] bornes) throws IOException {
+        Tranche tranche = new Tranche(this::inserer);
+        for (int i = 0; i + 1 < bornes.length; i++) {
+            analyser(canal, bornes[i], bornes[i + 1], tranche);
+        }
+        tranche.vider();
+        return tranche.importes;
+    }
+
+    /**
+     * Analyse les portions sur le pool, au plus 2 × parallélisme à la fois pour borner la mémoire,
+     * et insère leurs lots depuis le thread appelant dans l'ordre du fichier : le repository n'a
+     * pas besoin d'être thread-safe et reçoit les employés dans le même ordre qu'en séquentiel.
+     */
+    private int importerEnParallele(FileChannel canal, long[] bornes) {
+        int nombrePortions = bornes.length - 1;
+        int fenetre = 2 * pool.getParallelism();
+        List<CompletableFuture<List<List<Employe>>>> portions = new ArrayList<>(nombrePortions);
+        int importes = 0;
+        try {
+            for (int i = 0; i < nombrePortions; i++) {
+                while (portions.size() < Math.min(nombrePortions, i + fenetre)) {
+                    int suivante = portions.size();
+                    portions.add(soumettre(canal, bornes[suivante], bornes[suivante + 1]));
+                }
+                for (List<Employe> lot : resultat(portions.get(i))) {
+                    inserer(lot);
+                    importes += lot.size();
+                }
+                portions.set(i, null);
+            }
+            return importes;
+        } finally {
+            for (CompletableFuture<List<List<Employe>>> portion : portions) {
+                if (portion != null) {
+                    portion.cancel(false);
+                }
+            }
+        }
+    }
+
+    private void inserer(List<Employe> lot) {
+        repository.ajouterTous(lot);
+        nombreInseres += lot.size();
+    }
+
+    private CompletableFuture<List<List<Employe>>> soumettre(FileChannel canal, long debut, long fin) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<List<Employe>> lots = new ArrayList<>();
+            Tranche tranche = new Tranche(lots::add);
+            try {
+                analyser(canal, debut, fin, tranche);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erreur lors de la lecture du fichier CSV", e);
+            }
+            tranche.vider();
+            return lots;
+        }, pool);
+    }
+
+    private static List<List<Employe>> resultat(CompletableFuture<List<List<Employe>>> portion) {
+        try {
+            return portion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void analyser(FileChannel canal, long debut, long fin, Tranche tranche) throws IOException {
+        ByteBuffer portion = canal.map(FileChannel.MapMode.READ_ONLY, debut, fin - debut);
+        tranche.analyser(portion, 0, (int) (fin - debut), debut);
+    }
+
+    /**
+     * Découpe le fichier en portions d'environ taille / (4 × parallélisme) octets, bornées
+     * entre TAILLE_PORTION_MIN et TAILLE_PORTION_MAX ; chaque borne est reportée juste après
+     * la fin de ligne suivante.
+     * @return Les positions de début de chaque portion, suivies de la taille du fichier
+     */
+    private long[] decouper(FileChannel canal) throws IOException {
+        long taille = canal.size();
+        long cible = Math.min(TAILLE_PORTION_MAX,
+                Math.max(TAILLE_PORTION_MIN, taille / (4L * pool.getParallelism())));
+        long[] bornes = new long[(int) (taille / cible) + 2];
+        int nombre = 1;
+        long debut = 0;
+        ByteBuffer lecture = ByteBuffer.allocate(8192);
+        while (debut < taille) {
+            long fin = taille - debut <= cible ? taille : apresFinDeLigne(canal, debut + cible, taille, lecture);
+            if (fin - debut > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Ligne CSV trop longue à l'octet " + debut);
+            }
+            if (nombre == bornes.length) {
+                bornes = Arrays.copyOf(bornes, nombre * 2);
+            }
+            bornes[nombre++] = fin;
+            debut = fin;
+        }
+        return Arrays.copyOf(bornes, nombre);
+    }
+
+    private static long apresFinDeLigne(FileChannel canal, long position, long taille,
+                                        ByteBuffer lecture) throws IOException {
+        long p = position - 1;
+        while (p < taille) {
+            lecture.clear();
+            int lus = canal.read(lecture, p);
+            if (lus <= 0) {
+                break;
+            }
+            for (int i = 0; i < lus; i++) {
+                if (lecture.get(i) == '\n') {
+                    return p + i + 1;
+                }
+            }
+            p += lus;
+        }
+        return taille;
+    }
+
+    private static byte[] octets(String texte) {
+        return texte.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Analyse d'une ou plusieurs portions du fichier ; conserve le lot en cours entre deux
+     * portions et remet chaque lot complet à sa destination.
+     */
+    private final class Tranche {
+
+        private final Consumer<List<Employe>> destination;
+        private List<Employe> lot = new ArrayList<>(tailleLot);
+        private final DictionnaireEquipes equipes = new DictionnaireEquipes();
+        private byte[] tamponTexte = new byte[64];
+        private int importes;
+
+        // Champ courant
+        private ByteBuffer tampon;
+        private int position;
+        private int debutChamp;
+        private int finChamp;
+        private String champCite;
+
+        Tranche(Consumer<List<Employe>> destination) {
+            this.destination = destination;
+        }
+
+        void analyser(ByteBuffer source, int debut, int fin, long decalageFichier) {
+            tampon = source;
+            int ligne = debut;
+            while (ligne < fin) {
+                int finLigne = ligne;
+                while (finLigne < fin && source.get(finLigne) != '\n') {
+                    finLigne++;
+                }
+                int finContenu = finLigne;
+                if (finContenu > ligne && source.get(finContenu - 1) == '\r') {
+                    finContenu--;
+                }
+                if (finContenu > ligne && !(decalageFichier + ligne == 0 && estEnTete(ligne, finContenu))) {
+                    analyserLigne(ligne, finContenu, decalageFichier);
+                }
+                ligne = finLigne + 1;
+            }
+        }
+
+        void vider() {
+            if (!lot.isEmpty()) {
+                destination.accept(lot);
+                importes += lot.size();
+                lot = new ArrayList<>(tailleLot);
+            }
+        }
+
+        private void analyserLigne(int debut, int fin, long decalageFichier) {
+            position = debut;
+            try {
+                champSuivant(fin);
+                String type = type();
+                champSuivant(fin);
+                String nom = texte();
+                champSuivant(fin);
+                double salaireDeBase = decimal();
+                champSuivant(fin);
+                int experience = entier();
+                champSuivant(fin);
+                String equipe = champCite != null ? champCite : equipes.texte(tampon, debutChamp, finChamp);
+                if (position <= fin) {
+                    throw new IllegalArgumentException("plus de " + NOMBRE_CHAMPS + " champs");
+                }
+                lot.add(EmployeFactory.creerEmploye(type, nom, salaireDeBase, experience, equipe));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Ligne CSV invalide à l'octet " + (decalageFichier + debut)
+                        + " (" + e.getMessage() + "): " + decoder(debut, fin - debut), e);
+            }
+            if (lot.size() == tailleLot) {
+                vider();
+            }
+        }
+
+        private boolean estEnTete(int debut, int fin) {
+            return fin - debut >= EN_TETE.length && egalSansCasse(debut, debut + EN_TETE.length, EN_TETE);
+        }
+
+        // ------------------------------------------------------------------ champs
+
+        /**
+         * Délimite le champ suivant (débutChamp/finChamp, ou champCite s'il est entre guillemets)
+         * et place la position après la virgule qui le termine (fin + 1 en fin de ligne).
+         */
+        private void champSuivant(int fin) {
+            if (position > fin) {
+                throw new IllegalArgumentException(NOMBRE_CHAMPS + " champs attendus");
+            }
+            champCite = null;
+            int p = position;
+            while (p < fin && tampon.get(p) == ' ') {
+                p++;
+            }
+            if (p < fin && tampon.get(p) == '"') {
+                p = lireChampCite(p + 1, fin);
+                while (p < fin && tampon.get(p) == ' ') {
+                    p++;
+                }
+                if (p < fin && tampon.get(p) != ',') {
+                    throw new IllegalArgumentException("caractère inattendu après un champ entre guillemets");
+                }
+            } else {
+                debutChamp = p;
+                while (p < fin && tampon.get(p) != ',') {
+                    p++;
+                }
+                finChamp = p;
+                while (finChamp > debutChamp && tampon.get(finChamp - 1) == ' ') {
+                    finChamp--;
+                }
+            }
+            position = p + 1;
+        }
+
+        private int lireChampCite(int p, int fin) {
+            int longueur = 0;
+            while (true) {
+                if (p >= fin) {
+                    throw new IllegalArgumentException("guillemet fermant manquant");
+                }
+                byte octet = tampon.get(p++);
+                if (octet == '"') {
+                    if (p < fin && tampon.get(p) == '"') {
+                        p++;
+                    } else {
+                        break;
+                    }
+                }
+                if (longueur == tamponTexte.length) {
+                    tamponTexte = Arrays.copyOf(tamponTexte, longueur * 2);
+                }
+                tamponTexte[longueur++] = octet;
+            }
+            champCite = new String(tamponTexte, 0, longueur, StandardCharsets.UTF_8);
+            return p;
+        }
+
+        private String type() {
+            if (champCite == null) {
+                if (egalSansCasse(debutChamp, finChamp, DEVELOPPEUR)) {
+                    return "DEVELOPPEUR";
+                }
+                if (egalSansCasse(debutChamp, finChamp, CHEF_DE_PROJET)) {
+                    return "CHEF DE PROJET";
+                }
+                if (egalSansCasse(debutChamp, finChamp, STAGIAIRE)) {
+                    return "STAGIAIRE";
+                }
+            }
+            return texte();
+        }
+
+        private String texte() {
+            return champCite != null ? champCite : decoder(debutChamp, finChamp - debutChamp);
+        }
+
+        private String decoder(int debut, int longueur) {
+            if (tamponTexte.length < longueur) {
+                tamponTexte = new byte[Math.max(longueur, tamponTexte.length * 2)];
+            }
+            tampon.get(debut, tamponTexte, 0, longueur);
+            return new String(tamponTexte, 0, longueur, StandardCharsets.UTF_8);
+        }
+
+        private boolean egalSansCasse(int debut, int fin, byte[] majuscules) {
+            if (fin - debut != majuscules.length) {
+                return false;
+            }
+            for (int i = 0; i < majuscules.length; i++) {
+                int octet = tampon.get(debut + i);
+                if (octet >= 'a' && octet <= 'z') {
+                    octet -= 'a' - 'A';
+                }
+                if (octet != majuscules[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // ------------------------------------------------------------------ nombres
+
+        /**
+         * Lit un décimal simple ([-]chiffres[.chiffres]) par calcul exact sur une mantisse entière ;
+         * toute autre écriture (exposant, trop de chiffres) est confiée à Double.parseDouble.
+         */
+        private double decimal() {
+            if (champCite == null && finChamp > debutChamp) {
+                int p = debutChamp;
+                boolean negatif = tampon.get(p) == '-';
+                if (negatif || tampon.get(p) == '+') {
+                    p++;
+                }
+                long mantisse = 0;
+                int decimales = -1;
+                int chiffres = 0;
+                for (; p < finChamp; p++) {
+                    byte octet = tampon.get(p);
+                    if (octet >= '0' && octet <= '9') {
+                        mantisse = mantisse * 10 + (octet - '0');
+                        chiffres++;
+                        if (decimales >= 0) {
+                            decimales++;
+                        }
+                    } else if (octet == '.' && decimales < 0) {
+                        decimales = 0;
+                    } else {
+                        break;
+                    }
+                    if (mantisse >= MANTISSE_EXACTE_MAX) {
+                        break;
+                    }
+                }
+                if (p == finChamp && chiffres > 0 && mantisse < MANTISSE_EXACTE_MAX
+                        && decimales < PUISSANCES_DE_DIX.length) {
+                    double valeur = decimales > 0 ? mantisse / PUISSANCES_DE_DIX[decimales] : mantisse;
+                    return negatif ? -valeur : valeur;
+                }
+            }
+            try {
+                return Double.parseDouble(texte().trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("salaire de base invalide");
+            }
+        }
+
+        private int entier() {
+            if (champCite == null && finChamp > debutChamp) {
+                int p = debutChamp;
+                boolean negatif = tampon.get(p) == '-';
+                if (negatif || tampon.get(p) == '+') {
+                    p++;
+                }
+                long valeur = 0;
+                boolean chiffres = false;
+                for (; p < finChamp && valeur <= Integer.MAX_VALUE; p++) {
+                    byte octet = tampon.get(p);
+                    if (octet < '0' || octet > '9') {
+                        break;
+                    }
+                    valeur = valeur * 10 + (octet - '0');
+                    chiffres = true;
+                }
+                if (p == finChamp && chiffres && valeur <= Integer.MAX_VALUE) {
+                    return (int) (negatif ? -valeur : valeur);
+                }
+            }
+            try {
+                return Integer.parseInt(texte().trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("expérience invalide");
+            }
+        }
+    }
+
+    /**
+     * Dictionnaire des équipes indexé par les octets du champ : une équipe déjà rencontrée
+     * est retrouvée sans créer de chaîne. Au-delà de CAPACITE équipes distinctes, les
+     * nouvelles équipes sont décodées à chaque ligne.
+     */
+    private static final class DictionnaireEquipes {
+
+        private static final int CAPACITE = 4096;
+
+        private final byte[][] cles = new byte[2 * CAPACITE][];
+        private final String[] valeurs = new String[2 * CAPACITE];
+        private int taille;
+
+        String texte(ByteBuffer tampon, int debut, int fin) {
+            int masque = cles.length - 1;
+            int hachage = 1;
+            for (int i = debut; i < fin; i++) {
+                hachage = 31 * hachage + tampon.get(i);
+            }
+            int i = (hachage ^ (hachage >>> 16)) & masque;
+            for (; cles[i] != null; i = (i + 1) & masque) {
+                if (egal(cles[i], tampon, debut, fin)) {
+                    return valeurs[i];
+                }
+            }
+            byte[] octets = new byte[fin - debut];
+            tampon.get(debut, octets);
+            String texte = new String(octets, StandardCharsets.UTF_8);
+            if (taille < CAPACITE) {
+                cles[i] = octets;
+                valeurs[i] = texte;
+                taille++;
+            }
+            return texte;
+        }
+
+        private static boolean egal(byte[] cle, ByteBuffer tampon, int debut, int fin) {
+            if (cle.length != fin - debut) {
+                return false;
+            }
+            for (int i = 0; i < cle.length; i++) {
+                if (cle[i] != tampon.get(debut + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Employe;
+
+import java.util.Arrays;
+
+/**
+ * Les N meilleurs salaires vus jusqu'ici, dans un tas binaire minimum borné à N entrées :
+ * la racine est le plus petit salaire retenu, si bien qu'un salaire inférieur ou égal est
+ * écarté en O(1) et qu'une insertion coûte O(log N). La mémoire ne dépend que de N.
+ * Deux instances se fusionnent en proposant les entrées de l'une à l'autre.
+ * Non thread-safe : chaque partition utilise sa propre instance.
+ */
+final class MeilleursSalaires {
+
+    private final int capacite;
+    private double[] salaires;
+    private Employe[] employes;
+    private int taille;
+
+    /**
+     * @param capacite Le nombre N de salaires à retenir
+     */
+    MeilleursSalaires(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("Le nombre de salaires retenus doit être positif");
+        }
+        this.capacite = capacite;
+        this.salaires = new double[Math.min(capacite, 16)];
+        this.employes = new Employe[salaires.length];
+    }
+
+    /**
+     * Propose un employé et son salaire.
+     * @param employe L'employé
+     * @param salaire Son salaire calculé
+     */
+    void proposer(Employe employe, double salaire) {
+        if (taille < capacite) {
+            if (taille == salaires.length) {
+                agrandir();
+            }
+            salaires[taille] = salaire;
+            employes[taille] = employe;
+            remonter(taille++);
+        } else if (salaire > salaires[0]) {
+            salaires[0] = salaire;
+            employes[0] = employe;
+            descendre(0);
+        }
+    }
+
+    /**
+     * Ajoute les entrées d'une autre instance.
+     * @param autre L'instance à fusionner
+     */
+    void fusionner(MeilleursSalaires autre) {
+        for (int i = 0; i < autre.taille; i++) {
+            proposer(autre.employes[i], autre.salaires[i]);
+        }
+    }
+
+    int taille() {
+        return taille;
+    }
+
+    /**
+     * Vide le tas dans les tableaux fournis, du meilleur salaire au moins bon.
+     * Le tas est vide après l'appel.
+     * @param employesTries Reçoit les employés (au moins taille() cases)
+     * @param salairesTries Reçoit les salaires correspondants
+     */
+    void extraireDecroissant(Employe[] employesTries, double[] salairesTries) {
+        for (int i = taille - 1; i >= 0; i--) {
+            employesTries[i] = employes[0];
+            salairesTries[i] = salaires[0];
+            taille--;
+            salaires[0] = salaires[taille];
+            employes[0] = employes[taille];
+            employes[taille] = null;
+            descendre(0);
+        }
+    }
+
+    private void agrandir() {
+        int nouvelleLongueur = (int) Math.min(capacite, 2L * salaires.length);
+        salaires = Arrays.copyOf(salaires, nouvelleLongueur);
+        employes = Arrays.copyOf(employes, nouvelleLongueur);
+    }
+
+    private void remonter(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (salaires[parent] <= salaires[i]) {
+                return;
+            }
+            echanger(i, parent);
+            i = parent;
+        }
+    }
+
+    private void descendre(int i) {
+        while (true) {
+            int gauche = 2 * i + 1;
+            if (gauche >= taille) {
+                return;
+            }
+            int plusPetit = gauche + 1 < taille && salaires[gauche + 1] < salaires[gauche] ? gauche + 1 : gauche;
+            if (salaires[i] <= salaires[plusPetit]) {
+                return;
+            }
+            echanger(i, plusPetit);
+            i = plusPetit;
+        }
+    }
+
+    private void echanger(int i, int j) {
+        double salaire = salaires[i];
+        salaires[i] = salaires[j];
+        salaires[j] = salaire;
+        Employe employe = employes[i];
+        employes[i] = employes[j];
+        employes[j] = employe;
+    }
+}
@@ -0,0 +1,173 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.BilanPaie;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
+import org.iut.refactoring.model.TotauxPaie;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.iut.refactoring.service.MoteurPaie;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Moteur de paie parallèle basé sur un ForkJoinPool.
+ * La population est découpée en blocs de taille fixe, calculés en parallèle via
+ * CalculateurSalaire.calculerSalaires, puis les sommes partielles (Kahan) de chaque
+ * bloc sont combinées séquentiellement dans l'ordre des blocs. Le découpage et l'ordre
+ * de combinaison ne dépendant pas du nombre de threads, les totaux sont identiques
+ * au bit près quel que soit le niveau de parallélisme.
+ * Le calculateur est figé (CalculateurSalaire.figer) au début de chaque calcul : tous les blocs
+ * appliquent la même version des règles, même si elles sont rechargées pendant le calcul.
+ * Principe SRP : Coordonne le calcul parallèle, délègue le calcul unitaire au CalculateurSalaire.
+ * Principe DIP : Dépend des abstractions EmployeRepository et CalculateurSalaire.
+ */
+public class MoteurPaieParallele implements MoteurPaie {
+
+    static final int TAILLE_BLOC = 4096;
+
+    /** Ordre des équipes dans le bilan ; un employé sans équipe (null) est accepté. */
+    private static final Comparator<String> ORDRE_EQUIPES = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final EmployeRepository employeRepository;
+    private final CalculateurSalaire calculateurSalaire;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructeur utilisant le pool commun de la JVM.
+     * @param employeRepository Le repository des employés
+     * @param calculateurSalaire Le calculateur de salaire
+     */
+    public MoteurPaieParallele(EmployeRepository employeRepository, CalculateurSalaire calculateurSalaire) {
+        this(employeRepository, calculateurSalaire, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructeur avec injection du pool de threads (permet de fixer le parallélisme).
+     * @param employeRepository Le repository des employés
+     * @param calculateurSalaire Le calculateur de salaire
+     * @param pool Le pool fork/join à utiliser
+     */
+    public MoteurPaieParallele(EmployeRepository employeRepository, CalculateurSalaire calculateurSalaire,
+                               ForkJoinPool pool) {
+        this.employeRepository = employeRepository;
+        this.calculateurSalaire = calculateurSalaire;
+        this.pool = pool;
+    }
+
+    @Override
+    public BilanPaie calculerPaie() {
+        return calculerPaie(employeRepository.trouverTous());
+    }
+
+    @Override
+    public BilanPaie calculerPaie(List<Employe> employes) {
+        int nombreBlocs = (employes.size() + TAILLE_BLOC - 1) / TAILLE_BLOC;
+        PartielBloc[] partiels = new PartielBloc[nombreBlocs];
+        if (nombreBlocs > 0) {
+            pool.invoke(new TacheBlocs(calculateurSalaire.figer(), employes, partiels, 0, nombreBlocs));
+        }
+
+        // Combinaison séquentielle, toujours dans l'ordre des blocs
+        SommePartielle global = new SommePartielle();
+        Map<String, SommePartielle> parEquipe = new TreeMap<>(ORDRE_EQUIPES);
+        for (PartielBloc partiel : partiels) {
+            global.ajouter(partiel.global);
+            partiel.parEquipe.forEach((equipe, somme) ->
+                    parEquipe.computeIfAbsent(equipe, e -> new SommePartielle()).ajouter(somme));
+        }
+
+        Map<String, TotauxPaie> totauxParEquipe = new TreeMap<>(ORDRE_EQUIPES);
+        parEquipe.forEach((equipe, somme) -> totauxParEquipe.put(equipe, somme.versTotaux()));
+        return new BilanPaie(global.versTotaux(), totauxParEquipe);
+    }
+
+    private static PartielBloc calculerBloc(CalculateurSalaire calculateur, List<Employe> employes, int bloc) {
+        int debut = bloc * TAILLE_BLOC;
+        int fin = Math.min(debut + TAILLE_BLOC, employes.size());
+        List<Employe> sousListe = employes.subList(debut, fin);
+        ResultatPaie resultat = calculateur.calculerSalaires(sousListe);
+
+        PartielBloc partiel = new PartielBloc();
+        for (int i = 0; i < resultat.taille(); i++) {
+            double salaire = resultat.getSalaire(i);
+            double bonus = resultat.getBonus(i);
+            partiel.global.ajouter(salaire, bonus);
+            partiel.parEquipe.computeIfAbsent(sousListe.get(i).getEquipe(), e -> new SommePartielle())
+                    .ajouter(salaire, bonus);
+        }
+        return partiel;
+    }
+
+    /**
+     * Tâche fork/join découpant récursivement l'intervalle de blocs [debut, fin).
+     */
+    private static final class TacheBlocs extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CalculateurSalaire calculateur;
+        private final List<Employe> employes;
+        private final PartielBloc[] partiels;
+        private final int debut;
+        private final int fin;
+
+        TacheBlocs(CalculateurSalaire calculateur, List<Employe> employes, PartielBloc[] partiels,
+                   int debut, int fin) {
+            this.calculateur = calculateur;
+            this.employes = employes;
+            this.partiels = partiels;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - debut == 1) {
+                partiels[debut] = calculerBloc(calculateur, employes, debut);
+                return;
+            }
+            int milieu = (debut + fin) >>> 1;
+            invokeAll(new TacheBlocs(calculateur, employes, partiels, debut, milieu),
+                    new TacheBlocs(calculateur, employes, partiels, milieu, fin));
+        }
+    }
+
+    /**
+     * Sommes partielles d'un bloc : globales et par équipe.
+     */
+    private static final class PartielBloc {
+        private final SommePartielle global = new SommePartielle();
+        private final Map<String, SommePartielle> parEquipe = new HashMap<>();
+    }
+
+    /**
+     * Effectif et sommes compensées des salaires et bonus.
+     */
+    private static final class SommePartielle {
+        private long effectif;
+        private final SommeKahan salaires = new SommeKahan();
+        private final SommeKahan bonus = new SommeKahan();
+
+        void ajouter(double salaire, double montantBonus) {
+            effectif++;
+            salaires.ajouter(salaire);
+            bonus.ajouter(montantBonus);
+        }
+
+        void ajouter(SommePartielle autre) {
+            effectif += autre.effectif;
+            salaires.ajouter(autre.salaires);
+            bonus.ajouter(autre.bonus);
+        }
+
+        TotauxPaie versTotaux() {
+            return new TotauxPaie(effectif, salaires.valeur(), bonus.valeur());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.service.StrategieSalaire;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registre versionné des stratégies de salaire, en copie sur écriture : chaque modification
+ * publie atomiquement une nouvelle VersionStrategies immuable, et les versions déjà obtenues
+ * restent utilisables telles quelles. Un traitement par lot lit la version courante une fois
+ * et s'y tient jusqu'à la fin, pendant que les nouvelles demandes voient la nouvelle version ;
+ * la lecture ne prend aucun verrou.
+ * Principe SRP : Responsabilité unique de publier les versions des stratégies.
+ */
+public class RegistreStrategies {
+
+    private final AtomicReference<VersionStrategies> courante;
+
+    /**
+     * @param strategies Les stratégies de la première version
+     */
+    public RegistreStrategies(List<StrategieSalaire> strategies) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("La liste des stratégies ne peut pas être null");
+        }
+        this.courante = new AtomicReference<>(new VersionStrategies(1, strategies));
+    }
+
+    /**
+     * @return La version courante
+     */
+    public VersionStrategies versionCourante() {
+        return courante.get();
+    }
+
+    /**
+     * Remplace toutes les stratégies (par exemple après un rechargement des règles).
+     * @param strategies Les stratégies de la nouvelle version
+     * @return La version publiée
+     */
+    public VersionStrategies publier(List<StrategieSalaire> strategies) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("La liste des stratégies ne peut pas être null");
+        }
+        List<StrategieSalaire> copie = new ArrayList<>(strategies);
+        return courante.updateAndGet(version -> new VersionStrategies(version.getNumero() + 1, copie));
+    }
+
+    /**
+     * Ajoute une stratégie, consultée après les stratégies existantes.
+     * @param strategie La stratégie à ajouter
+     * @return La version publiée
+     */
+    public VersionStrategies enregistrer(StrategieSalaire strategie) {
+        if (strategie == null) {
+            throw new IllegalArgumentException("La stratégie ne peut pas être null");
+        }
+        return courante.updateAndGet(version -> {
+            List<StrategieSalaire> strategies = new ArrayList<>(version.getStrategies());
+            strategies.add(strategie);
+            return new VersionStrategies(version.getNumero() + 1, strategies);
+        });
+    }
+}
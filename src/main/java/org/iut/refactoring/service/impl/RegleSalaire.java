@@ -0,0 +1,80 @@
+package org.iut.refactoring.service.impl;
+
+/**
+ * Une ligne d'une TableReglesSalaire : valeur = valeur × multiplicateur + ajout, appliquée
+ * sans condition ou seulement si l'expérience de l'employé est strictement supérieure à un seuil.
+ * Principe SRP : Responsabilité unique de décrire une étape de calcul.
+ */
+public final class RegleSalaire {
+
+    private final Integer experienceSuperieureA;
+    private final double multiplicateur;
+    private final double ajout;
+
+    /**
+     * @param experienceSuperieureA Le seuil d'expérience (strict), ou null pour une règle inconditionnelle
+     * @param multiplicateur Le facteur appliqué à la valeur courante
+     * @param ajout Le montant ajouté après multiplication
+     */
+    public RegleSalaire(Integer experienceSuperieureA, double multiplicateur, double ajout) {
+        if (!Double.isFinite(multiplicateur) || !Double.isFinite(ajout)) {
+            throw new IllegalArgumentException("Le multiplicateur et l'ajout doivent être finis");
+        }
+        this.experienceSuperieureA = experienceSuperieureA;
+        this.multiplicateur = multiplicateur;
+        this.ajout = ajout;
+    }
+
+    /**
+     * Applique la règle (forme interprétée, référence de la forme compilée).
+     * @param valeur La valeur courante
+     * @param experience L'expérience de l'employé
+     * @return La nouvelle valeur
+     */
+    public double appliquer(double valeur, int experience) {
+        if (!sApplique(experience)) {
+            return valeur;
+        }
+        double resultat = valeur;
+        if (multiplicateur != 1.0) {
+            resultat *= multiplicateur;
+        }
+        if (ajout != 0.0) {
+            resultat += ajout;
+        }
+        return resultat;
+    }
+
+    /**
+     * @param experience L'expérience de l'employé
+     * @return true si la règle s'applique à cette expérience
+     */
+    public boolean sApplique(int experience) {
+        return experienceSuperieureA == null || experience > experienceSuperieureA;
+    }
+
+    public boolean estConditionnelle() {
+        return experienceSuperieureA != null;
+    }
+
+    /**
+     * @return Le seuil d'expérience (strict), ou null pour une règle inconditionnelle
+     */
+    public Integer getExperienceSuperieureA() {
+        return experienceSuperieureA;
+    }
+
+    public double getMultiplicateur() {
+        return multiplicateur;
+    }
+
+    public double getAjout() {
+        return ajout;
+    }
+
+    @Override
+    public String toString() {
+        return (experienceSuperieureA == null ? "" : "si experience > " + experienceSuperieureA + " : ")
+                + "× " + multiplicateur + " + " + ajout;
+    }
+}
@@ -2,11 +2,15 @@ package org.iut.refactoring.service.impl;
 
 import org.iut.refactoring.factory.EmployeFactory;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
 import org.iut.refactoring.repository.EmployeRepository;
 import org.iut.refactoring.service.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * Implémentation du service de gestion du personnel.
  * Principe SRP : Coordonne les services mais ne fait pas le travail lui-même.
@@ -17,11 +21,14 @@ public class ServiceGestionPersonnelImpl implements ServiceGestionPersonnel {
     
     private static final Logger logger = LoggerFactory.getLogger(ServiceGestionPersonnelImpl.class);
     private static final String ERREUR_EMPLOYE_INTROUVABLE = "ERREUR: impossible de trouver l'employé avec l'ID: ";
+    /** Nombre de salaires retenus par équipe dans le rapport TOP. */
+    static final int NOMBRE_MEILLEURS_SALAIRES = 100;
 
     private final EmployeRepository employeRepository;
     private final CalculateurSalaire calculateurSalaire;
     private final ServiceRapport serviceRapport;
     private final ServiceLog serviceLog;
+    private final AgregateurEquipes agregateurEquipes;
     
     /**
      * Constructeur avec injection de dépendances (DIP).
@@ -34,10 +41,29 @@ public class ServiceGestionPersonnelImpl implements ServiceGestionPersonnel {
                                        CalculateurSalaire calculateurSalaire,
                                        ServiceRapport serviceRapport,
                                        ServiceLog serviceLog) {
+        this(employeRepository, calculateurSalaire, serviceRapport, serviceLog, null);
+    }
+
+    /**
+     * Constructeur avec agrégats par équipe maintenus au fil de l'eau.
+     * L'agrégateur doit être enregistré comme écouteur du repository (EmployeRepositoryObservable) ;
+     * le rapport DIVISION et les statistiques d'équipe sont alors servis en O(nombre d'équipes).
+     * @param employeRepository Le repository des employés
+     * @param calculateurSalaire Le calculateur de salaire
+     * @param serviceRapport Le service de rapports
+     * @param serviceLog Le service de logs
+     * @param agregateurEquipes Les agrégats par équipe (null pour recalculer à chaque demande)
+     */
+    public ServiceGestionPersonnelImpl(EmployeRepository employeRepository,
+                                       CalculateurSalaire calculateurSalaire,
+                                       ServiceRapport serviceRapport,
+                                       ServiceLog serviceLog,
+                                       AgregateurEquipes agregateurEquipes) {
         this.employeRepository = employeRepository;
         this.calculateurSalaire = calculateurSalaire;
         this.serviceRapport = serviceRapport;
         this.serviceLog = serviceLog;
+        this.agregateurEquipes = agregateurEquipes;
     }
 
     @Override
@@ -49,6 +75,24 @@ public class ServiceGestionPersonnelImpl implements ServiceGestionPersonnel {
         return employe;
     }
 
+    @Override
+    public int importerEmployes(Path fichier) {
+        ImportCsvEmployes importCsv = new ImportCsvEmployes(employeRepository);
+        int importes;
+        try {
+            importes = importCsv.importer(fichier);
+        } catch (RuntimeException e) {
+            // Les lots déjà insérés restent dans le repository : ils doivent figurer dans les logs
+            serviceLog.enregistrer(TypeEvenement.AJOUT, null, "Import interrompu après "
+                    + importCsv.getNombreInseres() + " employés depuis " + fichier.getFileName()
+                    + ": " + e.getMessage());
+            throw e;
+        }
+        serviceLog.enregistrer(TypeEvenement.AJOUT, null,
+                "Import de " + importes + " employés depuis " + fichier.getFileName());
+        return importes;
+    }
+
     @Override
     public double calculerSalaire(String employeId) {
         Employe employe = employeRepository.trouverParId(employeId)
@@ -65,48 +109,90 @@ public class ServiceGestionPersonnelImpl implements ServiceGestionPersonnel {
 
     @Override
     public void genererRapport(String typeRapport, String filtre) {
+        produireRapport(serviceRapport, typeRapport, filtre);
+        serviceLog.enregistrer("Rapport généré: " + typeRapport);
+    }
+
+    @Override
+    public Path exporterRapport(String typeRapport, String filtre, Path repertoire, FormatExport format,
+                                boolean compresse) {
+        // Une seule version des règles pour tout le fichier
+        ServiceRapportFichier rapportFichier = new ServiceRapportFichier(calculateurSalaire.figer(), repertoire, format,
+                compresse);
+        produireRapport(rapportFichier, typeRapport, filtre);
+        Path fichier = rapportFichier.fichier(typeRapport);
+        serviceLog.enregistrer(TypeEvenement.RAPPORT, null, "Rapport exporté: " + typeRapport + " vers " + fichier);
+        return fichier;
+    }
+
+    private void produireRapport(ServiceRapport rapport, String typeRapport, String filtre) {
         if (typeRapport == null) {
             throw new IllegalArgumentException("Le type de rapport ne peut pas être null");
         }
 
         switch (typeRapport.toUpperCase()) {
             case "SALAIRE":
-                serviceRapport.genererRapportSalaires(employeRepository.trouverTous(), filtre);
+                rapport.genererRapportSalaires(employeRepository.trouverTous(), filtre);
                 break;
             case "EXPERIENCE":
-                serviceRapport.genererRapportExperience(employeRepository.trouverTous(), filtre);
+                rapport.genererRapportExperience(employeRepository.trouverTous(), filtre);
                 break;
             case "DIVISION":
-                serviceRapport.genererRapportDivision(employeRepository.trouverTous());
+                if (agregateurEquipes != null) {
+                    rapport.genererRapportDivisionAgrege(agregateurEquipes.instantane());
+                } else {
+                    rapport.genererRapportDivision(employeRepository.trouverTous());
+                }
+                break;
+            case "TOP":
+                rapport.genererRapportMeilleursSalaires(employeRepository.trouverTous(), filtre,
+                        NOMBRE_MEILLEURS_SALAIRES);
+                break;
+            case "QUANTILES":
+                rapport.genererRapportQuantilesSalaires(employeRepository.trouverTous(), filtre);
                 break;
             default:
                 throw new IllegalArgumentException("Type de rapport non reconnu: " + typeRapport);
         }
-
-        serviceLog.enregistrer("Rapport généré: " + typeRapport);
     }
 
+    /**
+     * Remplace l'employé par une version du nouveau type portant le même identifiant.
+     * Le remplacement est une comparaison-échange dans le repository : l'employé n'est
+     * jamais absent pour les lectures concurrentes, et si une autre écriture l'a modifié
+     * entre la lecture et l'échange, la promotion est rejouée sur la version courante.
+     */
     @Override
     public void promouvoirEmploye(String employeId, String nouveauType) {
-        Employe ancienEmploye = employeRepository.trouverParId(employeId)
-                .orElseThrow(() -> new IllegalArgumentException(ERREUR_EMPLOYE_INTROUVABLE + employeId));
-
-        // Supprimer l'ancien employé et créer un nouveau avec le nouveau type
-        employeRepository.supprimer(employeId);
-
-        Employe nouvelEmploye = EmployeFactory.creerEmploye(
-                nouveauType,
-                ancienEmploye.getNom(),
-                ancienEmploye.getSalaireDeBase(),
-                ancienEmploye.getExperience(),
-                ancienEmploye.getEquipe()
-        );
+        Employe ancienEmploye;
+        Employe nouvelEmploye;
+        do {
+            ancienEmploye = employeRepository.trouverParId(employeId)
+                    .orElseThrow(() -> new IllegalArgumentException(ERREUR_EMPLOYE_INTROUVABLE + employeId));
+            nouvelEmploye = EmployeFactory.creerEmploye(
+                    ancienEmploye.getId(),
+                    nouveauType,
+                    ancienEmploye.getNom(),
+                    ancienEmploye.getSalaireDeBase(),
+                    ancienEmploye.getExperience(),
+                    ancienEmploye.getEquipe()
+            );
+        } while (!employeRepository.remplacer(ancienEmploye, nouvelEmploye));
 
-        employeRepository.ajouter(nouvelEmploye);
         serviceLog.enregistrer("Employé promu: " + ancienEmploye.getNom());
         logger.info("Employé promu avec succès!");
     }
 
+    @Override
+    public List<StatistiquesEquipe> obtenirStatistiquesEquipes() {
+        if (agregateurEquipes != null) {
+            return agregateurEquipes.instantane();
+        }
+        AgregateurEquipes calculPonctuel = new AgregateurEquipes(calculateurSalaire);
+        calculPonctuel.reinitialiser(employeRepository.trouverTous());
+        return calculPonctuel.instantane();
+    }
+
     @Override
     public void afficherLogs() {
         serviceLog.afficherLogs();
@@ -0,0 +1,137 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.metrique.MetriqueOperation;
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.service.FormatExport;
+import org.iut.refactoring.service.ServiceGestionPersonnel;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Décorateur de ServiceGestionPersonnel mesurant la durée et les erreurs de chaque opération
+ * dans un RegistreMetriques (opérations préfixées par « service. »).
+ * Un ajout réussi est mesuré par type d'employé et un rapport réussi par type de rapport ;
+ * un appel en erreur est compté sans type, pour qu'une saisie invalide ne crée pas de série.
+ * Principe SRP : Responsabilité unique de mesurer ; la gestion reste déléguée.
+ * Principe OCP : Ajoute l'instrumentation sans modifier ServiceGestionPersonnelImpl.
+ */
+public class ServiceGestionPersonnelInstrumente implements ServiceGestionPersonnel {
+
+    static final String AJOUTER_EMPLOYE = "service.ajouterEmploye";
+    static final String IMPORTER_EMPLOYES = "service.importerEmployes";
+    static final String CALCULER_SALAIRE = "service.calculerSalaire";
+    static final String CALCULER_BONUS_ANNUEL = "service.calculerBonusAnnuel";
+    static final String GENERER_RAPPORT = "service.genererRapport";
+    static final String EXPORTER_RAPPORT = "service.exporterRapport";
+    static final String PROMOUVOIR_EMPLOYE = "service.promouvoirEmploye";
+    static final String OBTENIR_STATISTIQUES_EQUIPES = "service.obtenirStatistiquesEquipes";
+    static final String AFFICHER_LOGS = "service.afficherLogs";
+
+    private final ServiceGestionPersonnel delegue;
+    private final RegistreMetriques registre;
+    private final MetriqueOperation ajoutsEnErreur;
+    private final MetriqueOperation imports;
+    private final MetriqueOperation calculsSalaire;
+    private final MetriqueOperation calculsBonus;
+    private final MetriqueOperation rapportsEnErreur;
+    private final MetriqueOperation exportsEnErreur;
+    private final MetriqueOperation promotions;
+    private final MetriqueOperation statistiques;
+    private final MetriqueOperation affichagesLogs;
+
+    /**
+     * @param delegue Le service mesuré
+     * @param registre Le registre recevant les mesures
+     */
+    public ServiceGestionPersonnelInstrumente(ServiceGestionPersonnel delegue, RegistreMetriques registre) {
+        if (delegue == null || registre == null) {
+            throw new IllegalArgumentException("Le service et le registre ne peuvent pas être null");
+        }
+        this.delegue = delegue;
+        this.registre = registre;
+        this.ajoutsEnErreur = registre.metrique(AJOUTER_EMPLOYE);
+        this.imports = registre.metrique(IMPORTER_EMPLOYES);
+        this.calculsSalaire = registre.metrique(CALCULER_SALAIRE);
+        this.calculsBonus = registre.metrique(CALCULER_BONUS_ANNUEL);
+        this.rapportsEnErreur = registre.metrique(GENERER_RAPPORT);
+        this.exportsEnErreur = registre.metrique(EXPORTER_RAPPORT);
+        this.promotions = registre.metrique(PROMOUVOIR_EMPLOYE);
+        this.statistiques = registre.metrique(OBTENIR_STATISTIQUES_EQUIPES);
+        this.affichagesLogs = registre.metrique(AFFICHER_LOGS);
+    }
+
+    @Override
+    public Employe ajouterEmploye(String type, String nom, double salaireDeBase, int experience, String equipe) {
+        long debut = System.nanoTime();
+        Employe employe;
+        try {
+            employe = delegue.ajouterEmploye(type, nom, salaireDeBase, experience, equipe);
+        } catch (RuntimeException e) {
+            ajoutsEnErreur.enregistrerErreur(debut);
+            throw e;
+        }
+        registre.metrique(AJOUTER_EMPLOYE, CalculateurSalaireInstrumente.typeDe(employe)).enregistrer(debut);
+        return employe;
+    }
+
+    @Override
+    public int importerEmployes(Path fichier) {
+        return imports.mesurer(() -> delegue.importerEmployes(fichier));
+    }
+
+    @Override
+    public double calculerSalaire(String employeId) {
+        return calculsSalaire.mesurer(() -> delegue.calculerSalaire(employeId));
+    }
+
+    @Override
+    public double calculerBonusAnnuel(String employeId) {
+        return calculsBonus.mesurer(() -> delegue.calculerBonusAnnuel(employeId));
+    }
+
+    @Override
+    public void genererRapport(String typeRapport, String filtre) {
+        long debut = System.nanoTime();
+        try {
+            delegue.genererRapport(typeRapport, filtre);
+        } catch (RuntimeException e) {
+            rapportsEnErreur.enregistrerErreur(debut);
+            throw e;
+        }
+        registre.metrique(GENERER_RAPPORT, typeRapport.toUpperCase(Locale.ROOT)).enregistrer(debut);
+    }
+
+    @Override
+    public Path exporterRapport(String typeRapport, String filtre, Path repertoire, FormatExport format,
+                                boolean compresse) {
+        long debut = System.nanoTime();
+        Path fichier;
+        try {
+            fichier = delegue.exporterRapport(typeRapport, filtre, repertoire, format, compresse);
+        } catch (RuntimeException e) {
+            exportsEnErreur.enregistrerErreur(debut);
+            throw e;
+        }
+        registre.metrique(EXPORTER_RAPPORT, typeRapport.toUpperCase(Locale.ROOT)).enregistrer(debut);
+        return fichier;
+    }
+
+    @Override
+    public void promouvoirEmploye(String employeId, String nouveauType) {
+        promotions.mesurer(() -> delegue.promouvoirEmploye(employeId, nouveauType));
+    }
+
+    @Override
+    public List<StatistiquesEquipe> obtenirStatistiquesEquipes() {
+        return statistiques.mesurer(delegue::obtenirStatistiquesEquipes);
+    }
+
+    @Override
+    public void afficherLogs() {
+        affichagesLogs.mesurer(delegue::afficherLogs);
+    }
+}
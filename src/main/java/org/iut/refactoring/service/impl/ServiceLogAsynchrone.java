@@ -0,0 +1,275 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.service.ServiceLog;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Implémentation asynchrone et bornée du service de logs.
+ * Les producteurs déposent (horodatage brut, message) dans un tampon circulaire pré-alloué,
+ * sans verrou ni allocation ; un unique thread consommateur transfère ensuite les entrées
+ * dans un historique lui aussi borné (les entrées les plus anciennes sont écrasées).
+ * La mise en forme des dates est différée jusqu'à obtenirLogs / afficherLogs.
+ * Inactif, le consommateur dort sans délai : le producteur qui dépose une entrée le réveille.
+ * Quand le tampon est plein, la politique choisie rejette l'entrée ou bloque le producteur ;
+ * un producteur bloqué échoue si le service est arrêté pendant son attente.
+ * Les producteurs en cours sont comptés : le consommateur ne s'arrête qu'une fois le dernier
+ * d'entre eux sorti, si bien qu'une entrée acceptée par enregistrer est toujours archivée.
+ * Principe SRP : Responsabilité unique de gérer les logs.
+ * Principe LSP : Substituable à ServiceLogImpl partout où ServiceLog est attendu.
+ */
+public class ServiceLogAsynchrone implements ServiceLog, AutoCloseable {
+
+    /**
+     * Comportement d'enregistrer lorsque le tampon circulaire est plein.
+     */
+    public enum PolitiqueSaturation {
+        /** L'entrée est abandonnée et comptabilisée dans getNombreRejetes. */
+        REJETER,
+        /** Le producteur attend qu'une case se libère. */
+        BLOQUER
+    }
+
+    public static final int CAPACITE_TAMPON_PAR_DEFAUT = 8192;
+    public static final int CAPACITE_HISTORIQUE_PAR_DEFAUT = 100_000;
+
+    private static final long PAUSE_NANOS = 50_000;
+    private static final int ESSAIS_AVANT_SOMMEIL = 1000;
+    private static final DateTimeFormatter FORMAT_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Tampon circulaire multi-producteurs / mono-consommateur (file bornée de Vyukov)
+    private final int masque;
+    private final AtomicLongArray sequences;
+    private final long[] horodatages;
+    private final String[] messages;
+    private final AtomicLong positionEcriture;
+    private long positionLecture;
+    private volatile long positionTraitee;
+
+    // Historique borné, alimenté par le consommateur
+    private final long[] historiqueHorodatages;
+    private final String[] historiqueMessages;
+    private long tailleHistorique;
+
+    private final PolitiqueSaturation politique;
+    private final AtomicLong rejetes;
+    private final AtomicInteger producteursEnCours;
+    private final Thread consommateur;
+    private volatile boolean actif;
+    private volatile boolean consommateurEnAttente;
+
+    public ServiceLogAsynchrone() {
+        this(CAPACITE_TAMPON_PAR_DEFAUT, CAPACITE_HISTORIQUE_PAR_DEFAUT, PolitiqueSaturation.BLOQUER);
+    }
+
+    /**
+     * @param capaciteTampon Taille du tampon circulaire (arrondie à la puissance de deux supérieure)
+     * @param capaciteHistorique Nombre maximal d'entrées conservées
+     * @param politique Comportement lorsque le tampon est plein
+     */
+    public ServiceLogAsynchrone(int capaciteTampon, int capaciteHistorique, PolitiqueSaturation politique) {
+        this(capaciteTampon, capaciteHistorique, politique, true);
+    }
+
+    /**
+     * Constructeur permettant de différer le démarrage du consommateur (utile pour les tests).
+     */
+    ServiceLogAsynchrone(int capaciteTampon, int capaciteHistorique, PolitiqueSaturation politique,
+                         boolean demarrer) {
+        if (capaciteTampon <= 0 || capaciteHistorique <= 0) {
+            throw new IllegalArgumentException("Les capacités doivent être strictement positives");
+        }
+        if (politique == null) {
+            throw new IllegalArgumentException("La politique de saturation ne peut pas être null");
+        }
+        int capacite = Integer.highestOneBit(capaciteTampon);
+        if (capacite < capaciteTampon) {
+            capacite <<= 1;
+        }
+        this.masque = capacite - 1;
+        this.sequences = new AtomicLongArray(capacite);
+        for (int i = 0; i < capacite; i++) {
+            sequences.set(i, i);
+        }
+        this.horodatages = new long[capacite];
+        this.messages = new String[capacite];
+        this.positionEcriture = new AtomicLong();
+        this.historiqueHorodatages = new long[capaciteHistorique];
+        this.historiqueMessages = new String[capaciteHistorique];
+        this.politique = politique;
+        this.rejetes = new AtomicLong();
+        this.producteursEnCours = new AtomicInteger();
+        this.actif = true;
+        this.consommateur = new Thread(this::consommer, "service-log-asynchrone");
+        this.consommateur.setDaemon(true);
+        if (demarrer) {
+            demarrer();
+        }
+    }
+
+    void demarrer() {
+        consommateur.start();
+    }
+
+    @Override
+    public void enregistrer(String message) {
+        // Compté avant de lire actif : si close() n'est pas encore visible ici, le consommateur
+        // verra ce producteur et attendra sa sortie avant de s'arrêter
+        producteursEnCours.incrementAndGet();
+        try {
+            if (!actif) {
+                throw new IllegalStateException("Le service de logs est arrêté");
+            }
+            deposer(message);
+        } finally {
+            producteursEnCours.decrementAndGet();
+        }
+    }
+
+    private void deposer(String message) {
+        long horodatage = System.currentTimeMillis();
+        long position = positionEcriture.get();
+        int index;
+        while (true) {
+            index = (int) (position & masque);
+            long ecart = sequences.get(index) - position;
+            if (ecart == 0) {
+                if (positionEcriture.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (ecart < 0) {
+                // Tampon plein
+                if (politique == PolitiqueSaturation.REJETER) {
+                    rejetes.incrementAndGet();
+                    return;
+                }
+                if (!actif) {
+                    // Le consommateur est arrêté : la place attendue ne se libérera plus
+                    throw new IllegalStateException("Le service de logs est arrêté");
+                }
+                LockSupport.parkNanos(PAUSE_NANOS);
+            }
+            position = positionEcriture.get();
+        }
+        horodatages[index] = horodatage;
+        messages[index] = message;
+        sequences.set(index, position + 1);
+        if (consommateurEnAttente) {
+            LockSupport.unpark(consommateur);
+        }
+    }
+
+    @Override
+    public List<String> obtenirLogs() {
+        attendreTraitement();
+        synchronized (historiqueMessages) {
+            int capacite = historiqueMessages.length;
+            int nombre = (int) Math.min(tailleHistorique, capacite);
+            List<String> logs = new ArrayList<>(nombre);
+            for (long i = tailleHistorique - nombre; i < tailleHistorique; i++) {
+                int index = (int) (i % capacite);
+                logs.add(formater(historiqueHorodatages[index], historiqueMessages[index]));
+            }
+            return logs;
+        }
+    }
+
+    @Override
+    public void afficherLogs() {
+        System.out.println("=== LOGS ===");
+        obtenirLogs().forEach(System.out::println);
+    }
+
+    /**
+     * @return Le nombre d'entrées abandonnées faute de place (politique REJETER)
+     */
+    public long getNombreRejetes() {
+        return rejetes.get();
+    }
+
+    /**
+     * Arrête le consommateur après avoir traité les entrées déjà déposées et celles des
+     * producteurs encore en cours ; les appels suivants à enregistrer échouent.
+     */
+    @Override
+    public void close() {
+        actif = false;
+        LockSupport.unpark(consommateur);
+        try {
+            consommateur.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Attend que le consommateur ait traité toutes les entrées déposées jusqu'ici.
+     */
+    private void attendreTraitement() {
+        long cible = positionEcriture.get();
+        while (positionTraitee < cible && consommateur.isAlive()) {
+            LockSupport.unpark(consommateur);
+            LockSupport.parkNanos(PAUSE_NANOS);
+        }
+    }
+
+    private void consommer() {
+        // producteursEnCours est lu avant positionEcriture : un producteur sorti a déjà réservé sa case
+        while (actif || producteursEnCours.get() > 0 || positionLecture < positionEcriture.get()) {
+            int index = (int) (positionLecture & masque);
+            if (sequences.get(index) == positionLecture + 1) {
+                archiver(horodatages[index], messages[index]);
+                messages[index] = null;
+                sequences.set(index, positionLecture + masque + 1);
+                positionLecture++;
+                positionTraitee = positionLecture;
+            } else {
+                attendreEntree(index);
+            }
+        }
+    }
+
+    /**
+     * Endort le consommateur jusqu'au dépôt de la prochaine entrée ou jusqu'à l'arrêt.
+     * Le drapeau est levé avant de relire la case attendue, et le producteur le lit après avoir
+     * publié sa case (deux écritures volatiles) : l'un des deux voit toujours l'autre, aucun
+     * réveil n'est perdu.
+     */
+    private void attendreEntree(int index) {
+        // Brève attente active : en rafale, l'entrée suivante arrive sans qu'il faille réveiller
+        for (int i = 0; i < ESSAIS_AVANT_SOMMEIL; i++) {
+            if (sequences.get(index) == positionLecture + 1) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        consommateurEnAttente = true;
+        if (actif && sequences.get(index) != positionLecture + 1) {
+            LockSupport.park(this);
+        }
+        consommateurEnAttente = false;
+    }
+
+    private void archiver(long horodatage, String message) {
+        synchronized (historiqueMessages) {
+            int index = (int) (tailleHistorique % historiqueMessages.length);
+            historiqueHorodatages[index] = horodatage;
+            historiqueMessages[index] = message;
+            tailleHistorique++;
+        }
+    }
+
+    private static String formater(long horodatage, String message) {
+        LocalDateTime date = LocalDateTime.ofInstant(Instant.ofEpochMilli(horodatage), ZoneId.systemDefault());
+        return date.format(FORMAT_DATE) + " - " + message;
+    }
+}
@@ -0,0 +1,374 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.service.ServiceLog;
+import org.iut.refactoring.service.TypeEvenement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Implémentation persistante du service de logs sous forme de journal en ajout seul.
+ * Les entrées sont écrites dans des segments de taille fixe projetés en mémoire
+ * (FileChannel.map) : un enregistrement n'est qu'une copie dans le tampon projeté,
+ * sans appel système ; le passage au segment suivant a lieu lorsque le courant est plein.
+ *
+ * Format d'un segment : [int MAGIC] puis une suite d'enregistrements
+ * [int longueur][int crc32][long epochNanos][byte type][short longueurId][id UTF-8][int longueurMessage][message UTF-8],
+ * où longueur et crc32 portent sur tout ce qui suit le crc32. Une longueur nulle marque la fin
+ * du segment. Le corps puis le crc32 sont écrits avant la longueur : un arrêt brutal pendant
+ * un ajout laisse une longueur nulle, ou un enregistrement dont le crc32 ne correspond pas.
+ *
+ * À l'ouverture, le dernier segment est relu pour reprendre l'écriture à sa suite ; un
+ * enregistrement tronqué ou corrompu en fin de segment est effacé et l'écriture reprend à sa place.
+ * Principe SRP : Responsabilité unique de gérer les logs.
+ * Principe LSP : Substituable à ServiceLogImpl partout où ServiceLog est attendu.
+ */
+public class ServiceLogJournalise implements ServiceLog, AutoCloseable {
+
+    /**
+     * Reçoit les entrées du journal lors d'une relecture.
+     */
+    @FunctionalInterface
+    public interface LecteurJournal {
+        void lire(long epochNanos, TypeEvenement type, String employeId, String message);
+    }
+
+    public static final int TAILLE_SEGMENT_PAR_DEFAUT = 64 * 1024 * 1024;
+
+    static final int MAGIC = 0x4A524E32;
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceLogJournalise.class);
+
+    private static final int TAILLE_ENTETE_SEGMENT = Integer.BYTES;
+    private static final int TAILLE_ENTETE_ENREGISTREMENT = Integer.BYTES + Integer.BYTES;
+    private static final int TAILLE_FIXE_ENREGISTREMENT =
+            Long.BYTES + Byte.BYTES + Short.BYTES + Integer.BYTES;
+    private static final String PREFIXE_SEGMENT = "journal-";
+    private static final String SUFFIXE_SEGMENT = ".seg";
+    private static final DateTimeFormatter FORMAT_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path repertoire;
+    private final int tailleSegment;
+
+    // Horloge en nanosecondes depuis l'époque, calée une fois sur currentTimeMillis
+    private final long origineEpochNanos;
+    private final long origineNanoTime;
+    private final CRC32 crc = new CRC32();
+
+    private int numeroSegment;
+    private FileChannel canal;
+    private MappedByteBuffer tampon;
+    private boolean ouvert;
+
+    public ServiceLogJournalise(Path repertoire) {
+        this(repertoire, TAILLE_SEGMENT_PAR_DEFAUT);
+    }
+
+    /**
+     * @param repertoire Répertoire contenant les segments (créé si absent)
+     * @param tailleSegment Taille en octets de chaque segment
+     */
+    public ServiceLogJournalise(Path repertoire, int tailleSegment) {
+        if (repertoire == null) {
+            throw new IllegalArgumentException("Le répertoire du journal ne peut pas être null");
+        }
+        if (tailleSegment < TAILLE_ENTETE_SEGMENT + TAILLE_ENTETE_ENREGISTREMENT + TAILLE_FIXE_ENREGISTREMENT) {
+            throw new IllegalArgumentException("Taille de segment trop petite: " + tailleSegment);
+        }
+        this.repertoire = repertoire;
+        this.tailleSegment = tailleSegment;
+        this.origineEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.origineNanoTime = System.nanoTime();
+        try {
+            Files.createDirectories(repertoire);
+            List<Path> segments = listerSegments();
+            if (segments.isEmpty()) {
+                ouvrirSegment(0);
+            } else {
+                reprendreSegment(segments.size() - 1, segments.get(segments.size() - 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'ouverture du journal", e);
+        }
+        this.ouvert = true;
+    }
+
+    @Override
+    public void enregistrer(String message) {
+        enregistrer(TypeEvenement.MESSAGE, null, message);
+    }
+
+    @Override
+    public synchronized void enregistrer(TypeEvenement type, String employeId, String message) {
+        if (!ouvert) {
+            throw new IllegalStateException("Le journal est fermé");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Le type d'événement ne peut pas être null");
+        }
+        long epochNanos = origineEpochNanos + (System.nanoTime() - origineNanoTime);
+        String id = employeId == null ? "" : employeId;
+        String contenu = String.valueOf(message);
+        int longueurId = longueurUtf8(id);
+        int longueurMessage = longueurUtf8(contenu);
+        if (longueurId > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Identifiant d'employé trop long");
+        }
+        int longueur = TAILLE_FIXE_ENREGISTREMENT + longueurId + longueurMessage;
+        if (TAILLE_ENTETE_ENREGISTREMENT + longueur > tailleSegment - TAILLE_ENTETE_SEGMENT) {
+            throw new IllegalArgumentException("Entrée trop volumineuse pour un segment: " + longueur + " octets");
+        }
+        if (tampon.remaining() < TAILLE_ENTETE_ENREGISTREMENT + longueur) {
+            passerAuSegmentSuivant();
+        }
+        int debut = tampon.position();
+        int debutCorps = debut + TAILLE_ENTETE_ENREGISTREMENT;
+        tampon.position(debutCorps);
+        tampon.putLong(epochNanos)
+                .put(type.getCode())
+                .putShort((short) longueurId);
+        ecrireUtf8(id);
+        tampon.putInt(longueurMessage);
+        ecrireUtf8(contenu);
+        int fin = tampon.position();
+        tampon.putInt(debut + Integer.BYTES, crcCorps(tampon, debutCorps, fin));
+        tampon.position(fin);
+        // La longueur en dernier : tant qu'elle est nulle, l'enregistrement n'existe pas
+        tampon.putInt(debut, longueur);
+    }
+
+    @Override
+    public List<String> obtenirLogs() {
+        List<String> logs = new ArrayList<>();
+        rejouer((epochNanos, type, employeId, message) -> logs.add(formater(epochNanos, message)));
+        return logs;
+    }
+
+    @Override
+    public void afficherLogs() {
+        System.out.println("=== LOGS ===");
+        obtenirLogs().forEach(System.out::println);
+    }
+
+    /**
+     * Relit séquentiellement toutes les entrées du journal, de la plus ancienne à la plus récente.
+     * @param lecteur Le destinataire des entrées
+     */
+    public synchronized void rejouer(LecteurJournal lecteur) {
+        try {
+            for (int numero = 0; numero < numeroSegment; numero++) {
+                try (FileChannel lecture = FileChannel.open(cheminSegment(numero), StandardOpenOption.READ)) {
+                    lireSegment(lecture.map(FileChannel.MapMode.READ_ONLY, 0, lecture.size()), lecteur);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la relecture du journal", e);
+        }
+        ByteBuffer courant = tampon.duplicate();
+        courant.flip();
+        lireSegment(courant, lecteur);
+    }
+
+    /**
+     * Force l'écriture sur disque du segment courant.
+     */
+    public synchronized void synchroniser() {
+        tampon.force();
+    }
+
+    /**
+     * @return Le nombre de segments du journal, segment courant compris
+     */
+    public synchronized int getNombreSegments() {
+        return numeroSegment + 1;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!ouvert) {
+            return;
+        }
+        ouvert = false;
+        try {
+            tampon.force();
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la fermeture du journal", e);
+        }
+    }
+
+    /**
+     * Longueur en octets de l'encodage UTF-8, calculée sans allocation.
+     */
+    private static int longueurUtf8(String texte) {
+        int longueur = texte.length();
+        for (int i = 0; i < texte.length(); i++) {
+            char c = texte.charAt(i);
+            if (c >= 0x800) {
+                // Trois octets, ou quatre pour une paire de substitution (deux caractères)
+                longueur += 2;
+                if (Character.isHighSurrogate(c) && i + 1 < texte.length()
+                        && Character.isLowSurrogate(texte.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (c >= 0x80) {
+                longueur++;
+            }
+        }
+        return longueur;
+    }
+
+    /**
+     * Encode le texte en UTF-8 directement dans le segment, sans tableau intermédiaire.
+     * Un caractère de substitution isolé est encodé tel quel sur trois octets,
+     * comme le fait longueurUtf8.
+     */
+    private void ecrireUtf8(String texte) {
+        for (int i = 0; i < texte.length(); i++) {
+            char c = texte.charAt(i);
+            if (c < 0x80) {
+                tampon.put((byte) c);
+            } else if (c < 0x800) {
+                tampon.put((byte) (0xC0 | (c >> 6)));
+                tampon.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < texte.length()
+                    && Character.isLowSurrogate(texte.charAt(i + 1))) {
+                int point = Character.toCodePoint(c, texte.charAt(++i));
+                tampon.put((byte) (0xF0 | (point >> 18)));
+                tampon.put((byte) (0x80 | ((point >> 12) & 0x3F)));
+                tampon.put((byte) (0x80 | ((point >> 6) & 0x3F)));
+                tampon.put((byte) (0x80 | (point & 0x3F)));
+            } else {
+                tampon.put((byte) (0xE0 | (c >> 12)));
+                tampon.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                tampon.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private void passerAuSegmentSuivant() {
+        try {
+            tampon.force();
+            canal.close();
+            ouvrirSegment(numeroSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors du changement de segment du journal", e);
+        }
+    }
+
+    private void ouvrirSegment(int numero) throws IOException {
+        canal = FileChannel.open(cheminSegment(numero),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        tampon = canal.map(FileChannel.MapMode.READ_WRITE, 0, tailleSegment);
+        tampon.putInt(MAGIC);
+        numeroSegment = numero;
+    }
+
+    private void reprendreSegment(int numero, Path chemin) throws IOException {
+        if (!chemin.equals(cheminSegment(numero))) {
+            throw new IllegalStateException("Segments du journal non contigus: " + chemin.getFileName());
+        }
+        canal = FileChannel.open(chemin, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Un segment raccourci (fichier tronqué) retrouve sa taille complète
+        tampon = canal.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(canal.size(), tailleSegment));
+        if (!lireSegment(tampon, (epochNanos, type, employeId, message) -> { })) {
+            logger.warn("Enregistrement tronqué ignoré en fin de segment {}", chemin.getFileName());
+            // Effacement de la fin du segment, pour que l'écriture reprenne sur des zéros
+            for (int position = tampon.position(); position < tampon.limit(); position++) {
+                tampon.put(position, (byte) 0);
+            }
+        }
+        numeroSegment = numero;
+    }
+
+    /**
+     * Parcourt un segment depuis son début ; à la sortie, la position du tampon
+     * se trouve juste après le dernier enregistrement valide.
+     * @return false si le parcours s'est arrêté sur un enregistrement tronqué ou corrompu
+     */
+    private static boolean lireSegment(ByteBuffer segment, LecteurJournal lecteur) {
+        if (segment.remaining() < TAILLE_ENTETE_SEGMENT || segment.getInt() != MAGIC) {
+            throw new IllegalStateException("Segment de journal invalide");
+        }
+        CRC32 crc = new CRC32();
+        while (segment.remaining() >= TAILLE_ENTETE_ENREGISTREMENT) {
+            int debut = segment.position();
+            int longueur = segment.getInt();
+            if (longueur == 0) {
+                segment.position(debut);
+                return true;
+            }
+            int crcAttendu = segment.getInt();
+            int debutCorps = segment.position();
+            if (longueur < TAILLE_FIXE_ENREGISTREMENT || longueur > segment.remaining()
+                    || crcCorps(segment, crc, debutCorps, debutCorps + longueur) != crcAttendu) {
+                segment.position(debut);
+                return false;
+            }
+            long epochNanos = segment.getLong();
+            TypeEvenement type = TypeEvenement.depuisCode(segment.get());
+            int longueurId = segment.getShort();
+            String employeId = longueurId == 0 ? null : lireTexte(segment, longueurId);
+            String message = lireTexte(segment, segment.getInt());
+            lecteur.lire(epochNanos, type, employeId, message);
+        }
+        return true;
+    }
+
+    private int crcCorps(ByteBuffer segment, int debut, int fin) {
+        return crcCorps(segment, crc, debut, fin);
+    }
+
+    /**
+     * CRC32 des octets [debut, fin) du segment ; la position du segment est ramenée à debut.
+     */
+    private static int crcCorps(ByteBuffer segment, CRC32 crc, int debut, int fin) {
+        int limite = segment.limit();
+        segment.position(debut).limit(fin);
+        crc.reset();
+        crc.update(segment);
+        segment.limit(limite).position(debut);
+        return (int) crc.getValue();
+    }
+
+    private static String lireTexte(ByteBuffer segment, int longueur) {
+        byte[] octets = new byte[longueur];
+        segment.get(octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+
+    private List<Path> listerSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> flux = Files.newDirectoryStream(repertoire, PREFIXE_SEGMENT + "*" + SUFFIXE_SEGMENT)) {
+            flux.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private Path cheminSegment(int numero) {
+        return repertoire.resolve(String.format("%s%08d%s", PREFIXE_SEGMENT, numero, SUFFIXE_SEGMENT));
+    }
+
+    private static String formater(long epochNanos, String message) {
+        Instant instant = Instant.ofEpochSecond(0, epochNanos);
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).format(FORMAT_DATE) + " - " + message;
+    }
+}
@@ -0,0 +1,379 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ClassementEquipe;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.iut.refactoring.service.FormatExport;
+import org.iut.refactoring.service.ServiceRapport;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implémentation du service de rapports exportant chaque rapport dans un fichier CSV ou
+ * JSON Lines, éventuellement compressé en gzip, pour les chargements en aval (BI).
+ * Chaque rapport est écrit dans repertoire/&lt;type&gt;&lt;extension&gt;[.gz] (voir fichier) :
+ * SALAIRE (id, nom, equipe, salaire), EXPERIENCE (id, nom, equipe, experience),
+ * DIVISION (equipe, effectif), TOP (equipe, rang, id, nom, salaire) et
+ * QUANTILES (equipe, effectif, p50, p90, p99).
+ *
+ * Les lignes sont construites dans un tampon réutilisé et écrites au fil de l'eau sur un
+ * FileChannel tamponné : la mémoire utilisée ne dépend pas de la taille de la population.
+ * Le rapport est d'abord écrit dans un fichier temporaire puis renommé atomiquement, si bien
+ * qu'un lecteur ne voit jamais de fichier partiel.
+ * Principe SRP : Responsabilité unique de générer des rapports.
+ * Principe LSP : Substituable à ServiceRapportImpl partout où ServiceRapport est attendu.
+ */
+public class ServiceRapportFichier implements ServiceRapport {
+
+    private static final int TAILLE_TAMPON = 64 * 1024;
+    private static final String SUFFIXE_GZIP = ".gz";
+    private static final String SUFFIXE_TEMPORAIRE = ".tmp";
+
+    private final CalculateurSalaire calculateurSalaire;
+    private final Path repertoire;
+    private final FormatExport format;
+    private final boolean compresse;
+    private final StringBuilder ligne;
+    private boolean premierChamp;
+
+    /**
+     * Constructeur avec injection de dépendances (DIP).
+     * @param calculateurSalaire Le calculateur de salaire
+     * @param repertoire Le répertoire de destination (créé si nécessaire)
+     * @param format Le format des fichiers
+     * @param compresse true pour compresser les fichiers en gzip
+     */
+    public ServiceRapportFichier(CalculateurSalaire calculateurSalaire, Path repertoire,
+                                 FormatExport format, boolean compresse) {
+        if (repertoire == null) {
+            throw new IllegalArgumentException("Le répertoire ne peut pas être null");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("Le format ne peut pas être null");
+        }
+        this.calculateurSalaire = calculateurSalaire;
+        this.repertoire = repertoire;
+        this.format = format;
+        this.compresse = compresse;
+        this.ligne = new StringBuilder(128);
+    }
+
+    /**
+     * Retourne le fichier dans lequel est exporté un type de rapport.
+     * @param typeRapport Le type de rapport (SALAIRE, EXPERIENCE, DIVISION, TOP, QUANTILES)
+     * @return Le chemin du fichier, par exemple salaire.csv.gz
+     */
+    public Path fichier(String typeRapport) {
+        return repertoire.resolve(typeRapport.toLowerCase(Locale.ROOT) + format.getExtension()
+                + (compresse ? SUFFIXE_GZIP : ""));
+    }
+
+    @Override
+    public synchronized void genererRapportSalaires(List<Employe> employes, String filtre) {
+        try (Export export = new Export("SALAIRE", "id", "nom", "equipe", "salaire")) {
+            for (Employe employe : employes) {
+                if (correspond(employe, filtre)) {
+                    debutLigne();
+                    champTexte("id", employe.getId());
+                    champTexte("nom", employe.getNom());
+                    champTexte("equipe", employe.getEquipe());
+                    champMontant("salaire", calculateurSalaire.calculerSalaire(employe));
+                    export.ecrireLigne();
+                }
+            }
+            export.valider();
+        }
+    }
+
+    @Override
+    public synchronized void genererRapportExperience(List<Employe> employes, String filtre) {
+        try (Export export = new Export("EXPERIENCE", "id", "nom", "equipe", "experience")) {
+            for (Employe employe : employes) {
+                if (correspond(employe, filtre)) {
+                    debutLigne();
+                    champTexte("id", employe.getId());
+                    champTexte("nom", employe.getNom());
+                    champTexte("equipe", employe.getEquipe());
+                    champEntier("experience", employe.getExperience());
+                    export.ecrireLigne();
+                }
+            }
+            export.valider();
+        }
+    }
+
+    @Override
+    public synchronized void genererRapportDivision(List<Employe> employes) {
+        Map<String, long[]> compteurParEquipe = new LinkedHashMap<>();
+        for (Employe employe : employes) {
+            compteurParEquipe.computeIfAbsent(employe.getEquipe(), equipe -> new long[1])[0]++;
+        }
+        try (Export export = new Export("DIVISION", "equipe", "effectif")) {
+            for (Map.Entry<String, long[]> entree : compteurParEquipe.entrySet()) {
+                ecrireDivision(export, entree.getKey(), entree.getValue()[0]);
+            }
+            export.valider();
+        }
+    }
+
+    @Override
+    public synchronized void genererRapportDivisionAgrege(List<StatistiquesEquipe> statistiques) {
+        try (Export export = new Export("DIVISION", "equipe", "effectif")) {
+            for (StatistiquesEquipe stats : statistiques) {
+                ecrireDivision(export, stats.getEquipe(), stats.getEffectif());
+            }
+            export.valider();
+        }
+    }
+
+    @Override
+    public synchronized void genererRapportMeilleursSalaires(List<Employe> employes, String filtre, int nombreMeilleurs) {
+        List<ClassementEquipe> classements = ClassementSalaires.calculer(employes, filtre, calculateurSalaire, nombreMeilleurs);
+        try (Export export = new Export("TOP", "equipe", "rang", "id", "nom", "salaire")) {
+            for (ClassementEquipe classement : classements) {
+                List<Employe> meilleurs = classement.getMeilleursEmployes();
+                double[] salaires = classement.getMeilleursSalaires();
+                for (int rang = 0; rang < meilleurs.size(); rang++) {
+                    debutLigne();
+                    champTexte("equipe", classement.getEquipe());
+                    champEntier("rang", rang + 1);
+                    champTexte("id", meilleurs.get(rang).getId());
+                    champTexte("nom", meilleurs.get(rang).getNom());
+                    champMontant("salaire", salaires[rang]);
+                    export.ecrireLigne();
+                }
+            }
+            export.valider();
+        }
+    }
+
+    @Override
+    public synchronized void genererRapportQuantilesSalaires(List<Employe> employes, String filtre) {
+        List<ClassementEquipe> classements = ClassementSalaires.calculer(employes, filtre, calculateurSalaire, 1);
+        try (Export export = new Export("QUANTILES", "equipe", "effectif", "p50", "p90", "p99")) {
+            for (ClassementEquipe classement : classements) {
+                debutLigne();
+                champTexte("equipe", classement.getEquipe());
+                champEntier("effectif", classement.getEffectif());
+                champMontant("p50", classement.getP50());
+                champMontant("p90", classement.getP90());
+                champMontant("p99", classement.getP99());
+                export.ecrireLigne();
+            }
+            export.valider();
+        }
+    }
+
+    private void ecrireDivision(Export export, String equipe, long effectif) {
+        debutLigne();
+        champTexte("equipe", equipe);
+        champEntier("effectif", effectif);
+        export.ecrireLigne();
+    }
+
+    private static boolean correspond(Employe employe, String filtre) {
+        return filtre == null || filtre.isEmpty() || employe.getEquipe().equals(filtre);
+    }
+
+    // ------------------------------------------------------------------ champs
+
+    private void debutLigne() {
+        ligne.setLength(0);
+        premierChamp = true;
+        if (format == FormatExport.JSON_LIGNES) {
+            ligne.append('{');
+        }
+    }
+
+    private void separateur(String nom) {
+        if (!premierChamp) {
+            ligne.append(',');
+        }
+        premierChamp = false;
+        if (format == FormatExport.JSON_LIGNES) {
+            ajouterChaineJson(nom);
+            ligne.append(':');
+        }
+    }
+
+    private void champTexte(String nom, String valeur) {
+        separateur(nom);
+        if (format == FormatExport.JSON_LIGNES) {
+            if (valeur == null) {
+                ligne.append("null");
+            } else {
+                ajouterChaineJson(valeur);
+            }
+        } else if (valeur != null) {
+            ajouterChampCsv(valeur);
+        }
+    }
+
+    private void champMontant(String nom, double valeur) {
+        separateur(nom);
+        if (format == FormatExport.JSON_LIGNES && (Double.isNaN(valeur) || Double.isInfinite(valeur))) {
+            ligne.append("null");
+        } else {
+            FormatMontant.ajouterMontant(ligne, valeur);
+        }
+    }
+
+    private void champEntier(String nom, long valeur) {
+        separateur(nom);
+        ligne.append(valeur);
+    }
+
+    private void ajouterChampCsv(String valeur) {
+        boolean aCiter = false;
+        for (int i = 0; i < valeur.length() && !aCiter; i++) {
+            char c = valeur.charAt(i);
+            aCiter = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aCiter) {
+            ligne.append(valeur);
+            return;
+        }
+        ligne.append('"');
+        for (int i = 0; i < valeur.length(); i++) {
+            char c = valeur.charAt(i);
+            if (c == '"') {
+                ligne.append('"');
+            }
+            ligne.append(c);
+        }
+        ligne.append('"');
+    }
+
+    private void ajouterChaineJson(String valeur) {
+        ligne.append('"');
+        for (int i = 0; i < valeur.length(); i++) {
+            char c = valeur.charAt(i);
+            switch (c) {
+                case '"':
+                    ligne.append("\\\"");
+                    break;
+                case '\\':
+                    ligne.append("\\\\");
+                    break;
+                case '\n':
+                    ligne.append("\\n");
+                    break;
+                case '\r':
+                    ligne.append("\\r");
+                    break;
+                case '\t':
+                    ligne.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        ligne.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        ligne.append(c);
+                    }
+            }
+        }
+        ligne.append('"');
+    }
+
+    /**
+     * Fichier d'export en cours d'écriture : écrit dans un fichier temporaire, renommé vers
+     * sa destination par valider ; supprimé à la fermeture s'il n'a pas été validé.
+     */
+    private final class Export implements AutoCloseable {
+
+        private final Path cible;
+        private final Path temporaire;
+        private final Writer sortie;
+        private char[] caracteres = new char[128];
+        private boolean valide;
+
+        Export(String typeRapport, String... colonnes) {
+            cible = fichier(typeRapport);
+            temporaire = cible.resolveSibling(cible.getFileName() + SUFFIXE_TEMPORAIRE);
+            try {
+                Files.createDirectories(repertoire);
+                FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream flux = new BufferedOutputStream(Channels.newOutputStream(canal), TAILLE_TAMPON);
+                if (compresse) {
+                    flux = new GZIPOutputStream(flux, TAILLE_TAMPON);
+                }
+                sortie = new BufferedWriter(new OutputStreamWriter(flux, StandardCharsets.UTF_8), TAILLE_TAMPON);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Impossible de créer le fichier " + cible, e);
+            }
+            if (format == FormatExport.CSV) {
+                ligne.setLength(0);
+                ligne.append(String.join(",", colonnes));
+                ecrire();
+            }
+        }
+
+        void ecrireLigne() {
+            if (format == FormatExport.JSON_LIGNES) {
+                ligne.append('}');
+            }
+            ecrire();
+        }
+
+        private void ecrire() {
+            ligne.append('\n');
+            int longueur = ligne.length();
+            if (caracteres.length < longueur) {
+                caracteres = new char[Math.max(longueur, caracteres.length * 2)];
+            }
+            ligne.getChars(0, longueur, caracteres, 0);
+            try {
+                sortie.write(caracteres, 0, longueur);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erreur lors de l'écriture du rapport", e);
+            }
+        }
+
+        void valider() {
+            try {
+                sortie.close();
+                Files.move(temporaire, cible, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                valide = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erreur lors de l'écriture du rapport", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (valide) {
+                return;
+            }
+            try {
+                sortie.close();
+            } catch (IOException e) {
+                // Fichier temporaire abandonné : l'erreur d'origine prévaut
+            }
+            try {
+                Files.deleteIfExists(temporaire);
+            } catch (IOException e) {
+                // Idem
+            }
+        }
+    }
+}
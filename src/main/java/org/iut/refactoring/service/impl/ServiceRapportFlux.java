@@ -0,0 +1,187 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ClassementEquipe;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.iut.refactoring.service.ServiceRapport;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implémentation du service de rapports écrivant dans un flux fourni par l'appelant
+ * (fichier, socket...) au lieu de la sortie standard.
+ * Les lignes ont la forme de celles de ServiceRapportImpl, mais leur format ne dépend pas de
+ * la locale : les montants sont toujours écrits avec un point décimal (1234.50 €), là où
+ * ServiceRapportImpl suit la locale par défaut (1234,50 € en français). Un même rapport donne
+ * ainsi les mêmes octets sur toute machine. Les lignes sont construites dans un tampon
+ * réutilisé et les montants sont formatés sans java.util.Formatter, ce qui permet d'écrire de
+ * très gros rapports à la vitesse des entrées/sorties.
+ * Le flux est vidé (flush) à la fin de chaque rapport mais n'est jamais fermé par ce service.
+ * Principe SRP : Responsabilité unique de générer des rapports.
+ * Principe LSP : Substituable à ServiceRapportImpl partout où ServiceRapport est attendu.
+ */
+public class ServiceRapportFlux implements ServiceRapport {
+
+    private static final int TAILLE_TAMPON = 64 * 1024;
+    private static final String FIN_DE_LIGNE = System.lineSeparator();
+
+    private final CalculateurSalaire calculateurSalaire;
+    private final Writer sortie;
+    private final StringBuilder ligne;
+    private char[] caracteres;
+
+    /**
+     * Constructeur écrivant dans un Writer (déjà tamponné ou non).
+     * @param calculateurSalaire Le calculateur de salaire
+     * @param sortie Le flux de destination
+     */
+    public ServiceRapportFlux(CalculateurSalaire calculateurSalaire, Writer sortie) {
+        this.calculateurSalaire = calculateurSalaire;
+        this.sortie = sortie instanceof BufferedWriter ? sortie : new BufferedWriter(sortie, TAILLE_TAMPON);
+        this.ligne = new StringBuilder(128);
+        this.caracteres = new char[128];
+    }
+
+    /**
+     * Constructeur écrivant dans un flux d'octets, encodé en UTF-8.
+     * @param calculateurSalaire Le calculateur de salaire
+     * @param sortie Le flux de destination
+     */
+    public ServiceRapportFlux(CalculateurSalaire calculateurSalaire, OutputStream sortie) {
+        this(calculateurSalaire, new BufferedWriter(
+                new OutputStreamWriter(sortie, StandardCharsets.UTF_8), TAILLE_TAMPON));
+    }
+
+    @Override
+    public synchronized void genererRapportSalaires(List<Employe> employes, String filtre) {
+        ecrireEntete("SALAIRE");
+        for (Employe employe : employes) {
+            if (correspond(employe, filtre)) {
+                ligne.setLength(0);
+                ligne.append(employe.getNom()).append(": ");
+                FormatMontant.ajouterMontant(ligne, calculateurSalaire.calculerSalaire(employe));
+                ligne.append(" €");
+                ecrireLigne();
+            }
+        }
+        vider();
+    }
+
+    @Override
+    public synchronized void genererRapportExperience(List<Employe> employes, String filtre) {
+        ecrireEntete("EXPERIENCE");
+        for (Employe employe : employes) {
+            if (correspond(employe, filtre)) {
+                ligne.setLength(0);
+                ligne.append(employe.getNom()).append(": ").append(employe.getExperience()).append(" années");
+                ecrireLigne();
+            }
+        }
+        vider();
+    }
+
+    @Override
+    public synchronized void genererRapportDivision(List<Employe> employes) {
+        ecrireEntete("DIVISION");
+        Map<String, long[]> compteurParEquipe = new LinkedHashMap<>();
+        for (Employe employe : employes) {
+            compteurParEquipe.computeIfAbsent(employe.getEquipe(), equipe -> new long[1])[0]++;
+        }
+        compteurParEquipe.forEach((equipe, compteur) -> {
+            ligne.setLength(0);
+            ligne.append(equipe).append(": ").append(compteur[0]).append(" employés");
+            ecrireLigne();
+        });
+        vider();
+    }
+
+    @Override
+    public synchronized void genererRapportDivisionAgrege(List<StatistiquesEquipe> statistiques) {
+        ecrireEntete("DIVISION");
+        for (StatistiquesEquipe stats : statistiques) {
+            ligne.setLength(0);
+            ligne.append(stats.getEquipe()).append(": ").append(stats.getEffectif()).append(" employés");
+            ecrireLigne();
+        }
+        vider();
+    }
+
+    @Override
+    public synchronized void genererRapportMeilleursSalaires(List<Employe> employes, String filtre, int nombreMeilleurs) {
+        ecrireEntete("TOP");
+        for (ClassementEquipe classement : ClassementSalaires.calculer(employes, filtre, calculateurSalaire, nombreMeilleurs)) {
+            ligne.setLength(0);
+            ligne.append(classement.getEquipe()).append(" (").append(classement.getEffectif()).append(" employés):");
+            ecrireLigne();
+            List<Employe> meilleurs = classement.getMeilleursEmployes();
+            double[] salaires = classement.getMeilleursSalaires();
+            for (int rang = 0; rang < meilleurs.size(); rang++) {
+                ligne.setLength(0);
+                ligne.append("  ").append(rang + 1).append(". ").append(meilleurs.get(rang).getNom()).append(": ");
+                FormatMontant.ajouterMontant(ligne, salaires[rang]);
+                ligne.append(" €");
+                ecrireLigne();
+            }
+        }
+        vider();
+    }
+
+    @Override
+    public synchronized void genererRapportQuantilesSalaires(List<Employe> employes, String filtre) {
+        ecrireEntete("QUANTILES");
+        for (ClassementEquipe classement : ClassementSalaires.calculer(employes, filtre, calculateurSalaire, 1)) {
+            ligne.setLength(0);
+            ligne.append(classement.getEquipe()).append(": p50 ");
+            FormatMontant.ajouterMontant(ligne, classement.getP50());
+            ligne.append(" €, p90 ");
+            FormatMontant.ajouterMontant(ligne, classement.getP90());
+            ligne.append(" €, p99 ");
+            FormatMontant.ajouterMontant(ligne, classement.getP99());
+            ligne.append(" € (").append(classement.getEffectif()).append(" employés)");
+            ecrireLigne();
+        }
+        vider();
+    }
+
+    private static boolean correspond(Employe employe, String filtre) {
+        return filtre == null || filtre.isEmpty() || employe.getEquipe().equals(filtre);
+    }
+
+    private void ecrireEntete(String typeRapport) {
+        ligne.setLength(0);
+        ligne.append("=== RAPPORT: ").append(typeRapport).append(" ===");
+        ecrireLigne();
+    }
+
+    private void ecrireLigne() {
+        ligne.append(FIN_DE_LIGNE);
+        int longueur = ligne.length();
+        if (caracteres.length < longueur) {
+            caracteres = new char[Math.max(longueur, caracteres.length * 2)];
+        }
+        ligne.getChars(0, longueur, caracteres, 0);
+        try {
+            sortie.write(caracteres, 0, longueur);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'écriture du rapport", e);
+        }
+    }
+
+    private void vider() {
+        try {
+            sortie.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de l'écriture du rapport", e);
+        }
+    }
+}
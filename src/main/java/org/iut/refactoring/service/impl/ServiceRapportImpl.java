@@ -1,6 +1,8 @@
 package org.iut.refactoring.service.impl;
 
+import org.iut.refactoring.model.ClassementEquipe;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
 import org.iut.refactoring.service.CalculateurSalaire;
 import org.iut.refactoring.service.ServiceRapport;
 
@@ -10,6 +12,8 @@ import java.util.stream.Collectors;
 
 /**
  * Implémentation du service de rapports.
+ * Chaque rapport fige le calculateur une seule fois (CalculateurSalaire.figer) : tous ses
+ * montants suivent la même version des règles, même rechargées pendant sa génération.
  * Principe SRP : Responsabilité unique de générer des rapports.
  * Principe DIP : Dépend de l'abstraction CalculateurSalaire.
  */
@@ -29,10 +33,11 @@ public class ServiceRapportImpl implements ServiceRapport {
     public void genererRapportSalaires(List<Employe> employes, String filtre) {
         System.out.println("=== RAPPORT: SALAIRE ===");
         
+        CalculateurSalaire calculateur = calculateurSalaire.figer();
         employes.stream()
                 .filter(emp -> filtre == null || filtre.isEmpty() || emp.getEquipe().equals(filtre))
                 .forEach(emp -> {
-                    double salaire = calculateurSalaire.calculerSalaire(emp);
+                    double salaire = calculateur.calculerSalaire(emp);
                     System.out.printf("%s: %.2f €%n", emp.getNom(), salaire);
                 });
     }
@@ -56,5 +61,36 @@ public class ServiceRapportImpl implements ServiceRapport {
         compteurParEquipe.forEach((equipe, count) -> 
                 System.out.printf("%s: %d employés%n", equipe, count));
     }
+    
+    @Override
+    public void genererRapportDivisionAgrege(List<StatistiquesEquipe> statistiques) {
+        System.out.println("=== RAPPORT: DIVISION ===");
+        
+        statistiques.forEach(stats ->
+                System.out.printf("%s: %d employés%n", stats.getEquipe(), stats.getEffectif()));
+    }
+    
+    @Override
+    public void genererRapportMeilleursSalaires(List<Employe> employes, String filtre, int nombreMeilleurs) {
+        System.out.println("=== RAPPORT: TOP ===");
+        
+        CalculateurSalaire calculateur = calculateurSalaire.figer();
+        for (ClassementEquipe classement : ClassementSalaires.calculer(employes, filtre, calculateur, nombreMeilleurs)) {
+            System.out.printf("%s (%d employés):%n", classement.getEquipe(), classement.getEffectif());
+            List<Employe> meilleurs = classement.getMeilleursEmployes();
+            double[] salaires = classement.getMeilleursSalaires();
+            for (int rang = 0; rang < meilleurs.size(); rang++) {
+                System.out.printf("  %d. %s: %.2f €%n", rang + 1, meilleurs.get(rang).getNom(), salaires[rang]);
+            }
+        }
+    }
+    
+    @Override
+    public void genererRapportQuantilesSalaires(List<Employe> employes, String filtre) {
+        System.out.println("=== RAPPORT: QUANTILES ===");
+        
+        ClassementSalaires.calculer(employes, filtre, calculateurSalaire.figer(), 1).forEach(classement ->
+                System.out.printf("%s: p50 %.2f €, p90 %.2f €, p99 %.2f € (%d employés)%n", classement.getEquipe(),
+                        classement.getP50(), classement.getP90(), classement.getP99(), classement.getEffectif()));
+    }
 }
-
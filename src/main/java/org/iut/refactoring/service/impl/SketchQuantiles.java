@@ -0,0 +1,108 @@
+package org.iut.refactoring.service.impl;
+
+/**
+ * Esquisse de quantiles à erreur relative bornée (principe de DDSketch).
+ * Chaque valeur positive est comptée dans le seau d'indice ceil(log_gamma(valeur)), avec
+ * gamma = (1 + ERREUR_RELATIVE) / (1 - ERREUR_RELATIVE) : tout quantile est restitué à
+ * ERREUR_RELATIVE près, en mémoire proportionnelle au logarithme de l'étendue des valeurs
+ * (quelques centaines de seaux pour des salaires) et non au nombre de valeurs.
+ * Deux esquisses se fusionnent exactement en additionnant leurs seaux : le résultat ne
+ * dépend pas du découpage en partitions. Les valeurs nulles ou négatives sont comptées à 0,
+ * les valeurs non finies sont refusées.
+ * Non thread-safe : chaque partition utilise sa propre esquisse.
+ */
+final class SketchQuantiles {
+
+    static final double ERREUR_RELATIVE = 0.01;
+
+    private static final double GAMMA = (1 + ERREUR_RELATIVE) / (1 - ERREUR_RELATIVE);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long[] seaux = new long[0];
+    private int premierIndice;
+    private long nombreZeros;
+    private long effectif;
+
+    /**
+     * Compte une valeur.
+     * @param valeur La valeur
+     */
+    void ajouter(double valeur) {
+        if (Double.isNaN(valeur) || Double.isInfinite(valeur)) {
+            throw new IllegalArgumentException("Valeur non finie: " + valeur);
+        }
+        effectif++;
+        if (valeur <= 0) {
+            nombreZeros++;
+            return;
+        }
+        int indice = (int) Math.ceil(Math.log(valeur) / LOG_GAMMA);
+        reserver(indice, indice);
+        seaux[indice - premierIndice]++;
+    }
+
+    /**
+     * Ajoute les valeurs comptées par une autre esquisse.
+     * @param autre L'esquisse à fusionner
+     */
+    void fusionner(SketchQuantiles autre) {
+        effectif += autre.effectif;
+        nombreZeros += autre.nombreZeros;
+        if (autre.seaux.length == 0) {
+            return;
+        }
+        reserver(autre.premierIndice, autre.premierIndice + autre.seaux.length - 1);
+        int decalage = autre.premierIndice - premierIndice;
+        for (int i = 0; i < autre.seaux.length; i++) {
+            seaux[decalage + i] += autre.seaux[i];
+        }
+    }
+
+    /**
+     * Retourne le quantile q (rang q × (effectif - 1), arrondi à l'inférieur).
+     * @param q Le quantile, entre 0 et 1
+     * @return La valeur du quantile à ERREUR_RELATIVE près, NaN si aucune valeur n'a été comptée
+     */
+    double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Le quantile doit être compris entre 0 et 1");
+        }
+        if (effectif == 0) {
+            return Double.NaN;
+        }
+        long rang = (long) (q * (effectif - 1));
+        if (rang < nombreZeros) {
+            return 0;
+        }
+        long cumul = nombreZeros;
+        for (int i = 0; i < seaux.length; i++) {
+            cumul += seaux[i];
+            if (cumul > rang) {
+                return 2 * Math.pow(GAMMA, premierIndice + i) / (GAMMA + 1);
+            }
+        }
+        throw new IllegalStateException("Esquisse incohérente");
+    }
+
+    long effectif() {
+        return effectif;
+    }
+
+    private void reserver(int minimum, int maximum) {
+        if (seaux.length == 0) {
+            seaux = new long[maximum - minimum + 1];
+            premierIndice = minimum;
+            return;
+        }
+        int dernierIndice = premierIndice + seaux.length - 1;
+        if (minimum >= premierIndice && maximum <= dernierIndice) {
+            return;
+        }
+        int nouveauPremier = Math.min(minimum, premierIndice);
+        int nouveauDernier = Math.max(maximum, dernierIndice);
+        long[] nouveaux = new long[nouveauDernier - nouveauPremier + 1];
+        System.arraycopy(seaux, 0, nouveaux, premierIndice - nouveauPremier, seaux.length);
+        seaux = nouveaux;
+        premierIndice = nouveauPremier;
+    }
+}
@@ -0,0 +1,39 @@
+package org.iut.refactoring.service.impl;
+
+/**
+ * Accumulateur de somme compensée (algorithme de Kahan).
+ * Réduit l'erreur d'arrondi lors de la sommation d'un grand nombre de montants.
+ * Non thread-safe : chaque thread utilise son propre accumulateur.
+ */
+final class SommeKahan {
+
+    private double somme;
+    private double compensation;
+
+    /**
+     * Ajoute une valeur à la somme.
+     * @param valeur La valeur à ajouter
+     */
+    void ajouter(double valeur) {
+        double corrigee = valeur - compensation;
+        double nouvelleSomme = somme + corrigee;
+        compensation = (nouvelleSomme - somme) - corrigee;
+        somme = nouvelleSomme;
+    }
+
+    /**
+     * Ajoute une somme partielle en tenant compte de sa compensation.
+     * @param autre La somme partielle
+     */
+    void ajouter(SommeKahan autre) {
+        ajouter(autre.somme);
+        ajouter(-autre.compensation);
+    }
+
+    /**
+     * @return La somme courante
+     */
+    double valeur() {
+        return somme;
+    }
+}
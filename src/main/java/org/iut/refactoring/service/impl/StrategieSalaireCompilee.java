@@ -0,0 +1,63 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.StrategieSalaire;
+
+import java.util.List;
+
+/**
+ * Classe de base des stratégies produites par TableReglesSalaire.compiler() : les sous-classes,
+ * générées au chargement des règles, n'implémentent que calculer et calculerBonus, en code
+ * linéaire où multiplicateurs et seuils sont des constantes.
+ * Une stratégie s'applique aux employés dont getType() vaut le type de ses règles.
+ * Principe LSP : Substituable aux stratégies écrites à la main.
+ */
+public abstract class StrategieSalaireCompilee implements StrategieSalaire {
+
+    private final String type;
+    private final List<RegleSalaire> reglesSalaire;
+    private final List<RegleSalaire> reglesBonus;
+
+    protected StrategieSalaireCompilee(String type, List<RegleSalaire> reglesSalaire,
+                                       List<RegleSalaire> reglesBonus) {
+        this.type = type;
+        this.reglesSalaire = reglesSalaire;
+        this.reglesBonus = reglesBonus;
+    }
+
+    @Override
+    public boolean estApplicable(Employe employe) {
+        return type.equals(employe.getType());
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public List<RegleSalaire> getReglesSalaire() {
+        return reglesSalaire;
+    }
+
+    public List<RegleSalaire> getReglesBonus() {
+        return reglesBonus;
+    }
+
+    /**
+     * Règle conditionnelle multiplicative, appelée par le code généré (et intégrée par le JIT).
+     */
+    public static double multiplierSi(double valeur, int experience, int seuil, double multiplicateur) {
+        return experience > seuil ? valeur * multiplicateur : valeur;
+    }
+
+    /**
+     * Règle conditionnelle additive, appelée par le code généré (et intégrée par le JIT).
+     */
+    public static double ajouterSi(double valeur, int experience, int seuil, double ajout) {
+        return experience > seuil ? valeur + ajout : valeur;
+    }
+
+    @Override
+    public String toString() {
+        return "StrategieSalaireCompilee[" + type + ", salaire: " + reglesSalaire + ", bonus: " + reglesBonus + "]";
+    }
+}
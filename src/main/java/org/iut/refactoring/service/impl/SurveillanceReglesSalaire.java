@@ -0,0 +1,200 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.factory.EmployeFactory;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.StrategieSalaire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recharge à chaud les règles de salaire d'un fichier (format de TableReglesSalaire) dans un
+ * RegistreStrategies, à chaque modification du fichier.
+ *
+ * Les règles sont chargées une première fois à la construction (une erreur est alors levée).
+ * Un thread démon surveille ensuite le répertoire du fichier (WatchService) ; après une
+ * modification, il attend que le fichier ne change plus pendant DELAI_STABILISATION_MS puis
+ * compile et publie la nouvelle table. Les calculs en cours ne sont ni bloqués ni perturbés :
+ * ils terminent avec la version qu'ils ont lue (voir RegistreStrategies). Une table invalide,
+ * ou qui ne couvre plus un type d'employé couvert par la version en vigueur, est journalisée et
+ * ignorée : la version précédente reste en vigueur. Un contenu identique au dernier chargé
+ * n'est pas recompilé.
+ * Pour ne jamais lire un fichier à moitié écrit, le remplacer plutôt par un renommage atomique.
+ * Principe SRP : Responsabilité unique de suivre le fichier ; la lecture des règles est
+ * déléguée à TableReglesSalaire et leur publication au registre.
+ */
+public class SurveillanceReglesSalaire implements AutoCloseable {
+
+    public static final long DELAI_STABILISATION_MS = 50;
+
+    private static final Logger logger = LoggerFactory.getLogger(SurveillanceReglesSalaire.class);
+
+    private final Path fichier;
+    private final RegistreStrategies registre;
+    private final Runnable apresRechargement;
+    private final WatchService surveillance;
+    private final Thread thread;
+    private final AtomicLong rechargements = new AtomicLong();
+    private final AtomicLong echecs = new AtomicLong();
+    private byte[] dernierContenu;
+
+    /**
+     * @param fichier Le fichier de règles
+     * @param registre Le registre recevant les stratégies compilées
+     */
+    public SurveillanceReglesSalaire(Path fichier, RegistreStrategies registre) {
+        this(fichier, registre, () -> { });
+    }
+
+    /**
+     * @param fichier Le fichier de règles
+     * @param registre Le registre recevant les stratégies compilées
+     * @param apresRechargement Action exécutée après chaque publication (par exemple vider
+     *                          un cache de salaires)
+     * @throws IllegalArgumentException Si le fichier contient des règles invalides
+     */
+    public SurveillanceReglesSalaire(Path fichier, RegistreStrategies registre, Runnable apresRechargement) {
+        if (fichier == null || registre == null || apresRechargement == null) {
+            throw new IllegalArgumentException("Le fichier, le registre et l'action ne peuvent pas être null");
+        }
+        this.fichier = fichier.toAbsolutePath();
+        this.registre = registre;
+        this.apresRechargement = apresRechargement;
+        recharger();
+        try {
+            this.surveillance = this.fichier.getFileSystem().newWatchService();
+            this.fichier.getParent().register(surveillance,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de surveiller " + this.fichier, e);
+        }
+        this.thread = new Thread(this::surveiller, "surveillance-regles-salaire");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Relit le fichier et publie ses règles si son contenu a changé.
+     * @return true si une nouvelle version a été publiée
+     * @throws IllegalArgumentException Si le fichier contient des règles invalides ou ne couvre
+     *                                  pas tous les types couverts par la version en vigueur
+     */
+    public synchronized boolean recharger() {
+        byte[] contenu;
+        try {
+            contenu = Files.readAllBytes(fichier);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture des règles de salaire " + fichier, e);
+        }
+        if (Arrays.equals(contenu, dernierContenu)) {
+            return false;
+        }
+        List<StrategieSalaire> strategies = TableReglesSalaire.analyser(
+                new String(contenu, StandardCharsets.UTF_8)).compiler();
+        verifierCouverture(registre.versionCourante(), new VersionStrategies(0, strategies));
+        VersionStrategies version = registre.publier(strategies);
+        dernierContenu = contenu;
+        rechargements.incrementAndGet();
+        apresRechargement.run();
+        logger.info("Règles de salaire chargées depuis {} (version {})", fichier, version.getNumero());
+        return true;
+    }
+
+    /**
+     * @return Le nombre de tables publiées, chargement initial compris
+     */
+    public long getNombreRechargements() {
+        return rechargements.get();
+    }
+
+    /**
+     * @return Le nombre de modifications ignorées faute de pouvoir lire ou compiler le fichier
+     */
+    public long getNombreEchecs() {
+        return echecs.get();
+    }
+
+    /**
+     * Arrête la surveillance ; les règles publiées restent en vigueur.
+     */
+    @Override
+    public void close() {
+        try {
+            surveillance.close();
+        } catch (IOException e) {
+            logger.warn("Erreur à l'arrêt de la surveillance de {}", fichier, e);
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void surveiller() {
+        try {
+            while (true) {
+                boolean modifie = concerneFichier(surveillance.take());
+                // Attente de la fin des écritures : une rafale d'évènements donne un seul rechargement
+                WatchKey suivante;
+                while ((suivante = surveillance.poll(DELAI_STABILISATION_MS, TimeUnit.MILLISECONDS)) != null) {
+                    modifie |= concerneFichier(suivante);
+                }
+                if (modifie) {
+                    rechargerSansInterrompre();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Arrêt demandé par close()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean concerneFichier(WatchKey cle) {
+        boolean concerne = false;
+        for (WatchEvent<?> evenement : cle.pollEvents()) {
+            concerne |= evenement.kind() == StandardWatchEventKinds.OVERFLOW
+                    || fichier.getFileName().equals(evenement.context());
+        }
+        cle.reset();
+        return concerne;
+    }
+
+    /**
+     * Refuse une table qui laisserait sans stratégie un type d'employé aujourd'hui calculable.
+     */
+    private static void verifierCouverture(VersionStrategies courante, VersionStrategies candidate) {
+        for (String type : EmployeFactory.TYPES) {
+            Employe exemple = EmployeFactory.creerEmploye("exemple", type, "exemple", 0, 0, null);
+            if (courante.couvre(exemple) && !candidate.couvre(exemple)) {
+                throw new IllegalArgumentException("Aucune règle pour le type " + type
+                        + ", couvert par la version " + courante.getNumero());
+            }
+        }
+    }
+
+    private void rechargerSansInterrompre() {
+        try {
+            recharger();
+        } catch (RuntimeException e) {
+            echecs.incrementAndGet();
+            logger.warn("Règles de salaire de {} ignorées, la version précédente reste en vigueur : {}",
+                    fichier, e.getMessage());
+        }
+    }
+}
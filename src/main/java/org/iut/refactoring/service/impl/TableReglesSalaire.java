@@ -0,0 +1,192 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.service.StrategieSalaire;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Table déclarative des règles de salaire, chargée depuis un fichier CSV :
+ *
+ *   type,calcul,experience_superieure_a,multiplicateur,ajout
+ *   DEVELOPPEUR,SALAIRE,,1.2,0
+ *   DEVELOPPEUR,SALAIRE,5,1.15,0
+ *
+ * Pour chaque type d'employé et chaque calcul (SALAIRE ou BONUS), les règles sont appliquées
+ * dans l'ordre du fichier à partir du salaire de base : valeur = valeur × multiplicateur + ajout,
+ * seulement si l'expérience est strictement supérieure au seuil quand il est renseigné.
+ * Un type sans règle BONUS a un bonus nul ; chaque type doit avoir au moins une règle SALAIRE.
+ * Les lignes vides et celles commençant par « # » sont ignorées, ainsi qu'une première ligne
+ * commençant par « type ».
+ *
+ * compiler() traduit la table en stratégies (StrategieSalaireCompilee) aussi rapides que les
+ * stratégies écrites à la main ; regles-salaire.csv, fourni avec l'application, reproduit ces
+ * dernières (TableReglesSalaire.parDefaut()).
+ * Principe SRP : Responsabilité unique de lire et valider les règles ; la traduction en code
+ * est confiée à CompilateurReglesSalaire.
+ */
+public class TableReglesSalaire {
+
+    public static final String CALCUL_SALAIRE = "SALAIRE";
+    public static final String CALCUL_BONUS = "BONUS";
+    public static final String RESSOURCE_PAR_DEFAUT = "/regles-salaire.csv";
+
+    private static final int NOMBRE_CHAMPS = 5;
+
+    private final Map<String, List<RegleSalaire>> reglesSalaire;
+    private final Map<String, List<RegleSalaire>> reglesBonus;
+
+    private TableReglesSalaire(Map<String, List<RegleSalaire>> reglesSalaire,
+                               Map<String, List<RegleSalaire>> reglesBonus) {
+        this.reglesSalaire = reglesSalaire;
+        this.reglesBonus = reglesBonus;
+    }
+
+    /**
+     * Charge une table depuis un fichier.
+     * @param fichier Le fichier CSV (UTF-8)
+     * @return La table chargée
+     * @throws IllegalArgumentException Si une ligne est invalide (numéro et contenu dans le message)
+     */
+    public static TableReglesSalaire charger(Path fichier) {
+        if (fichier == null) {
+            throw new IllegalArgumentException("Le fichier ne peut pas être null");
+        }
+        try {
+            return analyser(Files.readString(fichier, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture des règles de salaire " + fichier, e);
+        }
+    }
+
+    /**
+     * @return La table fournie avec l'application, équivalente aux stratégies écrites à la main
+     */
+    public static TableReglesSalaire parDefaut() {
+        try (InputStream flux = TableReglesSalaire.class.getResourceAsStream(RESSOURCE_PAR_DEFAUT)) {
+            if (flux == null) {
+                throw new IllegalStateException("Ressource introuvable: " + RESSOURCE_PAR_DEFAUT);
+            }
+            return analyser(new String(flux.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erreur lors de la lecture de " + RESSOURCE_PAR_DEFAUT, e);
+        }
+    }
+
+    /**
+     * Analyse le contenu d'un fichier de règles.
+     * @param contenu Le contenu CSV
+     * @return La table
+     * @throws IllegalArgumentException Si une ligne est invalide (numéro et contenu dans le message)
+     */
+    public static TableReglesSalaire analyser(String contenu) {
+        if (contenu == null) {
+            throw new IllegalArgumentException("Le contenu ne peut pas être null");
+        }
+        Map<String, List<RegleSalaire>> salaires = new LinkedHashMap<>();
+        Map<String, List<RegleSalaire>> bonus = new LinkedHashMap<>();
+        String[] lignes = contenu.split("\r?\n", -1);
+        for (int numero = 1; numero <= lignes.length; numero++) {
+            String ligne = lignes[numero - 1].trim();
+            if (ligne.isEmpty() || ligne.startsWith("#")
+                    || (numero == 1 && ligne.toLowerCase(Locale.ROOT).startsWith("type"))) {
+                continue;
+            }
+            try {
+                analyserLigne(ligne, salaires, bonus);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "Règle invalide ligne " + numero + " (" + e.getMessage() + "): " + ligne, e);
+            }
+        }
+        for (String type : bonus.keySet()) {
+            if (!salaires.containsKey(type)) {
+                throw new IllegalArgumentException("Aucune règle " + CALCUL_SALAIRE + " pour le type " + type);
+            }
+        }
+        if (salaires.isEmpty()) {
+            throw new IllegalArgumentException("La table de règles est vide");
+        }
+        return new TableReglesSalaire(figer(salaires), figer(bonus));
+    }
+
+    /**
+     * Compile chaque type d'employé en une stratégie, dans l'ordre d'apparition des types.
+     * @return Les stratégies, utilisables par CalculateurSalaireImpl
+     */
+    public List<StrategieSalaire> compiler() {
+        List<StrategieSalaire> strategies = new ArrayList<>(reglesSalaire.size());
+        for (Map.Entry<String, List<RegleSalaire>> entree : reglesSalaire.entrySet()) {
+            strategies.add(CompilateurReglesSalaire.compiler(entree.getKey(), entree.getValue(),
+                    getReglesBonus(entree.getKey())));
+        }
+        return strategies;
+    }
+
+    /**
+     * @return Les types d'employés couverts, dans l'ordre du fichier
+     */
+    public List<String> getTypes() {
+        return new ArrayList<>(reglesSalaire.keySet());
+    }
+
+    /**
+     * @param type Le type d'employé
+     * @return Les règles du salaire de ce type (vide si le type n'est pas couvert)
+     */
+    public List<RegleSalaire> getReglesSalaire(String type) {
+        return reglesSalaire.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * @param type Le type d'employé
+     * @return Les règles du bonus de ce type (vide : bonus nul)
+     */
+    public List<RegleSalaire> getReglesBonus(String type) {
+        return reglesBonus.getOrDefault(type, Collections.emptyList());
+    }
+
+    private static void analyserLigne(String ligne, Map<String, List<RegleSalaire>> salaires,
+                                      Map<String, List<RegleSalaire>> bonus) {
+        String[] champs = ligne.split(",", -1);
+        if (champs.length != NOMBRE_CHAMPS) {
+            throw new IllegalArgumentException(NOMBRE_CHAMPS + " champs attendus");
+        }
+        String type = champs[0].trim().toUpperCase(Locale.ROOT);
+        if (type.isEmpty()) {
+            throw new IllegalArgumentException("type manquant");
+        }
+        String calcul = champs[1].trim().toUpperCase(Locale.ROOT);
+        String seuil = champs[2].trim();
+        RegleSalaire regle = new RegleSalaire(
+                seuil.isEmpty() ? null : Integer.valueOf(seuil),
+                Double.parseDouble(champs[3].trim()),
+                Double.parseDouble(champs[4].trim()));
+        switch (calcul) {
+            case CALCUL_SALAIRE:
+                salaires.computeIfAbsent(type, t -> new ArrayList<>()).add(regle);
+                break;
+            case CALCUL_BONUS:
+                bonus.computeIfAbsent(type, t -> new ArrayList<>()).add(regle);
+                break;
+            default:
+                throw new IllegalArgumentException("calcul " + CALCUL_SALAIRE + " ou " + CALCUL_BONUS + " attendu");
+        }
+    }
+
+    private static Map<String, List<RegleSalaire>> figer(Map<String, List<RegleSalaire>> regles) {
+        Map<String, List<RegleSalaire>> copie = new LinkedHashMap<>();
+        regles.forEach((type, liste) -> copie.put(type, Collections.unmodifiableList(new ArrayList<>(liste))));
+        return Collections.unmodifiableMap(copie);
+    }
+}
@@ -0,0 +1,89 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.StrategieSalaire;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version immuable de l'ensemble des stratégies de salaire, publiée par un RegistreStrategies.
+ * La stratégie applicable est résolue une seule fois par classe concrète d'employé puis mise
+ * en cache dans la version : une nouvelle version repart d'un cache vide, sans invalidation.
+ * Cela suppose que estApplicable ne dépend que de la classe de l'employé.
+ * Principe SRP : Responsabilité unique de résoudre la stratégie d'un employé pour une version.
+ */
+public final class VersionStrategies {
+
+    private final long numero;
+    private final List<StrategieSalaire> strategies;
+    private final Map<Class<? extends Employe>, StrategieSalaire> strategieParClasse;
+
+    VersionStrategies(long numero, List<StrategieSalaire> strategies) {
+        for (StrategieSalaire strategie : strategies) {
+            if (strategie == null) {
+                throw new IllegalArgumentException("La stratégie ne peut pas être null");
+            }
+        }
+        this.numero = numero;
+        this.strategies = Collections.unmodifiableList(new ArrayList<>(strategies));
+        this.strategieParClasse = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return Le numéro de la version, croissant à chaque publication
+     */
+    public long getNumero() {
+        return numero;
+    }
+
+    /**
+     * @return Les stratégies, dans l'ordre où elles sont consultées
+     */
+    public List<StrategieSalaire> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * @param employe L'employé
+     * @return La première stratégie applicable à l'employé
+     * @throws IllegalArgumentException Si aucune stratégie ne s'applique
+     */
+    public StrategieSalaire trouverStrategie(Employe employe) {
+        StrategieSalaire strategie = strategieParClasse.get(employe.getClass());
+        if (strategie == null) {
+            strategie = resoudreStrategie(employe);
+            strategieParClasse.put(employe.getClass(), strategie);
+        }
+        return strategie;
+    }
+
+    /**
+     * @param employe L'employé
+     * @return true si une stratégie de cette version s'applique à l'employé
+     */
+    public boolean couvre(Employe employe) {
+        if (strategieParClasse.containsKey(employe.getClass())) {
+            return true;
+        }
+        for (StrategieSalaire strategie : strategies) {
+            if (strategie.estApplicable(employe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private StrategieSalaire resoudreStrategie(Employe employe) {
+        for (StrategieSalaire strategie : strategies) {
+            if (strategie.estApplicable(employe)) {
+                return strategie;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Aucune stratégie trouvée pour le type d'employé: " + employe.getType());
+    }
+}
@@ -0,0 +1,140 @@
+package org.iut.refactoring;
+
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryConcurrent;
+import org.iut.refactoring.service.ServiceGestionPersonnel;
+import org.iut.refactoring.service.impl.ServiceLogAsynchrone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires et de charge pour la facade asynchrone GestionPersonnelAsync.
+ */
+@DisplayName("Tests de la facade asynchrone GestionPersonnelAsync")
+class GestionPersonnelAsyncTest {
+
+    private GestionPersonnelAsync gestionAsync;
+    private ServiceLogAsynchrone serviceLog;
+
+    @AfterEach
+    void tearDown() {
+        if (gestionAsync != null) {
+            gestionAsync.close();
+        }
+        if (serviceLog != null) {
+            serviceLog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait rendre les mêmes résultats que la facade synchrone")
+    void devraitRendreMemesResultatsQueFacadeSynchrone() {
+        // Given
+        EmployeRepository repository = new EmployeRepositoryConcurrent();
+        serviceLog = new ServiceLogAsynchrone();
+        GestionPersonnel gestionPersonnel = new GestionPersonnel(repository, serviceLog);
+        gestionAsync = new GestionPersonnelAsync(gestionPersonnel);
+
+        // When
+        CompletableFuture.allOf(
+                gestionAsync.ajouteSalarie("DEVELOPPEUR", "Alice", 50000, 6, "IT"),
+                gestionAsync.ajouteSalarie("CHEF DE PROJET", "Bob", 60000, 8, "RH"),
+                gestionAsync.ajouteSalarie("STAGIAIRE", "Charlie", 20000, 0, "IT")).join();
+
+        // Then
+        assertThat(repository.trouverTous()).hasSize(3);
+        for (Employe employe : repository.trouverTous()) {
+            assertThat(gestionAsync.calculSalaire(employe.getId()).join())
+                    .isEqualTo(gestionPersonnel.calculSalaire(employe.getId()));
+            assertThat(gestionAsync.calculBonusAnnuel(employe.getId()).join())
+                    .isEqualTo(gestionPersonnel.calculBonusAnnuel(employe.getId()));
+        }
+        assertThat(gestionAsync.calculSalaire("id-inexistant").join()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ne devrait jamais dépasser la limite de concurrence avec 10 000 appelants simultanés")
+    void neDevraitPasDepasserLimiteConcurrence() {
+        // Given : chaque calcul simule une attente d'entrée/sortie d'une milliseconde
+        int limiteConcurrence = 8;
+        int nombreAppelants = 10_000;
+        AtomicInteger enCours = new AtomicInteger();
+        AtomicInteger maximumObserve = new AtomicInteger();
+        ServiceGestionPersonnel service = mock(ServiceGestionPersonnel.class);
+        when(service.calculerSalaire(anyString())).thenAnswer(invocation -> {
+            maximumObserve.accumulateAndGet(enCours.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(1);
+            enCours.decrementAndGet();
+            return 1000.0;
+        });
+        gestionAsync = new GestionPersonnelAsync(
+                new GestionPersonnel(service, new EmployeRepositoryConcurrent()), limiteConcurrence);
+
+        // When
+        List<CompletableFuture<Double>> salaires = new ArrayList<>(nombreAppelants);
+        for (int i = 0; i < nombreAppelants; i++) {
+            salaires.add(gestionAsync.calculSalaire("id-" + i));
+        }
+        CompletableFuture.allOf(salaires.toArray(new CompletableFuture[0])).orTimeout(120, TimeUnit.SECONDS).join();
+
+        // Then
+        assertThat(salaires).allSatisfy(salaire -> assertThat(salaire.join()).isEqualTo(1000.0));
+        assertThat(maximumObserve.get()).isBetween(1, limiteConcurrence);
+        assertThat(gestionAsync.getNombreEnCours()).isZero();
+        verify(service, times(nombreAppelants)).calculerSalaire(anyString());
+    }
+
+    @Test
+    @DisplayName("Devrait transmettre les erreurs dans le futur plutôt qu'à l'appelant")
+    void devraitTransmettreErreursDansLeFutur() {
+        // Given
+        serviceLog = new ServiceLogAsynchrone();
+        gestionAsync = new GestionPersonnelAsync(new GestionPersonnel(new EmployeRepositoryConcurrent(), serviceLog));
+
+        // When
+        CompletableFuture<Void> rapport = gestionAsync.generationRapport("INCONNU", null);
+        CompletableFuture<Void> ajout = gestionAsync.ajouteSalarie("DIRECTEUR", "Alice", 50000, 5, "IT");
+
+        // Then
+        assertThatThrownBy(rapport::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(ajout::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("Type d'employé non reconnu: DIRECTEUR");
+    }
+
+    @Test
+    @DisplayName("Devrait refuser les appels après fermeture et valider ses paramètres")
+    void devraitRefuserAppelsApresFermeture() {
+        // Given
+        gestionAsync = new GestionPersonnelAsync(
+                new GestionPersonnel(mock(ServiceGestionPersonnel.class), new EmployeRepositoryConcurrent()), 4);
+
+        // When
+        gestionAsync.close();
+
+        // Then
+        assertThatThrownBy(() -> gestionAsync.calculSalaire("id-1").join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(gestionAsync.getLimiteConcurrence()).isEqualTo(4);
+        assertThatThrownBy(() -> new GestionPersonnelAsync(new GestionPersonnel(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GestionPersonnelAsync(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,14 +1,25 @@
 package org.iut.refactoring;
 
+import org.iut.refactoring.metrique.InstantaneMetrique;
+import org.iut.refactoring.metrique.RegistreMetriques;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
 import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryConcurrent;
 import org.iut.refactoring.service.ServiceGestionPersonnel;
+import org.iut.refactoring.service.impl.ServiceLogImpl;
+import org.iut.refactoring.service.impl.SurveillanceReglesSalaire;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 
@@ -48,7 +59,22 @@ class GestionPersonnelTest {
         // Then
         assertThat(gp).isNotNull();
     }
-    
+
+    @Test
+    @DisplayName("Devrait utiliser le repository choisi à la construction")
+    void devraitUtiliserRepositoryChoisiALaConstruction() {
+        // Given
+        EmployeRepositoryConcurrent repository = new EmployeRepositoryConcurrent();
+        GestionPersonnel gp = new GestionPersonnel(repository);
+
+        // When
+        gp.ajouteSalarie("DEVELOPPEUR", "Alice", 50000, 5, "IT");
+
+        // Then
+        assertThat(repository.trouverParEquipe("IT")).hasSize(1);
+        assertThat(gp.getEmployesParDivision("IT")).hasSize(1);
+    }
+
     @Test
     @DisplayName("Devrait ajouter un salarié")
     void devraitAjouterSalarie() {
@@ -198,5 +224,109 @@ class GestionPersonnelTest {
         // Then
         verify(serviceGestionPersonnel).afficherLogs();
     }
-}
+    
+    @Test
+    @DisplayName("Devrait récupérer les statistiques par division")
+    void devraitRecupererStatistiquesParDivision() {
+        // Given
+        List<StatistiquesEquipe> statistiques = Arrays.asList(
+            new StatistiquesEquipe("IT", 1, 50000, 60000, new long[]{0, 1, 0, 0}));
+        when(serviceGestionPersonnel.obtenirStatistiquesEquipes()).thenReturn(statistiques);
+        
+        // When
+        List<StatistiquesEquipe> result = gestionPersonnel.getStatistiquesParDivision();
+        
+        // Then
+        assertThat(result).isSameAs(statistiques);
+    }
+    
+    @Test
+    @DisplayName("Devrait maintenir les statistiques de division au fil des ajouts")
+    void devraitMaintenirStatistiquesDivisionAuFilDesAjouts() {
+        // Given
+        GestionPersonnel gp = new GestionPersonnel();
+        
+        // When
+        gp.ajouteSalarie("DEVELOPPEUR", "Alice", 50000, 6, "IT");
+        gp.ajouteSalarie("STAGIAIRE", "Charlie", 20000, 0, "IT");
+        gp.ajouteSalarie("CHEF DE PROJET", "Bob", 60000, 5, "RH");
+        
+        // Then
+        assertThat(gp.getStatistiquesParDivision())
+            .extracting(StatistiquesEquipe::getEquipe, StatistiquesEquipe::getEffectif)
+            .containsExactly(tuple("IT", 2L), tuple("RH", 1L));
+    }
 
+    @Test
+    @DisplayName("Devrait accepter un salarié sans division dans les statistiques")
+    void devraitAccepterSalarieSansDivision() {
+        // Given
+        GestionPersonnel gp = new GestionPersonnel();
+
+        // When
+        gp.ajouteSalarie("DEVELOPPEUR", "X", 1000, 1, null);
+        gp.ajouteSalarie("DEVELOPPEUR", "Alice", 50000, 6, "IT");
+
+        // Then
+        assertThat(gp.getStatistiquesParDivision())
+            .extracting(StatistiquesEquipe::getEquipe, StatistiquesEquipe::getEffectif)
+            .containsExactly(tuple(null, 1L), tuple("IT", 1L));
+    }
+
+    @Test
+    @DisplayName("Devrait mesurer les opérations dans le registre de métriques")
+    void devraitMesurerOperationsDansRegistreMetriques() {
+        // Given
+        RegistreMetriques registre = new RegistreMetriques();
+        GestionPersonnel gp = new GestionPersonnel(new EmployeRepositoryConcurrent(), new ServiceLogImpl(), registre);
+        gp.ajouteSalarie("DEVELOPPEUR", "Alice", 50000, 6, "IT");
+        String id = gp.getEmployesParDivision("IT").get(0).getId();
+
+        // When
+        gp.calculSalaire(id);
+        gp.calculSalaire(id);
+
+        // Then
+        assertThat(registre.instantane())
+            .filteredOn(metrique -> metrique.getNombre() > 0)
+            .extracting(InstantaneMetrique::getOperation, InstantaneMetrique::getType)
+            .contains(
+                tuple("service.ajouterEmploye", "DEVELOPPEUR"),
+                tuple("service.calculerSalaire", null),
+                tuple("repository.ajouter", "DEVELOPPEUR"),
+                tuple("calculateur.calculerSalaire", "DEVELOPPEUR"));
+    }
+
+    @Test
+    @DisplayName("Devrait appliquer les règles de salaire rechargées au calcul et aux statistiques")
+    void devraitAppliquerReglesSalaireRechargees(@TempDir Path repertoire) throws IOException {
+        // Given
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, "DEVELOPPEUR,SALAIRE,,1,0\nCHEF DE PROJET,SALAIRE,,1,0\nSTAGIAIRE,SALAIRE,,1,0\n");
+        GestionPersonnel gp = new GestionPersonnel();
+        gp.ajouteSalarie("DEVELOPPEUR", "Alice", 50000, 6, "IT");
+        String id = gp.getEmployesParDivision("IT").get(0).getId();
+
+        try (SurveillanceReglesSalaire surveillance = gp.surveillerReglesSalaire(fichier)) {
+            assertThat(gp.calculSalaire(id)).isEqualTo(50000.0);
+
+            // When
+            Files.writeString(fichier, "DEVELOPPEUR,SALAIRE,,1,1000\nCHEF DE PROJET,SALAIRE,,1,0\nSTAGIAIRE,SALAIRE,,1,0\n");
+            surveillance.recharger();
+
+            // Then
+            assertThat(gp.calculSalaire(id)).isEqualTo(51000.0);
+            assertThat(gp.getStatistiquesParDivision())
+                .extracting(StatistiquesEquipe::getSommeSalairesCalcules)
+                .containsExactly(51000.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser de surveiller les règles avec des services injectés")
+    void devraitRefuserSurveillanceAvecServicesInjectes() {
+        // When & Then
+        assertThatThrownBy(() -> gestionPersonnel.surveillerReglesSalaire(Paths.get("regles.csv")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -137,5 +137,25 @@ class EmployeFactoryTest {
         // Then
         assertThat(emp1.getId()).isNotEqualTo(emp2.getId());
     }
-}
 
+    @Test
+    @DisplayName("Devrait conserver l'identifiant fourni")
+    void devraitConserverIdentifiantFourni() {
+        // When
+        Employe employe = EmployeFactory.creerEmploye("id-42", "CHEF DE PROJET", "Bob", 60000, 8, "RH");
+
+        // Then
+        assertThat(employe).isInstanceOf(ChefDeProjet.class);
+        assertThat(employe.getId()).isEqualTo("id-42");
+        assertThat(employe.getNom()).isEqualTo("Bob");
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si l'identifiant fourni est null")
+    void devraitLeverExceptionSiIdentifiantNull() {
+        // When & Then
+        assertThatThrownBy(() -> EmployeFactory.creerEmploye(null, "DEVELOPPEUR", "Alice", 50000, 5, "IT"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("identifiant");
+    }
+}
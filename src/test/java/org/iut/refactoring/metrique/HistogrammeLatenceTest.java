@@ -0,0 +1,101 @@
+package org.iut.refactoring.metrique;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour HistogrammeLatence.
+ */
+@DisplayName("Tests de l'histogramme de latences")
+class HistogrammeLatenceTest {
+
+    @Test
+    @DisplayName("Devrait estimer les quantiles à moins de 1,6 % près")
+    void devraitEstimerQuantiles() {
+        // Given : une distribution log-normale, de quelques nanosecondes à plusieurs millisecondes
+        Random aleatoire = new Random(42);
+        long[] valeurs = new long[100_000];
+        HistogrammeLatence histogramme = new HistogrammeLatence();
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = (long) Math.exp(aleatoire.nextGaussian() * 2 + 8);
+            histogramme.enregistrer(valeurs[i]);
+        }
+        Arrays.sort(valeurs);
+
+        // When & Then
+        for (double q : new double[] {0.5, 0.9, 0.99, 0.999, 1}) {
+            long exact = valeurs[(int) (q * (valeurs.length - 1))];
+            assertThat(histogramme.valeurAuQuantile(q)).isBetween(exact, exact + exact / 64);
+        }
+        assertThat(histogramme.nombre()).isEqualTo(valeurs.length);
+        assertThat(histogramme.max()).isEqualTo(valeurs[valeurs.length - 1]);
+        assertThat(histogramme.somme()).isEqualTo(Arrays.stream(valeurs).sum());
+    }
+
+    @Test
+    @DisplayName("Devrait ranger chaque valeur dans un seau qui la contient")
+    void devraitRangerValeursDansLeurSeau() {
+        for (long valeur : new long[] {0, 1, 127, 128, 129, 255, 256, 1_000_000, HistogrammeLatence.VALEUR_MAX}) {
+            int indice = HistogrammeLatence.indice(valeur);
+            assertThat(HistogrammeLatence.borneHaute(indice)).isGreaterThanOrEqualTo(valeur);
+            assertThat(indice == 0 || HistogrammeLatence.borneHaute(indice - 1) < valeur).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait gérer l'histogramme vide, les valeurs hors bornes et les quantiles invalides")
+    void devraitGererCasLimites() {
+        // Given
+        HistogrammeLatence histogramme = new HistogrammeLatence();
+
+        // When & Then
+        assertThat(histogramme.valeurAuQuantile(0.99)).isZero();
+        histogramme.enregistrer(-5);
+        histogramme.enregistrer(Long.MAX_VALUE);
+        assertThat(histogramme.valeurAuQuantile(0)).isZero();
+        assertThat(histogramme.valeurAuQuantile(1)).isEqualTo(HistogrammeLatence.VALEUR_MAX);
+        assertThat(histogramme.max()).isEqualTo(HistogrammeLatence.VALEUR_MAX);
+        assertThat(histogramme.somme()).isEqualTo(HistogrammeLatence.VALEUR_MAX);
+        assertThatThrownBy(() -> histogramme.valeurAuQuantile(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> histogramme.valeurAuQuantile(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Ne devrait perdre aucun enregistrement concurrent")
+    void neDevraitPerdreAucunEnregistrementConcurrent() throws Exception {
+        // Given
+        HistogrammeLatence histogramme = new HistogrammeLatence();
+        int nombreThreads = 8;
+        int parThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(nombreThreads);
+        List<Future<?>> taches = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < nombreThreads; t++) {
+            taches.add(executor.submit(() -> {
+                for (int i = 0; i < parThread; i++) {
+                    histogramme.enregistrer(1000);
+                }
+            }));
+        }
+        for (Future<?> tache : taches) {
+            tache.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(histogramme.nombre()).isEqualTo((long) nombreThreads * parThread);
+        assertThat(histogramme.somme()).isEqualTo(1000L * nombreThreads * parThread);
+    }
+}
@@ -0,0 +1,86 @@
+package org.iut.refactoring.metrique;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour RegistreMetriques.
+ */
+@DisplayName("Tests du registre des métriques")
+class RegistreMetriquesTest {
+
+    @TempDir
+    Path repertoire;
+
+    private final RegistreMetriques registre = new RegistreMetriques();
+
+    @Test
+    @DisplayName("Devrait partager une métrique par opération et par type")
+    void devraitPartagerMetriqueParOperationEtType() {
+        // When & Then
+        assertThat(registre.metrique("op", "DEVELOPPEUR")).isSameAs(registre.metrique("op", "DEVELOPPEUR"));
+        assertThat(registre.metrique("op")).isNotSameAs(registre.metrique("op", "DEVELOPPEUR"));
+        assertThatThrownBy(() -> registre.metrique(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Devrait compter les appels et les erreurs et propager les exceptions")
+    void devraitCompterAppelsEtErreurs() {
+        // Given
+        MetriqueOperation metrique = registre.metrique("op", "STAGIAIRE");
+
+        // When
+        assertThat(metrique.mesurer(() -> 42)).isEqualTo(42);
+        metrique.mesurer(() -> { });
+        assertThatThrownBy(() -> metrique.mesurer((Runnable) () -> {
+            throw new IllegalStateException("échec");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        List<InstantaneMetrique> instantanes = registre.instantane();
+        assertThat(instantanes).hasSize(1);
+        InstantaneMetrique instantane = instantanes.get(0);
+        assertThat(instantane.getOperation()).isEqualTo("op");
+        assertThat(instantane.getType()).isEqualTo("STAGIAIRE");
+        assertThat(instantane.getNombre()).isEqualTo(3);
+        assertThat(instantane.getErreurs()).isEqualTo(1);
+        assertThat(instantane.getMaxNanos()).isGreaterThanOrEqualTo(instantane.getP50Nanos());
+    }
+
+    @Test
+    @DisplayName("Devrait exporter les métriques et les jauges au format Prometheus")
+    void devraitExporterFormatPrometheus() throws IOException {
+        // Given
+        registre.metrique("calculer\"Salaire", "DEVELOPPEUR").mesurer(() -> 1.0);
+        registre.metrique("supprimer").mesurer(() -> { });
+        registre.ajouterJauge("cache_taille", "Taille du cache.", () -> 12);
+        Path fichier = repertoire.resolve("metriques.prom");
+
+        // When
+        registre.exporterPrometheus(fichier);
+
+        // Then
+        List<String> lignes = Files.readAllLines(fichier, StandardCharsets.UTF_8);
+        assertThat(lignes).contains(
+                "# TYPE gestion_personnel_operation_duree_secondes summary",
+                "gestion_personnel_operation_duree_secondes_count{operation=\"calculer\\\"Salaire\",type=\"DEVELOPPEUR\"} 1",
+                "gestion_personnel_operation_erreurs_total{operation=\"supprimer\"} 0",
+                "# TYPE gestion_personnel_cache_taille gauge",
+                "gestion_personnel_cache_taille 12.0");
+        assertThat(lignes).anyMatch(ligne -> ligne.startsWith(
+                "gestion_personnel_operation_duree_secondes{operation=\"supprimer\",quantile=\"0.99\"} "));
+        assertThat(registre.jauges()).containsEntry("cache_taille", 12.0);
+        assertThat(Files.list(repertoire)).containsExactly(fichier);
+        assertThatThrownBy(() -> registre.ajouterJauge("nom invalide", "", () -> 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package org.iut.refactoring.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe Identifiants.
+ */
+@DisplayName("Tests de la classe Identifiants")
+class IdentifiantsTest {
+
+    @AfterEach
+    void tearDown() {
+        Identifiants.utiliser(Identifiants.aleatoire());
+    }
+
+    @Test
+    @DisplayName("Devrait convertir un UUID canonique en deux longs et inversement")
+    void devraitConvertirUuid() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        String texte = uuid.toString();
+
+        // When & Then
+        assertThat(Identifiants.estUuidCanonique(texte)).isTrue();
+        assertThat(Identifiants.moitieHaute(texte)).isEqualTo(uuid.getMostSignificantBits());
+        assertThat(Identifiants.moitieBasse(texte)).isEqualTo(uuid.getLeastSignificantBits());
+        assertThat(Identifiants.formater(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()))
+            .isEqualTo(texte);
+        assertThat(Identifiants.estUuidCanonique(texte.toUpperCase())).isFalse();
+        assertThat(Identifiants.estUuidCanonique("id-maison")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Devrait générer des UUID version 7 uniques et croissants")
+    void devraitGenererIdentifiantsChronologiques() {
+        // Given
+        GenerateurIdentifiants generateur = Identifiants.chronologique();
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generateur.generer());
+        }
+
+        // Then
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        UUID uuid = UUID.fromString(ids.get(0));
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(Identifiants.estUuidCanonique(ids.get(0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Devrait générer des identifiants séquentiels dans un même espace de noms")
+    void devraitGenererIdentifiantsSequentiels() {
+        // Given
+        GenerateurIdentifiants generateur = Identifiants.sequentiel();
+
+        // When
+        String premier = generateur.generer();
+        String second = generateur.generer();
+
+        // Then
+        assertThat(Identifiants.moitieHaute(premier)).isEqualTo(Identifiants.moitieHaute(second));
+        assertThat(Identifiants.moitieBasse(second) - Identifiants.moitieBasse(premier)).isEqualTo(1);
+        assertThat(UUID.fromString(premier).version()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Devrait utiliser le générateur configuré pour les nouveaux employés")
+    void devraitUtiliserGenerateurConfigure() {
+        // Given
+        Identifiants.utiliser(() -> "id-1");
+
+        // When
+        Employe employe = new Developpeur("Alice", 50000, 5, "IT");
+
+        // Then
+        assertThat(employe.getId()).isEqualTo("id-1");
+        assertThatThrownBy(() -> Identifiants.utiliser(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
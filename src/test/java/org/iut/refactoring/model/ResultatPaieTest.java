@@ -0,0 +1,40 @@
+package org.iut.refactoring.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe ResultatPaie.
+ */
+@DisplayName("Tests de la classe ResultatPaie")
+class ResultatPaieTest {
+
+    @Test
+    @DisplayName("Devrait exposer les colonnes salaires et bonus par indice")
+    void devraitExposerColonnesParIndice() {
+        // Given
+        double[] salaires = {69000.0, 104000.0};
+        double[] bonus = {7500.0, 15600.0};
+
+        // When
+        ResultatPaie resultat = new ResultatPaie(salaires, bonus);
+
+        // Then
+        assertThat(resultat.taille()).isEqualTo(2);
+        assertThat(resultat.getSalaire(1)).isEqualTo(104000.0);
+        assertThat(resultat.getBonus(0)).isEqualTo(7500.0);
+        assertThat(resultat.getSalaires()).isSameAs(salaires);
+        assertThat(resultat.getBonus()).isSameAs(bonus);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser des colonnes de tailles différentes")
+    void devraitRefuserColonnesDeTaillesDifferentes() {
+        // When & Then
+        assertThatThrownBy(() -> new ResultatPaie(new double[2], new double[3]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("même taille");
+    }
+}
@@ -0,0 +1,42 @@
+package org.iut.refactoring.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe StatistiquesEquipe.
+ */
+@DisplayName("Tests de la classe StatistiquesEquipe")
+class StatistiquesEquipeTest {
+
+    @Test
+    @DisplayName("Devrait classer l'expérience selon les seuils des stratégies")
+    void devraitClasserExperienceParTranche() {
+        // When & Then
+        assertThat(StatistiquesEquipe.trancheExperience(0)).isZero();
+        assertThat(StatistiquesEquipe.trancheExperience(3)).isZero();
+        assertThat(StatistiquesEquipe.trancheExperience(4)).isEqualTo(1);
+        assertThat(StatistiquesEquipe.trancheExperience(5)).isEqualTo(1);
+        assertThat(StatistiquesEquipe.trancheExperience(10)).isEqualTo(2);
+        assertThat(StatistiquesEquipe.trancheExperience(11)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Devrait protéger l'histogramme contre les modifications externes")
+    void devraitProtegerHistogramme() {
+        // Given
+        long[] histogramme = {1, 2, 3, 4};
+        StatistiquesEquipe statistiques = new StatistiquesEquipe("IT", 10, 500000, 600000, histogramme);
+
+        // When
+        histogramme[0] = 99;
+        statistiques.getHistogrammeExperience()[1] = 99;
+
+        // Then
+        assertThat(statistiques.getHistogrammeExperience()).containsExactly(1, 2, 3, 4);
+        assertThat(statistiques.getEffectif()).isEqualTo(10);
+        assertThat(statistiques.toString()).contains("IT: 10 employés");
+    }
+}
@@ -0,0 +1,187 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Identifiants;
+import org.iut.refactoring.model.Stagiaire;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour EmployeRepositoryColonnes.
+ */
+@DisplayName("Tests du repository stocké en colonnes")
+class EmployeRepositoryColonnesTest {
+
+    private EmployeRepositoryColonnes repository;
+    private Employe developpeur;
+    private Employe chefDeProjet;
+    private Employe stagiaire;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeRepositoryColonnes();
+        developpeur = new Developpeur("Alice", 50000.5, 5, "IT");
+        chefDeProjet = new ChefDeProjet("Bob", 60000, 8, "RH");
+        stagiaire = new Stagiaire("Zoé", 20000, 0, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si on ajoute un employé null")
+    void devraitLeverExceptionSiEmployeNull() {
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ne peut pas être null");
+    }
+
+    @Test
+    @DisplayName("Devrait matérialiser un employé égal en valeurs à celui ajouté")
+    void devraitMaterialiserEmployeAjoute() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(stagiaire);
+
+        // When
+        Employe trouve = repository.trouverParId(stagiaire.getId()).orElseThrow();
+
+        // Then
+        assertMemeEmploye(trouve, stagiaire);
+        assertThat(trouve).isInstanceOf(Stagiaire.class);
+    }
+
+    @Test
+    @DisplayName("Devrait conserver les identifiants non UUID et les valeurs null")
+    void devraitConserverValeursParticulieres() {
+        // Given
+        Employe maison = new Developpeur("id-maison", null, 40000, 2, null);
+        repository.ajouter(maison);
+        repository.ajouter(developpeur);
+
+        // When
+        Employe trouve = repository.trouverParId("id-maison").orElseThrow();
+
+        // Then
+        assertMemeEmploye(trouve, maison);
+        assertThat(repository.trouverParEquipe(null)).hasSize(1);
+        assertThat(repository.trouverParId(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait trouver un employé par la forme primitive de son identifiant")
+    void devraitTrouverParFormePrimitive() {
+        // Given
+        repository.ajouter(developpeur);
+        long haut = Identifiants.moitieHaute(developpeur.getId());
+        long bas = Identifiants.moitieBasse(developpeur.getId());
+
+        // When & Then
+        assertMemeEmploye(repository.trouverParId(haut, bas).orElseThrow(), developpeur);
+        assertThat(repository.trouverParId(haut, bas + 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait trouver les employés par équipe")
+    void devraitTrouverEmployesParEquipe() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.ajouter(stagiaire);
+
+        // When
+        List<Employe> it = repository.trouverParEquipe("IT");
+
+        // Then
+        assertThat(it).extracting(Employe::getId)
+            .containsExactlyInAnyOrder(developpeur.getId(), stagiaire.getId());
+        assertThat(repository.trouverParEquipe("Finance")).isEmpty();
+        assertThat(repository.trouverTous()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Devrait remplacer un employé ajouté deux fois avec le même ID")
+    void devraitRemplacerEmployeMemeId() {
+        // Given
+        repository.ajouter(developpeur);
+        Employe promu = new ChefDeProjet(developpeur.getId(), "Alice", 55000, 6, "RH");
+
+        // When
+        repository.ajouter(promu);
+
+        // Then
+        assertThat(repository.taille()).isEqualTo(1);
+        assertMemeEmploye(repository.trouverParId(developpeur.getId()).orElseThrow(), promu);
+        assertThat(repository.trouverParEquipe("IT")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait garder les autres employés accessibles après une suppression")
+    void devraitGarderAutresEmployesApresSuppression() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.ajouter(stagiaire);
+
+        // When
+        boolean supprime = repository.supprimer(developpeur.getId());
+
+        // Then
+        assertThat(supprime).isTrue();
+        assertThat(repository.supprimer(developpeur.getId())).isFalse();
+        assertThat(repository.trouverParId(developpeur.getId())).isEmpty();
+        assertMemeEmploye(repository.trouverParId(stagiaire.getId()).orElseThrow(), stagiaire);
+        assertMemeEmploye(repository.trouverParId(chefDeProjet.getId()).orElseThrow(), chefDeProjet);
+    }
+
+    @Test
+    @DisplayName("Devrait rester cohérent après de nombreux ajouts et suppressions")
+    void devraitResterCoherentApresNombreusesOperations() {
+        // Given
+        List<Employe> employes = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Employe employe = new Developpeur("Employe" + i, 30000 + i, i % 20, "EQUIPE-" + (i % 7));
+            employes.add(employe);
+            repository.ajouter(employe);
+        }
+
+        // When
+        for (int i = 0; i < employes.size(); i += 2) {
+            repository.supprimer(employes.get(i).getId());
+        }
+
+        // Then
+        assertThat(repository.taille()).isEqualTo(2500);
+        for (int i = 1; i < employes.size(); i += 2) {
+            assertMemeEmploye(repository.trouverParId(employes.get(i).getId()).orElseThrow(), employes.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait occuper moins de mémoire que des objets Employe")
+    void devraitEstimerEmpreinteCompacte() {
+        // Given
+        EmployeRepositoryColonnes dimensionne = new EmployeRepositoryColonnes(1000);
+        for (int i = 0; i < 1000; i++) {
+            dimensionne.ajouter(new Developpeur("Employe" + i, 30000, 3, "IT"));
+        }
+
+        // When & Then
+        assertThat(dimensionne.empreinteOctets()).isLessThan(150L * 1000);
+    }
+
+    private static void assertMemeEmploye(Employe relu, Employe attendu) {
+        assertThat(relu.getId()).isEqualTo(attendu.getId());
+        assertThat(relu.getType()).isEqualTo(attendu.getType());
+        assertThat(relu.getNom()).isEqualTo(attendu.getNom());
+        assertThat(relu.getSalaireDeBase()).isEqualTo(attendu.getSalaireDeBase());
+        assertThat(relu.getExperience()).isEqualTo(attendu.getExperience());
+        assertThat(relu.getEquipe()).isEqualTo(attendu.getEquipe());
+    }
+}
@@ -0,0 +1,279 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires et de charge pour EmployeRepositoryConcurrent.
+ */
+@DisplayName("Tests du repository concurrent des employés")
+class EmployeRepositoryConcurrentTest {
+
+    private static final int NOMBRE_THREADS = 32;
+
+    private EmployeRepositoryConcurrent repository;
+    private Employe developpeur;
+    private Employe chefDeProjet;
+    private Employe stagiaire;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeRepositoryConcurrent();
+        developpeur = new Developpeur("Alice", 50000, 5, "IT");
+        chefDeProjet = new ChefDeProjet("Bob", 60000, 8, "RH");
+        stagiaire = new Stagiaire("Charlie", 20000, 0, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter et retrouver un employé")
+    void devraitAjouterEtTrouverEmploye() {
+        // When
+        repository.ajouter(developpeur);
+
+        // Then
+        Optional<Employe> result = repository.trouverParId(developpeur.getId());
+        assertThat(result).contains(developpeur);
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si on ajoute un employé null")
+    void devraitLeverExceptionSiEmployeNull() {
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ne peut pas être null");
+    }
+
+    @Test
+    @DisplayName("Devrait retourner Optional.empty() pour un ID inexistant ou null")
+    void devraitRetournerEmptySiIdInexistantOuNull() {
+        // When & Then
+        assertThat(repository.trouverParId("id-inexistant")).isEmpty();
+        assertThat(repository.trouverParId(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait trouver les employés par équipe")
+    void devraitTrouverEmployesParEquipe() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.ajouter(stagiaire);
+
+        // When
+        List<Employe> result = repository.trouverParEquipe("IT");
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(developpeur, stagiaire);
+        assertThat(repository.trouverTous()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Devrait supprimer un employé une seule fois")
+    void devraitSupprimerEmployeUneSeuleFois() {
+        // Given
+        repository.ajouter(developpeur);
+
+        // When & Then
+        assertThat(repository.supprimer(developpeur.getId())).isTrue();
+        assertThat(repository.supprimer(developpeur.getId())).isFalse();
+        assertThat(repository.supprimer(null)).isFalse();
+        assertThat(repository.trouverParId(developpeur.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait rester cohérent avec 32 threads ajoutant, lisant et supprimant en parallèle")
+    void devraitResterCoherentSousChargeConcurrente() throws Exception {
+        // Given
+        int employesParThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(NOMBRE_THREADS);
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger incoherences = new AtomicInteger();
+        List<Future<?>> taches = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < NOMBRE_THREADS; t++) {
+            String equipe = "EQUIPE-" + (t % 4);
+            taches.add(executor.submit(() -> {
+                depart.await();
+                List<Employe> miens = new ArrayList<>();
+                for (int i = 0; i < employesParThread; i++) {
+                    Employe employe = new Developpeur("Dev" + i, 40000 + i, i % 15, equipe);
+                    repository.ajouter(employe);
+                    miens.add(employe);
+                    if (repository.trouverParId(employe.getId()).orElse(null) != employe) {
+                        incoherences.incrementAndGet();
+                    }
+                }
+                for (int i = 0; i < employesParThread; i += 2) {
+                    String id = miens.get(i).getId();
+                    if (!repository.supprimer(id) || repository.trouverParId(id).isPresent()) {
+                        incoherences.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(incoherences.get()).isZero();
+        assertThat(repository.trouverTous()).hasSize(NOMBRE_THREADS * employesParThread / 2);
+        assertThat(repository.trouverParEquipe("EQUIPE-0")).hasSize(NOMBRE_THREADS / 4 * employesParThread / 2);
+    }
+
+    @Test
+    @DisplayName("Une suppression concurrente du même employé ne devrait réussir qu'une seule fois")
+    void suppressionConcurrenteDevraitReussirUneSeuleFois() throws Exception {
+        // Given
+        int nombreEmployes = 500;
+        List<Employe> employes = new ArrayList<>();
+        for (int i = 0; i < nombreEmployes; i++) {
+            Employe employe = new Stagiaire("Stagiaire" + i, 20000, 0, "IT");
+            employes.add(employe);
+            repository.ajouter(employe);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(NOMBRE_THREADS);
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger suppressionsReussies = new AtomicInteger();
+        List<Future<?>> taches = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < NOMBRE_THREADS; t++) {
+            taches.add(executor.submit(() -> {
+                depart.await();
+                for (Employe employe : employes) {
+                    if (repository.supprimer(employe.getId())) {
+                        suppressionsReussies.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(suppressionsReussies.get()).isEqualTo(nombreEmployes);
+        assertThat(repository.trouverTous()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait remplacer un employé seulement s'il n'a pas changé entre-temps")
+    void devraitRemplacerSeulementVersionAttendue() {
+        // Given
+        repository.ajouter(developpeur);
+        Employe chef = new ChefDeProjet(developpeur.getId(), "Alice", 50000, 5, "IT");
+        Employe autreChef = new ChefDeProjet(developpeur.getId(), "Alice", 55000, 5, "IT");
+
+        // When & Then
+        assertThat(repository.remplacer(developpeur, chef)).isTrue();
+        assertThat(repository.remplacer(developpeur, autreChef)).isFalse();
+        assertThat(repository.trouverParId(developpeur.getId())).containsSame(chef);
+        assertThat(repository.remplacer(stagiaire, stagiaire)).isFalse();
+        assertThat(repository.trouverParId(stagiaire.getId())).isEmpty();
+        assertThatThrownBy(() -> repository.remplacer(chef, chefDeProjet))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("conserver l'identifiant");
+    }
+
+    @Test
+    @DisplayName("Un million de promotions concurrentes ne devraient ni perdre d'écriture ni rendre un employé invisible")
+    void promotionsConcurrentesDevraientResterAtomiques() throws Exception {
+        // Given
+        int nombreEmployes = 64;
+        int nombrePromotions = 1_000_000;
+        int nombreEcrivains = NOMBRE_THREADS / 2;
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < nombreEmployes; i++) {
+            Employe employe = new Developpeur("Dev" + i, 40000 + i, i % 15, "IT");
+            ids.add(employe.getId());
+            repository.ajouter(employe);
+        }
+        AtomicInteger[] promotionsParEmploye = new AtomicInteger[nombreEmployes];
+        for (int i = 0; i < nombreEmployes; i++) {
+            promotionsParEmploye[i] = new AtomicInteger();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(NOMBRE_THREADS);
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger promotionsRestantes = new AtomicInteger(nombrePromotions);
+        AtomicInteger incoherences = new AtomicInteger();
+        List<Future<?>> taches = new ArrayList<>();
+
+        // When : les écrivains basculent Developpeur <-> ChefDeProjet pendant que les lecteurs consultent
+        for (int t = 0; t < nombreEcrivains; t++) {
+            taches.add(executor.submit(() -> {
+                depart.await();
+                for (int n; (n = promotionsRestantes.getAndDecrement()) > 0; ) {
+                    int i = n % nombreEmployes;
+                    Employe ancien;
+                    Employe nouveau;
+                    do {
+                        ancien = repository.trouverParId(ids.get(i)).orElseThrow();
+                        nouveau = ancien instanceof Developpeur
+                                ? new ChefDeProjet(ancien.getId(), ancien.getNom(), ancien.getSalaireDeBase(),
+                                        ancien.getExperience(), ancien.getEquipe())
+                                : new Developpeur(ancien.getId(), ancien.getNom(), ancien.getSalaireDeBase(),
+                                        ancien.getExperience(), ancien.getEquipe());
+                    } while (!repository.remplacer(ancien, nouveau));
+                    promotionsParEmploye[i].incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (int t = nombreEcrivains; t < NOMBRE_THREADS; t++) {
+            taches.add(executor.submit(() -> {
+                depart.await();
+                for (int n = 0; promotionsRestantes.get() > 0; n++) {
+                    int i = n % nombreEmployes;
+                    Employe lu = repository.trouverParId(ids.get(i)).orElse(null);
+                    if (lu == null || !lu.getNom().equals("Dev" + i)) {
+                        incoherences.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(120, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then : chaque employé a basculé autant de fois qu'il a été promu
+        assertThat(incoherences.get()).isZero();
+        assertThat(repository.trouverTous()).hasSize(nombreEmployes);
+        int total = 0;
+        for (int i = 0; i < nombreEmployes; i++) {
+            int promotions = promotionsParEmploye[i].get();
+            total += promotions;
+            assertThat(repository.trouverParId(ids.get(i)).orElseThrow())
+                .isInstanceOf(promotions % 2 == 0 ? Developpeur.class : ChefDeProjet.class);
+        }
+        assertThat(total).isEqualTo(nombrePromotions);
+    }
+}
@@ -0,0 +1,120 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour EmployeRepositoryIndexe.
+ */
+@DisplayName("Tests du repository indexé par équipe")
+class EmployeRepositoryIndexeTest {
+
+    private EmployeRepositoryIndexe repository;
+    private Employe developpeur;
+    private Employe chefDeProjet;
+    private Employe stagiaire;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeRepositoryIndexe();
+        developpeur = new Developpeur("Alice", 50000, 5, "IT");
+        chefDeProjet = new ChefDeProjet("Bob", 60000, 8, "RH");
+        stagiaire = new Stagiaire("Charlie", 20000, 0, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si on ajoute un employé null")
+    void devraitLeverExceptionSiEmployeNull() {
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ne peut pas être null");
+    }
+
+    @Test
+    @DisplayName("Devrait trouver les employés par équipe via l'index")
+    void devraitTrouverEmployesParEquipe() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.ajouter(stagiaire);
+
+        // When
+        List<Employe> it = repository.trouverParEquipe("IT");
+        List<Employe> rh = repository.trouverParEquipe("RH");
+
+        // Then
+        assertThat(it).containsExactlyInAnyOrder(developpeur, stagiaire);
+        assertThat(rh).containsExactly(chefDeProjet);
+        assertThat(repository.trouverTous()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Devrait retourner une liste vide pour une équipe inconnue")
+    void devraitRetournerListeVidePourEquipeInconnue() {
+        // Given
+        repository.ajouter(developpeur);
+
+        // When & Then
+        assertThat(repository.trouverParEquipe("Finance")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait mettre à jour l'index lors d'une suppression")
+    void devraitMettreAJourIndexLorsSuppression() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(stagiaire);
+
+        // When
+        boolean supprime = repository.supprimer(developpeur.getId());
+
+        // Then
+        assertThat(supprime).isTrue();
+        assertThat(repository.trouverParEquipe("IT")).containsExactly(stagiaire);
+        assertThat(repository.trouverParId(developpeur.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait retourner false si l'employé à supprimer n'existe pas")
+    void devraitRetournerFalseSiEmployeInexistant() {
+        // When & Then
+        assertThat(repository.supprimer("id-inexistant")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Devrait vider l'entrée d'index quand une équipe devient vide")
+    void devraitViderIndexQuandEquipeVide() {
+        // Given
+        repository.ajouter(chefDeProjet);
+
+        // When
+        repository.supprimer(chefDeProjet.getId());
+
+        // Then
+        assertThat(repository.trouverParEquipe("RH")).isEmpty();
+        assertThat(repository.trouverTous()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait ne pas dupliquer un employé ajouté deux fois")
+    void devraitNePasDupliquerEmployeAjouteDeuxFois() {
+        // Given
+        repository.ajouter(developpeur);
+
+        // When
+        repository.ajouter(developpeur);
+
+        // Then
+        assertThat(repository.trouverParEquipe("IT")).containsExactly(developpeur);
+    }
+}
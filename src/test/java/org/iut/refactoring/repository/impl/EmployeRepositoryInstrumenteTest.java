@@ -0,0 +1,86 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.metrique.InstantaneMetrique;
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour EmployeRepositoryInstrumente.
+ */
+@DisplayName("Tests du repository instrumenté")
+class EmployeRepositoryInstrumenteTest {
+
+    private RegistreMetriques registre;
+    private EmployeRepository delegue;
+    private EmployeRepositoryInstrumente repository;
+    private Employe developpeur;
+
+    @BeforeEach
+    void setUp() {
+        registre = new RegistreMetriques();
+        delegue = spy(new EmployeRepositoryConcurrent());
+        repository = new EmployeRepositoryInstrumente(delegue, registre);
+        developpeur = new Developpeur("Alice", 50000, 5, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait mesurer chaque opération, par type d'employé quand il est connu")
+    void devraitMesurerOperations() {
+        // When
+        repository.ajouter(developpeur);
+        repository.trouverParId(developpeur.getId());
+        repository.trouverParId("id-inexistant");
+        repository.trouverParEquipe("IT");
+        repository.trouverTous();
+        repository.supprimer(developpeur.getId());
+
+        // Then
+        assertThat(registre.instantane())
+                .filteredOn(instantane -> instantane.getNombre() > 0)
+                .extracting(InstantaneMetrique::getOperation, InstantaneMetrique::getType)
+                .containsExactly(
+                        tuple(EmployeRepositoryInstrumente.AJOUTER, "DEVELOPPEUR"),
+                        tuple(EmployeRepositoryInstrumente.SUPPRIMER, null),
+                        tuple(EmployeRepositoryInstrumente.TROUVER_PAR_EQUIPE, null),
+                        tuple(EmployeRepositoryInstrumente.TROUVER_PAR_ID, null),
+                        tuple(EmployeRepositoryInstrumente.TROUVER_PAR_ID, "DEVELOPPEUR"),
+                        tuple(EmployeRepositoryInstrumente.TROUVER_TOUS, null));
+    }
+
+    @Test
+    @DisplayName("Devrait transmettre ajouterTous et remplacer au repository décoré")
+    void devraitTransmettreAjouterTousEtRemplacer() {
+        // Given
+        Employe promu = new ChefDeProjet(developpeur.getId(), "Alice", 50000, 5, "IT");
+
+        // When
+        repository.ajouterTous(List.of(developpeur));
+        boolean remplace = repository.remplacer(developpeur, promu);
+
+        // Then
+        assertThat(remplace).isTrue();
+        verify(delegue).ajouterTous(List.of(developpeur));
+        verify(delegue).remplacer(developpeur, promu);
+        assertThat(registre.metrique(EmployeRepositoryInstrumente.REMPLACER, "CHEF DE PROJET").instantane()
+                .getNombre()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Devrait compter les erreurs du repository décoré")
+    void devraitCompterErreurs() {
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(registre.metrique(EmployeRepositoryInstrumente.AJOUTER).instantane().getErreurs()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,153 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.EcouteurRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour EmployeRepositoryObservable.
+ */
+@DisplayName("Tests du repository observable")
+class EmployeRepositoryObservableTest {
+
+    private EmployeRepositoryImpl delegue;
+    private EmployeRepositoryObservable repository;
+    private EcouteurRepository ecouteur;
+    private Employe developpeur;
+
+    @BeforeEach
+    void setUp() {
+        delegue = new EmployeRepositoryImpl();
+        repository = new EmployeRepositoryObservable(delegue);
+        ecouteur = mock(EcouteurRepository.class);
+        repository.ajouterEcouteur(ecouteur);
+        developpeur = new Developpeur("Alice", 50000, 5, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait notifier l'ajout d'un employé et déléguer le stockage")
+    void devraitNotifierAjout() {
+        // When
+        repository.ajouter(developpeur);
+
+        // Then
+        verify(ecouteur).employeAjoute(developpeur);
+        verify(ecouteur, never()).employeSupprime(any());
+        assertThat(delegue.trouverParId(developpeur.getId())).contains(developpeur);
+        assertThat(repository.trouverParEquipe("IT")).containsExactly(developpeur);
+    }
+
+    @Test
+    @DisplayName("Devrait notifier la suppression d'un employé existant")
+    void devraitNotifierSuppression() {
+        // Given
+        repository.ajouter(developpeur);
+
+        // When
+        boolean supprime = repository.supprimer(developpeur.getId());
+
+        // Then
+        assertThat(supprime).isTrue();
+        verify(ecouteur).employeSupprime(developpeur);
+        assertThat(repository.trouverTous()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Ne devrait rien notifier pour la suppression d'un employé inexistant")
+    void neDevraitRienNotifierPourSuppressionInexistant() {
+        // When
+        boolean supprime = repository.supprimer("id-inexistant");
+
+        // Then
+        assertThat(supprime).isFalse();
+        verifyNoInteractions(ecouteur);
+    }
+
+    @Test
+    @DisplayName("Devrait notifier le retrait de l'ancien employé lors d'un ajout avec le même ID")
+    void devraitNotifierRetraitLorsRemplacement() {
+        // Given
+        Employe chef = mock(ChefDeProjet.class);
+        when(chef.getId()).thenReturn(developpeur.getId());
+        when(chef.getEquipe()).thenReturn("IT");
+        repository.ajouter(developpeur);
+
+        // When
+        repository.ajouter(chef);
+
+        // Then
+        InOrder ordre = inOrder(ecouteur);
+        ordre.verify(ecouteur).employeAjoute(developpeur);
+        ordre.verify(ecouteur).employeSupprime(developpeur);
+        ordre.verify(ecouteur).employeAjoute(chef);
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si on ajoute un employé null")
+    void devraitLeverExceptionSiEmployeNull() {
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ne peut pas être null");
+        verifyNoInteractions(ecouteur);
+    }
+
+    @Test
+    @DisplayName("Devrait notifier un remplacement réussi et ignorer une version périmée")
+    void devraitNotifierRemplacementReussiSeulement() {
+        // Given
+        repository.ajouter(developpeur);
+        Employe chef = new ChefDeProjet(developpeur.getId(), "Alice", 50000, 5, "IT");
+        Employe autreChef = new ChefDeProjet(developpeur.getId(), "Alice", 60000, 5, "IT");
+
+        // When
+        boolean remplace = repository.remplacer(developpeur, chef);
+        boolean remplacePerime = repository.remplacer(developpeur, autreChef);
+
+        // Then
+        assertThat(remplace).isTrue();
+        assertThat(remplacePerime).isFalse();
+        InOrder ordre = inOrder(ecouteur);
+        ordre.verify(ecouteur).employeAjoute(developpeur);
+        ordre.verify(ecouteur).employeSupprime(developpeur);
+        ordre.verify(ecouteur).employeAjoute(chef);
+        verifyNoMoreInteractions(ecouteur);
+        assertThat(repository.trouverParId(developpeur.getId())).containsSame(chef);
+    }
+
+    @Test
+    @DisplayName("Devrait suspendre les écritures pendant executerSansEcriture")
+    void devraitSuspendreEcrituresPendantAction() throws Exception {
+        // Given
+        AtomicReference<CompletableFuture<Void>> ecriture = new AtomicReference<>();
+
+        // When
+        repository.executerSansEcriture(() -> {
+            ecriture.set(CompletableFuture.runAsync(() -> repository.ajouter(developpeur)));
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(ecriture.get()).isNotDone();
+            assertThat(repository.trouverTous()).isEmpty();
+        });
+
+        // Then
+        ecriture.get().get(5, TimeUnit.SECONDS);
+        assertThat(repository.trouverTous()).containsExactly(developpeur);
+    }
+}
@@ -0,0 +1,310 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour EmployeRepositoryPersistant.
+ */
+@DisplayName("Tests du repository persistant des employés")
+class EmployeRepositoryPersistantTest {
+
+    @TempDir
+    Path repertoire;
+
+    private EmployeRepositoryPersistant repository;
+    private Employe developpeur;
+    private Employe chefDeProjet;
+    private Employe stagiaire;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+        developpeur = new Developpeur("Alice", 50000, 5, "IT");
+        chefDeProjet = new ChefDeProjet("Bob", 60000, 8, "RH");
+        stagiaire = new Stagiaire("Charlie", 20000, 0, "IT");
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter, retrouver et supprimer un employé")
+    void devraitAjouterTrouverEtSupprimer() {
+        // When
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+
+        // Then
+        assertThat(repository.trouverParId(developpeur.getId())).contains(developpeur);
+        assertThat(repository.trouverParEquipe("RH")).containsExactly(chefDeProjet);
+        assertThat(repository.supprimer(developpeur.getId())).isTrue();
+        assertThat(repository.supprimer(developpeur.getId())).isFalse();
+        assertThat(repository.supprimer(null)).isFalse();
+        assertThat(repository.trouverTous()).containsExactly(chefDeProjet);
+    }
+
+    @Test
+    @DisplayName("Devrait lever une exception si on ajoute un employé null")
+    void devraitLeverExceptionSiEmployeNull() {
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("null");
+    }
+
+    @Test
+    @DisplayName("Devrait retrouver les employés après redémarrage en rejouant le journal")
+    void devraitRestaurerDepuisJournal() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.ajouter(stagiaire);
+        repository.supprimer(chefDeProjet.getId());
+        repository.close();
+
+        // When
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).hasSize(2);
+        Employe restaure = repository.trouverParId(developpeur.getId()).orElseThrow();
+        assertThat(restaure).isInstanceOf(Developpeur.class);
+        assertThat(restaure.getNom()).isEqualTo("Alice");
+        assertThat(restaure.getSalaireDeBase()).isEqualTo(50000);
+        assertThat(restaure.getExperience()).isEqualTo(5);
+        assertThat(restaure.getEquipe()).isEqualTo("IT");
+        assertThat(repository.trouverParId(stagiaire.getId()).orElseThrow()).isInstanceOf(Stagiaire.class);
+        assertThat(repository.trouverParId(chefDeProjet.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait journaliser un remplacement et le retrouver après redémarrage")
+    void devraitJournaliserRemplacement() {
+        // Given
+        repository.ajouter(developpeur);
+        Employe promu = new ChefDeProjet(developpeur.getId(), "Alice", 50000, 5, "IT");
+
+        // When
+        boolean remplace = repository.remplacer(developpeur, promu);
+        boolean remplacePerime = repository.remplacer(developpeur, promu);
+        repository.close();
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(remplace).isTrue();
+        assertThat(remplacePerime).isFalse();
+        assertThat(repository.trouverTous()).hasSize(1);
+        assertThat(repository.trouverParId(developpeur.getId()).orElseThrow()).isInstanceOf(ChefDeProjet.class);
+    }
+
+    @Test
+    @DisplayName("Devrait restaurer depuis un instantané suivi du journal et supprimer les anciens journaux")
+    void devraitRestaurerDepuisInstantaneEtJournal() throws IOException {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.creerSnapshot();
+        repository.supprimer(developpeur.getId());
+        repository.ajouter(stagiaire);
+        repository.close();
+
+        // When
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).extracting(Employe::getId)
+            .containsExactlyInAnyOrder(chefDeProjet.getId(), stagiaire.getId());
+        assertThat(fichiers("snapshot-")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer un enregistrement tronqué en fin de journal")
+    void devraitIgnorerEnregistrementTronque() throws IOException {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.close();
+        Path journal = fichiers("wal-").get(0);
+        byte[] contenu = Files.readAllBytes(journal);
+        Files.write(journal, Arrays.copyOf(contenu, contenu.length - 3));
+
+        // When
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).extracting(Employe::getId).containsExactly(developpeur.getId());
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer un enregistrement corrompu en fin de journal")
+    void devraitIgnorerEnregistrementCorrompu() throws IOException {
+        // Given
+        repository.ajouter(developpeur);
+        repository.close();
+        Path journal = fichiers("wal-").get(0);
+        Files.write(journal, new byte[]{0, 0, 0, 5, 1, 2, 3, 4, 1, 9, 9, 9, 9}, StandardOpenOption.APPEND);
+
+        // When
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).hasSize(1);
+        repository.ajouter(stagiaire);
+        assertThat(repository.trouverTous()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer un enregistrement de longueur aberrante en fin de journal")
+    void devraitIgnorerEnregistrementLongueurAberrante() throws IOException {
+        // Given
+        repository.ajouter(developpeur);
+        repository.close();
+        Path journal = fichiers("wal-").get(0);
+        Files.write(journal, new byte[]{0x7f, -1, -1, -1, 1, 2, 3, 4, 1}, StandardOpenOption.APPEND);
+
+        // When
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).extracting(Employe::getId).containsExactly(developpeur.getId());
+    }
+
+    @Test
+    @DisplayName("Devrait annuler les écritures non durables et refuser les suivantes après un échec du journal")
+    void devraitPasserEnEchecApresErreurJournal() throws IOException {
+        // Given
+        repository.ajouter(developpeur);
+        repository.journalCourant().close();
+
+        // When
+        assertThatThrownBy(() -> repository.ajouter(chefDeProjet))
+            .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> repository.supprimer(developpeur.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("échec");
+
+        // Then
+        assertThat(repository.trouverTous()).extracting(Employe::getId).containsExactly(developpeur.getId());
+        repository.close();
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+        assertThat(repository.trouverTous()).extracting(Employe::getId).containsExactly(developpeur.getId());
+    }
+
+    @Test
+    @DisplayName("Devrait produire un instantané automatique au-delà du seuil")
+    void devraitProduireInstantaneAutomatique() throws Exception {
+        // Given
+        repository.close();
+        repository = new EmployeRepositoryPersistant(repertoire, 10);
+
+        // When
+        for (int i = 0; i < 25; i++) {
+            repository.ajouter(new Developpeur("Dev " + i, 40000, 2, "IT"));
+        }
+        repository.close();
+        repository = new EmployeRepositoryPersistant(repertoire, 10);
+
+        // Then
+        assertThat(fichiers("snapshot-")).isNotEmpty();
+        assertThat(repository.trouverTous()).hasSize(25);
+    }
+
+    @Test
+    @DisplayName("Ne devrait perdre aucune écriture acquittée sous charge concurrente")
+    void neDevraitPerdreAucuneEcritureSousCharge() throws Exception {
+        // Given
+        int nombreThreads = 16;
+        int ajoutsParThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(nombreThreads);
+        CountDownLatch depart = new CountDownLatch(1);
+        List<Future<?>> taches = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < nombreThreads; t++) {
+            int numero = t;
+            taches.add(executor.submit(() -> {
+                depart.await();
+                for (int i = 0; i < ajoutsParThread; i++) {
+                    repository.ajouter(new Developpeur("Dev " + numero + "-" + i, 40000, i % 12, "EQUIPE-" + numero));
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        repository.close();
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).hasSize(nombreThreads * ajoutsParThread);
+        assertThat(repository.trouverParEquipe("EQUIPE-3")).hasSize(ajoutsParThread);
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter un lot d'employés de façon durable")
+    void devraitAjouterLotDurable() {
+        // Given
+        List<Employe> lot = Arrays.asList(developpeur, chefDeProjet, stagiaire);
+
+        // When
+        repository.ajouterTous(lot);
+        repository.close();
+        repository = new EmployeRepositoryPersistant(repertoire, 0);
+
+        // Then
+        assertThat(repository.trouverTous()).extracting(Employe::getId)
+            .containsExactlyInAnyOrder(developpeur.getId(), chefDeProjet.getId(), stagiaire.getId());
+        assertThatThrownBy(() -> repository.ajouterTous(Arrays.asList(developpeur, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser les écritures après fermeture")
+    void devraitRefuserEcrituresApresFermeture() {
+        // Given
+        repository.close();
+
+        // When & Then
+        assertThatThrownBy(() -> repository.ajouter(developpeur))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("fermé");
+    }
+
+    private List<Path> fichiers(String prefixe) throws IOException {
+        try (Stream<Path> flux = Files.list(repertoire)) {
+            List<Path> fichiers = new ArrayList<>();
+            flux.filter(f -> f.getFileName().toString().startsWith(prefixe)).sorted().forEach(fichiers::add);
+            return fichiers;
+        }
+    }
+}
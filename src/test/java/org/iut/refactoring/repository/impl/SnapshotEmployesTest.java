@@ -0,0 +1,137 @@
+package org.iut.refactoring.repository.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SnapshotEmployes.
+ */
+@DisplayName("Tests de l'instantané binaire en colonnes")
+class SnapshotEmployesTest {
+
+    @TempDir
+    Path repertoire;
+
+    @Test
+    @DisplayName("Devrait relire à l'identique les employés écrits")
+    void devraitRelireEmployesEcrits() {
+        // Given
+        Path fichier = repertoire.resolve("employes.snap");
+        List<Employe> employes = Arrays.asList(
+            new Developpeur("Alice", 50000.5, 5, "IT"),
+            new ChefDeProjet("Bob", 60000, 8, "RH"),
+            new Stagiaire("Zoé Éléonore", 20000, 0, "IT"));
+
+        // When
+        SnapshotEmployes.ecrire(fichier, employes);
+        List<Employe> relus = SnapshotEmployes.lire(fichier);
+
+        // Then
+        assertThat(relus).hasSize(3);
+        for (int i = 0; i < employes.size(); i++) {
+            assertMemeEmploye(relus.get(i), employes.get(i));
+        }
+        assertThat(relus.get(0).getEquipe()).isSameAs(relus.get(2).getEquipe());
+    }
+
+    @Test
+    @DisplayName("Devrait conserver les identifiants non UUID, les noms et équipes null")
+    void devraitConserverValeursParticulieres() {
+        // Given
+        Path fichier = repertoire.resolve("particulier.snap");
+        List<Employe> employes = Arrays.asList(
+            new Developpeur("id-maison-1", "Alice", 50000, 5, null),
+            new Developpeur(UUID.randomUUID().toString().toUpperCase(), null, 40000, 1, "IT"),
+            new Stagiaire("Charlie", 20000, 0, "IT"));
+
+        // When
+        SnapshotEmployes.ecrire(fichier, employes);
+        List<Employe> relus = SnapshotEmployes.lire(fichier);
+
+        // Then
+        for (int i = 0; i < employes.size(); i++) {
+            assertMemeEmploye(relus.get(i), employes.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait gérer un dictionnaire de plus de 255 équipes")
+    void devraitGererGrandDictionnaire() {
+        // Given
+        Path fichier = repertoire.resolve("equipes.snap");
+        List<Employe> employes = new ArrayList<>();
+        for (int i = 0; i < 70_000; i++) {
+            employes.add(new Developpeur("Dev " + i, 40000 + i, i % 15, "EQUIPE-" + (i % 66_000)));
+        }
+
+        // When
+        SnapshotEmployes.ecrire(fichier, employes);
+        List<Employe> relus = SnapshotEmployes.lire(fichier);
+
+        // Then
+        assertThat(relus).hasSize(employes.size());
+        assertMemeEmploye(relus.get(65_999), employes.get(65_999));
+        assertMemeEmploye(relus.get(69_999), employes.get(69_999));
+    }
+
+    @Test
+    @DisplayName("Devrait sauvegarder et restaurer un repository")
+    void devraitSauvegarderEtRestaurerRepository() {
+        // Given
+        Path fichier = repertoire.resolve("repository.snap");
+        EmployeRepositoryImpl source = new EmployeRepositoryImpl();
+        Employe alice = new Developpeur("Alice", 50000, 5, "IT");
+        source.ajouter(alice);
+        source.ajouter(new ChefDeProjet("Bob", 60000, 8, "RH"));
+        EmployeRepositoryConcurrent cible = new EmployeRepositoryConcurrent();
+
+        // When
+        SnapshotEmployes.sauvegarder(source, fichier);
+        int restaures = SnapshotEmployes.restaurer(fichier, cible);
+
+        // Then
+        assertThat(restaures).isEqualTo(2);
+        assertThat(cible.trouverParId(alice.getId())).isPresent();
+        assertThat(cible.trouverParEquipe("RH")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Devrait détecter un instantané corrompu")
+    void devraitDetecterInstantaneCorrompu() throws IOException {
+        // Given
+        Path fichier = repertoire.resolve("corrompu.snap");
+        SnapshotEmployes.ecrire(fichier, List.of(new Developpeur("Alice", 50000, 5, "IT")));
+        byte[] contenu = Files.readAllBytes(fichier);
+        contenu[20] ^= 0x55;
+        Files.write(fichier, contenu);
+
+        // When & Then
+        assertThatThrownBy(() -> SnapshotEmployes.lire(fichier))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("corrompu");
+    }
+
+    private static void assertMemeEmploye(Employe relu, Employe attendu) {
+        assertThat(relu).isInstanceOf(attendu.getClass());
+        assertThat(relu.getId()).isEqualTo(attendu.getId());
+        assertThat(relu.getNom()).isEqualTo(attendu.getNom());
+        assertThat(relu.getSalaireDeBase()).isEqualTo(attendu.getSalaireDeBase());
+        assertThat(relu.getExperience()).isEqualTo(attendu.getExperience());
+        assertThat(relu.getEquipe()).isEqualTo(attendu.getEquipe());
+    }
+}
@@ -0,0 +1,31 @@
+package org.iut.refactoring.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'énumération TypeEvenement.
+ */
+@DisplayName("Tests de l'énumération TypeEvenement")
+class TypeEvenementTest {
+
+    @Test
+    @DisplayName("Devrait retrouver chaque type à partir de son code")
+    void devraitRetrouverTypeDepuisCode() {
+        // When & Then
+        for (TypeEvenement type : TypeEvenement.values()) {
+            assertThat(TypeEvenement.depuisCode(type.getCode())).isEqualTo(type);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser un code inconnu")
+    void devraitRefuserCodeInconnu() {
+        // When & Then
+        assertThatThrownBy(() -> TypeEvenement.depuisCode((byte) 99))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inconnu");
+    }
+}
@@ -0,0 +1,159 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.iut.refactoring.repository.impl.EmployeRepositoryObservable;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour AgregateurEquipes.
+ */
+@DisplayName("Tests des agrégats par équipe")
+class AgregateurEquipesTest {
+
+    private AgregateurEquipes agregateur;
+    private EmployeRepositoryObservable repository;
+    private Employe developpeur;
+    private Employe chefDeProjet;
+    private Employe stagiaire;
+
+    @BeforeEach
+    void setUp() {
+        agregateur = new AgregateurEquipes(new CalculateurSalaireImpl());
+        repository = new EmployeRepositoryObservable(new EmployeRepositoryImpl());
+        repository.ajouterEcouteur(agregateur);
+        developpeur = new Developpeur("Alice", 50000, 6, "IT");
+        chefDeProjet = new ChefDeProjet("Bob", 60000, 5, "RH");
+        stagiaire = new Stagiaire("Charlie", 20000, 0, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait maintenir les agrégats lors des ajouts")
+    void devraitMaintenirAgregatsLorsAjouts() {
+        // When
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+        repository.ajouter(stagiaire);
+
+        // Then
+        List<StatistiquesEquipe> statistiques = agregateur.instantane();
+        assertThat(statistiques).extracting(StatistiquesEquipe::getEquipe).containsExactly("IT", "RH");
+        StatistiquesEquipe it = statistiques.get(0);
+        assertThat(it.getEffectif()).isEqualTo(2);
+        assertThat(it.getSommeSalairesDeBase()).isCloseTo(70000.0, within(0.001));
+        assertThat(it.getSommeSalairesCalcules()).isCloseTo(69000.0 + 12000.0, within(0.001));
+        assertThat(it.getHistogrammeExperience()).containsExactly(1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Devrait retirer une équipe devenue vide")
+    void devraitRetirerEquipeDevenueVide() {
+        // Given
+        repository.ajouter(developpeur);
+        repository.ajouter(chefDeProjet);
+
+        // When
+        repository.supprimer(chefDeProjet.getId());
+
+        // Then
+        assertThat(agregateur.instantane()).extracting(StatistiquesEquipe::getEquipe).containsExactly("IT");
+    }
+
+    @Test
+    @DisplayName("Devrait mettre à jour le salaire calculé lors d'une promotion")
+    void devraitMettreAJourLorsPromotion() {
+        // Given
+        repository.ajouter(developpeur);
+
+        // When (promotion = suppression puis ajout)
+        repository.supprimer(developpeur.getId());
+        repository.ajouter(new ChefDeProjet("Alice", 50000, 6, "IT"));
+
+        // Then
+        StatistiquesEquipe it = agregateur.instantane().get(0);
+        assertThat(it.getEffectif()).isEqualTo(1);
+        assertThat(it.getSommeSalairesCalcules()).isCloseTo(50000 * 1.5 * 1.1 + 5000, within(0.001));
+    }
+
+    @Test
+    @DisplayName("Devrait reconstruire les agrégats à partir d'une population")
+    void devraitReconstruireAgregats() {
+        // Given
+        repository.ajouter(developpeur);
+
+        // When
+        agregateur.reinitialiser(Arrays.asList(chefDeProjet, stagiaire));
+
+        // Then
+        assertThat(agregateur.instantane())
+            .extracting(StatistiquesEquipe::getEquipe, StatistiquesEquipe::getEffectif)
+            .containsExactly(tuple("IT", 1L), tuple("RH", 1L));
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer la suppression d'un employé d'une équipe inconnue")
+    void devraitIgnorerSuppressionEquipeInconnue() {
+        // When
+        agregateur.employeSupprime(developpeur);
+
+        // Then
+        assertThat(agregateur.instantane()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait retirer le salaire retenu à l'ajout même si les règles ont changé")
+    void devraitRetirerSalaireRetenuALAjout() {
+        // Given
+        CalculateurSalaire calculateur = mock(CalculateurSalaire.class);
+        when(calculateur.calculerSalaire(any())).thenReturn(1000.0).thenReturn(2000.0);
+        AgregateurEquipes agregateurVariable = new AgregateurEquipes(calculateur);
+        Employe autre = new Developpeur("Dave", 40000, 2, "IT");
+        agregateurVariable.employeAjoute(developpeur);
+        agregateurVariable.employeAjoute(autre);
+
+        // When
+        agregateurVariable.employeSupprime(developpeur);
+
+        // Then
+        assertThat(agregateurVariable.instantane())
+            .extracting(StatistiquesEquipe::getEffectif, StatistiquesEquipe::getSommeSalairesCalcules)
+            .containsExactly(tuple(1L, 2000.0));
+    }
+
+    @Test
+    @DisplayName("Devrait regrouper en tête les employés sans équipe")
+    void devraitRegrouperEmployesSansEquipe() {
+        // Given
+        Employe sansEquipe = new Developpeur("Eve", 40000, 2, null);
+
+        // When
+        repository.ajouter(developpeur);
+        repository.ajouter(sansEquipe);
+
+        // Then
+        assertThat(agregateur.instantane())
+            .extracting(StatistiquesEquipe::getEquipe, StatistiquesEquipe::getEffectif)
+            .containsExactly(tuple(null, 1L), tuple("IT", 1L));
+
+        // When
+        repository.supprimer(sansEquipe.getId());
+
+        // Then
+        assertThat(agregateur.instantane()).extracting(StatistiquesEquipe::getEquipe).containsExactly("IT");
+    }
+}
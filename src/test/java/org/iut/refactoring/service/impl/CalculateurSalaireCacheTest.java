@@ -0,0 +1,153 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.iut.refactoring.repository.impl.EmployeRepositoryObservable;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour CalculateurSalaireCache.
+ */
+@DisplayName("Tests du cache de calcul des salaires")
+class CalculateurSalaireCacheTest {
+
+    private CalculateurSalaire delegue;
+    private CalculateurSalaireCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegue = spy(new CalculateurSalaireImpl());
+        cache = new CalculateurSalaireCache(delegue, 1600);
+    }
+
+    @Test
+    @DisplayName("Devrait servir les calculs répétés depuis le cache")
+    void devraitServirCalculsRepetesDepuisCache() {
+        // Given
+        Employe alice = new Developpeur("Alice", 50000, 5, "IT");
+
+        // When
+        double premier = cache.calculerSalaire(alice);
+        double second = cache.calculerSalaire(alice);
+        double bonus = cache.calculerBonus(alice);
+
+        // Then
+        assertThat(second).isEqualTo(premier).isEqualTo(new CalculateurSalaireImpl().calculerSalaire(alice));
+        assertThat(bonus).isEqualTo(new CalculateurSalaireImpl().calculerBonus(alice));
+        verify(delegue, times(1)).calculerSalaire(alice);
+        verify(delegue, times(1)).calculerBonus(alice);
+        assertThat(cache.getNombreEchecs()).isEqualTo(1);
+        assertThat(cache.getNombreSucces()).isEqualTo(2);
+        assertThat(cache.getTauxSucces()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Devrait oublier un employé supprimé ou remplacé dans le repository observé")
+    void devraitInvaliderSurModificationDuRepository() {
+        // Given
+        EmployeRepositoryObservable repository = new EmployeRepositoryObservable(new EmployeRepositoryImpl());
+        repository.ajouterEcouteur(cache);
+        Employe alice = new Developpeur("Alice", 50000, 5, "IT");
+        Employe bob = new Developpeur("Bob", 40000, 2, "IT");
+        repository.ajouter(alice);
+        repository.ajouter(bob);
+        cache.calculerSalaire(alice);
+        cache.calculerSalaire(bob);
+
+        // When
+        repository.supprimer(alice.getId());
+        repository.ajouter(new ChefDeProjet(bob.getId(), "Bob", 40000, 2, "IT"));
+
+        // Then
+        assertThat(cache.taille()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ne devrait jamais servir le résultat d'une autre version de même identifiant")
+    void neDevraitPasServirResultatPerime() {
+        // Given
+        Employe developpeur = new Developpeur("id-1", "Alice", 50000, 5, "IT");
+        Employe chef = new ChefDeProjet("id-1", "Alice", 50000, 5, "IT");
+        cache.calculerSalaire(developpeur);
+
+        // When
+        double salaire = cache.calculerSalaire(chef);
+
+        // Then
+        assertThat(salaire).isEqualTo(new CalculateurSalaireImpl().calculerSalaire(chef));
+        assertThat(cache.getNombreSucces()).isZero();
+    }
+
+    @Test
+    @DisplayName("Devrait servir une copie identique de l'employé depuis le cache")
+    void devraitServirCopieIdentique() {
+        // Given (repositories qui reconstruisent un Employe à chaque lecture)
+        cache.calculerSalaire(new Developpeur("id-1", "Alice", 50000, 5, "IT"));
+
+        // When
+        cache.calculerSalaire(new Developpeur("id-1", "Alice", 50000, 5, "IT"));
+
+        // Then
+        assertThat(cache.getNombreSucces()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Devrait borner la taille et protéger les entrées fréquentes d'un parcours complet")
+    void devraitBornerTailleEtResisterAuxParcours() {
+        // Given : des employés consultés deux fois passent en zone protégée
+        List<Employe> frequents = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Employe employe = new Developpeur("Frequent" + i, 40000, 3, "IT");
+            frequents.add(employe);
+            cache.calculerSalaire(employe);
+            cache.calculerSalaire(employe);
+        }
+
+        // When : un parcours unique de 10 000 autres employés
+        for (int i = 0; i < 10_000; i++) {
+            cache.calculerSalaire(new Developpeur("Parcours" + i, 30000, 1, "RH"));
+        }
+        long echecsAvant = cache.getNombreEchecs();
+        frequents.forEach(cache::calculerSalaire);
+
+        // Then
+        assertThat(cache.taille()).isLessThanOrEqualTo(1600);
+        assertThat(cache.getNombreEvictions()).isPositive();
+        assertThat(cache.getNombreEchecs()).isEqualTo(echecsAvant);
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas mémoriser un calcul commencé avant une invalidation complète")
+    void neDevraitPasMemoriserCalculAnterieurAInvalidation() {
+        // Given : un calcul pendant lequel les règles sont rechargées
+        Employe alice = new Developpeur("Alice", 50000, 5, "IT");
+        CalculateurSalaireCache[] cacheCourant = new CalculateurSalaireCache[1];
+        CalculateurSalaireImpl rechargeant = new CalculateurSalaireImpl() {
+            @Override
+            public double calculerSalaire(Employe employe) {
+                double salaire = super.calculerSalaire(employe);
+                cacheCourant[0].invaliderTout();
+                return salaire;
+            }
+        };
+        cacheCourant[0] = new CalculateurSalaireCache(rechargeant, 1600);
+
+        // When
+        cacheCourant[0].calculerSalaire(alice);
+
+        // Then
+        assertThat(cacheCourant[0].taille()).isZero();
+        assertThat(cacheCourant[0].getNombreEchecs()).isEqualTo(1);
+    }
+}
@@ -4,6 +4,8 @@ import org.iut.refactoring.model.Developpeur;
 import org.iut.refactoring.model.ChefDeProjet;
 import org.iut.refactoring.model.Stagiaire;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.ResultatPaie;
+import org.iut.refactoring.service.CalculateurSalaire;
 import org.iut.refactoring.service.StrategieSalaire;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests unitaires pour CalculateurSalaireImpl.
@@ -155,5 +159,117 @@ class CalculateurSalaireImplTest {
         assertThat(salaireChef).isNotEqualTo(salaireStag);
         assertThat(salaireDev).isNotEqualTo(salaireStag);
     }
+    
+    @Test
+    @DisplayName("Devrait prendre en compte une stratégie enregistrée après coup")
+    void devraitPrendreEnCompteStrategieEnregistree() {
+        // Given
+        CalculateurSalaireImpl calc = new CalculateurSalaireImpl(Arrays.asList());
+        Employe dev = new Developpeur("Alice", 50000, 6, "IT");
+        assertThatThrownBy(() -> calc.calculerSalaire(dev))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+        // When
+        calc.enregistrerStrategie(new StrategieSalaireDeveloppeur());
+        
+        // Then
+        assertThat(calc.calculerSalaire(dev)).isCloseTo(69000.0, within(0.01));
+    }
+    
+    @Test
+    @DisplayName("Devrait refuser l'enregistrement d'une stratégie null")
+    void devraitRefuserStrategieNull() {
+        // When & Then
+        assertThatThrownBy(() -> calculateur.enregistrerStrategie(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ne peut pas être null");
+    }
+    
+    @Test
+    @DisplayName("Devrait résoudre la stratégie une seule fois par classe d'employé")
+    void devraitResoudreStrategieUneSeuleFoisParClasse() {
+        // Given
+        StrategieSalaire strategie = spy(new StrategieSalaireDeveloppeur());
+        CalculateurSalaireImpl calc = new CalculateurSalaireImpl(Arrays.asList(strategie));
+        
+        // When
+        for (int i = 0; i < 100; i++) {
+            Employe dev = new Developpeur("Dev" + i, 50000, i % 12, "IT");
+            calc.calculerSalaire(dev);
+            calc.calculerBonus(dev);
+        }
+        
+        // Then
+        verify(strategie, times(1)).estApplicable(any());
+        verify(strategie, times(100)).calculer(any());
+    }
+    
+    @Test
+    @DisplayName("Devrait calculer salaires et bonus par lot dans l'ordre de la liste")
+    void devraitCalculerSalairesParLot() {
+        // Given
+        List<Employe> employes = Arrays.asList(
+            new Developpeur("Alice", 50000, 6, "IT"),
+            new ChefDeProjet("Bob", 60000, 5, "RH"),
+            new Stagiaire("Charlie", 20000, 0, "IT"),
+            new Developpeur("Diana", 55000, 12, "IT")
+        );
+        
+        // When
+        ResultatPaie resultat = calculateur.calculerSalaires(employes);
+        
+        // Then
+        assertThat(resultat.taille()).isEqualTo(4);
+        for (int i = 0; i < employes.size(); i++) {
+            assertThat(resultat.getSalaire(i)).isEqualTo(calculateur.calculerSalaire(employes.get(i)));
+            assertThat(resultat.getBonus(i)).isEqualTo(calculateur.calculerBonus(employes.get(i)));
+        }
+    }
+    
+    @Test
+    @DisplayName("Devrait retourner un résultat vide pour une liste vide")
+    void devraitRetournerResultatVidePourListeVide() {
+        // When
+        ResultatPaie resultat = calculateur.calculerSalaires(Arrays.asList());
+        
+        // Then
+        assertThat(resultat.taille()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Le calcul par lot devrait lever une exception si aucune stratégie n'est applicable")
+    void calculParLotDevraitLeverExceptionSiAucuneStrategie() {
+        // Given
+        CalculateurSalaireImpl calc = new CalculateurSalaireImpl(Arrays.asList(new StrategieSalaireDeveloppeur()));
+        List<Employe> employes = Arrays.asList(
+            new Developpeur("Alice", 50000, 6, "IT"),
+            new Stagiaire("Charlie", 20000, 0, "IT")
+        );
+        
+        // When & Then
+        assertThatThrownBy(() -> calc.calculerSalaires(employes))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Aucune stratégie trouvée");
+    }
+    
+    @Test
+    @DisplayName("Un calculateur figé devrait garder ses stratégies après un remplacement")
+    void calculateurFigeDevraitGarderSesStrategies() {
+        // Given
+        Employe alice = new Developpeur("Alice", 50000, 6, "IT");
+        CalculateurSalaire fige = calculateur.figer();
+        double salaireAvant = calculateur.calculerSalaire(alice);
+        long versionAvant = calculateur.getRegistre().versionCourante().getNumero();
+        
+        // When
+        VersionStrategies version = calculateur.remplacerStrategies(Arrays.asList(new StrategieSalaireStagiaire()));
+        
+        // Then
+        assertThat(version.getNumero()).isEqualTo(versionAvant + 1);
+        assertThat(fige.calculerSalaire(alice)).isEqualTo(salaireAvant);
+        assertThat(fige.calculerSalaires(Arrays.asList(alice)).getSalaire(0)).isEqualTo(salaireAvant);
+        assertThatThrownBy(() -> calculateur.calculerSalaire(alice))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Aucune stratégie trouvée");
+    }
 }
-
@@ -0,0 +1,66 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.metrique.InstantaneMetrique;
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour CalculateurSalaireInstrumente.
+ */
+@DisplayName("Tests du calculateur de salaire instrumenté")
+class CalculateurSalaireInstrumenteTest {
+
+    private final RegistreMetriques registre = new RegistreMetriques();
+
+    @Test
+    @DisplayName("Devrait déléguer les calculs et les mesurer par type d'employé")
+    void devraitMesurerParTypeEmploye() {
+        // Given
+        CalculateurSalaireImpl reference = new CalculateurSalaireImpl();
+        CalculateurSalaire calculateur = new CalculateurSalaireInstrumente(reference, registre);
+        Employe developpeur = new Developpeur("Alice", 50000, 6, "IT");
+        Employe stagiaire = new Stagiaire("Bob", 20000, 0, "IT");
+
+        // When
+        double salaire = calculateur.calculerSalaire(developpeur);
+        calculateur.calculerSalaire(developpeur);
+        calculateur.calculerBonus(stagiaire);
+        calculateur.calculerSalaires(List.of(developpeur, stagiaire));
+
+        // Then
+        assertThat(salaire).isEqualTo(reference.calculerSalaire(developpeur));
+        assertThat(registre.instantane())
+                .extracting(InstantaneMetrique::getOperation, InstantaneMetrique::getType, InstantaneMetrique::getNombre)
+                .contains(
+                        tuple(CalculateurSalaireInstrumente.CALCULER_SALAIRE, developpeur.getType(), 2L),
+                        tuple(CalculateurSalaireInstrumente.CALCULER_BONUS, stagiaire.getType(), 1L),
+                        tuple(CalculateurSalaireInstrumente.CALCULER_SALAIRES, null, 1L));
+    }
+
+    @Test
+    @DisplayName("Devrait compter une erreur du calculateur délégué et la propager")
+    void devraitCompterErreurs() {
+        // Given
+        CalculateurSalaire delegue = mock(CalculateurSalaire.class);
+        Employe developpeur = new Developpeur("Alice", 50000, 6, "IT");
+        when(delegue.calculerSalaire(developpeur)).thenThrow(new IllegalStateException("indisponible"));
+        CalculateurSalaire calculateur = new CalculateurSalaireInstrumente(delegue, registre);
+
+        // When & Then
+        assertThatThrownBy(() -> calculateur.calculerSalaire(developpeur)).isInstanceOf(IllegalStateException.class);
+        InstantaneMetrique instantane = registre.metrique(CalculateurSalaireInstrumente.CALCULER_SALAIRE,
+                developpeur.getType()).instantane();
+        assertThat(instantane.getNombre()).isEqualTo(1);
+        assertThat(instantane.getErreurs()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,118 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ClassementEquipe;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ClassementSalaires.
+ */
+@DisplayName("Tests du classement des salaires par équipe")
+class ClassementSalairesTest {
+
+    /** Le salaire calculé est le salaire de base : les résultats attendus se lisent directement. */
+    private final CalculateurSalaire calculateurSalaire = new CalculateurSalaireImpl() {
+        @Override
+        public double calculerSalaire(Employe employe) {
+            return employe.getSalaireDeBase();
+        }
+    };
+
+    @Test
+    @DisplayName("Devrait retenir les meilleurs salaires de chaque équipe, du plus élevé au plus faible")
+    void devraitRetenirMeilleursSalaires() {
+        // Given
+        List<Employe> employes = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            employes.add(new Developpeur("IT-" + i, i * 1000, 2, "IT"));
+            employes.add(new Developpeur("RH-" + i, i * 500, 2, "RH"));
+        }
+        Collections.shuffle(employes, new Random(7));
+
+        // When
+        List<ClassementEquipe> classements = ClassementSalaires.calculer(employes, null, calculateurSalaire, 3);
+
+        // Then
+        assertThat(classements).extracting(ClassementEquipe::getEquipe).containsExactly("IT", "RH");
+        ClassementEquipe it = classements.get(0);
+        assertThat(it.getEffectif()).isEqualTo(50);
+        assertThat(it.getMeilleursEmployes()).extracting(Employe::getNom).containsExactly("IT-50", "IT-49", "IT-48");
+        assertThat(it.getMeilleursSalaires()).containsExactly(50000.0, 49000.0, 48000.0);
+        assertThat(it.getP50()).isCloseTo(25000, withinPercentage(1));
+        assertThat(it.getP99()).isCloseTo(49000, withinPercentage(1));
+    }
+
+    @Test
+    @DisplayName("Devrait appliquer le filtre d'équipe et garder les équipes plus petites que N")
+    void devraitFiltrerEtGarderPetitesEquipes() {
+        // Given
+        List<Employe> employes = List.of(
+            new Developpeur("Alice", 50000, 5, "IT"),
+            new Developpeur("Bob", 60000, 5, "RH"),
+            new Developpeur("Charlie", 40000, 5, "IT"));
+
+        // When
+        List<ClassementEquipe> classements = ClassementSalaires.calculer(employes, "IT", calculateurSalaire, 100);
+
+        // Then
+        assertThat(classements).hasSize(1);
+        assertThat(classements.get(0).getMeilleursEmployes()).extracting(Employe::getNom)
+            .containsExactly("Alice", "Charlie");
+    }
+
+    @Test
+    @DisplayName("Devrait classer en tête les employés sans équipe")
+    void devraitClasserEmployesSansEquipe() {
+        // Given
+        List<Employe> employes = List.of(
+            new Developpeur("Alice", 50000, 5, "IT"),
+            new Developpeur("Bob", 60000, 5, null));
+
+        // When
+        List<ClassementEquipe> classements = ClassementSalaires.calculer(employes, null, calculateurSalaire, 100);
+        List<ClassementEquipe> filtres = ClassementSalaires.calculer(employes, "IT", calculateurSalaire, 100);
+
+        // Then
+        assertThat(classements).extracting(ClassementEquipe::getEquipe).containsExactly(null, "IT");
+        assertThat(filtres).extracting(ClassementEquipe::getEquipe).containsExactly("IT");
+    }
+
+    @Test
+    @DisplayName("Devrait donner le même classement en parallèle et par fusion de partitions")
+    void devraitFusionnerPartitions() {
+        // Given
+        Random aleatoire = new Random(3);
+        List<Employe> employes = new ArrayList<>();
+        for (int i = 0; i < 3 * ClassementSalaires.SEUIL_PARALLELE; i++) {
+            employes.add(new Developpeur("E" + i, 20000 + aleatoire.nextInt(1_000_000), 1, "EQUIPE-" + i % 4));
+        }
+        ClassementSalaires premiere = new ClassementSalaires(10);
+        ClassementSalaires seconde = new ClassementSalaires(10);
+        for (int i = 0; i < employes.size(); i++) {
+            Employe employe = employes.get(i);
+            (i % 2 == 0 ? premiere : seconde).ajouter(employe, employe.getSalaireDeBase());
+        }
+
+        // When
+        List<ClassementEquipe> parallele = ClassementSalaires.calculer(employes, null, calculateurSalaire, 10);
+        List<ClassementEquipe> fusion = premiere.fusionner(seconde).classements();
+
+        // Then
+        assertThat(fusion).hasSameSizeAs(parallele);
+        for (int i = 0; i < parallele.size(); i++) {
+            assertThat(fusion.get(i).getMeilleursSalaires()).containsExactly(parallele.get(i).getMeilleursSalaires());
+            assertThat(fusion.get(i).getP90()).isEqualTo(parallele.get(i).getP90());
+            assertThat(fusion.get(i).getEffectif()).isEqualTo(parallele.get(i).getEffectif());
+        }
+    }
+}
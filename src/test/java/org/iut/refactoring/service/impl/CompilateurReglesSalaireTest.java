@@ -0,0 +1,86 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour CompilateurReglesSalaire.
+ */
+@DisplayName("Tests de la compilation des règles de salaire")
+class CompilateurReglesSalaireTest {
+
+    @Test
+    @DisplayName("Devrait calculer comme l'interprétation des règles, au bit près")
+    void devraitCalculerCommeInterpretation() {
+        // Given
+        Random random = new Random(42);
+        for (int essai = 0; essai < 200; essai++) {
+            List<RegleSalaire> regles = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                Integer seuil = random.nextBoolean() ? null : random.nextInt(100000) - 50000;
+                double multiplicateur = random.nextInt(4) == 0 ? 1.0 : random.nextDouble() * 3;
+                double ajout = random.nextInt(3) == 0 ? 0.0 : random.nextDouble() * 10000 - 5000;
+                regles.add(new RegleSalaire(seuil, multiplicateur, ajout));
+            }
+
+            // When
+            StrategieSalaireCompilee strategie = CompilateurReglesSalaire.compiler("DEVELOPPEUR", regles, regles);
+
+            // Then
+            for (int experience : new int[] {-60000, -1, 0, 5, 127, 128, 32767, 32768, 60000}) {
+                Employe employe = new Developpeur("Alice", 1000 + random.nextDouble() * 90000, experience, "IT");
+                double attendu = employe.getSalaireDeBase();
+                for (RegleSalaire regle : regles) {
+                    attendu = regle.appliquer(attendu, experience);
+                }
+                assertThat(strategie.calculer(employe)).as(regles + " / " + experience).isEqualTo(attendu);
+                assertThat(strategie.calculerBonus(employe)).isEqualTo(attendu);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait remplacer les règles précédant un multiplicateur nul par une constante")
+    void devraitRemplacerReglesAvantMultiplicateurNul() {
+        // Given
+        List<RegleSalaire> regles = List.of(
+                new RegleSalaire(null, 1.5, 0),
+                new RegleSalaire(null, 0, 1200),
+                new RegleSalaire(2, 2, 0));
+
+        // When
+        StrategieSalaireCompilee strategie = CompilateurReglesSalaire.compiler("DEVELOPPEUR", regles,
+                Collections.emptyList());
+
+        // Then
+        assertThat(strategie.calculer(new Developpeur("Alice", -50000, 1, "IT"))).isEqualTo(1200.0);
+        assertThat(strategie.calculer(new Developpeur("Alice", 50000, 3, "IT"))).isEqualTo(2400.0);
+        assertThat(strategie.calculerBonus(new Developpeur("Alice", 50000, 3, "IT"))).isEqualTo(0.0);
+        assertThat(strategie.getType()).isEqualTo("DEVELOPPEUR");
+        assertThat(strategie.getReglesSalaire()).isEqualTo(regles);
+    }
+
+    @Test
+    @DisplayName("Devrait produire une classe distincte à chaque compilation")
+    void devraitProduireClasseDistincteParCompilation() {
+        // Given
+        List<RegleSalaire> regles = List.of(new RegleSalaire(null, 1.2, 0));
+
+        // When
+        StrategieSalaireCompilee premiere = CompilateurReglesSalaire.compiler("DEVELOPPEUR", regles, regles);
+        StrategieSalaireCompilee seconde = CompilateurReglesSalaire.compiler("DEVELOPPEUR", regles, regles);
+
+        // Then
+        assertThat(premiere.getClass()).isNotEqualTo(seconde.getClass());
+        assertThat(premiere.getClass().isHidden()).isTrue();
+    }
+}
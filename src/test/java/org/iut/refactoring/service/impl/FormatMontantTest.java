@@ -0,0 +1,57 @@
+package org.iut.refactoring.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour FormatMontant.
+ */
+@DisplayName("Tests de la mise en forme des montants")
+class FormatMontantTest {
+
+    private static String formater(double montant) {
+        StringBuilder tampon = new StringBuilder();
+        FormatMontant.ajouterMontant(tampon, montant);
+        return tampon.toString();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, 0.5, 12.34, 69000.0, 104000.0, 7500.75, 0.07, 99999.999, 123456789.12, -42.5, -0.5})
+    @DisplayName("Devrait produire le même résultat que String.format avec deux décimales")
+    void devraitProduireMemeResultatQueStringFormat(double montant) {
+        // When & Then
+        assertThat(formater(montant)).isEqualTo(String.format(Locale.ROOT, "%.2f", montant));
+    }
+
+    @Test
+    @DisplayName("Devrait arrondir au centime le plus proche")
+    void devraitArrondirAuCentime() {
+        // When & Then
+        assertThat(formater(12000.004)).isEqualTo("12000.00");
+        assertThat(formater(12000.006)).isEqualTo("12000.01");
+    }
+
+    @Test
+    @DisplayName("Devrait arrondir les demi-centimes d'après l'écriture décimale, comme String.format")
+    void devraitArrondirDemiCentimesCommeStringFormat() {
+        // When & Then
+        assertThat(formater(1.005)).isEqualTo("1.01").isEqualTo(String.format(Locale.ROOT, "%.2f", 1.005));
+        assertThat(formater(2.675)).isEqualTo("2.68").isEqualTo(String.format(Locale.ROOT, "%.2f", 2.675));
+        assertThat(formater(-1.005)).isEqualTo("-1.01");
+        assertThat(formater(-0.001)).isEqualTo("-0.00");
+    }
+
+    @Test
+    @DisplayName("Devrait se replier sur Formatter pour les valeurs non finies ou très grandes")
+    void devraitSeReplierPourValeursSpeciales() {
+        // When & Then
+        assertThat(formater(Double.NaN)).isEqualTo("NaN");
+        assertThat(formater(1e20)).isEqualTo(String.format(Locale.ROOT, "%.2f", 1e20));
+    }
+}
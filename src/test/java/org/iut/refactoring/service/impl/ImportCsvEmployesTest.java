@@ -0,0 +1,218 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.repository.EmployeRepository;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ImportCsvEmployes.
+ */
+@DisplayName("Tests de l'import CSV en masse")
+class ImportCsvEmployesTest {
+
+    @TempDir
+    Path repertoire;
+
+    private EmployeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeRepositoryImpl();
+    }
+
+    @Test
+    @DisplayName("Devrait importer chaque ligne en ignorant l'en-tête")
+    void devraitImporterLignesAvecEnTete() throws IOException {
+        // Given
+        Path fichier = ecrire("type,nom,salaire,experience,equipe\r\n"
+                + "developpeur, Alice Martin ,50000.5,6,IT\r\n"
+                + "CHEF DE PROJET,Bob,60000,4,RH\n"
+                + "\n"
+                + "STAGIAIRE,Zoé,2e4,0,IT");
+
+        // When
+        int importes = new ImportCsvEmployes(repository).importer(fichier);
+
+        // Then
+        assertThat(importes).isEqualTo(3);
+        List<Employe> it = repository.trouverParEquipe("IT");
+        assertThat(it).extracting(Employe::getNom).containsExactlyInAnyOrder("Alice Martin", "Zoé");
+        Employe alice = trouverParNom("Alice Martin");
+        assertThat(alice).isInstanceOf(Developpeur.class);
+        assertThat(alice.getSalaireDeBase()).isEqualTo(50000.5);
+        assertThat(alice.getExperience()).isEqualTo(6);
+        assertThat(trouverParNom("Bob")).isInstanceOf(ChefDeProjet.class);
+        assertThat(trouverParNom("Zoé")).isInstanceOf(Stagiaire.class);
+        assertThat(trouverParNom("Zoé").getSalaireDeBase()).isEqualTo(20000.0);
+    }
+
+    @Test
+    @DisplayName("Devrait lire les champs entre guillemets")
+    void devraitLireChampsEntreGuillemets() throws IOException {
+        // Given
+        Path fichier = ecrire("\"CHEF DE PROJET\",\"Dupont, \"\"Bob\"\"\",60000,4,\"R&D\"\n");
+
+        // When
+        new ImportCsvEmployes(repository).importer(fichier);
+
+        // Then
+        Employe employe = repository.trouverTous().get(0);
+        assertThat(employe.getNom()).isEqualTo("Dupont, \"Bob\"");
+        assertThat(employe.getEquipe()).isEqualTo("R&D");
+    }
+
+    @Test
+    @DisplayName("Devrait insérer les employés par lots")
+    void devraitInsererParLots() throws IOException {
+        // Given
+        StringBuilder contenu = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            contenu.append("DEVELOPPEUR,Employe").append(i).append(",40000,2,EQUIPE-").append(i % 3).append('\n');
+        }
+        Path fichier = ecrire(contenu.toString());
+        RepositoryCompteur compteur = new RepositoryCompteur();
+
+        // When
+        int importes = new ImportCsvEmployes(compteur, 10).importer(fichier);
+
+        // Then
+        assertThat(importes).isEqualTo(25);
+        assertThat(compteur.lots).containsExactly(10, 10, 5);
+        assertThat(compteur.trouverParEquipe("EQUIPE-0")).hasSize(9);
+        assertThat(compteur.trouverParEquipe("EQUIPE-0").get(0).getEquipe())
+            .isSameAs(compteur.trouverParEquipe("EQUIPE-0").get(1).getEquipe());
+    }
+
+    @Test
+    @DisplayName("Devrait signaler la position et le contenu d'une ligne invalide")
+    void devraitSignalerLigneInvalide() throws IOException {
+        // Given
+        Path fichier = ecrire("DEVELOPPEUR,Alice,50000,6,IT\nPDG,Bob,90000,20,Direction\n");
+
+        // When & Then
+        assertThatThrownBy(() -> new ImportCsvEmployes(repository).importer(fichier))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("octet 29")
+            .hasMessageContaining("PDG,Bob");
+    }
+
+    @Test
+    @DisplayName("Devrait compter les employés déjà insérés quand une ligne invalide interrompt l'import")
+    void devraitCompterEmployesInseresAvantLigneInvalide() throws IOException {
+        // Given
+        Path fichier = ecrire("DEVELOPPEUR,Alice,50000,6,IT\nSTAGIAIRE,Charlie,20000,0,IT\n"
+            + "STAGIAIRE,Eve,21000,1,RH\nPDG,Bob,90000,20,Direction\n");
+        ImportCsvEmployes importCsv = new ImportCsvEmployes(repository, 2);
+
+        // When
+        assertThatThrownBy(() -> importCsv.importer(fichier)).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(importCsv.getNombreInseres()).isEqualTo(2);
+        assertThat(repository.trouverTous()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une ligne au nombre de champs incorrect")
+    void devraitRefuserNombreDeChampsIncorrect() throws IOException {
+        // Given
+        Path manquant = ecrire("DEVELOPPEUR,Alice,50000,6\n");
+
+        // When & Then
+        assertThatThrownBy(() -> new ImportCsvEmployes(repository).importer(manquant))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("5 champs attendus");
+    }
+
+    @Test
+    @DisplayName("Devrait importer en parallèle dans l'ordre du fichier")
+    void devraitImporterEnParalleleDansLOrdre() throws IOException {
+        // Given : plusieurs portions d'au moins 1 Mio
+        StringBuilder contenu = new StringBuilder("type,nom,salaire,experience,equipe\n");
+        List<String> noms = new ArrayList<>();
+        for (int i = 0; i < 60_000; i++) {
+            noms.add("Employe " + i);
+            contenu.append(i % 2 == 0 ? "DEVELOPPEUR" : "STAGIAIRE").append(",Employe ").append(i)
+                   .append(",30000.25,").append(i % 10).append(",EQUIPE-").append(i % 7).append('\n');
+        }
+        Path fichier = ecrire(contenu.toString());
+        RepositoryCompteur compteur = new RepositoryCompteur();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When
+        int importes;
+        try {
+            importes = new ImportCsvEmployes(compteur, 10_000, pool).importer(fichier);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Then
+        assertThat(importes).isEqualTo(60_000);
+        assertThat(compteur.noms).isEqualTo(noms);
+        assertThat(compteur.lots).hasSizeGreaterThan(6);
+        assertThat(compteur.trouverParEquipe("EQUIPE-3")).allMatch(employe -> employe.getSalaireDeBase() == 30000.25);
+    }
+
+    @Test
+    @DisplayName("Devrait signaler la position d'une ligne invalide analysée en parallèle")
+    void devraitSignalerLigneInvalideEnParallele() throws IOException {
+        // Given
+        String ligne = "DEVELOPPEUR,Alice,50000,6,IT\n";
+        String debut = ligne.repeat(50_000);
+        Path fichier = ecrire(debut + "PDG,Bob,90000,20,Direction\n" + ligne.repeat(50_000));
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> new ImportCsvEmployes(repository, 1000, pool).importer(fichier))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Ligne CSV invalide à l'octet " + debut.length() + " ");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Path ecrire(String contenu) throws IOException {
+        return Files.writeString(Files.createTempFile(repertoire, "employes", ".csv"), contenu);
+    }
+
+    private Employe trouverParNom(String nom) {
+        return repository.trouverTous().stream()
+                .filter(employe -> nom.equals(employe.getNom()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Repository en mémoire qui retient la taille de chaque lot reçu et l'ordre d'insertion.
+     */
+    private static final class RepositoryCompteur extends EmployeRepositoryImpl {
+        private final List<Integer> lots = new ArrayList<>();
+        private final List<String> noms = new ArrayList<>();
+
+        @Override
+        public void ajouterTous(Collection<? extends Employe> employes) {
+            lots.add(employes.size());
+            employes.forEach(employe -> noms.add(employe.getNom()));
+            super.ajouterTous(employes);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.BilanPaie;
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.model.TotauxPaie;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour MoteurPaieParallele.
+ */
+@DisplayName("Tests du moteur de paie parallèle")
+class MoteurPaieParalleleTest {
+
+    private EmployeRepositoryImpl repository;
+    private CalculateurSalaireImpl calculateur;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeRepositoryImpl();
+        calculateur = new CalculateurSalaireImpl();
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les totaux globaux et par équipe du repository")
+    void devraitCalculerTotauxDuRepository() {
+        // Given
+        repository.ajouter(new Developpeur("Alice", 50000, 6, "IT"));
+        repository.ajouter(new ChefDeProjet("Bob", 60000, 5, "RH"));
+        repository.ajouter(new Stagiaire("Charlie", 20000, 0, "IT"));
+        MoteurPaieParallele moteur = new MoteurPaieParallele(repository, calculateur);
+
+        // When
+        BilanPaie bilan = moteur.calculerPaie();
+
+        // Then
+        TotauxPaie global = bilan.getTotalGlobal();
+        assertThat(global.getEffectif()).isEqualTo(3);
+        assertThat(global.getTotalSalaires()).isCloseTo(69000.0 + 104000.0 + 12000.0, within(0.001));
+        assertThat(global.getTotalBonus()).isCloseTo(7500.0 + 15600.0, within(0.001));
+
+        TotauxPaie it = bilan.getTotauxEquipe("IT").orElseThrow();
+        assertThat(it.getEffectif()).isEqualTo(2);
+        assertThat(it.getTotalSalaires()).isCloseTo(81000.0, within(0.001));
+        assertThat(bilan.getTotauxParEquipe()).containsOnlyKeys("IT", "RH");
+    }
+
+    @Test
+    @DisplayName("Devrait accepter un employé sans équipe")
+    void devraitAccepterEmployeSansEquipe() {
+        // Given
+        List<Employe> employes = List.of(
+            new Developpeur("Alice", 50000, 6, null),
+            new Stagiaire("Charlie", 20000, 0, "IT"));
+        MoteurPaieParallele moteur = new MoteurPaieParallele(repository, calculateur);
+
+        // When
+        BilanPaie bilan = moteur.calculerPaie(employes);
+
+        // Then
+        assertThat(bilan.getTotalGlobal().getEffectif()).isEqualTo(2);
+        assertThat(bilan.getTotauxEquipe(null).orElseThrow().getTotalSalaires()).isCloseTo(69000.0, within(0.001));
+        assertThat(bilan.getTotauxParEquipe().keySet()).containsExactly(null, "IT");
+    }
+
+    @Test
+    @DisplayName("Devrait retourner des totaux nuls pour une population vide")
+    void devraitRetournerTotauxNulsPourPopulationVide() {
+        // Given
+        MoteurPaieParallele moteur = new MoteurPaieParallele(repository, calculateur);
+
+        // When
+        BilanPaie bilan = moteur.calculerPaie();
+
+        // Then
+        assertThat(bilan.getTotalGlobal().getEffectif()).isZero();
+        assertThat(bilan.getTotalGlobal().getTotalSalaires()).isZero();
+        assertThat(bilan.getTotauxParEquipe()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Devrait produire des totaux identiques au bit près quel que soit le parallélisme")
+    void devraitProduireTotauxIdentiquesQuelQueSoitLeParallelisme() {
+        // Given
+        List<Employe> employes = genererPopulation(100_000);
+        BilanPaie reference = calculerAvecParallelisme(employes, 1);
+
+        for (int parallelisme : new int[]{2, 3, 4, 8}) {
+            // When
+            BilanPaie bilan = calculerAvecParallelisme(employes, parallelisme);
+
+            // Then
+            assertThat(bilan.getTotalGlobal().getTotalSalaires())
+                .isEqualTo(reference.getTotalGlobal().getTotalSalaires());
+            assertThat(bilan.getTotalGlobal().getTotalBonus())
+                .isEqualTo(reference.getTotalGlobal().getTotalBonus());
+            reference.getTotauxParEquipe().forEach((equipe, totaux) -> {
+                TotauxPaie autres = bilan.getTotauxEquipe(equipe).orElseThrow();
+                assertThat(autres.getEffectif()).isEqualTo(totaux.getEffectif());
+                assertThat(autres.getTotalSalaires()).isEqualTo(totaux.getTotalSalaires());
+                assertThat(autres.getTotalBonus()).isEqualTo(totaux.getTotalBonus());
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait concorder avec un calcul séquentiel employé par employé")
+    void devraitConcorderAvecCalculSequentiel() {
+        // Given
+        List<Employe> employes = genererPopulation(20_000);
+        double attendu = 0;
+        for (Employe employe : employes) {
+            attendu += calculateur.calculerSalaire(employe);
+        }
+
+        // When
+        BilanPaie bilan = calculerAvecParallelisme(employes, 4);
+
+        // Then
+        assertThat(bilan.getTotalGlobal().getEffectif()).isEqualTo(20_000);
+        assertThat(bilan.getTotalGlobal().getTotalSalaires()).isCloseTo(attendu, within(1e-3));
+    }
+
+    private BilanPaie calculerAvecParallelisme(List<Employe> employes, int parallelisme) {
+        ForkJoinPool pool = new ForkJoinPool(parallelisme);
+        try {
+            return new MoteurPaieParallele(repository, calculateur, pool).calculerPaie(employes);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<Employe> genererPopulation(int taille) {
+        Random random = new Random(7);
+        List<Employe> employes = new ArrayList<>(taille);
+        String[] equipes = {"IT", "RH", "Finance", "Ventes"};
+        for (int i = 0; i < taille; i++) {
+            String equipe = equipes[random.nextInt(equipes.length)];
+            double salaire = 20000 + random.nextDouble() * 80000;
+            int experience = random.nextInt(15);
+            switch (i % 3) {
+                case 0:
+                    employes.add(new Developpeur("Dev" + i, salaire, experience, equipe));
+                    break;
+                case 1:
+                    employes.add(new ChefDeProjet("Chef" + i, salaire, experience, equipe));
+                    break;
+                default:
+                    employes.add(new Stagiaire("Stagiaire" + i, salaire, experience, equipe));
+                    break;
+            }
+        }
+        return employes;
+    }
+}
@@ -0,0 +1,79 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.service.StrategieSalaire;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour RegistreStrategies.
+ */
+@DisplayName("Tests du registre versionné des stratégies")
+class RegistreStrategiesTest {
+
+    @Test
+    @DisplayName("Devrait publier une nouvelle version sans modifier celles déjà obtenues")
+    void devraitPublierSansModifierVersionsObtenues() {
+        // Given
+        RegistreStrategies registre = new RegistreStrategies(Arrays.asList(new StrategieSalaireDeveloppeur()));
+        VersionStrategies premiere = registre.versionCourante();
+        Employe stagiaire = new Stagiaire("Zoé", 20000, 0, "IT");
+
+        // When
+        VersionStrategies seconde = registre.enregistrer(new StrategieSalaireStagiaire());
+        VersionStrategies troisieme = registre.publier(Arrays.asList(new StrategieSalaireStagiaire()));
+
+        // Then
+        assertThat(premiere.getNumero()).isEqualTo(1);
+        assertThat(seconde.getNumero()).isEqualTo(2);
+        assertThat(troisieme.getNumero()).isEqualTo(3);
+        assertThat(registre.versionCourante()).isSameAs(troisieme);
+        assertThat(premiere.getStrategies()).hasSize(1);
+        assertThat(seconde.getStrategies()).hasSize(2);
+        assertThatThrownBy(() -> premiere.trouverStrategie(stagiaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Aucune stratégie trouvée");
+        assertThat(seconde.trouverStrategie(stagiaire)).isInstanceOf(StrategieSalaireStagiaire.class);
+        assertThatThrownBy(() -> troisieme.trouverStrategie(new Developpeur("Alice", 50000, 5, "IT")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Devrait copier la liste publiée")
+    void devraitCopierListePubliee() {
+        // Given
+        List<StrategieSalaire> strategies = new ArrayList<>();
+        strategies.add(new StrategieSalaireDeveloppeur());
+        RegistreStrategies registre = new RegistreStrategies(strategies);
+
+        // When
+        strategies.add(new StrategieSalaireStagiaire());
+
+        // Then
+        assertThat(registre.versionCourante().getStrategies()).hasSize(1);
+        assertThatThrownBy(() -> registre.versionCourante().getStrategies().add(new StrategieSalaireStagiaire()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une liste ou une stratégie null")
+    void devraitRefuserNull() {
+        // Given
+        RegistreStrategies registre = new RegistreStrategies(new ArrayList<>());
+
+        // When & Then
+        assertThatThrownBy(() -> registre.publier(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registre.enregistrer(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registre.publier(Arrays.asList((StrategieSalaire) null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(registre.versionCourante().getNumero()).isEqualTo(1);
+    }
+}
@@ -5,16 +5,25 @@ import org.iut.refactoring.model.ChefDeProjet;
 import org.iut.refactoring.model.Developpeur;
 import org.iut.refactoring.model.Employe;
 import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.model.StatistiquesEquipe;
 import org.iut.refactoring.repository.EmployeRepository;
 import org.iut.refactoring.service.CalculateurSalaire;
+import org.iut.refactoring.service.FormatExport;
 import org.iut.refactoring.service.ServiceLog;
 import org.iut.refactoring.service.ServiceRapport;
+import org.iut.refactoring.service.TypeEvenement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -67,6 +76,37 @@ class ServiceGestionPersonnelImplTest {
         verify(serviceLog).enregistrer(contains("Alice"));
     }
 
+    @Test
+    @DisplayName("Devrait importer un fichier CSV avec une seule entrée de log")
+    void devraitImporterCsvAvecUnSeulLog(@TempDir Path repertoire) throws IOException {
+        // Given
+        Path fichier = Files.writeString(repertoire.resolve("employes.csv"),
+                "DEVELOPPEUR,Alice,50000,5,IT\nSTAGIAIRE,Charlie,20000,0,IT\n");
+
+        // When
+        int importes = service.importerEmployes(fichier);
+
+        // Then
+        assertThat(importes).isEqualTo(2);
+        verify(employeRepository).ajouterTous(argThat(lot -> lot.size() == 2));
+        verify(serviceLog).enregistrer(eq(TypeEvenement.AJOUT), isNull(), contains("2 employés"));
+        verify(serviceLog, never()).enregistrer(anyString());
+    }
+
+    @Test
+    @DisplayName("Devrait journaliser un import interrompu par une ligne invalide")
+    void devraitJournaliserImportInterrompu(@TempDir Path repertoire) throws IOException {
+        // Given
+        Path fichier = Files.writeString(repertoire.resolve("employes.csv"),
+                "DEVELOPPEUR,Alice,50000,5,IT\nPDG,Bob,90000,20,Direction\n");
+
+        // When & Then
+        assertThatThrownBy(() -> service.importerEmployes(fichier))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("PDG,Bob");
+        verify(serviceLog).enregistrer(eq(TypeEvenement.AJOUT), isNull(), startsWith("Import interrompu après 0 employés"));
+    }
+
     @Test
     @DisplayName("Devrait ajouter un chef de projet")
     void devraitAjouterChefDeProjet() {
@@ -178,6 +218,19 @@ class ServiceGestionPersonnelImplTest {
         verify(serviceLog).enregistrer(contains("DIVISION"));
     }
 
+    @Test
+    @DisplayName("Devrait générer les rapports de meilleurs salaires et de quantiles")
+    void devraitGenererRapportsClassement() {
+        // When
+        service.genererRapport("TOP", "IT");
+        service.genererRapport("quantiles", null);
+
+        // Then
+        verify(serviceRapport).genererRapportMeilleursSalaires(anyList(), eq("IT"),
+                eq(ServiceGestionPersonnelImpl.NOMBRE_MEILLEURS_SALAIRES));
+        verify(serviceRapport).genererRapportQuantilesSalaires(anyList(), isNull());
+    }
+
     @Test
     @DisplayName("Devrait lever une exception pour un type de rapport invalide")
     void devraitLeverExceptionPourTypeRapportInvalide() {
@@ -197,22 +250,64 @@ class ServiceGestionPersonnelImplTest {
     }
 
     @Test
-    @DisplayName("Devrait promouvoir un employé")
+    @DisplayName("Devrait exporter un rapport dans un fichier sans passer par le service de rapports")
+    void devraitExporterRapportDansFichier(@TempDir Path repertoire) throws IOException {
+        // Given
+        when(employeRepository.trouverTous()).thenReturn(Arrays.asList(developpeur));
+        when(calculateurSalaire.calculerSalaire(developpeur)).thenReturn(69000.0);
+        when(calculateurSalaire.figer()).thenReturn(calculateurSalaire);
+
+        // When
+        Path fichier = service.exporterRapport("SALAIRE", null, repertoire, FormatExport.CSV, false);
+
+        // Then
+        assertThat(fichier).isEqualTo(repertoire.resolve("salaire.csv"));
+        assertThat(Files.readAllLines(fichier)).containsExactly(
+                "id,nom,equipe,salaire", developpeur.getId() + ",Alice,IT,69000.00");
+        verifyNoInteractions(serviceRapport);
+        verify(serviceLog).enregistrer(eq(TypeEvenement.RAPPORT), isNull(), contains("salaire.csv"));
+    }
+
+    @Test
+    @DisplayName("Devrait promouvoir un employé en le remplaçant sous le même ID")
     void devraitPromouvoirEmploye() {
         // Given
         when(employeRepository.trouverParId(anyString())).thenReturn(Optional.of(developpeur));
-        when(employeRepository.supprimer(anyString())).thenReturn(true);
+        when(employeRepository.remplacer(any(), any())).thenReturn(true);
 
         // When
-        service.promouvoirEmploye("id-123", "CHEF DE PROJET");
+        service.promouvoirEmploye(developpeur.getId(), "CHEF DE PROJET");
 
         // Then
-        verify(employeRepository).trouverParId("id-123");
-        verify(employeRepository).supprimer("id-123");
-        verify(employeRepository).ajouter(any(ChefDeProjet.class));
+        verify(employeRepository).trouverParId(developpeur.getId());
+        verify(employeRepository).remplacer(same(developpeur), argThat(employe ->
+                employe instanceof ChefDeProjet && employe.getId().equals(developpeur.getId())));
+        verify(employeRepository, never()).supprimer(anyString());
+        verify(employeRepository, never()).ajouter(any());
         verify(serviceLog).enregistrer(contains("Alice"));
     }
 
+    @Test
+    @DisplayName("Devrait rejouer la promotion si l'employé a changé entre la lecture et le remplacement")
+    void devraitRejouerPromotionSurConflit() {
+        // Given
+        Employe modifie = new Developpeur(developpeur.getId(), "Alice", 52000, 5, "IT");
+        when(employeRepository.trouverParId(anyString()))
+                .thenReturn(Optional.of(developpeur))
+                .thenReturn(Optional.of(modifie));
+        when(employeRepository.remplacer(same(developpeur), any())).thenReturn(false);
+        when(employeRepository.remplacer(same(modifie), any())).thenReturn(true);
+
+        // When
+        service.promouvoirEmploye(developpeur.getId(), "CHEF DE PROJET");
+
+        // Then
+        verify(employeRepository, times(2)).trouverParId(developpeur.getId());
+        verify(employeRepository).remplacer(same(modifie), argThat(employe ->
+                employe instanceof ChefDeProjet && employe.getSalaireDeBase() == 52000));
+        verify(serviceLog, times(1)).enregistrer(contains("Alice"));
+    }
+
     @Test
     @DisplayName("Devrait lever une exception si l'employé à promouvoir n'existe pas")
     void devraitLeverExceptionSiEmployeAPromouvoirInexistant() {
@@ -231,13 +326,15 @@ class ServiceGestionPersonnelImplTest {
         // Given
         Developpeur dev = new Developpeur("Alice", 50000, 5, "IT");
         when(employeRepository.trouverParId(anyString())).thenReturn(Optional.of(dev));
+        when(employeRepository.remplacer(any(), any())).thenReturn(true);
 
         // When
-        service.promouvoirEmploye("id-123", "CHEF DE PROJET");
+        service.promouvoirEmploye(dev.getId(), "CHEF DE PROJET");
 
         // Then
-        verify(employeRepository).ajouter(argThat(employe ->
-                employe.getNom().equals("Alice") &&
+        verify(employeRepository).remplacer(eq(dev), argThat(employe ->
+                employe.getId().equals(dev.getId()) &&
+                        employe.getNom().equals("Alice") &&
                         employe.getSalaireDeBase() == 50000 &&
                         employe.getExperience() == 5 &&
                         employe.getEquipe().equals("IT") &&
@@ -254,4 +351,41 @@ class ServiceGestionPersonnelImplTest {
         // Then
         verify(serviceLog).afficherLogs();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Devrait générer le rapport de division depuis les agrégats s'ils sont disponibles")
+    void devraitGenererRapportDivisionDepuisAgregats() {
+        // Given
+        AgregateurEquipes agregateur = new AgregateurEquipes(calculateurSalaire);
+        agregateur.employeAjoute(developpeur);
+        ServiceGestionPersonnelImpl serviceAgrege = new ServiceGestionPersonnelImpl(
+                employeRepository, calculateurSalaire, serviceRapport, serviceLog, agregateur);
+
+        // When
+        serviceAgrege.genererRapport("DIVISION", null);
+
+        // Then
+        verify(serviceRapport).genererRapportDivisionAgrege(argThat(stats ->
+                stats.size() == 1 && stats.get(0).getEquipe().equals("IT") && stats.get(0).getEffectif() == 1));
+        verify(serviceRapport, never()).genererRapportDivision(anyList());
+        verify(employeRepository, never()).trouverTous();
+    }
+
+    @Test
+    @DisplayName("Devrait calculer les statistiques d'équipe à la demande sans agrégats")
+    void devraitCalculerStatistiquesSansAgregats() {
+        // Given
+        when(employeRepository.trouverTous()).thenReturn(Arrays.asList(
+                developpeur, new Stagiaire("Charlie", 20000, 0, "IT")));
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(1000.0);
+        when(calculateurSalaire.figer()).thenReturn(calculateurSalaire);
+
+        // When
+        List<StatistiquesEquipe> statistiques = service.obtenirStatistiquesEquipes();
+
+        // Then
+        assertThat(statistiques).hasSize(1);
+        assertThat(statistiques.get(0).getEffectif()).isEqualTo(2);
+        assertThat(statistiques.get(0).getSommeSalairesCalcules()).isCloseTo(2000.0, within(0.01));
+    }
+}
@@ -0,0 +1,73 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.metrique.InstantaneMetrique;
+import org.iut.refactoring.metrique.RegistreMetriques;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.service.ServiceGestionPersonnel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ServiceGestionPersonnelInstrumente.
+ */
+@DisplayName("Tests du service de gestion du personnel instrumenté")
+class ServiceGestionPersonnelInstrumenteTest {
+
+    private RegistreMetriques registre;
+    private ServiceGestionPersonnel delegue;
+    private ServiceGestionPersonnel service;
+
+    @BeforeEach
+    void setUp() {
+        registre = new RegistreMetriques();
+        delegue = mock(ServiceGestionPersonnel.class);
+        service = new ServiceGestionPersonnelInstrumente(delegue, registre);
+    }
+
+    @Test
+    @DisplayName("Devrait mesurer un ajout par type d'employé et un rapport par type de rapport")
+    void devraitMesurerAjoutEtRapportParType() {
+        // Given
+        Employe alice = new Developpeur("Alice", 50000, 5, "IT");
+        when(delegue.ajouterEmploye(anyString(), anyString(), anyDouble(), anyInt(), anyString())).thenReturn(alice);
+        when(delegue.calculerSalaire(alice.getId())).thenReturn(69000.0);
+
+        // When
+        Employe ajoute = service.ajouterEmploye("developpeur", "Alice", 50000, 5, "IT");
+        double salaire = service.calculerSalaire(alice.getId());
+        service.genererRapport("salaire", null);
+
+        // Then
+        assertThat(ajoute).isSameAs(alice);
+        assertThat(salaire).isEqualTo(69000.0);
+        assertThat(registre.instantane())
+                .filteredOn(instantane -> instantane.getNombre() > 0)
+                .extracting(InstantaneMetrique::getOperation, InstantaneMetrique::getType)
+                .containsExactly(
+                        tuple(ServiceGestionPersonnelInstrumente.AJOUTER_EMPLOYE, "DEVELOPPEUR"),
+                        tuple(ServiceGestionPersonnelInstrumente.CALCULER_SALAIRE, null),
+                        tuple(ServiceGestionPersonnelInstrumente.GENERER_RAPPORT, "SALAIRE"));
+    }
+
+    @Test
+    @DisplayName("Devrait compter une erreur sans type et la propager")
+    void devraitCompterErreurSansType() {
+        // Given
+        doThrow(new IllegalArgumentException("Type de rapport non reconnu: INCONNU"))
+                .when(delegue).genererRapport(eq("INCONNU"), any());
+
+        // When & Then
+        assertThatThrownBy(() -> service.genererRapport("INCONNU", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(registre.instantane())
+                .filteredOn(instantane -> instantane.getErreurs() > 0)
+                .extracting(InstantaneMetrique::getOperation, InstantaneMetrique::getType)
+                .containsExactly(tuple(ServiceGestionPersonnelInstrumente.GENERER_RAPPORT, null));
+    }
+}
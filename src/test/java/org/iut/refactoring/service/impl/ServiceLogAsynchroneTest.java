@@ -0,0 +1,243 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.service.impl.ServiceLogAsynchrone.PolitiqueSaturation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ServiceLogAsynchrone.
+ */
+@DisplayName("Tests du service de logs asynchrone")
+class ServiceLogAsynchroneTest {
+
+    private ServiceLogAsynchrone serviceLog;
+
+    @BeforeEach
+    void setUp() {
+        serviceLog = new ServiceLogAsynchrone();
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLog.close();
+    }
+
+    @Test
+    @DisplayName("Devrait enregistrer un message horodaté")
+    void devraitEnregistrerMessageHorodate() {
+        // When
+        serviceLog.enregistrer("Test message");
+
+        // Then
+        List<String> logs = serviceLog.obtenirLogs();
+        assertThat(logs).hasSize(1);
+        assertThat(logs.get(0)).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2} - Test message");
+    }
+
+    @Test
+    @DisplayName("Devrait retourner les logs dans l'ordre d'ajout")
+    void devraitRetournerLogsDansOrdreAjout() {
+        // When
+        serviceLog.enregistrer("Premier");
+        serviceLog.enregistrer("Deuxième");
+        serviceLog.enregistrer("Troisième");
+
+        // Then
+        List<String> logs = serviceLog.obtenirLogs();
+        assertThat(logs).hasSize(3);
+        assertThat(logs.get(0)).endsWith("Premier");
+        assertThat(logs.get(2)).endsWith("Troisième");
+    }
+
+    @Test
+    @DisplayName("Devrait retourner une copie des logs")
+    void devraitRetournerCopieLogs() {
+        // Given
+        serviceLog.enregistrer("Message 1");
+
+        // When
+        serviceLog.obtenirLogs().add("Message externe");
+
+        // Then
+        assertThat(serviceLog.obtenirLogs()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Devrait ne conserver que les entrées les plus récentes")
+    void devraitBornerHistorique() {
+        // Given
+        try (ServiceLogAsynchrone borne = new ServiceLogAsynchrone(16, 3, PolitiqueSaturation.BLOQUER)) {
+            // When
+            for (int i = 1; i <= 5; i++) {
+                borne.enregistrer("Message " + i);
+            }
+
+            // Then
+            List<String> logs = borne.obtenirLogs();
+            assertThat(logs).hasSize(3);
+            assertThat(logs.get(0)).endsWith("Message 3");
+            assertThat(logs.get(2)).endsWith("Message 5");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter les entrées lorsque le tampon est plein")
+    void devraitRejeterLorsqueTamponPlein() {
+        // Given
+        try (ServiceLogAsynchrone rejet = new ServiceLogAsynchrone(4, 100, PolitiqueSaturation.REJETER, false)) {
+            // When
+            for (int i = 0; i < 6; i++) {
+                rejet.enregistrer("Message " + i);
+            }
+            rejet.demarrer();
+
+            // Then
+            assertThat(rejet.getNombreRejetes()).isEqualTo(2);
+            assertThat(rejet.obtenirLogs()).hasSize(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait bloquer le producteur lorsque le tampon est plein")
+    void devraitBloquerLorsqueTamponPlein() throws Exception {
+        // Given
+        try (ServiceLogAsynchrone bloquant = new ServiceLogAsynchrone(2, 100, PolitiqueSaturation.BLOQUER, false)) {
+            bloquant.enregistrer("Message 1");
+            bloquant.enregistrer("Message 2");
+
+            // When
+            CompletableFuture<Void> producteur = CompletableFuture.runAsync(() -> bloquant.enregistrer("Message 3"));
+            Thread.sleep(100);
+            boolean bloqueAvantDemarrage = !producteur.isDone();
+            bloquant.demarrer();
+            producteur.get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(bloqueAvantDemarrage).isTrue();
+            assertThat(bloquant.obtenirLogs()).hasSize(3);
+            assertThat(bloquant.getNombreRejetes()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Un producteur bloqué devrait échouer si le service est arrêté pendant son attente")
+    void producteurBloqueDevraitEchouerApresArret() throws Exception {
+        // Given
+        ServiceLogAsynchrone bloquant = new ServiceLogAsynchrone(2, 100, PolitiqueSaturation.BLOQUER, false);
+        bloquant.enregistrer("Message 1");
+        bloquant.enregistrer("Message 2");
+        CompletableFuture<Void> producteur = CompletableFuture.runAsync(() -> bloquant.enregistrer("Message 3"));
+        Thread.sleep(100);
+
+        // When
+        bloquant.close();
+
+        // Then
+        assertThatThrownBy(() -> producteur.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Ne devrait perdre aucune entrée avec plusieurs producteurs concurrents")
+    void neDevraitPerdreAucuneEntreeAvecProducteursConcurrents() throws Exception {
+        // Given
+        int producteurs = 8;
+        int messagesParProducteur = 10_000;
+        try (ServiceLogAsynchrone concurrent = new ServiceLogAsynchrone(
+                1024, producteurs * messagesParProducteur, PolitiqueSaturation.BLOQUER)) {
+            List<CompletableFuture<Void>> taches = new ArrayList<>();
+
+            // When
+            for (int p = 0; p < producteurs; p++) {
+                int numero = p;
+                taches.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < messagesParProducteur; i++) {
+                        concurrent.enregistrer("P" + numero + "-" + i);
+                    }
+                }, runnable -> new Thread(runnable).start()));
+            }
+            CompletableFuture.allOf(taches.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(concurrent.obtenirLogs()).hasSize(producteurs * messagesParProducteur);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait archiver toute entrée acceptée par des producteurs concurrents à l'arrêt")
+    void devraitArchiverEntreesAccepteesPendantArret() throws Exception {
+        for (int essai = 0; essai < 50; essai++) {
+            // Given
+            ServiceLogAsynchrone concurrent = new ServiceLogAsynchrone(
+                    1024, 1_000_000, PolitiqueSaturation.REJETER);
+            AtomicInteger acceptees = new AtomicInteger();
+            List<CompletableFuture<Void>> taches = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                taches.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        while (true) {
+                            concurrent.enregistrer("message");
+                            acceptees.incrementAndGet();
+                        }
+                    } catch (IllegalStateException arrete) {
+                        // Service arrêté
+                    }
+                }, runnable -> new Thread(runnable).start()));
+            }
+
+            // When
+            concurrent.close();
+            CompletableFuture.allOf(taches.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(concurrent.obtenirLogs().size() + concurrent.getNombreRejetes())
+                .isEqualTo(acceptees.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser les enregistrements après l'arrêt")
+    void devraitRefuserEnregistrementsApresArret() {
+        // Given
+        serviceLog.enregistrer("Avant arrêt");
+        serviceLog.close();
+
+        // When & Then
+        assertThat(serviceLog.obtenirLogs()).hasSize(1);
+        assertThatThrownBy(() -> serviceLog.enregistrer("Après arrêt"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("arrêté");
+    }
+
+    @Test
+    @DisplayName("Devrait refuser des capacités invalides")
+    void devraitRefuserCapacitesInvalides() {
+        // When & Then
+        assertThatThrownBy(() -> new ServiceLogAsynchrone(0, 10, PolitiqueSaturation.REJETER))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ServiceLogAsynchrone(10, 10, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("afficherLogs ne devrait pas lever d'exception")
+    void afficherLogsNeDevraitPasLeverException() {
+        // Given
+        serviceLog.enregistrer("Test");
+
+        // When & Then
+        assertThatCode(() -> serviceLog.afficherLogs()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,231 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.service.TypeEvenement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ServiceLogJournalise.
+ */
+@DisplayName("Tests du journal de logs projeté en mémoire")
+class ServiceLogJournaliseTest {
+
+    @TempDir
+    Path repertoire;
+
+    private ServiceLogJournalise journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new ServiceLogJournalise(repertoire);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Devrait enregistrer un message horodaté")
+    void devraitEnregistrerMessageHorodate() {
+        // When
+        journal.enregistrer("Test message");
+
+        // Then
+        List<String> logs = journal.obtenirLogs();
+        assertThat(logs).hasSize(1);
+        assertThat(logs.get(0)).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2} - Test message");
+    }
+
+    @Test
+    @DisplayName("Devrait conserver le type, l'identifiant et les caractères accentués")
+    void devraitConserverTypeEtIdentifiant() {
+        // Given
+        journal.enregistrer(TypeEvenement.AJOUT, "id-1", "Ajout de l'employé: Zoé \uD83C\uDF89 €");
+        journal.enregistrer("Rapport généré: SALAIRE");
+        List<String> lus = new ArrayList<>();
+
+        // When
+        journal.rejouer((epochNanos, type, employeId, message) ->
+                lus.add(type + "|" + employeId + "|" + message));
+
+        // Then
+        assertThat(lus).containsExactly(
+            "AJOUT|id-1|Ajout de l'employé: Zoé \uD83C\uDF89 €",
+            "MESSAGE|null|Rapport généré: SALAIRE");
+    }
+
+    @Test
+    @DisplayName("Devrait produire des horodatages croissants")
+    void devraitProduireHorodatagesCroissants() {
+        // Given
+        for (int i = 0; i < 100; i++) {
+            journal.enregistrer("Message " + i);
+        }
+        List<Long> horodatages = new ArrayList<>();
+
+        // When
+        journal.rejouer((epochNanos, type, employeId, message) -> horodatages.add(epochNanos));
+
+        // Then
+        assertThat(horodatages).hasSize(100).isSorted();
+    }
+
+    @Test
+    @DisplayName("Devrait passer au segment suivant lorsque le segment courant est plein")
+    void devraitPasserAuSegmentSuivant() {
+        // Given
+        try (ServiceLogJournalise petit = new ServiceLogJournalise(repertoire.resolve("petit"), 128)) {
+            // When
+            for (int i = 0; i < 20; i++) {
+                petit.enregistrer(TypeEvenement.PROMOTION, "id-" + i, "Employé promu: " + i);
+            }
+
+            // Then
+            assertThat(petit.getNombreSegments()).isGreaterThan(1);
+            List<String> logs = petit.obtenirLogs();
+            assertThat(logs).hasSize(20);
+            assertThat(logs.get(0)).endsWith("Employé promu: 0");
+            assertThat(logs.get(19)).endsWith("Employé promu: 19");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait relire le journal et reprendre l'écriture après réouverture")
+    void devraitReprendreApresReouverture() {
+        // Given
+        Path dossier = repertoire.resolve("reprise");
+        try (ServiceLogJournalise premier = new ServiceLogJournalise(dossier, 128)) {
+            for (int i = 0; i < 10; i++) {
+                premier.enregistrer("Avant " + i);
+            }
+        }
+
+        // When
+        try (ServiceLogJournalise second = new ServiceLogJournalise(dossier, 128)) {
+            second.enregistrer("Après");
+
+            // Then
+            List<String> logs = second.obtenirLogs();
+            assertThat(logs).hasSize(11);
+            assertThat(logs.get(0)).endsWith("Avant 0");
+            assertThat(logs.get(9)).endsWith("Avant 9");
+            assertThat(logs.get(10)).endsWith("Après");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait rouvrir un segment tronqué au milieu d'un enregistrement")
+    void devraitRouvrirSegmentTronqueAuMilieuDUnEnregistrement() throws IOException {
+        // Given : arrêt brutal simulé, le fichier s'arrête au milieu du dernier message
+        Path dossier = repertoire.resolve("tronque");
+        try (ServiceLogJournalise premier = new ServiceLogJournalise(dossier, 4096)) {
+            premier.enregistrer("Message 1");
+            premier.enregistrer("Message 2");
+            premier.enregistrer("Message 3");
+        }
+        Path segment = dossier.resolve("journal-00000000.seg");
+        try (FileChannel canal = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            canal.truncate(finDesDonnees(segment) - 3);
+        }
+
+        // When
+        try (ServiceLogJournalise second = new ServiceLogJournalise(dossier, 4096)) {
+            second.enregistrer("Après reprise");
+        }
+
+        // Then
+        try (ServiceLogJournalise troisieme = new ServiceLogJournalise(dossier, 4096)) {
+            List<String> logs = troisieme.obtenirLogs();
+            assertThat(logs).hasSize(3);
+            assertThat(logs.get(1)).endsWith("Message 2");
+            assertThat(logs.get(2)).endsWith("Après reprise");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer une longueur écrite devant un corps incomplet")
+    void devraitIgnorerLongueurDevantCorpsIncomplet() throws IOException {
+        // Given : une longueur non nulle suivie d'un corps resté à zéro
+        Path dossier = repertoire.resolve("corps-incomplet");
+        try (ServiceLogJournalise premier = new ServiceLogJournalise(dossier, 4096)) {
+            premier.enregistrer("Message 1");
+            premier.enregistrer("Message 2");
+        }
+        Path segment = dossier.resolve("journal-00000000.seg");
+        try (FileChannel canal = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 40), finDesDonnees(segment));
+        }
+
+        // When
+        try (ServiceLogJournalise second = new ServiceLogJournalise(dossier, 4096)) {
+            second.enregistrer("Après reprise");
+        }
+
+        // Then
+        try (ServiceLogJournalise troisieme = new ServiceLogJournalise(dossier, 4096)) {
+            List<String> logs = troisieme.obtenirLogs();
+            assertThat(logs).hasSize(3);
+            assertThat(logs.get(2)).endsWith("Après reprise");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une entrée plus grande qu'un segment")
+    void devraitRefuserEntreeTropVolumineuse() {
+        // Given
+        try (ServiceLogJournalise petit = new ServiceLogJournalise(repertoire.resolve("petit"), 64)) {
+            // When & Then
+            assertThatThrownBy(() -> petit.enregistrer("x".repeat(100)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("trop volumineuse");
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser les enregistrements après fermeture")
+    void devraitRefuserEnregistrementsApresFermeture() {
+        // Given
+        journal.close();
+
+        // When & Then
+        assertThatThrownBy(() -> journal.enregistrer("Après fermeture"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("afficherLogs ne devrait pas lever d'exception")
+    void afficherLogsNeDevraitPasLeverException() {
+        // Given
+        journal.enregistrer("Test");
+
+        // When & Then
+        assertThatCode(() -> journal.afficherLogs()).doesNotThrowAnyException();
+    }
+
+    /**
+     * Position qui suit le dernier octet non nul du fichier.
+     */
+    private static long finDesDonnees(Path fichier) throws IOException {
+        byte[] octets = Files.readAllBytes(fichier);
+        int fin = octets.length;
+        while (fin > 0 && octets[fin - 1] == 0) {
+            fin--;
+        }
+        return fin;
+    }
+}
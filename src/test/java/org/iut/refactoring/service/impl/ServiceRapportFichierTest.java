@@ -0,0 +1,145 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.iut.refactoring.service.FormatExport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ServiceRapportFichier.
+ */
+@DisplayName("Tests de l'export des rapports en fichiers")
+class ServiceRapportFichierTest {
+
+    @TempDir
+    Path repertoire;
+
+    @Mock
+    private CalculateurSalaire calculateurSalaire;
+
+    private List<Employe> employes;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employes = Arrays.asList(
+            new Developpeur("Dupont, \"Alice\"", 50000, 5, "IT"),
+            new ChefDeProjet("Bob", 60000, 8, "RH"),
+            new Stagiaire("Charlie", 20000, 0, "IT")
+        );
+    }
+
+    @Test
+    @DisplayName("Devrait exporter le rapport de salaires en CSV")
+    void devraitExporterSalairesEnCsv() throws IOException {
+        // Given
+        ServiceRapportFichier service = new ServiceRapportFichier(calculateurSalaire, repertoire, FormatExport.CSV, false);
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(69000.0, 12000.004);
+
+        // When
+        service.genererRapportSalaires(employes, "IT");
+
+        // Then
+        assertThat(service.fichier("SALAIRE")).isEqualTo(repertoire.resolve("salaire.csv"));
+        assertThat(lire(service.fichier("SALAIRE"), false)).isEqualTo(
+            "id,nom,equipe,salaire\n"
+                + employes.get(0).getId() + ",\"Dupont, \"\"Alice\"\"\",IT,69000.00\n"
+                + employes.get(2).getId() + ",Charlie,IT,12000.00\n");
+    }
+
+    @Test
+    @DisplayName("Devrait exporter le rapport d'expérience en JSON Lines")
+    void devraitExporterExperienceEnJsonLignes() throws IOException {
+        // Given
+        ServiceRapportFichier service = new ServiceRapportFichier(calculateurSalaire, repertoire,
+                FormatExport.JSON_LIGNES, false);
+
+        // When
+        service.genererRapportExperience(employes, "IT");
+
+        // Then
+        assertThat(lire(repertoire.resolve("experience.jsonl"), false)).isEqualTo(
+            "{\"id\":\"" + employes.get(0).getId() + "\",\"nom\":\"Dupont, \\\"Alice\\\"\",\"equipe\":\"IT\",\"experience\":5}\n"
+                + "{\"id\":\"" + employes.get(2).getId() + "\",\"nom\":\"Charlie\",\"equipe\":\"IT\",\"experience\":0}\n");
+    }
+
+    @Test
+    @DisplayName("Devrait compresser le rapport par division en gzip")
+    void devraitCompresserRapportDivision() throws IOException {
+        // Given
+        ServiceRapportFichier service = new ServiceRapportFichier(calculateurSalaire, repertoire, FormatExport.CSV, true);
+
+        // When
+        service.genererRapportDivision(employes);
+
+        // Then
+        assertThat(service.fichier("DIVISION")).isEqualTo(repertoire.resolve("division.csv.gz"));
+        assertThat(lire(service.fichier("DIVISION"), true)).isEqualTo("equipe,effectif\nIT,2\nRH,1\n");
+    }
+
+    @Test
+    @DisplayName("Devrait exporter les statistiques agrégées par division")
+    void devraitExporterDivisionAgregee() throws IOException {
+        // Given
+        ServiceRapportFichier service = new ServiceRapportFichier(calculateurSalaire, repertoire,
+                FormatExport.JSON_LIGNES, true);
+        List<StatistiquesEquipe> statistiques = List.of(
+            new StatistiquesEquipe("IT", 2, 70000, 81000, new long[StatistiquesEquipe.TRANCHES_EXPERIENCE.length]));
+
+        // When
+        service.genererRapportDivisionAgrege(statistiques);
+
+        // Then
+        assertThat(lire(repertoire.resolve("division.jsonl.gz"), true)).isEqualTo("{\"equipe\":\"IT\",\"effectif\":2}\n");
+    }
+
+    @Test
+    @DisplayName("Devrait laisser le fichier précédent intact si l'export échoue")
+    void devraitConserverFichierPrecedentEnCasDErreur() throws IOException {
+        // Given
+        ServiceRapportFichier service = new ServiceRapportFichier(calculateurSalaire, repertoire, FormatExport.CSV, false);
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(1000.0);
+        service.genererRapportSalaires(employes, "RH");
+        String precedent = lire(service.fichier("SALAIRE"), false);
+        when(calculateurSalaire.calculerSalaire(any())).thenThrow(new IllegalStateException("règle invalide"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.genererRapportSalaires(employes, null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(lire(service.fichier("SALAIRE"), false)).isEqualTo(precedent);
+        try (Stream<Path> fichiers = Files.list(repertoire)) {
+            assertThat(fichiers).containsExactly(service.fichier("SALAIRE"));
+        }
+    }
+
+    private static String lire(Path fichier, boolean compresse) throws IOException {
+        try (InputStream entree = compresse
+                ? new GZIPInputStream(Files.newInputStream(fichier))
+                : Files.newInputStream(fichier)) {
+            return new String(entree.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.service.CalculateurSalaire;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ServiceRapportFlux.
+ */
+@DisplayName("Tests du service de rapports en flux")
+class ServiceRapportFluxTest {
+
+    private static final String FIN = System.lineSeparator();
+
+    @Mock
+    private CalculateurSalaire calculateurSalaire;
+
+    private StringWriter sortie;
+    private ServiceRapportFlux serviceRapport;
+    private List<Employe> employes;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        sortie = new StringWriter();
+        serviceRapport = new ServiceRapportFlux(calculateurSalaire, sortie);
+        employes = Arrays.asList(
+            new Developpeur("Alice", 50000, 5, "IT"),
+            new ChefDeProjet("Bob", 60000, 8, "RH"),
+            new Stagiaire("Charlie", 20000, 0, "IT")
+        );
+    }
+
+    @Test
+    @DisplayName("Devrait écrire le rapport de salaires dans le flux fourni")
+    void devraitEcrireRapportSalaires() {
+        // Given
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(69000.0, 104000.5, 12000.004);
+
+        // When
+        serviceRapport.genererRapportSalaires(employes, null);
+
+        // Then
+        assertThat(sortie.toString()).isEqualTo(
+            "=== RAPPORT: SALAIRE ===" + FIN
+                + "Alice: 69000.00 €" + FIN
+                + "Bob: 104000.50 €" + FIN
+                + "Charlie: 12000.00 €" + FIN);
+    }
+
+    @Test
+    @DisplayName("Devrait filtrer le rapport de salaires par équipe")
+    void devraitFiltrerRapportSalaires() {
+        // Given
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(1000.0);
+
+        // When
+        serviceRapport.genererRapportSalaires(employes, "RH");
+
+        // Then
+        verify(calculateurSalaire, times(1)).calculerSalaire(any());
+        assertThat(sortie.toString()).contains("Bob: 1000.00 €").doesNotContain("Alice");
+    }
+
+    @Test
+    @DisplayName("Devrait écrire le rapport d'expérience")
+    void devraitEcrireRapportExperience() {
+        // When
+        serviceRapport.genererRapportExperience(employes, "IT");
+
+        // Then
+        assertThat(sortie.toString()).isEqualTo(
+            "=== RAPPORT: EXPERIENCE ===" + FIN
+                + "Alice: 5 années" + FIN
+                + "Charlie: 0 années" + FIN);
+    }
+
+    @Test
+    @DisplayName("Devrait écrire le rapport par division")
+    void devraitEcrireRapportDivision() {
+        // When
+        serviceRapport.genererRapportDivision(employes);
+
+        // Then
+        assertThat(sortie.toString())
+            .contains("=== RAPPORT: DIVISION ===")
+            .contains("IT: 2 employés")
+            .contains("RH: 1 employés");
+    }
+
+    @Test
+    @DisplayName("Devrait écrire les meilleurs salaires de chaque équipe")
+    void devraitEcrireRapportMeilleursSalaires() {
+        // Given
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(69000.0, 104000.5, 12000.0);
+
+        // When
+        serviceRapport.genererRapportMeilleursSalaires(employes, null, 2);
+
+        // Then
+        assertThat(sortie.toString()).isEqualTo(
+            "=== RAPPORT: TOP ===" + FIN
+                + "IT (2 employés):" + FIN
+                + "  1. Alice: 69000.00 €" + FIN
+                + "  2. Charlie: 12000.00 €" + FIN
+                + "RH (1 employés):" + FIN
+                + "  1. Bob: 104000.50 €" + FIN);
+    }
+
+    @Test
+    @DisplayName("Devrait écrire les quantiles de salaire de chaque équipe")
+    void devraitEcrireRapportQuantiles() {
+        // Given
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(50000.0);
+
+        // When
+        serviceRapport.genererRapportQuantilesSalaires(employes, "RH");
+
+        // Then
+        assertThat(sortie.toString())
+            .startsWith("=== RAPPORT: QUANTILES ===" + FIN + "RH: p50 ")
+            .endsWith(" € (1 employés)" + FIN)
+            .doesNotContain("IT");
+    }
+
+    @Test
+    @DisplayName("Devrait encoder le rapport en UTF-8 dans un flux d'octets")
+    void devraitEncoderEnUtf8DansFluxOctets() {
+        // Given
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        ServiceRapportFlux service = new ServiceRapportFlux(calculateurSalaire, octets);
+        when(calculateurSalaire.calculerSalaire(any())).thenReturn(42.0);
+
+        // When
+        service.genererRapportSalaires(employes.subList(0, 1), null);
+
+        // Then
+        assertThat(octets.toString(StandardCharsets.UTF_8)).contains("Alice: 42.00 €");
+    }
+
+    @Test
+    @DisplayName("Devrait convertir une erreur d'écriture en UncheckedIOException")
+    void devraitConvertirErreurEcriture() {
+        // Given
+        Writer enErreur = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("disque plein");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("disque plein");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ServiceRapportFlux service = new ServiceRapportFlux(calculateurSalaire, enErreur);
+
+        // When & Then
+        assertThatThrownBy(() -> service.genererRapportExperience(employes, null))
+            .isInstanceOf(java.io.UncheckedIOException.class)
+            .hasMessageContaining("écriture du rapport");
+    }
+
+    @Test
+    @DisplayName("Devrait écrire le rapport par division à partir d'agrégats")
+    void devraitEcrireRapportDivisionAgrege() {
+        // Given
+        List<StatistiquesEquipe> statistiques = Arrays.asList(
+            new StatistiquesEquipe("IT", 2, 70000, 81000, new long[]{1, 0, 1, 0}));
+
+        // When
+        serviceRapport.genererRapportDivisionAgrege(statistiques);
+
+        // Then
+        assertThat(sortie.toString()).isEqualTo(
+            "=== RAPPORT: DIVISION ===" + FIN + "IT: 2 employés" + FIN);
+    }
+}
@@ -4,6 +4,7 @@ import org.iut.refactoring.model.Developpeur;
 import org.iut.refactoring.model.ChefDeProjet;
 import org.iut.refactoring.model.Stagiaire;
 import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.StatistiquesEquipe;
 import org.iut.refactoring.service.CalculateurSalaire;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ class ServiceRapportImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(calculateurSalaire.figer()).thenReturn(calculateurSalaire);
         serviceRapport = new ServiceRapportImpl(calculateurSalaire);
         
         employes = Arrays.asList(
@@ -72,6 +74,23 @@ class ServiceRapportImplTest {
         assertThat(output).contains("=== RAPPORT: SALAIRE ===");
     }
     
+    @Test
+    @DisplayName("Devrait calculer tout le rapport de salaires avec le calculateur figé")
+    void devraitCalculerRapportAvecCalculateurFige() {
+        // Given
+        CalculateurSalaire fige = mock(CalculateurSalaire.class);
+        when(calculateurSalaire.figer()).thenReturn(fige);
+        when(fige.calculerSalaire(any())).thenReturn(60000.0);
+
+        // When
+        serviceRapport.genererRapportSalaires(employes, null);
+
+        // Then
+        verify(calculateurSalaire, times(1)).figer();
+        verify(calculateurSalaire, never()).calculerSalaire(any());
+        verify(fige, times(4)).calculerSalaire(any());
+    }
+
     @Test
     @DisplayName("Devrait générer un rapport de salaires filtré par équipe")
     void devraitGenererRapportSalairesFiltreParEquipe() {
@@ -213,6 +232,24 @@ class ServiceRapportImplTest {
             .contains("12000")
             .contains("80000");
     }
+    
+    @Test
+    @DisplayName("Devrait générer un rapport par division à partir d'agrégats")
+    void devraitGenererRapportDivisionAgrege() {
+        // Given
+        List<StatistiquesEquipe> statistiques = Arrays.asList(
+            new StatistiquesEquipe("IT", 3, 125000, 150000, new long[]{1, 1, 1, 0}),
+            new StatistiquesEquipe("RH", 1, 60000, 104000, new long[]{0, 0, 1, 0})
+        );
+        
+        // When
+        serviceRapport.genererRapportDivisionAgrege(statistiques);
+        
+        // Then
+        verifyNoInteractions(calculateurSalaire);
+        assertThat(outputStream.toString())
+            .contains("=== RAPPORT: DIVISION ===")
+            .contains("IT: 3 employés")
+            .contains("RH: 1 employés");
+    }
 }
-
-
@@ -0,0 +1,78 @@
+package org.iut.refactoring.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SketchQuantiles.
+ */
+@DisplayName("Tests de l'esquisse de quantiles")
+class SketchQuantilesTest {
+
+    @Test
+    @DisplayName("Devrait estimer les quantiles à l'erreur relative près")
+    void devraitEstimerQuantilesAErreurRelativePres() {
+        // Given
+        Random aleatoire = new Random(42);
+        double[] valeurs = new double[100_000];
+        SketchQuantiles sketch = new SketchQuantiles();
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = 15_000 + aleatoire.nextDouble() * 185_000;
+            sketch.ajouter(valeurs[i]);
+        }
+        Arrays.sort(valeurs);
+
+        // When & Then
+        for (double q : new double[] {0, 0.5, 0.9, 0.99, 1}) {
+            double exact = valeurs[(int) (q * (valeurs.length - 1))];
+            assertThat(sketch.quantile(q)).isCloseTo(exact, withinPercentage(SketchQuantiles.ERREUR_RELATIVE * 100));
+        }
+        assertThat(sketch.effectif()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("Devrait donner le même résultat fusionné qu'en un seul passage")
+    void devraitFusionnerSansPerte() {
+        // Given
+        SketchQuantiles global = new SketchQuantiles();
+        SketchQuantiles bas = new SketchQuantiles();
+        SketchQuantiles haut = new SketchQuantiles();
+        for (int i = 1; i <= 1000; i++) {
+            global.ajouter(i * 100.0);
+            (i <= 500 ? bas : haut).ajouter(i * 100.0);
+        }
+
+        // When
+        haut.fusionner(bas);
+
+        // Then
+        assertThat(haut.effectif()).isEqualTo(global.effectif());
+        for (double q : new double[] {0.1, 0.5, 0.9, 0.99}) {
+            assertThat(haut.quantile(q)).isEqualTo(global.quantile(q));
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait compter les valeurs nulles et refuser les valeurs non finies")
+    void devraitGererValeursParticulieres() {
+        // Given
+        SketchQuantiles sketch = new SketchQuantiles();
+
+        // When
+        sketch.ajouter(0);
+        sketch.ajouter(-5);
+        sketch.ajouter(1000);
+
+        // Then
+        assertThat(sketch.quantile(0.5)).isEqualTo(0.0);
+        assertThat(sketch.quantile(1)).isCloseTo(1000, withinPercentage(1));
+        assertThat(new SketchQuantiles().quantile(0.5)).isNaN();
+        assertThatThrownBy(() -> sketch.ajouter(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sketch.quantile(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package org.iut.refactoring.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SommeKahan.
+ */
+@DisplayName("Tests de la somme compensée de Kahan")
+class SommeKahanTest {
+
+    @Test
+    @DisplayName("Devrait être plus précise qu'une somme naïve")
+    void devraitEtrePlusPreciseQuUneSommeNaive() {
+        // Given
+        SommeKahan somme = new SommeKahan();
+        double naive = 0;
+
+        // When
+        for (int i = 0; i < 1_000_000; i++) {
+            somme.ajouter(0.1);
+            naive += 0.1;
+        }
+
+        // Then
+        assertThat(Math.abs(somme.valeur() - 100_000.0)).isLessThan(Math.abs(naive - 100_000.0));
+        assertThat(somme.valeur()).isCloseTo(100_000.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Devrait combiner des sommes partielles")
+    void devraitCombinerSommesPartielles() {
+        // Given
+        SommeKahan premiere = new SommeKahan();
+        SommeKahan seconde = new SommeKahan();
+        for (int i = 0; i < 1000; i++) {
+            premiere.ajouter(0.1);
+            seconde.ajouter(0.2);
+        }
+
+        // When
+        premiere.ajouter(seconde);
+
+        // Then
+        assertThat(premiere.valeur()).isCloseTo(300.0, within(1e-12));
+    }
+}
@@ -0,0 +1,193 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.repository.impl.EmployeRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SurveillanceReglesSalaire.
+ */
+@DisplayName("Tests du rechargement à chaud des règles de salaire")
+class SurveillanceReglesSalaireTest {
+
+    private static final long ATTENTE_MAX_MS = 10_000;
+
+    @TempDir
+    Path repertoire;
+
+    @Test
+    @DisplayName("Devrait charger les règles puis les recharger quand le fichier est remplacé")
+    void devraitRechargerQuandFichierRemplace() throws Exception {
+        // Given
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, regles(1));
+        RegistreStrategies registre = new RegistreStrategies(new ArrayList<>());
+        CalculateurSalaireImpl calculateur = new CalculateurSalaireImpl(registre);
+        Employe alice = new Developpeur("Alice", 50000, 5, "IT");
+        AtomicInteger notifications = new AtomicInteger();
+
+        try (SurveillanceReglesSalaire surveillance =
+                     new SurveillanceReglesSalaire(fichier, registre, notifications::incrementAndGet)) {
+            assertThat(calculateur.calculerSalaire(alice)).isEqualTo(50000.0);
+
+            // When
+            remplacer(fichier, regles(2));
+            attendre(surveillance::getNombreRechargements, 2);
+
+            // Then
+            assertThat(calculateur.calculerSalaire(alice)).isEqualTo(100000.0);
+            assertThat(registre.versionCourante().getNumero()).isEqualTo(3);
+            assertThat(notifications.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait conserver la version précédente si le fichier devient invalide")
+    void devraitConserverVersionPrecedenteSiFichierInvalide() throws Exception {
+        // Given
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, regles(1));
+        RegistreStrategies registre = new RegistreStrategies(new ArrayList<>());
+
+        try (SurveillanceReglesSalaire surveillance = new SurveillanceReglesSalaire(fichier, registre)) {
+            VersionStrategies version = registre.versionCourante();
+
+            // When
+            remplacer(fichier, "DEVELOPPEUR,SALAIRE,,deux,0\n");
+            attendre(surveillance::getNombreEchecs, 1);
+
+            // Then
+            assertThat(registre.versionCourante()).isSameAs(version);
+            assertThatThrownBy(surveillance::recharger).isInstanceOf(IllegalArgumentException.class);
+            assertThat(registre.versionCourante()).isSameAs(version);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une table qui ne couvre plus un type de la version en vigueur")
+    void devraitRefuserTableIncomplete() throws Exception {
+        // Given
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, regles(1));
+        RegistreStrategies registre = new RegistreStrategies(new ArrayList<>());
+
+        try (SurveillanceReglesSalaire surveillance = new SurveillanceReglesSalaire(fichier, registre)) {
+            VersionStrategies version = registre.versionCourante();
+
+            // When
+            remplacer(fichier, "DEVELOPPEUR,SALAIRE,,2,0\nSTAGIAIRE,SALAIRE,,2,0\n");
+
+            // Then
+            assertThatThrownBy(surveillance::recharger)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("CHEF DE PROJET");
+            assertThat(registre.versionCourante()).isSameAs(version);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait refuser de démarrer sur un fichier invalide et ne pas republier un contenu identique")
+    void devraitRefuserFichierInvalideEtIgnorerContenuIdentique() throws IOException {
+        // Given
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, "pas,une,regle\n");
+        RegistreStrategies registre = new RegistreStrategies(new ArrayList<>());
+
+        // When & Then
+        assertThatThrownBy(() -> new SurveillanceReglesSalaire(fichier, registre))
+                .isInstanceOf(IllegalArgumentException.class);
+        Files.writeString(fichier, regles(1));
+        try (SurveillanceReglesSalaire surveillance = new SurveillanceReglesSalaire(fichier, registre)) {
+            assertThat(surveillance.recharger()).isFalse();
+            assertThat(registre.versionCourante().getNumero()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Une paie parallèle ne devrait voir qu'une version des règles pendant 1000 rechargements")
+    void paieParalleleDevraitVoirUneSeuleVersionPendantRechargements() throws Exception {
+        // Given : deux tables dont les masses salariales sont distinctes
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, regles(1));
+        RegistreStrategies registre = new RegistreStrategies(new ArrayList<>());
+        List<Employe> employes = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            employes.add(new Developpeur("Dev" + i, 20000 + random.nextInt(80000), random.nextInt(20), "EQ" + i % 7));
+        }
+        MoteurPaieParallele moteur = new MoteurPaieParallele(new EmployeRepositoryImpl(),
+                new CalculateurSalaireImpl(registre), new ForkJoinPool(4));
+
+        try (SurveillanceReglesSalaire surveillance = new SurveillanceReglesSalaire(fichier, registre)) {
+            double masseVersion1 = moteur.calculerPaie(employes).getTotalGlobal().getTotalSalaires();
+            Files.writeString(fichier, regles(2));
+            surveillance.recharger();
+            double masseVersion2 = moteur.calculerPaie(employes).getTotalGlobal().getTotalSalaires();
+            long versionAvant = registre.versionCourante().getNumero();
+
+            // When
+            CompletableFuture<Void> rechargements = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    try {
+                        Files.writeString(fichier, regles(1 + i % 2));
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    surveillance.recharger();
+                }
+            });
+            Set<Double> masses = new HashSet<>();
+            int paies = 0;
+            while (!rechargements.isDone()) {
+                masses.add(moteur.calculerPaie(employes).getTotalGlobal().getTotalSalaires());
+                paies++;
+            }
+            rechargements.join();
+
+            // Then
+            assertThat(paies).isPositive();
+            assertThat(masses).isSubsetOf(masseVersion1, masseVersion2);
+            assertThat(registre.versionCourante().getNumero()).isGreaterThan(versionAvant);
+        }
+    }
+
+    private static String regles(int multiplicateur) {
+        return "type,calcul,experience_superieure_a,multiplicateur,ajout\n"
+                + "DEVELOPPEUR,SALAIRE,," + multiplicateur + ",0\n"
+                + "CHEF DE PROJET,SALAIRE,," + multiplicateur + ",0\n"
+                + "STAGIAIRE,SALAIRE,," + multiplicateur + ",0\n";
+    }
+
+    private static void remplacer(Path fichier, String contenu) throws IOException {
+        Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+        Files.writeString(temporaire, contenu);
+        Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void attendre(LongSupplier compteur, long valeur) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ATTENTE_MAX_MS;
+        while (compteur.getAsLong() < valeur && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(compteur.getAsLong()).isGreaterThanOrEqualTo(valeur);
+    }
+}
@@ -0,0 +1,117 @@
+package org.iut.refactoring.service.impl;
+
+import org.iut.refactoring.model.ChefDeProjet;
+import org.iut.refactoring.model.Developpeur;
+import org.iut.refactoring.model.Employe;
+import org.iut.refactoring.model.Stagiaire;
+import org.iut.refactoring.service.StrategieSalaire;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour TableReglesSalaire.
+ */
+@DisplayName("Tests de la table de règles de salaire")
+class TableReglesSalaireTest {
+
+    @TempDir
+    Path repertoire;
+
+    @Test
+    @DisplayName("Devrait reproduire exactement les stratégies écrites à la main avec la table par défaut")
+    void devraitReproduireStrategiesEcritesALaMain() {
+        // Given
+        CalculateurSalaireImpl ecritesALaMain = new CalculateurSalaireImpl();
+        CalculateurSalaireImpl compilees = new CalculateurSalaireImpl(TableReglesSalaire.parDefaut().compiler());
+        List<Employe> employes = new ArrayList<>();
+        for (int experience = 0; experience <= 15; experience++) {
+            double salaireDeBase = 20000 + experience * 3333.33;
+            employes.add(new Developpeur("Dev", salaireDeBase, experience, "IT"));
+            employes.add(new ChefDeProjet("Chef", salaireDeBase, experience, "IT"));
+            employes.add(new Stagiaire("Stagiaire", salaireDeBase, experience, "IT"));
+        }
+
+        // When & Then
+        for (Employe employe : employes) {
+            assertThat(compilees.calculerSalaire(employe)).as(employe.toString())
+                    .isEqualTo(ecritesALaMain.calculerSalaire(employe));
+            assertThat(compilees.calculerBonus(employe)).as(employe.toString())
+                    .isEqualTo(ecritesALaMain.calculerBonus(employe));
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait charger un fichier et appliquer les règles dans l'ordre")
+    void devraitChargerFichierEtAppliquerReglesDansOrdre() throws IOException {
+        // Given
+        Path fichier = repertoire.resolve("regles.csv");
+        Files.writeString(fichier, "type,calcul,experience_superieure_a,multiplicateur,ajout\n"
+                + "# Développeurs\r\n"
+                + "developpeur,salaire,,1,1000\n"
+                + "\n"
+                + "DEVELOPPEUR,SALAIRE,2,2,0\n"
+                + "DEVELOPPEUR,BONUS,,0,250\n");
+
+        // When
+        TableReglesSalaire table = TableReglesSalaire.charger(fichier);
+        StrategieSalaire strategie = table.compiler().get(0);
+
+        // Then
+        assertThat(table.getTypes()).containsExactly("DEVELOPPEUR");
+        assertThat(table.getReglesSalaire("DEVELOPPEUR")).hasSize(2);
+        assertThat(strategie.calculer(new Developpeur("Alice", 50000, 2, "IT"))).isEqualTo(51000.0);
+        assertThat(strategie.calculer(new Developpeur("Bob", 50000, 3, "IT"))).isEqualTo(102000.0);
+        assertThat(strategie.calculerBonus(new Developpeur("Bob", 50000, 3, "IT"))).isEqualTo(250.0);
+        assertThat(strategie.estApplicable(new Developpeur("Bob", 50000, 3, "IT"))).isTrue();
+        assertThat(strategie.estApplicable(new Stagiaire("Zoé", 20000, 0, "IT"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Devrait donner un bonus nul à un type sans règle de bonus")
+    void devraitDonnerBonusNulSansRegleBonus() {
+        // Given
+        StrategieSalaire strategie = TableReglesSalaire.analyser("STAGIAIRE,SALAIRE,,0.6,0").compiler().get(0);
+
+        // When
+        double bonus = strategie.calculerBonus(new Stagiaire("Zoé", 20000, 0, "IT"));
+
+        // Then
+        assertThat(bonus).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Devrait indiquer la ligne d'une règle invalide")
+    void devraitIndiquerLigneRegleInvalide() {
+        assertThatThrownBy(() -> TableReglesSalaire.analyser("DEVELOPPEUR,SALAIRE,,1.2,0\nDEVELOPPEUR,PRIME,,1,0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ligne 2");
+        assertThatThrownBy(() -> TableReglesSalaire.analyser("DEVELOPPEUR,SALAIRE,cinq,1.2,0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ligne 1");
+        assertThatThrownBy(() -> TableReglesSalaire.analyser("DEVELOPPEUR,SALAIRE,,1.2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5 champs attendus");
+        assertThatThrownBy(() -> TableReglesSalaire.analyser("DEVELOPPEUR,SALAIRE,,NaN,0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Devrait refuser une table vide ou un type sans règle de salaire")
+    void devraitRefuserTableVideOuTypeSansSalaire() {
+        assertThatThrownBy(() -> TableReglesSalaire.analyser("# rien\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("vide");
+        assertThatThrownBy(() -> TableReglesSalaire.analyser("STAGIAIRE,SALAIRE,,0.6,0\nDEVELOPPEUR,BONUS,,0.1,0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("DEVELOPPEUR");
+    }
+}